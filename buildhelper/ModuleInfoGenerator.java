@@ -46,6 +46,7 @@ public class ModuleInfoGenerator implements Opcodes {
         mv.visitRequire("jdk.internal.vm.ci", ACC_STATIC_PHASE, null);
         mv.visitExport("org/joml", 0, (String[]) null);
         mv.visitExport("org/joml/sampling", 0, (String[]) null);
+        mv.visitExport("org/joml/bvh", 0, (String[]) null);
         mv.visitEnd();
         cw.visitEnd();
         FileOutputStream fos = new FileOutputStream(new File(dest, "module-info.class"));
@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.jmh;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks once for every on/off combination of a set of JOML configuration flags and writes one JSON
+ * result file per combination.
+ * <p>
+ * The following system properties control the run:
+ * <ul>
+ * <li><code>jmh.include</code> - regular expression selecting the benchmarks to run (default: all)</li>
+ * <li><code>jmh.flags</code> - comma-separated list of the flags to toggle (default:
+ * <code>fastmath,useMathFma,nounsafe</code>). Known flags are <code>fastmath</code>, <code>useMathFma</code>,
+ * <code>nounsafe</code> and <code>jvmci</code>; any other name <code>x</code> is passed as <code>-Djoml.x=true</code></li>
+ * <li><code>jmh.jvmArgs</code> - whitespace-separated JVM arguments appended to every forked JVM</li>
+ * <li><code>jmh.resultsDir</code> - directory for the result files (default: <code>build/reports/jmh</code>)</li>
+ * <li><code>jmh.label</code> - label identifying the measured code, such as the commit id (default: <code>local</code>)</li>
+ * </ul>
+ * The result files are named <code>&lt;label&gt;-&lt;flags&gt;.json</code>, where <code>&lt;flags&gt;</code> is the
+ * <code>+</code>-separated list of enabled flags or <code>baseline</code>, so that runs of different commits can be
+ * compared file by file.
+ * <p>
+ * All program arguments are parsed as regular JMH command line options and override the benchmark annotations.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdLine = new CommandLineOptions(args);
+        String include = System.getProperty("jmh.include", ".*");
+        String[] flags = split(System.getProperty("jmh.flags", "fastmath,useMathFma,nounsafe"), ", ");
+        String[] jvmArgs = split(System.getProperty("jmh.jvmArgs", ""), " \t");
+        File resultsDir = new File(System.getProperty("jmh.resultsDir", "build/reports/jmh"));
+        String label = System.getProperty("jmh.label", "local");
+        if (flags.length > 16)
+            throw new IllegalArgumentException("Too many flags: " + flags.length);
+        if (!resultsDir.isDirectory() && !resultsDir.mkdirs())
+            throw new IllegalStateException("Cannot create results directory: " + resultsDir);
+        for (int mask = 0; mask < 1 << flags.length; mask++) {
+            List<String> args0 = new ArrayList<String>();
+            for (int i = 0; i < jvmArgs.length; i++)
+                args0.add(jvmArgs[i]);
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < flags.length; i++) {
+                if ((mask & 1 << i) == 0)
+                    continue;
+                addFlag(flags[i], args0);
+                if (name.length() > 0)
+                    name.append('+');
+                name.append(flags[i]);
+            }
+            String config = name.length() > 0 ? name.toString() : "baseline";
+            File result = new File(resultsDir, label + "-" + config + ".json");
+            System.out.println("[JOML] Running benchmarks with " + config + " -> " + result);
+            ChainedOptionsBuilder opts = new OptionsBuilder()
+                    .parent(cmdLine)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(result.getPath());
+            if (cmdLine.getIncludes().isEmpty())
+                opts.include(include);
+            if (!args0.isEmpty())
+                opts.jvmArgsAppend(args0.toArray(new String[args0.size()]));
+            new Runner(opts.build()).run();
+        }
+    }
+
+    private static void addFlag(String flag, List<String> dest) {
+        if ("jvmci".equals(flag)) {
+            dest.add("-XX:+UnlockExperimentalVMOptions");
+            dest.add("-XX:+EnableJVMCI");
+        } else {
+            dest.add("-Djoml." + flag + "=true");
+        }
+    }
+
+    private static String[] split(String str, String delims) {
+        StringTokenizer st = new StringTokenizer(str, delims);
+        String[] res = new String[st.countTokens()];
+        for (int i = 0; i < res.length; i++)
+            res[i] = st.nextToken();
+        return res;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.jmh;
+
+import org.joml.Matrix4f;
+
+/**
+ * Creates the operands used by the benchmarks.
+ * <p>
+ * Each kind yields a {@link Matrix4f} whose {@link Matrix4f#properties() properties} select a different
+ * specialized code path in the property-dispatching methods such as {@link Matrix4f#mul(org.joml.Matrix4fc, Matrix4f)}.
+ */
+final class Fixtures {
+
+    /**
+     * All matrix kinds understood by {@link #matrix4f(String)}.
+     */
+    static final String[] MATRIX_KINDS = { "identity", "translation", "affine", "perspective", "generic" };
+
+    private Fixtures() {
+    }
+
+    /**
+     * Create a matrix of the given kind.
+     *
+     * @param kind
+     *          one of <code>identity</code>, <code>translation</code>, <code>affine</code>,
+     *          <code>perspective</code> or <code>generic</code>
+     * @return the new matrix
+     */
+    static Matrix4f matrix4f(String kind) {
+        if ("identity".equals(kind))
+            return new Matrix4f();
+        else if ("translation".equals(kind))
+            return new Matrix4f().translation(1.0f, 2.0f, 3.0f);
+        else if ("affine".equals(kind))
+            return new Matrix4f().translation(1.0f, 2.0f, 3.0f).rotateXYZ(0.1f, 0.2f, 0.3f).scale(1.5f);
+        else if ("perspective".equals(kind))
+            return new Matrix4f().setPerspective(1.0f, 1.5f, 0.1f, 100.0f);
+        else if ("generic".equals(kind))
+            return new Matrix4f().setPerspective(1.0f, 1.5f, 0.1f, 100.0f).lookAt(1.0f, 2.0f, 3.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f);
+        throw new IllegalArgumentException("Unknown matrix kind: " + kind);
+    }
+
+}
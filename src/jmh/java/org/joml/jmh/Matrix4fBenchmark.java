@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the single-operand {@link Matrix4f} methods for every matrix kind.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4fBenchmark {
+
+    @Param({ "identity", "translation", "affine", "perspective", "generic" })
+    public String kind;
+
+    private Matrix4f m;
+    private final Matrix4f dest = new Matrix4f();
+    private final Vector3f v3 = new Vector3f(1.0f, 2.0f, 3.0f);
+    private final Vector3f v3dest = new Vector3f();
+    private final Vector4f v4 = new Vector4f(1.0f, 2.0f, 3.0f, 1.0f);
+    private final Vector4f v4dest = new Vector4f();
+
+    @Setup
+    public void setup() {
+        m = Fixtures.matrix4f(kind);
+    }
+
+    @Benchmark
+    public Matrix4f invert() {
+        return m.invert(dest);
+    }
+
+    @Benchmark
+    public Matrix4f transpose() {
+        return m.transpose(dest);
+    }
+
+    @Benchmark
+    public float determinant() {
+        return m.determinant();
+    }
+
+    @Benchmark
+    public Vector3f transformPosition() {
+        return m.transformPosition(v3, v3dest);
+    }
+
+    @Benchmark
+    public Vector3f transformProject() {
+        return m.transformProject(v3, v3dest);
+    }
+
+    @Benchmark
+    public Vector4f transform() {
+        return m.transform(v4, v4dest);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joml.Matrix4f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link Matrix4f} multiplication methods for every combination of left and right operand kinds.
+ * <p>
+ * {@link #mul()} exercises the property dispatch of {@link Matrix4f#mul(org.joml.Matrix4fc, Matrix4f)}, including the
+ * JVMCI and Vector API kernels when those are available, while {@link #mul0()} always runs the generic
+ * multiplication and serves as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4fMulBenchmark {
+
+    @Param({ "identity", "translation", "affine", "perspective", "generic" })
+    public String left;
+
+    @Param({ "identity", "translation", "affine", "perspective", "generic" })
+    public String right;
+
+    private Matrix4f a;
+    private Matrix4f b;
+    private final Matrix4f dest = new Matrix4f();
+
+    @Setup
+    public void setup() {
+        a = Fixtures.matrix4f(left);
+        b = Fixtures.matrix4f(right);
+    }
+
+    @Benchmark
+    public Matrix4f mul() {
+        return a.mul(b, dest);
+    }
+
+    @Benchmark
+    public Matrix4f mul0() {
+        return a.mul0(b, dest);
+    }
+
+    @Benchmark
+    public Matrix4f mulAffine() {
+        return a.mulAffine(b, dest);
+    }
+
+    @Benchmark
+    public Matrix4f mulLocal() {
+        return a.mulLocal(b, dest);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link Quaternionf} interpolation, multiplication and transformation methods.
+ * <p>
+ * The <code>angle</code> parameter is the angle in radians between the two interpolated rotations, so that both the
+ * regular and the nearly-parallel branches of {@link Quaternionf#slerp(org.joml.Quaternionfc, float, Quaternionf)}
+ * are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionfBenchmark {
+
+    @Param({ "0.0001", "1.0", "3.0" })
+    public float angle;
+
+    private final Quaternionf a = new Quaternionf().rotateXYZ(0.1f, 0.2f, 0.3f);
+    private final Quaternionf b = new Quaternionf();
+    private final Quaternionf dest = new Quaternionf();
+    private final Vector3f v = new Vector3f(1.0f, 2.0f, 3.0f);
+    private final Vector3f vdest = new Vector3f();
+    private float alpha = 0.25f;
+
+    @Setup
+    public void setup() {
+        a.rotateAxis(angle, 0.0f, 1.0f, 0.0f, b);
+    }
+
+    @Benchmark
+    public Quaternionf slerp() {
+        alpha = 1.0f - alpha;
+        return a.slerp(b, alpha, dest);
+    }
+
+    @Benchmark
+    public Quaternionf nlerp() {
+        alpha = 1.0f - alpha;
+        return a.nlerp(b, alpha, dest);
+    }
+
+    @Benchmark
+    public Quaternionf nlerpIterative() {
+        alpha = 1.0f - alpha;
+        return a.nlerpIterative(b, alpha, 1E-5f, dest);
+    }
+
+    @Benchmark
+    public Quaternionf mul() {
+        return a.mul(b, dest);
+    }
+
+    @Benchmark
+    public Vector3f transform() {
+        return a.transform(v, vdest);
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Frustum culling of axis-aligned boxes that exploits temporal and hierarchical coherence, by remembering state per object
+ * between calls.
+ * <p>
+ * This automates the two techniques that {@link FrustumIntersection#intersectAab(float, float, float, float, float, float, int, int)}
+ * supports through its <code>mask</code> and <code>startPlane</code> parameters
+ * (see <a href="http://old.cescg.org/CESCG-2002/DSykoraJJelinek/">Efficient View Frustum Culling</a>):
+ * <ul>
+ * <li>For every object id, the plane that culled the object most recently is stored and tested first the next time. Since
+ * the camera usually moves only a little between frames, that plane very likely culls the object again, and in that case
+ * a single plane test suffices.</li>
+ * <li>For every object id, the planes that its box straddles in the current frame are stored. A child object, whose box is
+ * contained in the box of its parent, then only needs to be tested against those planes, because it lies completely on the
+ * positive side of all others. The children of an object completely inside the frustum need no plane test at all.</li>
+ * </ul>
+ * Object ids are arbitrary non-negative integers, such as the node indices of a {@link TransformHierarchy}; the storage grows
+ * to hold the largest id used. Each frame begins with {@link #beginFrame(FrustumIntersection)}, after which every parent must be
+ * tested before its children.
+ * <p>
+ * The number of plane tests is accumulated per frame, to verify that the coherence actually pays off.
+ * <p>
+ * Instances of this class are not thread-safe.
+ */
+public class CoherentFrustumCuller {
+
+    private static final int ALL_PLANES = FrustumIntersection.PLANE_MASK_NX | FrustumIntersection.PLANE_MASK_PX
+            | FrustumIntersection.PLANE_MASK_NY | FrustumIntersection.PLANE_MASK_PY
+            | FrustumIntersection.PLANE_MASK_NZ | FrustumIntersection.PLANE_MASK_PZ;
+
+    private @Nullable FrustumIntersection frustum;
+
+    /**
+     * The plane that culled each object most recently.
+     */
+    private byte[] lastPlane;
+
+    /**
+     * The planes that each object straddled in the current frame, which are the only planes its children must be tested against.
+     */
+    private byte[] childMask;
+
+    private long frameObjects;
+    private long framePlaneTests;
+
+    /**
+     * Create a new {@link CoherentFrustumCuller} with room for the state of the object ids <code>[0, capacity)</code>.
+     * 
+     * @param capacity
+     *          the number of object ids to allocate memory for up front
+     */
+    public CoherentFrustumCuller(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be >= 0"); //$NON-NLS-1$
+        lastPlane = new byte[capacity];
+        childMask = new byte[capacity];
+    }
+
+    /**
+     * Begin a new frame, in which all objects are culled against the given frustum, and reset the statistics of the previous frame.
+     * <p>
+     * The plane that culled each object most recently is kept.
+     * 
+     * @param frustum
+     *          the frustum to cull against in this frame
+     * @return this
+     */
+    public CoherentFrustumCuller beginFrame(FrustumIntersection frustum) {
+        this.frustum = frustum;
+        frameObjects = 0L;
+        framePlaneTests = 0L;
+        return this;
+    }
+
+    /**
+     * Forget the state remembered for the given object id, for example when the id is reused for another object.
+     * 
+     * @param id
+     *          the object id
+     * @return this
+     */
+    public CoherentFrustumCuller forget(int id) {
+        if (id < lastPlane.length) {
+            lastPlane[id] = 0;
+            childMask[id] = 0;
+        }
+        return this;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < lastPlane.length)
+            return;
+        int capacity = java.lang.Math.max(id + 1, lastPlane.length * 2);
+        byte[] newLastPlane = new byte[capacity];
+        System.arraycopy(lastPlane, 0, newLastPlane, 0, lastPlane.length);
+        lastPlane = newLastPlane;
+        byte[] newChildMask = new byte[capacity];
+        System.arraycopy(childMask, 0, newChildMask, 0, childMask.length);
+        childMask = newChildMask;
+    }
+
+    /**
+     * Determine whether the given axis-aligned box of the object with the given id is partly or completely within or outside of
+     * the frustum of the current frame and, if the box is not inside the frustum, return the index of the plane that culled it.
+     * <p>
+     * If <code>parentId</code> is not negative, the box must be contained in the box of the object <code>parentId</code>, which
+     * must have been tested before in the current frame and must not have been culled.
+     * <p>
+     * Like {@link FrustumIntersection#intersectAab(float, float, float, float, float, float, int, int)}, this method is conservative.
+     * 
+     * @param id
+     *          the id of the object
+     * @param parentId
+     *          the id of the parent object, or <code>-1</code> if the object has no parent
+     * @param minX
+     *          the x-coordinate of the minimum corner
+     * @param minY
+     *          the y-coordinate of the minimum corner
+     * @param minZ
+     *          the z-coordinate of the minimum corner
+     * @param maxX
+     *          the x-coordinate of the maximum corner
+     * @param maxY
+     *          the y-coordinate of the maximum corner
+     * @param maxZ
+     *          the z-coordinate of the maximum corner
+     * @return the index of the plane that culled the box, if the box does not intersect the frustum,
+     *         or {@link FrustumIntersection#INTERSECT} if the box intersects the frustum, or {@link FrustumIntersection#INSIDE}
+     *         if the box is fully inside of the frustum
+     */
+    public int intersectAab(int id, int parentId, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        FrustumIntersection frustum = this.frustum;
+        if (frustum == null)
+            throw new IllegalStateException("beginFrame() was not called"); //$NON-NLS-1$
+        if (id < 0)
+            throw new IllegalArgumentException("id must be >= 0"); //$NON-NLS-1$
+        ensureCapacity(id);
+        int mask = parentId < 0 ? ALL_PLANES : childMask[parentId];
+        frameObjects++;
+        if (mask == 0) {
+            childMask[id] = 0;
+            return FrustumIntersection.INSIDE;
+        }
+        int res = frustum.intersectAabCoherent(minX, minY, minZ, maxX, maxY, maxZ, mask, lastPlane[id]);
+        framePlaneTests += res >>> 16;
+        int plane = res & 0xFF;
+        if (plane < 6) {
+            lastPlane[id] = (byte) plane;
+            childMask[id] = 0;
+            return plane;
+        }
+        int straddled = res >>> 8 & ALL_PLANES;
+        childMask[id] = (byte) straddled;
+        return straddled == 0 ? FrustumIntersection.INSIDE : FrustumIntersection.INTERSECT;
+    }
+
+    /**
+     * Test whether the given axis-aligned box of the object with the given id is partly or completely within the frustum of the
+     * current frame.
+     * <p>
+     * This is equivalent to checking whether {@link #intersectAab(int, int, float, float, float, float, float, float)} returns
+     * {@link FrustumIntersection#INSIDE} or {@link FrustumIntersection#INTERSECT}.
+     * 
+     * @param id
+     *          the id of the object
+     * @param parentId
+     *          the id of the parent object, or <code>-1</code> if the object has no parent
+     * @param minX
+     *          the x-coordinate of the minimum corner
+     * @param minY
+     *          the y-coordinate of the minimum corner
+     * @param minZ
+     *          the z-coordinate of the minimum corner
+     * @param maxX
+     *          the x-coordinate of the maximum corner
+     * @param maxY
+     *          the y-coordinate of the maximum corner
+     * @param maxZ
+     *          the z-coordinate of the maximum corner
+     * @return <code>true</code> if the box is partly or completely inside of the frustum; <code>false</code> otherwise
+     */
+    public boolean testAab(int id, int parentId, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        return intersectAab(id, parentId, minX, minY, minZ, maxX, maxY, maxZ) < 0;
+    }
+
+    /**
+     * Return the number of objects tested since the last {@link #beginFrame(FrustumIntersection)}.
+     * 
+     * @return the number of tested objects
+     */
+    public long frameObjects() {
+        return frameObjects;
+    }
+
+    /**
+     * Return the number of box/plane tests performed since the last {@link #beginFrame(FrustumIntersection)}.
+     * 
+     * @return the number of plane tests
+     */
+    public long framePlaneTests() {
+        return framePlaneTests;
+    }
+
+    /**
+     * Return the average number of plane tests per object since the last {@link #beginFrame(FrustumIntersection)}.
+     * <p>
+     * Without any coherence, this is six for every object that is not culled.
+     * 
+     * @return the average number of plane tests per object, or <code>0</code> if no object was tested
+     */
+    public float averagePlaneTests() {
+        return frameObjects == 0L ? 0.0f : (float) framePlaneTests / frameObjects;
+    }
+
+}
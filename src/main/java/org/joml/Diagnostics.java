@@ -0,0 +1,233 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reports which implementation JOML selected for each of its accelerated code paths, and why a slower fallback
+ * was chosen.
+ * <p>
+ * The selection happens once per JVM, based on the <code>joml.*</code> system properties in {@link Options} and on
+ * what the running JVM supports. A misconfigured JVM flag can therefore silently make JOML a lot slower, which this
+ * report makes visible. Its {@link #toString()} is a multi-line text meant for logging at application startup:
+ * <pre>
+ * logger.info(Diagnostics.get().toString());
+ * </pre>
+ * The same report can be printed for a given set of JVM flags by running this class as the main class.
+ * <p>
+ * Obtaining the report initializes all backends that it describes.
+ */
+public final class Diagnostics {
+
+    /**
+     * The name of the {@link Feature} describing the implementation used to copy between JOML objects and NIO buffers.
+     */
+    public static final String MEMUTIL = "memutil";
+    /**
+     * The name of the {@link Feature} describing the JVMCI AVX/FMA machine-code kernels.
+     */
+    public static final String JVMCI = "jvmci";
+    /**
+     * The name of the {@link Feature} describing the JVMCI AVX-512 machine-code kernels.
+     */
+    public static final String JVMCI_AVX512 = "jvmci.avx512";
+    /**
+     * The name of the {@link Feature} describing the Vector API kernels for float matrices.
+     */
+    public static final String VECTOR_API_FLOAT = "vectorApi.float";
+    /**
+     * The name of the {@link Feature} describing the Vector API kernels for double matrices.
+     */
+    public static final String VECTOR_API_DOUBLE = "vectorApi.double";
+    /**
+     * The name of the {@link Feature} describing whether <code>java.lang.Math.fma()</code> is used.
+     */
+    public static final String MATH_FMA = "math.fma";
+    /**
+     * The name of the {@link Feature} describing whether fast approximations of <code>java.lang.Math</code> functions
+     * are used.
+     */
+    public static final String FASTMATH = "fastmath";
+    /**
+     * The name of the {@link Feature} describing whether sin/cos use a lookup table.
+     */
+    public static final String SIN_LOOKUP = "sinLookup";
+
+    /**
+     * A single accelerated code path and the implementation selected for it.
+     */
+    public static final class Feature {
+        private final String name;
+        private final boolean active;
+        private final String implementation;
+        private final @Nullable String reason;
+
+        Feature(String name, boolean active, String implementation, @Nullable String reason) {
+            this.name = name;
+            this.active = active;
+            this.implementation = implementation;
+            this.reason = reason;
+        }
+
+        /**
+         * @return the name of this feature, such as {@link Diagnostics#MEMUTIL}
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return whether the accelerated implementation is in use
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * @return a short description of the selected implementation
+         */
+        public String implementation() {
+            return implementation;
+        }
+
+        /**
+         * @return why the fastest implementation was not selected, or <code>null</code> if it was
+         */
+        public @Nullable String reason() {
+            return reason;
+        }
+
+        public String toString() {
+            String str = name + ": " + implementation;
+            if (reason != null)
+                str += " (" + reason + ")";
+            return str;
+        }
+    }
+
+    private static @Nullable Diagnostics instance;
+
+    private final Feature[] features;
+
+    private Diagnostics(Feature[] features) {
+        this.features = features;
+    }
+
+    /**
+     * Return the report for this JVM.
+     *
+     * @return the report
+     */
+    public static synchronized Diagnostics get() {
+        if (instance == null)
+            instance = new Diagnostics(collect());
+        return instance;
+    }
+
+    private static Feature[] collect() {
+        Feature[] features = new Feature[8];
+        MemUtil memUtil = MemUtil.INSTANCE;
+        String memUtilName = memUtil.getClass().getName();
+        features[0] = new Feature(MEMUTIL, memUtil.getClass() != MemUtil.MemUtilNIO.class,
+                memUtilName.substring(memUtilName.lastIndexOf('$') + 1), MemUtil.fallbackReason);
+//#ifdef __HAS_JVMCI__
+        features[1] = new Feature(JVMCI, JvmciCode.canUseJvmci, JvmciCode.canUseJvmci ? "AVX/FMA kernels" : "Java",
+                JvmciCode.unavailableReason);
+        features[2] = new Feature(JVMCI_AVX512, JvmciCode.canUseAvx512, JvmciCode.canUseAvx512 ? "AVX-512 kernels" : "none",
+                JvmciCode.avx512UnavailableReason);
+//#else
+        features[1] = new Feature(JVMCI, false, "Java", "not included in this build");
+        features[2] = new Feature(JVMCI_AVX512, false, "none", "not included in this build");
+//#endif
+//#ifdef __HAS_VECTOR_API__
+        features[3] = new Feature(VECTOR_API_FLOAT, VectorApiCode.canUseFloatVectors,
+                VectorApiCode.canUseFloatVectors ? "jdk.incubator.vector" : "Java",
+                VectorApiCode.canUseFloatVectors ? null : VectorApiCode.unavailableReason);
+        features[4] = new Feature(VECTOR_API_DOUBLE, VectorApiCode.canUseDoubleVectors,
+                VectorApiCode.canUseDoubleVectors ? "jdk.incubator.vector" : "Java",
+                VectorApiCode.canUseDoubleVectors ? null : VectorApiCode.unavailableReason);
+//#else
+        features[3] = new Feature(VECTOR_API_FLOAT, false, "Java", "not included in this build");
+        features[4] = new Feature(VECTOR_API_DOUBLE, false, "Java", "not included in this build");
+//#endif
+        features[5] = new Feature(MATH_FMA, Runtime.HAS_Math_fma, Runtime.HAS_Math_fma ? "java.lang.Math.fma" : "a * b + c",
+                Runtime.HAS_Math_fma ? null : Options.USE_MATH_FMA ? "java.lang.Math.fma not available" : "not enabled by -Djoml.useMathFma");
+        features[6] = new Feature(FASTMATH, Options.FASTMATH, Options.FASTMATH ? "approximations" : "java.lang.Math",
+                Options.FASTMATH ? null : "not enabled by -Djoml.fastmath");
+        boolean sinLookup = Options.FASTMATH && Options.SIN_LOOKUP;
+        features[7] = new Feature(SIN_LOOKUP, sinLookup,
+                sinLookup ? "table with 2^" + Options.SIN_LOOKUP_BITS + " entries" : "none",
+                sinLookup ? null : Options.SIN_LOOKUP ? "-Djoml.sinLookup requires -Djoml.fastmath" : "not enabled by -Djoml.sinLookup");
+        return features;
+    }
+
+    /**
+     * Return all features in this report.
+     *
+     * @return a new array holding the features
+     */
+    public Feature[] features() {
+        Feature[] res = new Feature[features.length];
+        System.arraycopy(features, 0, res, 0, features.length);
+        return res;
+    }
+
+    /**
+     * Return the feature with the given name.
+     *
+     * @param name
+     *          the name of the feature, such as {@link #MEMUTIL}
+     * @return the feature, or <code>null</code> if there is no feature with that name
+     */
+    public @Nullable Feature feature(String name) {
+        for (int i = 0; i < features.length; i++)
+            if (features[i].name.equals(name))
+                return features[i];
+        return null;
+    }
+
+    /**
+     * Return a multi-line representation of this report with one line per feature.
+     *
+     * @return the string representation
+     */
+    public String toString() {
+        StringBuffer sb = new StringBuffer("JOML backends:");
+        for (int i = 0; i < features.length; i++)
+            sb.append(System.getProperty("line.separator")).append("  ").append(features[i]);
+        return sb.toString();
+    }
+
+    /**
+     * Print the report to {@link System#out}.
+     *
+     * @param args
+     *          ignored
+     */
+    public static void main(String[] args) {
+        System.out.println(get());
+    }
+
+}
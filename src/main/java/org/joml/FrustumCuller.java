@@ -0,0 +1,332 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Culls large sets of boxes or spheres against a {@link FrustumIntersection} using several threads.
+ * <p>
+ * The objects are given in the same structure-of-arrays layout as for
+ * {@link FrustumIntersection#testAab(float[], float[], float[], float[], float[], float[], int, int, int[], int)}. They are
+ * split into contiguous chunks, which are tested by a shared set of JOML worker threads and the calling thread. Since a
+ * {@link FrustumIntersection} is not modified by testing, a single instance is shared by all threads.
+ * <p>
+ * Applications that already have their own thread pool or job system can run the chunks on it instead by creating the
+ * culler with a {@link Scheduler}.
+ * <p>
+ * Each chunk writes the indices of its visible objects into its own region of the <code>dest</code> array, namely the
+ * region starting at the position of its first object, and records how many it wrote. Once all chunks have finished, the
+ * regions are moved together on the calling thread. No locks are taken while testing, and the resulting indices are in
+ * ascending order, exactly as if the objects had been tested by a single thread.
+ * <p>
+ * In addition, this class accumulates the time spent culling and the number of tested and visible objects since the last
+ * {@link #beginFrame()}, to monitor the cost and the effectiveness of culling per frame.
+ * <p>
+ * Instances of this class are not thread-safe.
+ */
+public class FrustumCuller {
+
+    /**
+     * The minimum number of objects tested by a single thread.
+     */
+    private static final int MIN_CHUNK = 1 << 13;
+
+    /**
+     * Processes a range of the chunks of a culling call.
+     */
+    public interface Chunks {
+        /**
+         * Test all objects of the chunks <code>[start, end)</code>.
+         * 
+         * @param start
+         *          the first chunk
+         * @param end
+         *          the chunk after the last chunk
+         */
+        void run(int start, int end);
+    }
+
+    /**
+     * Runs the chunks of a culling call on threads chosen by the application.
+     */
+    public interface Scheduler {
+        /**
+         * Call {@link Chunks#run(int, int)} of the given <code>chunks</code> for disjoint ranges that together cover
+         * <code>[0, count)</code>, possibly concurrently on several threads, and return only after all of them have returned.
+         * <p>
+         * Different chunks write to different regions of the result, so the ranges may be run in any order. If a range throws,
+         * the exception should be rethrown in the calling thread.
+         * 
+         * @param count
+         *          the number of chunks
+         * @param chunks
+         *          the chunks to run
+         */
+        void run(int count, Chunks chunks);
+    }
+
+    /**
+     * A task that can be run both by a {@link Scheduler} and by {@link Parallel}.
+     */
+    private static abstract class ChunkTask implements Chunks, Parallel.Task {
+    }
+
+    private final int threads;
+    private final @Nullable Scheduler scheduler;
+
+    /**
+     * The number of visible objects found by each chunk of the current call.
+     */
+    private int[] chunkVisible = new int[0];
+
+    private long frameNanos;
+    private long frameTested;
+    private long frameVisible;
+
+    /**
+     * Create a new {@link FrustumCuller} using as many threads as there are available processors.
+     */
+    public FrustumCuller() {
+        this(Parallel.defaultThreads());
+    }
+
+    /**
+     * Create a new {@link FrustumCuller} using up to the given number of threads, including the calling thread.
+     * 
+     * @param threads
+     *          the maximum number of threads
+     */
+    public FrustumCuller(int threads) {
+        this(threads, null);
+    }
+
+    /**
+     * Create a new {@link FrustumCuller} that runs its chunks via the given {@link Scheduler}.
+     * <p>
+     * The given number of threads only determines into how many chunks the objects are split, which is at most four chunks
+     * per thread. If <code>scheduler</code> is <code>null</code>, the chunks run on the JOML worker threads and the calling thread.
+     * 
+     * @param threads
+     *          the number of threads the scheduler runs the chunks on
+     * @param scheduler
+     *          the scheduler to run the chunks, or <code>null</code>
+     */
+    public FrustumCuller(int threads, @Nullable Scheduler scheduler) {
+        if (threads < 1)
+            throw new IllegalArgumentException("threads must be >= 1"); //$NON-NLS-1$
+        this.threads = threads;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Return the maximum number of threads used by this culler.
+     * 
+     * @return the number of threads
+     */
+    public int threads() {
+        return threads;
+    }
+
+    /**
+     * Reset the statistics accumulated since the last call to this method.
+     * 
+     * @return this
+     */
+    public FrustumCuller beginFrame() {
+        frameNanos = 0L;
+        frameTested = 0L;
+        frameVisible = 0L;
+        return this;
+    }
+
+    /**
+     * Return the wall-clock time spent in the culling methods of this culler since the last {@link #beginFrame()}.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long frameNanos() {
+        return frameNanos;
+    }
+
+    /**
+     * Return the number of objects tested since the last {@link #beginFrame()}.
+     * 
+     * @return the number of tested objects
+     */
+    public long frameTested() {
+        return frameTested;
+    }
+
+    /**
+     * Return the number of objects found to be visible since the last {@link #beginFrame()}.
+     * 
+     * @return the number of visible objects
+     */
+    public long frameVisible() {
+        return frameVisible;
+    }
+
+    /**
+     * Return the fraction of the objects tested since the last {@link #beginFrame()} that were culled.
+     * 
+     * @return the ratio of culled to tested objects in <code>[0, 1]</code>, or <code>0</code> if no object was tested
+     */
+    public float frameCullRatio() {
+        return frameTested == 0L ? 0.0f : (float) (frameTested - frameVisible) / frameTested;
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> axis-aligned boxes, starting at <code>offset</code>, is partly or completely
+     * within the given frustum, and store the indices of all such boxes consecutively and in ascending order in <code>dest</code>.
+     * <p>
+     * This gives the same result as
+     * {@link FrustumIntersection#testAab(float[], float[], float[], float[], float[], float[], int, int, int[], int)}.
+     * The <code>dest</code> array must have room for <code>count</code> indices, even if fewer are stored.
+     * 
+     * @param frustum
+     *          the frustum to cull against
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param offset
+     *          the index of the first box in the arrays
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold the indices of all boxes that are partly or completely inside of the frustum
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testAab(final FrustumIntersection frustum, final float[] minX, final float[] minY, final float[] minZ,
+            final float[] maxX, final float[] maxY, final float[] maxZ, final int offset, final int count,
+            final int[] dest, final int destOffset) {
+        long start = Runtime.nanoTime();
+        final int chunks = chunks(count);
+        final int chunkSize = (count + chunks - 1) / chunks;
+        final int[] visible = chunkVisible;
+        run(chunks, new ChunkTask() {
+            public void run(int s, int e) {
+                for (int c = s; c < e; c++) {
+                    int first = c * chunkSize;
+                    visible[c] = first >= count ? 0 : frustum.testAab(minX, minY, minZ, maxX, maxY, maxZ, offset + first,
+                            java.lang.Math.min(chunkSize, count - first), dest, destOffset + first);
+                }
+            }
+        });
+        return finish(start, count, dest, destOffset, chunks, chunkSize);
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> spheres, starting at <code>offset</code>, is partly or completely
+     * within the given frustum, and store the indices of all such spheres consecutively and in ascending order in <code>dest</code>.
+     * <p>
+     * This gives the same result as {@link FrustumIntersection#testSphere(float[], float[], float[], float[], int, int, int[], int)}.
+     * The <code>dest</code> array must have room for <code>count</code> indices, even if fewer are stored.
+     * 
+     * @param frustum
+     *          the frustum to cull against
+     * @param x
+     *          the x-coordinates of the sphere centers
+     * @param y
+     *          the y-coordinates of the sphere centers
+     * @param z
+     *          the z-coordinates of the sphere centers
+     * @param r
+     *          the sphere radii
+     * @param offset
+     *          the index of the first sphere in the arrays
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will hold the indices of all spheres that are partly or completely inside of the frustum
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testSphere(final FrustumIntersection frustum, final float[] x, final float[] y, final float[] z, final float[] r,
+            final int offset, final int count, final int[] dest, final int destOffset) {
+        long start = Runtime.nanoTime();
+        final int chunks = chunks(count);
+        final int chunkSize = (count + chunks - 1) / chunks;
+        final int[] visible = chunkVisible;
+        run(chunks, new ChunkTask() {
+            public void run(int s, int e) {
+                for (int c = s; c < e; c++) {
+                    int first = c * chunkSize;
+                    visible[c] = first >= count ? 0 : frustum.testSphere(x, y, z, r, offset + first,
+                            java.lang.Math.min(chunkSize, count - first), dest, destOffset + first);
+                }
+            }
+        });
+        return finish(start, count, dest, destOffset, chunks, chunkSize);
+    }
+
+    private void run(int chunks, ChunkTask task) {
+        if (scheduler != null)
+            scheduler.run(chunks, task);
+        else
+            Parallel.run(chunks, threads, 1, task);
+    }
+
+    /**
+     * Determine the number of chunks for the given number of objects and make sure that {@link #chunkVisible} can hold them.
+     */
+    private int chunks(int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("count must be >= 0"); //$NON-NLS-1$
+        int chunks = java.lang.Math.max(1, java.lang.Math.min(threads * 4, (count + MIN_CHUNK - 1) / MIN_CHUNK));
+        if (chunkVisible.length < chunks)
+            chunkVisible = new int[chunks];
+        return chunks;
+    }
+
+    /**
+     * Move the indices found by all chunks together and update the statistics.
+     */
+    private int finish(long start, int count, int[] dest, int destOffset, int chunks, int chunkSize) {
+        int d = chunkVisible[0];
+        for (int c = 1; c < chunks; c++) {
+            int n = chunkVisible[c];
+            if (n > 0)
+                System.arraycopy(dest, destOffset + c * chunkSize, dest, destOffset + d, n);
+            d += n;
+        }
+        frameNanos += Runtime.nanoTime() - start;
+        frameTested += count;
+        frameVisible += d;
+        return d;
+    }
+
+}
@@ -23,6 +23,11 @@
  */
 package org.joml;
 
+//#ifdef __HAS_NIO__
+import java.nio.FloatBuffer;
+//#endif
+import java.util.BitSet;
+
 /**
  * Efficiently performs frustum intersection tests by caching the frustum planes of an arbitrary transformation {@link Matrix4fc matrix}.
  * <p>
@@ -862,6 +867,30 @@ public class FrustumIntersection {
         return plane;
     }
 
+    /**
+     * Variant of {@link #intersectAab(float, float, float, float, float, float, int, int)} for {@link CoherentFrustumCuller},
+     * which tests the planes in <code>mask</code> in cyclic order beginning at <code>startPlane</code> and additionally reports
+     * which planes the box straddles and how many planes were tested.
+     * <p>
+     * The result holds in bits 0-7 the index of the plane that culled the box, or <code>6</code> if the box intersects the frustum,
+     * in bits 8-13 the planes of <code>mask</code> whose positive side the box is not completely on, and from bit 16 onwards the
+     * number of tested planes.
+     */
+    int intersectAabCoherent(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int mask, int startPlane) {
+        int straddled = 0, tests = 0;
+        for (int k = 0, i = startPlane; k < 6; k++, i = i == PLANE_PZ ? PLANE_NX : i + 1) {
+            if ((mask & 1 << i) == 0)
+                continue;
+            Vector4f p = planes[i];
+            tests++;
+            if (p.x * (p.x < 0 ? minX : maxX) + p.y * (p.y < 0 ? minY : maxY) + p.z * (p.z < 0 ? minZ : maxZ) < -p.w)
+                return i | tests << 16;
+            if (p.x * (p.x < 0 ? maxX : minX) + p.y * (p.y < 0 ? maxY : minY) + p.z * (p.z < 0 ? maxZ : minZ) < -p.w)
+                straddled |= 1 << i;
+        }
+        return 6 | straddled << 8 | tests << 16;
+    }
+
     /**
      * Test whether the given line segment, defined by the end points <code>a</code> and <code>b</code>, 
      * is partly or completely within the frustum defined by <code>this</code> frustum culler.
@@ -968,4 +997,546 @@ public class FrustumIntersection {
         return da >= 0.0f || db >= 0.0f;
     }
 
+    /**
+     * The number of boxes or spheres processed together in one iteration of the batch culling methods.
+     * <p>
+     * All batch culling methods use the same indexing convention: the <code>i</code>-th box or sphere is read from index
+     * <code>offset + i</code> of the given arrays or buffers, and its result is written to index <code>destOffset + i</code>
+     * of <code>dest</code>. The methods that instead collect the indices of the visible boxes or spheres store the
+     * array index <code>offset + i</code> and write these consecutively, starting at <code>destOffset</code>.
+     */
+    private static final int BATCH_SIZE = 8;
+
+    /**
+     * Determine whether each of the given <code>count</code> axis-aligned boxes, starting at <code>offset</code>, is partly or completely
+     * within or outside of the frustum defined by <code>this</code> frustum culler, and store the result of each box in <code>dest</code>.
+     * <p>
+     * The boxes are given in structure-of-arrays layout, with the coordinates of the <code>i</code>-th box stored at index <code>offset + i</code>
+     * of each of the six arrays. The boxes are tested against all frustum planes in batches of {@value #BATCH_SIZE}, which is considerably faster
+     * than calling {@link #intersectAab(float, float, float, float, float, float)} for each box.
+     * <p>
+     * Unlike {@link #intersectAab(float, float, float, float, float, float)}, this method does not report the plane that culled a box
+     * but stores {@link #OUTSIDE} for it.
+     * <p>
+     * The algorithm implemented by this method is conservative. This means that in certain circumstances a <i>false positive</i>
+     * can occur, when the method stores {@link #INTERSECT} for boxes that do not intersect the frustum.
+     * See <a href="http://iquilezles.org/www/articles/frustumcorrect/frustumcorrect.htm">iquilezles.org</a> for an examination of this problem.
+     * 
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param offset
+     *          the index of the first box in the arrays
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold {@link #INSIDE}, {@link #INTERSECT} or {@link #OUTSIDE} for each box
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the result of the first box
+     * @return dest
+     */
+    public int[] intersectAab(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, int count,
+            int[] dest, int destOffset) {
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            int outside = outsideAab(minX, minY, minZ, maxX, maxY, maxZ, offset + i, n);
+            int partial = partialAab(minX, minY, minZ, maxX, maxY, maxZ, offset + i, n);
+            codes(outside, partial, n, dest, destOffset + i);
+        }
+        return dest;
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> axis-aligned boxes, starting at <code>offset</code>, is partly or completely
+     * within the frustum defined by <code>this</code> frustum culler, and set or clear the bit at index <code>destOffset + i</code>
+     * in <code>dest</code> accordingly for the <code>i</code>-th box.
+     * <p>
+     * The boxes are given in structure-of-arrays layout, with the coordinates of the <code>i</code>-th box stored at index <code>offset + i</code>
+     * of each of the six arrays.
+     * <p>
+     * The algorithm implemented by this method is conservative. This means that in certain circumstances a <i>false positive</i>
+     * can occur, when the bit is set for boxes that do not intersect the frustum.
+     * See <a href="http://iquilezles.org/www/articles/frustumcorrect/frustumcorrect.htm">iquilezles.org</a> for an examination of this problem.
+     * 
+     * @see #intersectAab(float[], float[], float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param offset
+     *          the index of the first box in the arrays
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will have the bit of each box set if it is partly or completely inside of the frustum, and cleared otherwise
+     * @param destOffset
+     *          the index of the bit in <code>dest</code> that holds the result of the first box
+     * @return dest
+     */
+    public BitSet testAab(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, int count,
+            BitSet dest, int destOffset) {
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            bits(outsideAab(minX, minY, minZ, maxX, maxY, maxZ, offset + i, n), n, dest, destOffset + i);
+        }
+        return dest;
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> axis-aligned boxes, starting at <code>offset</code>, is partly or completely
+     * within the frustum defined by <code>this</code> frustum culler, and store the indices of all such boxes consecutively in <code>dest</code>.
+     * <p>
+     * The boxes are given in structure-of-arrays layout, with the coordinates of the <code>i</code>-th box stored at index <code>offset + i</code>
+     * of each of the six arrays, and <code>offset + i</code> is also the index stored in <code>dest</code>. The <code>dest</code> array
+     * must have room for up to <code>count</code> indices.
+     * <p>
+     * The algorithm implemented by this method is conservative. This means that in certain circumstances a <i>false positive</i>
+     * can occur, when the index of a box that does not intersect the frustum is stored.
+     * See <a href="http://iquilezles.org/www/articles/frustumcorrect/frustumcorrect.htm">iquilezles.org</a> for an examination of this problem.
+     * 
+     * @see #intersectAab(float[], float[], float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param offset
+     *          the index of the first box in the arrays
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold the indices of all boxes that are partly or completely inside of the frustum
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testAab(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, int count,
+            int[] dest, int destOffset) {
+        int d = destOffset;
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            d = indices(outsideAab(minX, minY, minZ, maxX, maxY, maxZ, offset + i, n), n, dest, d, offset + i);
+        }
+        return d - destOffset;
+    }
+
+    /**
+     * Determine whether each of the given <code>count</code> spheres, starting at <code>offset</code>, is partly or completely
+     * within or outside of the frustum defined by <code>this</code> frustum culler, and store the result of each sphere in <code>dest</code>.
+     * <p>
+     * The spheres are given in structure-of-arrays layout, with the center and radius of the <code>i</code>-th sphere stored at index
+     * <code>offset + i</code> of each of the four arrays. The spheres are tested against all frustum planes in batches of {@value #BATCH_SIZE},
+     * which is considerably faster than calling {@link #intersectSphere(float, float, float, float)} for each sphere.
+     * <p>
+     * The algorithm implemented by this method is conservative. This means that in certain circumstances a <i>false positive</i>
+     * can occur, when the method stores {@link #INTERSECT} for spheres that do not intersect the frustum.
+     * See <a href="http://iquilezles.org/www/articles/frustumcorrect/frustumcorrect.htm">iquilezles.org</a> for an examination of this problem.
+     * 
+     * @param x
+     *          the x-coordinates of the sphere centers
+     * @param y
+     *          the y-coordinates of the sphere centers
+     * @param z
+     *          the z-coordinates of the sphere centers
+     * @param r
+     *          the sphere radii
+     * @param offset
+     *          the index of the first sphere in the arrays
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will hold {@link #INSIDE}, {@link #INTERSECT} or {@link #OUTSIDE} for each sphere
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the result of the first sphere
+     * @return dest
+     */
+    public int[] intersectSphere(float[] x, float[] y, float[] z, float[] r, int offset, int count, int[] dest, int destOffset) {
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            int outside = sphereMask(x, y, z, r, -1.0f, offset + i, n);
+            int partial = sphereMask(x, y, z, r, 1.0f, offset + i, n);
+            codes(outside, partial, n, dest, destOffset + i);
+        }
+        return dest;
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> spheres, starting at <code>offset</code>, is partly or completely
+     * within the frustum defined by <code>this</code> frustum culler, and set or clear the bit at index <code>destOffset + i</code>
+     * in <code>dest</code> accordingly for the <code>i</code>-th sphere.
+     * <p>
+     * The algorithm implemented by this method is conservative. This means that in certain circumstances a <i>false positive</i>
+     * can occur, when the bit is set for spheres that do not intersect the frustum.
+     * See <a href="http://iquilezles.org/www/articles/frustumcorrect/frustumcorrect.htm">iquilezles.org</a> for an examination of this problem.
+     * 
+     * @see #intersectSphere(float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param x
+     *          the x-coordinates of the sphere centers
+     * @param y
+     *          the y-coordinates of the sphere centers
+     * @param z
+     *          the z-coordinates of the sphere centers
+     * @param r
+     *          the sphere radii
+     * @param offset
+     *          the index of the first sphere in the arrays
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will have the bit of each sphere set if it is partly or completely inside of the frustum, and cleared otherwise
+     * @param destOffset
+     *          the index of the bit in <code>dest</code> that holds the result of the first sphere
+     * @return dest
+     */
+    public BitSet testSphere(float[] x, float[] y, float[] z, float[] r, int offset, int count, BitSet dest, int destOffset) {
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            bits(sphereMask(x, y, z, r, -1.0f, offset + i, n), n, dest, destOffset + i);
+        }
+        return dest;
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> spheres, starting at <code>offset</code>, is partly or completely
+     * within the frustum defined by <code>this</code> frustum culler, and store the indices of all such spheres consecutively in <code>dest</code>.
+     * <p>
+     * The index stored for the <code>i</code>-th sphere is <code>offset + i</code>. The <code>dest</code> array
+     * must have room for up to <code>count</code> indices.
+     * <p>
+     * The algorithm implemented by this method is conservative. This means that in certain circumstances a <i>false positive</i>
+     * can occur, when the index of a sphere that does not intersect the frustum is stored.
+     * See <a href="http://iquilezles.org/www/articles/frustumcorrect/frustumcorrect.htm">iquilezles.org</a> for an examination of this problem.
+     * 
+     * @see #intersectSphere(float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param x
+     *          the x-coordinates of the sphere centers
+     * @param y
+     *          the y-coordinates of the sphere centers
+     * @param z
+     *          the z-coordinates of the sphere centers
+     * @param r
+     *          the sphere radii
+     * @param offset
+     *          the index of the first sphere in the arrays
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will hold the indices of all spheres that are partly or completely inside of the frustum
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testSphere(float[] x, float[] y, float[] z, float[] r, int offset, int count, int[] dest, int destOffset) {
+        int d = destOffset;
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            d = indices(sphereMask(x, y, z, r, -1.0f, offset + i, n), n, dest, d, offset + i);
+        }
+        return d - destOffset;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Determine whether each of the given <code>count</code> axis-aligned boxes, starting at absolute buffer position <code>offset</code>,
+     * is partly or completely within or outside of the frustum defined by <code>this</code> frustum culler, and store the result of each box in <code>dest</code>.
+     * <p>
+     * This method will not change the position of any of the given buffers.
+     * 
+     * @see #intersectAab(float[], float[], float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param offset
+     *          the absolute position of the first box in the buffers
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold {@link #INSIDE}, {@link #INTERSECT} or {@link #OUTSIDE} for each box
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the result of the first box
+     * @return dest
+     */
+    public int[] intersectAab(FloatBuffer minX, FloatBuffer minY, FloatBuffer minZ, FloatBuffer maxX, FloatBuffer maxY, FloatBuffer maxZ,
+            int offset, int count, int[] dest, int destOffset) {
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            int outside = outsideAab(minX, minY, minZ, maxX, maxY, maxZ, offset + i, n);
+            int partial = partialAab(minX, minY, minZ, maxX, maxY, maxZ, offset + i, n);
+            codes(outside, partial, n, dest, destOffset + i);
+        }
+        return dest;
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> axis-aligned boxes, starting at absolute buffer position <code>offset</code>,
+     * is partly or completely within the frustum defined by <code>this</code> frustum culler, and store the indices of all such boxes
+     * consecutively in <code>dest</code>.
+     * <p>
+     * The index stored for the <code>i</code>-th box is <code>offset + i</code>. The <code>dest</code> array
+     * must have room for up to <code>count</code> indices.
+     * <p>
+     * This method will not change the position of any of the given buffers.
+     * 
+     * @see #testAab(float[], float[], float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param offset
+     *          the absolute position of the first box in the buffers
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold the indices of all boxes that are partly or completely inside of the frustum
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testAab(FloatBuffer minX, FloatBuffer minY, FloatBuffer minZ, FloatBuffer maxX, FloatBuffer maxY, FloatBuffer maxZ,
+            int offset, int count, int[] dest, int destOffset) {
+        int d = destOffset;
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            d = indices(outsideAab(minX, minY, minZ, maxX, maxY, maxZ, offset + i, n), n, dest, d, offset + i);
+        }
+        return d - destOffset;
+    }
+
+    /**
+     * Determine whether each of the given <code>count</code> spheres, starting at absolute buffer position <code>offset</code>,
+     * is partly or completely within or outside of the frustum defined by <code>this</code> frustum culler, and store the result of each sphere in <code>dest</code>.
+     * <p>
+     * This method will not change the position of any of the given buffers.
+     * 
+     * @see #intersectSphere(float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param x
+     *          the x-coordinates of the sphere centers
+     * @param y
+     *          the y-coordinates of the sphere centers
+     * @param z
+     *          the z-coordinates of the sphere centers
+     * @param r
+     *          the sphere radii
+     * @param offset
+     *          the absolute position of the first sphere in the buffers
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will hold {@link #INSIDE}, {@link #INTERSECT} or {@link #OUTSIDE} for each sphere
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the result of the first sphere
+     * @return dest
+     */
+    public int[] intersectSphere(FloatBuffer x, FloatBuffer y, FloatBuffer z, FloatBuffer r, int offset, int count, int[] dest, int destOffset) {
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            int outside = sphereMask(x, y, z, r, -1.0f, offset + i, n);
+            int partial = sphereMask(x, y, z, r, 1.0f, offset + i, n);
+            codes(outside, partial, n, dest, destOffset + i);
+        }
+        return dest;
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> spheres, starting at absolute buffer position <code>offset</code>,
+     * is partly or completely within the frustum defined by <code>this</code> frustum culler, and store the indices of all such spheres
+     * consecutively in <code>dest</code>.
+     * <p>
+     * The index stored for the <code>i</code>-th sphere is <code>offset + i</code>. The <code>dest</code> array
+     * must have room for up to <code>count</code> indices.
+     * <p>
+     * This method will not change the position of any of the given buffers.
+     * 
+     * @see #testSphere(float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param x
+     *          the x-coordinates of the sphere centers
+     * @param y
+     *          the y-coordinates of the sphere centers
+     * @param z
+     *          the z-coordinates of the sphere centers
+     * @param r
+     *          the sphere radii
+     * @param offset
+     *          the absolute position of the first sphere in the buffers
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will hold the indices of all spheres that are partly or completely inside of the frustum
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testSphere(FloatBuffer x, FloatBuffer y, FloatBuffer z, FloatBuffer r, int offset, int count, int[] dest, int destOffset) {
+        int d = destOffset;
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, count - i);
+            d = indices(sphereMask(x, y, z, r, -1.0f, offset + i, n), n, dest, d, offset + i);
+        }
+        return d - destOffset;
+    }
+
+    /**
+     * Buffer variant of {@link #outsideAab(float[], float[], float[], float[], float[], float[], int, int)}
+     * reading the coordinates with absolute gets, so that no intermediate array is needed.
+     */
+    private int outsideAab(FloatBuffer minX, FloatBuffer minY, FloatBuffer minZ, FloatBuffer maxX, FloatBuffer maxY, FloatBuffer maxZ, int off, int n) {
+        return planeMask(nxX, nxY, nxZ, nxW, nxX < 0 ? minX : maxX, nxY < 0 ? minY : maxY, nxZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(pxX, pxY, pxZ, pxW, pxX < 0 ? minX : maxX, pxY < 0 ? minY : maxY, pxZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(nyX, nyY, nyZ, nyW, nyX < 0 ? minX : maxX, nyY < 0 ? minY : maxY, nyZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(pyX, pyY, pyZ, pyW, pyX < 0 ? minX : maxX, pyY < 0 ? minY : maxY, pyZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(nzX, nzY, nzZ, nzW, nzX < 0 ? minX : maxX, nzY < 0 ? minY : maxY, nzZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(pzX, pzY, pzZ, pzW, pzX < 0 ? minX : maxX, pzY < 0 ? minY : maxY, pzZ < 0 ? minZ : maxZ, off, n);
+    }
+
+    private int partialAab(FloatBuffer minX, FloatBuffer minY, FloatBuffer minZ, FloatBuffer maxX, FloatBuffer maxY, FloatBuffer maxZ, int off, int n) {
+        return planeMask(nxX, nxY, nxZ, nxW, nxX < 0 ? maxX : minX, nxY < 0 ? maxY : minY, nxZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(pxX, pxY, pxZ, pxW, pxX < 0 ? maxX : minX, pxY < 0 ? maxY : minY, pxZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(nyX, nyY, nyZ, nyW, nyX < 0 ? maxX : minX, nyY < 0 ? maxY : minY, nyZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(pyX, pyY, pyZ, pyW, pyX < 0 ? maxX : minX, pyY < 0 ? maxY : minY, pyZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(nzX, nzY, nzZ, nzW, nzX < 0 ? maxX : minX, nzY < 0 ? maxY : minY, nzZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(pzX, pzY, pzZ, pzW, pzX < 0 ? maxX : minX, pzY < 0 ? maxY : minY, pzZ < 0 ? maxZ : minZ, off, n);
+    }
+
+    private static int planeMask(float a, float b, float c, float d, FloatBuffer x, FloatBuffer y, FloatBuffer z, int off, int n) {
+        int mask = 0;
+        for (int i = 0; i < n; i++)
+            mask |= (a * x.get(off + i) + b * y.get(off + i) + c * z.get(off + i) >= -d ? 0 : 1) << i;
+        return mask;
+    }
+
+    private int sphereMask(FloatBuffer x, FloatBuffer y, FloatBuffer z, FloatBuffer r, float s, int off, int n) {
+        int mask = 0;
+        for (int i = 0; i < n; i++) {
+            float cx = x.get(off + i), cy = y.get(off + i), cz = z.get(off + i), sr = s * r.get(off + i);
+            boolean test = nxX * cx + nxY * cy + nxZ * cz + nxW >= sr &
+                           pxX * cx + pxY * cy + pxZ * cz + pxW >= sr &
+                           nyX * cx + nyY * cy + nyZ * cz + nyW >= sr &
+                           pyX * cx + pyY * cy + pyZ * cz + pyW >= sr &
+                           nzX * cx + nzY * cy + nzZ * cz + nzW >= sr &
+                           pzX * cx + pzY * cy + pzZ * cz + pzW >= sr;
+            mask |= (test ? 0 : 1) << i;
+        }
+        return mask;
+    }
+//#endif
+
+    /**
+     * Return a bitmask with bit <code>i</code> set if the <code>i</code>-th box lies completely on the negative side of any frustum plane.
+     * Each plane is tested against the "p-vertex" of all boxes, i.e. the box corner farthest along the plane normal.
+     */
+    private int outsideAab(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int off, int n) {
+        return planeMask(nxX, nxY, nxZ, nxW, nxX < 0 ? minX : maxX, nxY < 0 ? minY : maxY, nxZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(pxX, pxY, pxZ, pxW, pxX < 0 ? minX : maxX, pxY < 0 ? minY : maxY, pxZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(nyX, nyY, nyZ, nyW, nyX < 0 ? minX : maxX, nyY < 0 ? minY : maxY, nyZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(pyX, pyY, pyZ, pyW, pyX < 0 ? minX : maxX, pyY < 0 ? minY : maxY, pyZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(nzX, nzY, nzZ, nzW, nzX < 0 ? minX : maxX, nzY < 0 ? minY : maxY, nzZ < 0 ? minZ : maxZ, off, n) |
+               planeMask(pzX, pzY, pzZ, pzW, pzX < 0 ? minX : maxX, pzY < 0 ? minY : maxY, pzZ < 0 ? minZ : maxZ, off, n);
+    }
+
+    /**
+     * Return a bitmask with bit <code>i</code> set if the <code>i</code>-th box is not completely on the positive side of all frustum planes.
+     * Each plane is tested against the "n-vertex" of all boxes, i.e. the box corner farthest against the plane normal.
+     */
+    private int partialAab(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int off, int n) {
+        return planeMask(nxX, nxY, nxZ, nxW, nxX < 0 ? maxX : minX, nxY < 0 ? maxY : minY, nxZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(pxX, pxY, pxZ, pxW, pxX < 0 ? maxX : minX, pxY < 0 ? maxY : minY, pxZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(nyX, nyY, nyZ, nyW, nyX < 0 ? maxX : minX, nyY < 0 ? maxY : minY, nyZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(pyX, pyY, pyZ, pyW, pyX < 0 ? maxX : minX, pyY < 0 ? maxY : minY, pyZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(nzX, nzY, nzZ, nzW, nzX < 0 ? maxX : minX, nzY < 0 ? maxY : minY, nzZ < 0 ? maxZ : minZ, off, n) |
+               planeMask(pzX, pzY, pzZ, pzW, pzX < 0 ? maxX : minX, pzY < 0 ? maxY : minY, pzZ < 0 ? maxZ : minZ, off, n);
+    }
+
+    private static int planeMask(float a, float b, float c, float d, float[] x, float[] y, float[] z, int off, int n) {
+        int mask = 0;
+        for (int i = 0; i < n; i++)
+            mask |= (a * x[off + i] + b * y[off + i] + c * z[off + i] >= -d ? 0 : 1) << i;
+        return mask;
+    }
+
+    /**
+     * Return a bitmask with bit <code>i</code> set if the signed distance of the <code>i</code>-th sphere's center to any frustum plane
+     * is less than <code>s</code> times its radius, where <code>s = -1</code> detects spheres outside of the frustum, and <code>s = 1</code>
+     * spheres not completely inside of it.
+     */
+    private int sphereMask(float[] x, float[] y, float[] z, float[] r, float s, int off, int n) {
+        int mask = 0;
+        for (int i = 0; i < n; i++) {
+            float cx = x[off + i], cy = y[off + i], cz = z[off + i], sr = s * r[off + i];
+            boolean test = nxX * cx + nxY * cy + nxZ * cz + nxW >= sr &
+                           pxX * cx + pxY * cy + pxZ * cz + pxW >= sr &
+                           nyX * cx + nyY * cy + nyZ * cz + nyW >= sr &
+                           pyX * cx + pyY * cy + pyZ * cz + pyW >= sr &
+                           nzX * cx + nzY * cy + nzZ * cz + nzW >= sr &
+                           pzX * cx + pzY * cy + pzZ * cz + pzW >= sr;
+            mask |= (test ? 0 : 1) << i;
+        }
+        return mask;
+    }
+
+    private static void codes(int outside, int partial, int n, int[] dest, int destOffset) {
+        for (int i = 0; i < n; i++)
+            dest[destOffset + i] = (outside >>> i & 1) != 0 ? OUTSIDE : (partial >>> i & 1) != 0 ? INTERSECT : INSIDE;
+    }
+
+    private static void bits(int outside, int n, BitSet dest, int destOffset) {
+        for (int i = 0; i < n; i++)
+            dest.set(destOffset + i, (outside >>> i & 1) == 0);
+    }
+
+    private static int indices(int outside, int n, int[] dest, int destOffset, int index) {
+        for (int i = 0; i < n; i++)
+            if ((outside >>> i & 1) == 0)
+                dest[destOffset++] = index + i;
+        return destOffset;
+    }
+
 }
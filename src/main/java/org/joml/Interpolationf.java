@@ -23,6 +23,11 @@
  */
 package org.joml;
 
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+//#endif
+
 /**
  * Contains various interpolation functions.
  * 
@@ -334,4 +339,326 @@ public class Interpolationf {
         return dest;
     }
 
+    /**
+     * The number of matrices interpolated into a scratch array before being copied to a buffer.
+     */
+    private static final int BUFFER_BATCH_SIZE = 64;
+
+    /**
+     * Linearly interpolate <code>count</code> 3D vectors, such as positions or scaling factors, between <code>from</code> and <code>to</code>
+     * and store the results in <code>dest</code>.
+     * <p>
+     * All arrays hold consecutive <code>(x, y, z)</code> triples, and the vector at index <code>i</code> starts at array index <code>3*i</code>.
+     * <code>dest</code> may be the same array as <code>from</code> or <code>to</code>.
+     * 
+     * @param from
+     *            the vectors at <code>alpha = 0</code>
+     * @param to
+     *            the vectors at <code>alpha = 1</code>
+     * @param offset
+     *            the index of the first vector to interpolate
+     * @param count
+     *            the number of vectors to interpolate
+     * @param alpha
+     *            the interpolation factor, usually between 0.0 and 1.0
+     * @param dest
+     *            will hold the interpolated vectors at the same indices
+     * @return dest
+     */
+    public static float[] lerpVectors(float[] from, float[] to, int offset, int count, float alpha, float[] dest) {
+        for (int i = 3 * offset, end = 3 * (offset + count); i < end; i++)
+            dest[i] = Math.fma(to[i] - from[i], alpha, from[i]);
+        return dest;
+    }
+
+    /**
+     * Interpolate <code>count</code> unit quaternions between <code>from</code> and <code>to</code> via non-spherical linear
+     * interpolation and store the normalized results in <code>dest</code>.
+     * <p>
+     * All arrays hold consecutive <code>(x, y, z, w)</code> quadruples, and the quaternion at index <code>i</code> starts at array
+     * index <code>4*i</code>. <code>dest</code> may be the same array as <code>from</code> or <code>to</code>.
+     * <p>
+     * If <code>dotThreshold</code> is greater than <code>0.0</code>, then each quaternion is interpolated like
+     * {@link Quaternionf#nlerpIterative(Quaternionfc, float, float, Quaternionf)}, which approximates a spherical linear interpolation
+     * more closely the nearer <code>dotThreshold</code> is to <code>1.0</code>. Otherwise, a single
+     * {@link Quaternionf#nlerp(Quaternionfc, float, Quaternionf) nlerp} step is performed, which is usually accurate enough
+     * for the small rotations between two successive simulation ticks.
+     * 
+     * @param from
+     *            the quaternions at <code>alpha = 0</code>
+     * @param to
+     *            the quaternions at <code>alpha = 1</code>
+     * @param offset
+     *            the index of the first quaternion to interpolate
+     * @param count
+     *            the number of quaternions to interpolate
+     * @param alpha
+     *            the interpolation factor, between 0.0 and 1.0
+     * @param dotThreshold
+     *            the threshold for the dot product of two quaternions above which another small-step interpolation is performed,
+     *            or <code>0.0</code> to perform a single nlerp step
+     * @param dest
+     *            will hold the interpolated quaternions at the same indices
+     * @return dest
+     */
+    public static float[] nlerpQuaternions(float[] from, float[] to, int offset, int count, float alpha, float dotThreshold, float[] dest) {
+        for (int i = 4 * offset, end = 4 * (offset + count); i < end; i += 4)
+            nlerp(from, to, i, alpha, dotThreshold, dest, i);
+        return dest;
+    }
+
+    /**
+     * Interpolate <code>count</code> transformations given by translation, rotation and scaling between <code>from</code> and
+     * <code>to</code>, and store the results as <code>T * R * S</code> matrices into <code>dest</code>, starting at the matrix
+     * with index <code>destIndex</code>.
+     * <p>
+     * Translations and scaling factors are given as consecutive <code>(x, y, z)</code> triples and rotations as consecutive unit
+     * quaternions <code>(x, y, z, w)</code>. Translations and scaling factors are interpolated like
+     * {@link #lerpVectors(float[], float[], int, int, float, float[]) lerpVectors} and rotations like
+     * {@link #nlerpQuaternions(float[], float[], int, int, float, float, float[]) nlerpQuaternions}.
+     * <p>
+     * This is equivalent to, but much faster than, interpolating each transformation via {@link Vector3f#lerp(Vector3fc, float)} and
+     * {@link Quaternionf#nlerp(Quaternionfc, float)} and calling
+     * {@link Matrix4x3f#translationRotateScale(float, float, float, float, float, float, float, float, float, float) translationRotateScale}
+     * and {@link Matrix4x3fArray#set(int, Matrix4x3fc)} for each of them.
+     * 
+     * @param fromTranslations
+     *            the translations at <code>alpha = 0</code>
+     * @param fromRotations
+     *            the rotations at <code>alpha = 0</code>
+     * @param fromScales
+     *            the scaling factors at <code>alpha = 0</code>
+     * @param toTranslations
+     *            the translations at <code>alpha = 1</code>
+     * @param toRotations
+     *            the rotations at <code>alpha = 1</code>
+     * @param toScales
+     *            the scaling factors at <code>alpha = 1</code>
+     * @param offset
+     *            the index of the first transformation to interpolate
+     * @param count
+     *            the number of transformations to interpolate
+     * @param alpha
+     *            the interpolation factor, between 0.0 and 1.0
+     * @param dotThreshold
+     *            the threshold for the dot product of two rotations above which another small-step interpolation is performed,
+     *            or <code>0.0</code> to perform a single nlerp step
+     * @param dest
+     *            will hold the interpolated matrices
+     * @param destIndex
+     *            the index in <code>dest</code> of the matrix to hold the first interpolated transformation
+     * @return dest
+     */
+    public static Matrix4x3fArray interpolateTranslationRotateScale(
+            float[] fromTranslations, float[] fromRotations, float[] fromScales,
+            float[] toTranslations, float[] toRotations, float[] toScales,
+            int offset, int count, float alpha, float dotThreshold, Matrix4x3fArray dest, int destIndex) {
+        translationRotateScale(fromTranslations, fromRotations, fromScales, toTranslations, toRotations, toScales,
+                offset, count, alpha, dotThreshold, dest.array(), 12 * destIndex);
+        for (int i = 0; i < count; i++)
+            dest.assume(destIndex + i, 0);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Interpolate <code>count</code> transformations given by translation, rotation and scaling between <code>from</code> and
+     * <code>to</code>, and store the results as <code>T * R * S</code> 4x3 matrices in column-major order, one after the other,
+     * into the supplied {@link FloatBuffer} at the current buffer {@link FloatBuffer#position() position}.
+     * <p>
+     * This allows streaming interpolated transformations directly into a buffer for uploading to the GPU, without materializing
+     * any {@link Matrix4x3f} objects.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @see #interpolateTranslationRotateScale(float[], float[], float[], float[], float[], float[], int, int, float, float, Matrix4x3fArray, int)
+     * 
+     * @param fromTranslations
+     *            the translations at <code>alpha = 0</code>
+     * @param fromRotations
+     *            the rotations at <code>alpha = 0</code>
+     * @param fromScales
+     *            the scaling factors at <code>alpha = 0</code>
+     * @param toTranslations
+     *            the translations at <code>alpha = 1</code>
+     * @param toRotations
+     *            the rotations at <code>alpha = 1</code>
+     * @param toScales
+     *            the scaling factors at <code>alpha = 1</code>
+     * @param offset
+     *            the index of the first transformation to interpolate
+     * @param count
+     *            the number of transformations to interpolate
+     * @param alpha
+     *            the interpolation factor, between 0.0 and 1.0
+     * @param dotThreshold
+     *            the threshold for the dot product of two rotations above which another small-step interpolation is performed,
+     *            or <code>0.0</code> to perform a single nlerp step
+     * @param buffer
+     *            will receive the interpolated matrices
+     * @return the passed in buffer
+     */
+    public static FloatBuffer interpolateTranslationRotateScale(
+            float[] fromTranslations, float[] fromRotations, float[] fromScales,
+            float[] toTranslations, float[] toRotations, float[] toScales,
+            int offset, int count, float alpha, float dotThreshold, FloatBuffer buffer) {
+        float[] scratch = new float[12 * Math.min(count, BUFFER_BATCH_SIZE)];
+        int position = buffer.position();
+        for (int i = 0; i < count; i += BUFFER_BATCH_SIZE) {
+            int n = Math.min(count - i, BUFFER_BATCH_SIZE);
+            translationRotateScale(fromTranslations, fromRotations, fromScales, toTranslations, toRotations, toScales,
+                    offset + i, n, alpha, dotThreshold, scratch, 0);
+            MemUtil.INSTANCE.put(scratch, 0, 12 * n, buffer, position + 12 * i);
+        }
+        return buffer;
+    }
+
+    /**
+     * Interpolate <code>count</code> transformations given by translation, rotation and scaling between <code>from</code> and
+     * <code>to</code>, and store the results as <code>T * R * S</code> 4x3 matrices in column-major order, one after the other,
+     * into the supplied {@link ByteBuffer} at the current buffer {@link ByteBuffer#position() position}.
+     * <p>
+     * This allows streaming interpolated transformations directly into a buffer for uploading to the GPU, without materializing
+     * any {@link Matrix4x3f} objects.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @see #interpolateTranslationRotateScale(float[], float[], float[], float[], float[], float[], int, int, float, float, Matrix4x3fArray, int)
+     * 
+     * @param fromTranslations
+     *            the translations at <code>alpha = 0</code>
+     * @param fromRotations
+     *            the rotations at <code>alpha = 0</code>
+     * @param fromScales
+     *            the scaling factors at <code>alpha = 0</code>
+     * @param toTranslations
+     *            the translations at <code>alpha = 1</code>
+     * @param toRotations
+     *            the rotations at <code>alpha = 1</code>
+     * @param toScales
+     *            the scaling factors at <code>alpha = 1</code>
+     * @param offset
+     *            the index of the first transformation to interpolate
+     * @param count
+     *            the number of transformations to interpolate
+     * @param alpha
+     *            the interpolation factor, between 0.0 and 1.0
+     * @param dotThreshold
+     *            the threshold for the dot product of two rotations above which another small-step interpolation is performed,
+     *            or <code>0.0</code> to perform a single nlerp step
+     * @param buffer
+     *            will receive the interpolated matrices
+     * @return the passed in buffer
+     */
+    public static ByteBuffer interpolateTranslationRotateScale(
+            float[] fromTranslations, float[] fromRotations, float[] fromScales,
+            float[] toTranslations, float[] toRotations, float[] toScales,
+            int offset, int count, float alpha, float dotThreshold, ByteBuffer buffer) {
+        float[] scratch = new float[12 * Math.min(count, BUFFER_BATCH_SIZE)];
+        int position = buffer.position();
+        for (int i = 0; i < count; i += BUFFER_BATCH_SIZE) {
+            int n = Math.min(count - i, BUFFER_BATCH_SIZE);
+            translationRotateScale(fromTranslations, fromRotations, fromScales, toTranslations, toRotations, toScales,
+                    offset + i, n, alpha, dotThreshold, scratch, 0);
+            MemUtil.INSTANCE.put(scratch, 0, 12 * n, buffer, position + (12 << 2) * i);
+        }
+        return buffer;
+    }
+//#endif
+
+    private static void translationRotateScale(
+            float[] fromTranslations, float[] fromRotations, float[] fromScales,
+            float[] toTranslations, float[] toRotations, float[] toScales,
+            int offset, int count, float alpha, float dotThreshold, float[] dest, int destOffset) {
+        float[] q = new float[4];
+        for (int i = offset, d = destOffset, end = offset + count; i < end; i++, d += 12) {
+            int v = 3 * i;
+            float tx = Math.fma(toTranslations[v] - fromTranslations[v], alpha, fromTranslations[v]);
+            float ty = Math.fma(toTranslations[v + 1] - fromTranslations[v + 1], alpha, fromTranslations[v + 1]);
+            float tz = Math.fma(toTranslations[v + 2] - fromTranslations[v + 2], alpha, fromTranslations[v + 2]);
+            float sx = Math.fma(toScales[v] - fromScales[v], alpha, fromScales[v]);
+            float sy = Math.fma(toScales[v + 1] - fromScales[v + 1], alpha, fromScales[v + 1]);
+            float sz = Math.fma(toScales[v + 2] - fromScales[v + 2], alpha, fromScales[v + 2]);
+            nlerp(fromRotations, toRotations, 4 * i, alpha, dotThreshold, q, 0);
+            float qx = q[0], qy = q[1], qz = q[2], qw = q[3];
+            float dqx = qx + qx, dqy = qy + qy, dqz = qz + qz;
+            float q00 = dqx * qx, q11 = dqy * qy, q22 = dqz * qz;
+            float q01 = dqx * qy, q02 = dqx * qz, q03 = dqx * qw;
+            float q12 = dqy * qz, q13 = dqy * qw, q23 = dqz * qw;
+            dest[d]      = sx - (q11 + q22) * sx;
+            dest[d + 1]  = (q01 + q23) * sx;
+            dest[d + 2]  = (q02 - q13) * sx;
+            dest[d + 3]  = (q01 - q23) * sy;
+            dest[d + 4]  = sy - (q22 + q00) * sy;
+            dest[d + 5]  = (q12 + q03) * sy;
+            dest[d + 6]  = (q02 + q13) * sz;
+            dest[d + 7]  = (q12 - q03) * sz;
+            dest[d + 8]  = sz - (q11 + q00) * sz;
+            dest[d + 9]  = tx;
+            dest[d + 10] = ty;
+            dest[d + 11] = tz;
+        }
+    }
+
+    /**
+     * Interpolate the quaternions at <code>from[i]</code> and <code>to[i]</code> and store the result at <code>dest[d]</code>.
+     * This is the same computation as {@link Quaternionf#nlerp(Quaternionfc, float, Quaternionf)}, or
+     * {@link Quaternionf#nlerpIterative(Quaternionfc, float, float, Quaternionf)} when <code>dotThreshold &gt; 0</code>.
+     */
+    private static void nlerp(float[] from, float[] to, int i, float alpha, float dotThreshold, float[] dest, int d) {
+        float q1x = from[i], q1y = from[i + 1], q1z = from[i + 2], q1w = from[i + 3];
+        float q2x = to[i], q2y = to[i + 1], q2z = to[i + 2], q2w = to[i + 3];
+        float dot = Math.fma(q1x, q2x, Math.fma(q1y, q2y, Math.fma(q1z, q2z, q1w * q2w)));
+        float alphaN = alpha;
+        if (dotThreshold > 0.0f) {
+            float absDot = Math.abs(dot);
+            if (1.0f - 1E-6f < absDot) {
+                dest[d] = q1x;
+                dest[d + 1] = q1y;
+                dest[d + 2] = q1z;
+                dest[d + 3] = q1w;
+                return;
+            }
+            while (absDot < dotThreshold) {
+                float scale1 = dot >= 0.0f ? 0.5f : -0.5f;
+                if (alphaN < 0.5f) {
+                    q2x = Math.fma(0.5f, q2x, scale1 * q1x);
+                    q2y = Math.fma(0.5f, q2y, scale1 * q1y);
+                    q2z = Math.fma(0.5f, q2z, scale1 * q1z);
+                    q2w = Math.fma(0.5f, q2w, scale1 * q1w);
+                    float s = Math.invsqrt(Math.fma(q2x, q2x, Math.fma(q2y, q2y, Math.fma(q2z, q2z, q2w * q2w))));
+                    q2x *= s;
+                    q2y *= s;
+                    q2z *= s;
+                    q2w *= s;
+                    alphaN = alphaN + alphaN;
+                } else {
+                    q1x = Math.fma(0.5f, q1x, scale1 * q2x);
+                    q1y = Math.fma(0.5f, q1y, scale1 * q2y);
+                    q1z = Math.fma(0.5f, q1z, scale1 * q2z);
+                    q1w = Math.fma(0.5f, q1w, scale1 * q2w);
+                    float s = Math.invsqrt(Math.fma(q1x, q1x, Math.fma(q1y, q1y, Math.fma(q1z, q1z, q1w * q1w))));
+                    q1x *= s;
+                    q1y *= s;
+                    q1z *= s;
+                    q1w *= s;
+                    alphaN = alphaN + alphaN - 1.0f;
+                }
+                dot = Math.fma(q1x, q2x, Math.fma(q1y, q2y, Math.fma(q1z, q2z, q1w * q2w)));
+                absDot = Math.abs(dot);
+            }
+        }
+        float scale0 = 1.0f - alphaN;
+        float scale1 = dot >= 0.0f ? alphaN : -alphaN;
+        float resX = Math.fma(scale0, q1x, scale1 * q2x);
+        float resY = Math.fma(scale0, q1y, scale1 * q2y);
+        float resZ = Math.fma(scale0, q1z, scale1 * q2z);
+        float resW = Math.fma(scale0, q1w, scale1 * q2w);
+        float s = Math.invsqrt(Math.fma(resX, resX, Math.fma(resY, resY, Math.fma(resZ, resZ, resW * resW))));
+        dest[d] = resX * s;
+        dest[d + 1] = resY * s;
+        dest[d + 2] = resZ * s;
+        dest[d + 3] = resW * s;
+    }
+
 }
@@ -47,6 +47,11 @@ import java.util.Set;
 
 class JvmciCode {
   static final boolean canUseJvmci;
+  static final boolean canUseAvx512;
+  /** Why {@link #canUseJvmci} is <code>false</code>, or <code>null</code> */
+  static final String unavailableReason;
+  /** Why {@link #canUseAvx512} is <code>false</code>, or <code>null</code> */
+  static final String avx512UnavailableReason;
 
   static final byte[] MATRIX4D_MUL_AVX_LINUX = {
           (byte) 0xC4, (byte) 0xE2, (byte) 0x7D, (byte) 0x19, (byte) 0x62, (byte) 0x10,
@@ -333,8 +338,452 @@ class JvmciCode {
           (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00,
           (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00 };
 
+  static final byte[] MATRIX4X3F_MUL_AVX_LINUX = {
+          (byte) 0xC5, (byte) 0xF8, (byte) 0x10, (byte) 0x56, (byte) 0x24, (byte) 0xC4, (byte) 0xE2, (byte) 0x79,
+          (byte) 0x18, (byte) 0x62, (byte) 0x14, (byte) 0xC5, (byte) 0xF8, (byte) 0x10, (byte) 0x4E, (byte) 0x18,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x79, (byte) 0x18, (byte) 0x5A, (byte) 0x10, (byte) 0xC5, (byte) 0xE8,
+          (byte) 0x59, (byte) 0xE4, (byte) 0xC5, (byte) 0xF8, (byte) 0x10, (byte) 0x46, (byte) 0x0C, (byte) 0xC4,
+          (byte) 0xE2, (byte) 0x79, (byte) 0x18, (byte) 0x6A, (byte) 0x0C, (byte) 0xC4, (byte) 0xE2, (byte) 0x79,
+          (byte) 0x18, (byte) 0x72, (byte) 0x28, (byte) 0xC4, (byte) 0xE2, (byte) 0x59, (byte) 0x98, (byte) 0xD9,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x79, (byte) 0x18, (byte) 0x62, (byte) 0x20, (byte) 0xC5, (byte) 0xE8,
+          (byte) 0x59, (byte) 0xE4, (byte) 0xC4, (byte) 0xE2, (byte) 0x61, (byte) 0x98, (byte) 0xE8, (byte) 0xC4,
+          (byte) 0xE2, (byte) 0x79, (byte) 0x18, (byte) 0x5A, (byte) 0x1C, (byte) 0xC4, (byte) 0xE2, (byte) 0x59,
+          (byte) 0x98, (byte) 0xD9, (byte) 0xC4, (byte) 0xE2, (byte) 0x79, (byte) 0x18, (byte) 0x62, (byte) 0x18,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x61, (byte) 0x98, (byte) 0xE0, (byte) 0xC4, (byte) 0xE2, (byte) 0x79,
+          (byte) 0x18, (byte) 0x5A, (byte) 0x2C, (byte) 0xC5, (byte) 0xE8, (byte) 0x59, (byte) 0xDB, (byte) 0xC4,
+          (byte) 0xE2, (byte) 0x61, (byte) 0x98, (byte) 0xF1, (byte) 0xC4, (byte) 0xE2, (byte) 0x79, (byte) 0x18,
+          (byte) 0x5A, (byte) 0x24, (byte) 0xC4, (byte) 0xE2, (byte) 0x49, (byte) 0x98, (byte) 0xD8, (byte) 0xC4,
+          (byte) 0xE2, (byte) 0x79, (byte) 0x18, (byte) 0x72, (byte) 0x38, (byte) 0xC4, (byte) 0xE2, (byte) 0x49,
+          (byte) 0xA8, (byte) 0x56, (byte) 0x30, (byte) 0xC4, (byte) 0xE2, (byte) 0x79, (byte) 0x18, (byte) 0x72,
+          (byte) 0x34, (byte) 0xC4, (byte) 0xE2, (byte) 0x69, (byte) 0x98, (byte) 0xCE, (byte) 0xC4, (byte) 0xE2,
+          (byte) 0x79, (byte) 0x18, (byte) 0x52, (byte) 0x30, (byte) 0xC5, (byte) 0xF8, (byte) 0x11, (byte) 0x69,
+          (byte) 0x0C, (byte) 0xC5, (byte) 0xF8, (byte) 0x11, (byte) 0x61, (byte) 0x18, (byte) 0xC5, (byte) 0xF8,
+          (byte) 0x11, (byte) 0x59, (byte) 0x24, (byte) 0xC4, (byte) 0xE2, (byte) 0x71, (byte) 0x98, (byte) 0xC2,
+          (byte) 0xC5, (byte) 0xF8, (byte) 0x13, (byte) 0x41, (byte) 0x30, (byte) 0xC4, (byte) 0xE3, (byte) 0x79,
+          (byte) 0x17, (byte) 0x41, (byte) 0x38, (byte) 0x02, (byte) 0xC3 };
+  static final byte[] MATRIX4X3F_MUL_AVX_WINDOWS = {
+          (byte) 0xC5, (byte) 0xF8, (byte) 0x10, (byte) 0x52, (byte) 0x24, (byte) 0xC4, (byte) 0xC2, (byte) 0x79,
+          (byte) 0x18, (byte) 0x60, (byte) 0x14, (byte) 0xC5, (byte) 0xF8, (byte) 0x10, (byte) 0x4A, (byte) 0x18,
+          (byte) 0xC4, (byte) 0xC2, (byte) 0x79, (byte) 0x18, (byte) 0x58, (byte) 0x10, (byte) 0xC5, (byte) 0xE8,
+          (byte) 0x59, (byte) 0xE4, (byte) 0xC5, (byte) 0xF8, (byte) 0x10, (byte) 0x42, (byte) 0x0C, (byte) 0xC4,
+          (byte) 0xC2, (byte) 0x79, (byte) 0x18, (byte) 0x68, (byte) 0x0C, (byte) 0xC4, (byte) 0xC2, (byte) 0x79,
+          (byte) 0x18, (byte) 0x70, (byte) 0x28, (byte) 0xC4, (byte) 0xE2, (byte) 0x59, (byte) 0x98, (byte) 0xD9,
+          (byte) 0xC4, (byte) 0xC2, (byte) 0x79, (byte) 0x18, (byte) 0x60, (byte) 0x20, (byte) 0xC5, (byte) 0xE8,
+          (byte) 0x59, (byte) 0xE4, (byte) 0xC4, (byte) 0xE2, (byte) 0x61, (byte) 0x98, (byte) 0xE8, (byte) 0xC4,
+          (byte) 0xC2, (byte) 0x79, (byte) 0x18, (byte) 0x58, (byte) 0x1C, (byte) 0xC4, (byte) 0xE2, (byte) 0x59,
+          (byte) 0x98, (byte) 0xD9, (byte) 0xC4, (byte) 0xC2, (byte) 0x79, (byte) 0x18, (byte) 0x60, (byte) 0x18,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x61, (byte) 0x98, (byte) 0xE0, (byte) 0xC4, (byte) 0xC2, (byte) 0x79,
+          (byte) 0x18, (byte) 0x58, (byte) 0x2C, (byte) 0xC5, (byte) 0xE8, (byte) 0x59, (byte) 0xDB, (byte) 0xC4,
+          (byte) 0xE2, (byte) 0x61, (byte) 0x98, (byte) 0xF1, (byte) 0xC4, (byte) 0xC2, (byte) 0x79, (byte) 0x18,
+          (byte) 0x58, (byte) 0x24, (byte) 0xC4, (byte) 0xE2, (byte) 0x49, (byte) 0x98, (byte) 0xD8, (byte) 0xC4,
+          (byte) 0xC2, (byte) 0x79, (byte) 0x18, (byte) 0x70, (byte) 0x38, (byte) 0xC4, (byte) 0xE2, (byte) 0x49,
+          (byte) 0xA8, (byte) 0x52, (byte) 0x30, (byte) 0xC4, (byte) 0xC2, (byte) 0x79, (byte) 0x18, (byte) 0x70,
+          (byte) 0x34, (byte) 0xC4, (byte) 0xE2, (byte) 0x69, (byte) 0x98, (byte) 0xCE, (byte) 0xC4, (byte) 0xC2,
+          (byte) 0x79, (byte) 0x18, (byte) 0x50, (byte) 0x30, (byte) 0xC4, (byte) 0xC1, (byte) 0x78, (byte) 0x11,
+          (byte) 0x69, (byte) 0x0C, (byte) 0xC4, (byte) 0xC1, (byte) 0x78, (byte) 0x11, (byte) 0x61, (byte) 0x18,
+          (byte) 0xC4, (byte) 0xC1, (byte) 0x78, (byte) 0x11, (byte) 0x59, (byte) 0x24, (byte) 0xC4, (byte) 0xE2,
+          (byte) 0x71, (byte) 0x98, (byte) 0xC2, (byte) 0xC4, (byte) 0xC1, (byte) 0x78, (byte) 0x13, (byte) 0x41,
+          (byte) 0x30, (byte) 0xC4, (byte) 0xC3, (byte) 0x79, (byte) 0x17, (byte) 0x41, (byte) 0x38, (byte) 0x02,
+          (byte) 0xC3 };
+  static final byte[] MATRIX4X3F_MUL_AVX512_LINUX = {
+          (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x2D, (byte) 0xF6, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0xB8, (byte) 0xFF, (byte) 0x0F, (byte) 0x00, (byte) 0x00, (byte) 0x62,
+          (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x05, (byte) 0xB7, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x0D, (byte) 0xBD,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x92, (byte) 0xC8, (byte) 0x62,
+          (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x15, (byte) 0xBF, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xB8, (byte) 0x00, (byte) 0xF0, (byte) 0xFF, (byte) 0xFF, (byte) 0x62, (byte) 0xF1,
+          (byte) 0x7C, (byte) 0xC9, (byte) 0x10, (byte) 0xA6, (byte) 0x0C, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0xC9, (byte) 0x10, (byte) 0x9A, (byte) 0x0C, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x92, (byte) 0xD0, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x3D, (byte) 0xD8, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x55, (byte) 0xCA, (byte) 0x16, (byte) 0xF4, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x7D, (byte) 0x48, (byte) 0x16, (byte) 0xC4, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x48,
+          (byte) 0x16, (byte) 0xCC, (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x2D,
+          (byte) 0xAC, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x6D, (byte) 0x48,
+          (byte) 0x16, (byte) 0xD4, (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x25,
+          (byte) 0x8C, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x55, (byte) 0x48,
+          (byte) 0x16, (byte) 0xEB, (byte) 0x62, (byte) 0xF2, (byte) 0x5D, (byte) 0x48, (byte) 0x16, (byte) 0xE3,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x45, (byte) 0x48, (byte) 0x16, (byte) 0xDB, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x4D, (byte) 0x48, (byte) 0x98, (byte) 0xD3, (byte) 0x62, (byte) 0xF2, (byte) 0x6D, (byte) 0x48,
+          (byte) 0x98, (byte) 0xCD, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x48, (byte) 0x98, (byte) 0xC4,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x0D, (byte) 0x8E, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x48, (byte) 0x16, (byte) 0xC0,
+          (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x49, (byte) 0x11, (byte) 0x81, (byte) 0x0C, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3,
+          // padding and constants, addressed RIP-relative by the code above:
+          (byte) 0x66, (byte) 0x2E, (byte) 0x0F, (byte) 0x1F, (byte) 0x84, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x02, (byte) 0x00, (byte) 0x01,
+          (byte) 0x02, (byte) 0x02, (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x02, (byte) 0x00, (byte) 0x01,
+          (byte) 0x02, (byte) 0x02, (byte) 0x03, (byte) 0x04, (byte) 0x05, (byte) 0x05, (byte) 0x03, (byte) 0x04,
+          (byte) 0x05, (byte) 0x05, (byte) 0x03, (byte) 0x04, (byte) 0x05, (byte) 0x05, (byte) 0x03, (byte) 0x04,
+          (byte) 0x05, (byte) 0x05, (byte) 0x06, (byte) 0x07, (byte) 0x08, (byte) 0x08, (byte) 0x06, (byte) 0x07,
+          (byte) 0x08, (byte) 0x08, (byte) 0x06, (byte) 0x07, (byte) 0x08, (byte) 0x08, (byte) 0x06, (byte) 0x07,
+          (byte) 0x08, (byte) 0x08, (byte) 0x09, (byte) 0x0A, (byte) 0x0B, (byte) 0x0B, (byte) 0x09, (byte) 0x0A,
+          (byte) 0x0B, (byte) 0x0B, (byte) 0x09, (byte) 0x0A, (byte) 0x0B, (byte) 0x0B, (byte) 0x09, (byte) 0x0A,
+          (byte) 0x0B, (byte) 0x0B, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x03, (byte) 0x03,
+          (byte) 0x03, (byte) 0x03, (byte) 0x06, (byte) 0x06, (byte) 0x06, (byte) 0x06, (byte) 0x09, (byte) 0x09,
+          (byte) 0x09, (byte) 0x09, (byte) 0x01, (byte) 0x01, (byte) 0x01, (byte) 0x01, (byte) 0x04, (byte) 0x04,
+          (byte) 0x04, (byte) 0x04, (byte) 0x07, (byte) 0x07, (byte) 0x07, (byte) 0x07, (byte) 0x0A, (byte) 0x0A,
+          (byte) 0x0A, (byte) 0x0A, (byte) 0x02, (byte) 0x02, (byte) 0x02, (byte) 0x02, (byte) 0x05, (byte) 0x05,
+          (byte) 0x05, (byte) 0x05, (byte) 0x08, (byte) 0x08, (byte) 0x08, (byte) 0x08, (byte) 0x0B, (byte) 0x0B,
+          (byte) 0x0B, (byte) 0x0B, (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x04, (byte) 0x05, (byte) 0x06,
+          (byte) 0x08, (byte) 0x09, (byte) 0x0A, (byte) 0x0C, (byte) 0x0D, (byte) 0x0E, (byte) 0x0F, (byte) 0x0F,
+          (byte) 0x0F, (byte) 0x0F };
+  static final byte[] MATRIX4X3F_MUL_AVX512_WINDOWS = {
+          (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x2D, (byte) 0xF6, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0xB8, (byte) 0xFF, (byte) 0x0F, (byte) 0x00, (byte) 0x00, (byte) 0x62,
+          (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x05, (byte) 0xB7, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x0D, (byte) 0xBD,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x92, (byte) 0xC8, (byte) 0x62,
+          (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x15, (byte) 0xBF, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xB8, (byte) 0x00, (byte) 0xF0, (byte) 0xFF, (byte) 0xFF, (byte) 0x62, (byte) 0xF1,
+          (byte) 0x7C, (byte) 0xC9, (byte) 0x10, (byte) 0xA2, (byte) 0x0C, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xD1, (byte) 0x7C, (byte) 0xC9, (byte) 0x10, (byte) 0x98, (byte) 0x0C, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x92, (byte) 0xD0, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x3D, (byte) 0xD8, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x55, (byte) 0xCA, (byte) 0x16, (byte) 0xF4, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x7D, (byte) 0x48, (byte) 0x16, (byte) 0xC4, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x48,
+          (byte) 0x16, (byte) 0xCC, (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x2D,
+          (byte) 0xAC, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x6D, (byte) 0x48,
+          (byte) 0x16, (byte) 0xD4, (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x25,
+          (byte) 0x8C, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x55, (byte) 0x48,
+          (byte) 0x16, (byte) 0xEB, (byte) 0x62, (byte) 0xF2, (byte) 0x5D, (byte) 0x48, (byte) 0x16, (byte) 0xE3,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x45, (byte) 0x48, (byte) 0x16, (byte) 0xDB, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x4D, (byte) 0x48, (byte) 0x98, (byte) 0xD3, (byte) 0x62, (byte) 0xF2, (byte) 0x6D, (byte) 0x48,
+          (byte) 0x98, (byte) 0xCD, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x48, (byte) 0x98, (byte) 0xC4,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x7D, (byte) 0x48, (byte) 0x31, (byte) 0x0D, (byte) 0x8E, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x48, (byte) 0x16, (byte) 0xC0,
+          (byte) 0x62, (byte) 0xD1, (byte) 0x7C, (byte) 0x49, (byte) 0x11, (byte) 0x81, (byte) 0x0C, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3,
+          // padding and constants, addressed RIP-relative by the code above:
+          (byte) 0x66, (byte) 0x2E, (byte) 0x0F, (byte) 0x1F, (byte) 0x84, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x02, (byte) 0x00, (byte) 0x01,
+          (byte) 0x02, (byte) 0x02, (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x02, (byte) 0x00, (byte) 0x01,
+          (byte) 0x02, (byte) 0x02, (byte) 0x03, (byte) 0x04, (byte) 0x05, (byte) 0x05, (byte) 0x03, (byte) 0x04,
+          (byte) 0x05, (byte) 0x05, (byte) 0x03, (byte) 0x04, (byte) 0x05, (byte) 0x05, (byte) 0x03, (byte) 0x04,
+          (byte) 0x05, (byte) 0x05, (byte) 0x06, (byte) 0x07, (byte) 0x08, (byte) 0x08, (byte) 0x06, (byte) 0x07,
+          (byte) 0x08, (byte) 0x08, (byte) 0x06, (byte) 0x07, (byte) 0x08, (byte) 0x08, (byte) 0x06, (byte) 0x07,
+          (byte) 0x08, (byte) 0x08, (byte) 0x09, (byte) 0x0A, (byte) 0x0B, (byte) 0x0B, (byte) 0x09, (byte) 0x0A,
+          (byte) 0x0B, (byte) 0x0B, (byte) 0x09, (byte) 0x0A, (byte) 0x0B, (byte) 0x0B, (byte) 0x09, (byte) 0x0A,
+          (byte) 0x0B, (byte) 0x0B, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x03, (byte) 0x03,
+          (byte) 0x03, (byte) 0x03, (byte) 0x06, (byte) 0x06, (byte) 0x06, (byte) 0x06, (byte) 0x09, (byte) 0x09,
+          (byte) 0x09, (byte) 0x09, (byte) 0x01, (byte) 0x01, (byte) 0x01, (byte) 0x01, (byte) 0x04, (byte) 0x04,
+          (byte) 0x04, (byte) 0x04, (byte) 0x07, (byte) 0x07, (byte) 0x07, (byte) 0x07, (byte) 0x0A, (byte) 0x0A,
+          (byte) 0x0A, (byte) 0x0A, (byte) 0x02, (byte) 0x02, (byte) 0x02, (byte) 0x02, (byte) 0x05, (byte) 0x05,
+          (byte) 0x05, (byte) 0x05, (byte) 0x08, (byte) 0x08, (byte) 0x08, (byte) 0x08, (byte) 0x0B, (byte) 0x0B,
+          (byte) 0x0B, (byte) 0x0B, (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x04, (byte) 0x05, (byte) 0x06,
+          (byte) 0x08, (byte) 0x09, (byte) 0x0A, (byte) 0x0C, (byte) 0x0D, (byte) 0x0E, (byte) 0x0F, (byte) 0x0F,
+          (byte) 0x0F, (byte) 0x0F };
+  static final byte[] MATRIX4F_MULAFFINE_AVX_LINUX = {
+          (byte) 0xC5, (byte) 0xFC, (byte) 0x10, (byte) 0x42, (byte) 0x10, (byte) 0xC4, (byte) 0xE2, (byte) 0x7D,
+          (byte) 0x1A, (byte) 0x66, (byte) 0x30, (byte) 0xC5, (byte) 0xD0, (byte) 0x57, (byte) 0xED, (byte) 0xC4,
+          (byte) 0xE2, (byte) 0x7D, (byte) 0x1A, (byte) 0x5E, (byte) 0x20, (byte) 0xC5, (byte) 0xFC, (byte) 0x10,
+          (byte) 0x52, (byte) 0x30, (byte) 0xC4, (byte) 0x63, (byte) 0x7D, (byte) 0x04, (byte) 0xC0, (byte) 0xAA,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xF0, (byte) 0x55, (byte) 0xC4, (byte) 0xE2,
+          (byte) 0x7D, (byte) 0x1A, (byte) 0x4E, (byte) 0x10, (byte) 0xC4, (byte) 0xE3, (byte) 0x55, (byte) 0x18,
+          (byte) 0x6E, (byte) 0x40, (byte) 0x01, (byte) 0xC4, (byte) 0x41, (byte) 0x5C, (byte) 0x59, (byte) 0xC0,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xC0, (byte) 0x00, (byte) 0xC5, (byte) 0xFC,
+          (byte) 0x10, (byte) 0x7E, (byte) 0x30, (byte) 0xC4, (byte) 0xE2, (byte) 0x3D, (byte) 0x98, (byte) 0xF3,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x4D, (byte) 0x98, (byte) 0xC1, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D,
+          (byte) 0x04, (byte) 0xF2, (byte) 0xAA, (byte) 0xC4, (byte) 0xE2, (byte) 0x55, (byte) 0x98, (byte) 0xE6,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xEA, (byte) 0x55, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0x7D, (byte) 0x04, (byte) 0xD2, (byte) 0x00, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x0C,
+          (byte) 0x46, (byte) 0x10, (byte) 0x88, (byte) 0xC4, (byte) 0xE2, (byte) 0x5D, (byte) 0x98, (byte) 0xDD,
+          (byte) 0xC5, (byte) 0xFC, (byte) 0x11, (byte) 0x41, (byte) 0x10, (byte) 0xC4, (byte) 0xE2, (byte) 0x65,
+          (byte) 0x98, (byte) 0xCA, (byte) 0xC4, (byte) 0xE3, (byte) 0x75, (byte) 0x0C, (byte) 0xCF, (byte) 0x88,
+          (byte) 0xC5, (byte) 0xFC, (byte) 0x11, (byte) 0x49, (byte) 0x30, (byte) 0xC5, (byte) 0xF8, (byte) 0x77,
+          (byte) 0xC3 };
+  static final byte[] MATRIX4F_MULAFFINE_AVX_WINDOWS = {
+          (byte) 0xC4, (byte) 0xC1, (byte) 0x7C, (byte) 0x10, (byte) 0x40, (byte) 0x10, (byte) 0xC4, (byte) 0xE2,
+          (byte) 0x7D, (byte) 0x1A, (byte) 0x62, (byte) 0x30, (byte) 0xC5, (byte) 0xD0, (byte) 0x57, (byte) 0xED,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x7D, (byte) 0x1A, (byte) 0x5A, (byte) 0x20, (byte) 0xC4, (byte) 0xC1,
+          (byte) 0x7C, (byte) 0x10, (byte) 0x50, (byte) 0x30, (byte) 0xC4, (byte) 0x63, (byte) 0x7D, (byte) 0x04,
+          (byte) 0xC0, (byte) 0xAA, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xF0, (byte) 0x55,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x7D, (byte) 0x1A, (byte) 0x4A, (byte) 0x10, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0x55, (byte) 0x18, (byte) 0x6A, (byte) 0x40, (byte) 0x01, (byte) 0xC4, (byte) 0x41, (byte) 0x5C,
+          (byte) 0x59, (byte) 0xC0, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xC0, (byte) 0x00,
+          (byte) 0xC5, (byte) 0xFC, (byte) 0x10, (byte) 0x7A, (byte) 0x30, (byte) 0xC4, (byte) 0xE2, (byte) 0x3D,
+          (byte) 0x98, (byte) 0xF3, (byte) 0xC4, (byte) 0xE2, (byte) 0x4D, (byte) 0x98, (byte) 0xC1, (byte) 0xC4,
+          (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xF2, (byte) 0xAA, (byte) 0xC4, (byte) 0xE2, (byte) 0x55,
+          (byte) 0x98, (byte) 0xE6, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xEA, (byte) 0x55,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x04, (byte) 0xD2, (byte) 0x00, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0x7D, (byte) 0x0C, (byte) 0x42, (byte) 0x10, (byte) 0x88, (byte) 0xC4, (byte) 0xE2, (byte) 0x5D,
+          (byte) 0x98, (byte) 0xDD, (byte) 0xC4, (byte) 0xC1, (byte) 0x7C, (byte) 0x11, (byte) 0x41, (byte) 0x10,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0x65, (byte) 0x98, (byte) 0xCA, (byte) 0xC4, (byte) 0xE3, (byte) 0x75,
+          (byte) 0x0C, (byte) 0xCF, (byte) 0x88, (byte) 0xC4, (byte) 0xC1, (byte) 0x7C, (byte) 0x11, (byte) 0x49,
+          (byte) 0x30, (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4F_MULAFFINE_AVX512_LINUX = {
+          (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x86, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x8A,
+          (byte) 0x10, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xB8, (byte) 0x00, (byte) 0xF0, (byte) 0xFF,
+          (byte) 0xFF, (byte) 0xC5, (byte) 0xF8, (byte) 0x92, (byte) 0xC8, (byte) 0xB8, (byte) 0x88, (byte) 0x88,
+          (byte) 0xFF, (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0xC9, (byte) 0x23, (byte) 0xD8,
+          (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xE1, (byte) 0xAA,
+          (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xD0, (byte) 0xAA, (byte) 0xC5,
+          (byte) 0xF8, (byte) 0x92, (byte) 0xD0, (byte) 0x62, (byte) 0xF2, (byte) 0x65, (byte) 0x48, (byte) 0x98,
+          (byte) 0xD4, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xE1, (byte) 0x55,
+          (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xD8, (byte) 0x55, (byte) 0x62,
+          (byte) 0xF2, (byte) 0x6D, (byte) 0x48, (byte) 0x98, (byte) 0xDC, (byte) 0x62, (byte) 0xF3, (byte) 0x7D,
+          (byte) 0x48, (byte) 0x04, (byte) 0xD1, (byte) 0x00, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48,
+          (byte) 0x23, (byte) 0xC8, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x65, (byte) 0x48, (byte) 0x98,
+          (byte) 0xCA, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x4A, (byte) 0x65, (byte) 0xC0, (byte) 0x62,
+          (byte) 0xF1, (byte) 0x7C, (byte) 0x48, (byte) 0x11, (byte) 0x81, (byte) 0x10, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4F_MULAFFINE_AVX512_WINDOWS = {
+          (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x82, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xD1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x88,
+          (byte) 0x10, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xB8, (byte) 0x00, (byte) 0xF0, (byte) 0xFF,
+          (byte) 0xFF, (byte) 0xC5, (byte) 0xF8, (byte) 0x92, (byte) 0xC8, (byte) 0xB8, (byte) 0x88, (byte) 0x88,
+          (byte) 0xFF, (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0xC9, (byte) 0x23, (byte) 0xD8,
+          (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xE1, (byte) 0xAA,
+          (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xD0, (byte) 0xAA, (byte) 0xC5,
+          (byte) 0xF8, (byte) 0x92, (byte) 0xD0, (byte) 0x62, (byte) 0xF2, (byte) 0x65, (byte) 0x48, (byte) 0x98,
+          (byte) 0xD4, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xE1, (byte) 0x55,
+          (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xD8, (byte) 0x55, (byte) 0x62,
+          (byte) 0xF2, (byte) 0x6D, (byte) 0x48, (byte) 0x98, (byte) 0xDC, (byte) 0x62, (byte) 0xF3, (byte) 0x7D,
+          (byte) 0x48, (byte) 0x04, (byte) 0xD1, (byte) 0x00, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48,
+          (byte) 0x23, (byte) 0xC8, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0x65, (byte) 0x48, (byte) 0x98,
+          (byte) 0xCA, (byte) 0x62, (byte) 0xF2, (byte) 0x75, (byte) 0x4A, (byte) 0x65, (byte) 0xC0, (byte) 0x62,
+          (byte) 0xD1, (byte) 0x7C, (byte) 0x48, (byte) 0x11, (byte) 0x81, (byte) 0x10, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4F_MUL_AVX512_LINUX = {
+          (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x86, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x8A,
+          (byte) 0x10, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48,
+          (byte) 0x23, (byte) 0xE8, (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04,
+          (byte) 0xD1, (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xE1,
+          (byte) 0xAA, (byte) 0x62, (byte) 0xF1, (byte) 0x6C, (byte) 0x48, (byte) 0x59, (byte) 0xD5, (byte) 0x62,
+          (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xD8, (byte) 0xAA, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x6D, (byte) 0x48, (byte) 0x98, (byte) 0xDC, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48,
+          (byte) 0x04, (byte) 0xE1, (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23,
+          (byte) 0xD0, (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xC9,
+          (byte) 0x00, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xC0, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x65, (byte) 0x48, (byte) 0x98, (byte) 0xD4, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x6D, (byte) 0x48, (byte) 0x98, (byte) 0xC1, (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x48,
+          (byte) 0x11, (byte) 0x81, (byte) 0x10, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8,
+          (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4F_MUL_AVX512_WINDOWS = {
+          (byte) 0x62, (byte) 0xF1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x82, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xD1, (byte) 0x7C, (byte) 0x48, (byte) 0x10, (byte) 0x88,
+          (byte) 0x10, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48,
+          (byte) 0x23, (byte) 0xE8, (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04,
+          (byte) 0xD1, (byte) 0xFF, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xE1,
+          (byte) 0xAA, (byte) 0x62, (byte) 0xF1, (byte) 0x6C, (byte) 0x48, (byte) 0x59, (byte) 0xD5, (byte) 0x62,
+          (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xD8, (byte) 0xAA, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x6D, (byte) 0x48, (byte) 0x98, (byte) 0xDC, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48,
+          (byte) 0x04, (byte) 0xE1, (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23,
+          (byte) 0xD0, (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x04, (byte) 0xC9,
+          (byte) 0x00, (byte) 0x62, (byte) 0xF3, (byte) 0x7D, (byte) 0x48, (byte) 0x23, (byte) 0xC0, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF2, (byte) 0x65, (byte) 0x48, (byte) 0x98, (byte) 0xD4, (byte) 0x62, (byte) 0xF2,
+          (byte) 0x6D, (byte) 0x48, (byte) 0x98, (byte) 0xC1, (byte) 0x62, (byte) 0xD1, (byte) 0x7C, (byte) 0x48,
+          (byte) 0x11, (byte) 0x81, (byte) 0x10, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xC5, (byte) 0xF8,
+          (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4D_MUL_AVX512_LINUX = {
+          (byte) 0x62, (byte) 0xF1, (byte) 0xFD, (byte) 0x48, (byte) 0x10, (byte) 0x82, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xFD, (byte) 0x48, (byte) 0x1B, (byte) 0xAE,
+          (byte) 0x70, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xFD, (byte) 0x48,
+          (byte) 0x1B, (byte) 0xA6, (byte) 0x50, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF1,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x10, (byte) 0x8A, (byte) 0x50, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF0, (byte) 0xFF, (byte) 0x62,
+          (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF8, (byte) 0xAA, (byte) 0x62, (byte) 0xF2,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x1B, (byte) 0x9E, (byte) 0x30, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF2, (byte) 0xFD, (byte) 0x48, (byte) 0x1B, (byte) 0x96, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF1, (byte) 0xD5, (byte) 0x48, (byte) 0x59, (byte) 0xF6,
+          (byte) 0x62, (byte) 0xF2, (byte) 0xCD, (byte) 0x48, (byte) 0x98, (byte) 0xFC, (byte) 0x62, (byte) 0xF3,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF0, (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0xFD,
+          (byte) 0x48, (byte) 0x01, (byte) 0xC0, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xC5, (byte) 0x48,
+          (byte) 0x98, (byte) 0xF3, (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF9,
+          (byte) 0xFF, (byte) 0x62, (byte) 0xF1, (byte) 0xD5, (byte) 0x48, (byte) 0x59, (byte) 0xEF, (byte) 0x62,
+          (byte) 0xF2, (byte) 0xCD, (byte) 0x48, (byte) 0x98, (byte) 0xC2, (byte) 0x62, (byte) 0xF3, (byte) 0xFD,
+          (byte) 0x48, (byte) 0x01, (byte) 0xF1, (byte) 0xAA, (byte) 0x62, (byte) 0xF2, (byte) 0xD5, (byte) 0x48,
+          (byte) 0x98, (byte) 0xE6, (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xE9,
+          (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xC9, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF1, (byte) 0xFD, (byte) 0x48, (byte) 0x11, (byte) 0x81, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xDD, (byte) 0x48, (byte) 0x98, (byte) 0xDD,
+          (byte) 0x62, (byte) 0xF2, (byte) 0xE5, (byte) 0x48, (byte) 0x98, (byte) 0xD1, (byte) 0x62, (byte) 0xF1,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x11, (byte) 0x91, (byte) 0x50, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4D_MUL_AVX512_WINDOWS = {
+          (byte) 0x62, (byte) 0xD1, (byte) 0xFD, (byte) 0x48, (byte) 0x10, (byte) 0x80, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xFD, (byte) 0x48, (byte) 0x1B, (byte) 0xAA,
+          (byte) 0x70, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xFD, (byte) 0x48,
+          (byte) 0x1B, (byte) 0xA2, (byte) 0x50, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xD1,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x10, (byte) 0x88, (byte) 0x50, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF0, (byte) 0xFF, (byte) 0x62,
+          (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF8, (byte) 0xAA, (byte) 0x62, (byte) 0xF2,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x1B, (byte) 0x9A, (byte) 0x30, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x62, (byte) 0xF2, (byte) 0xFD, (byte) 0x48, (byte) 0x1B, (byte) 0x92, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF1, (byte) 0xD5, (byte) 0x48, (byte) 0x59, (byte) 0xF6,
+          (byte) 0x62, (byte) 0xF2, (byte) 0xCD, (byte) 0x48, (byte) 0x98, (byte) 0xFC, (byte) 0x62, (byte) 0xF3,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF0, (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0xFD,
+          (byte) 0x48, (byte) 0x01, (byte) 0xC0, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xC5, (byte) 0x48,
+          (byte) 0x98, (byte) 0xF3, (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xF9,
+          (byte) 0xFF, (byte) 0x62, (byte) 0xF1, (byte) 0xD5, (byte) 0x48, (byte) 0x59, (byte) 0xEF, (byte) 0x62,
+          (byte) 0xF2, (byte) 0xCD, (byte) 0x48, (byte) 0x98, (byte) 0xC2, (byte) 0x62, (byte) 0xF3, (byte) 0xFD,
+          (byte) 0x48, (byte) 0x01, (byte) 0xF1, (byte) 0xAA, (byte) 0x62, (byte) 0xF2, (byte) 0xD5, (byte) 0x48,
+          (byte) 0x98, (byte) 0xE6, (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xE9,
+          (byte) 0x55, (byte) 0x62, (byte) 0xF3, (byte) 0xFD, (byte) 0x48, (byte) 0x01, (byte) 0xC9, (byte) 0x00,
+          (byte) 0x62, (byte) 0xD1, (byte) 0xFD, (byte) 0x48, (byte) 0x11, (byte) 0x81, (byte) 0x10, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x62, (byte) 0xF2, (byte) 0xDD, (byte) 0x48, (byte) 0x98, (byte) 0xDD,
+          (byte) 0x62, (byte) 0xF2, (byte) 0xE5, (byte) 0x48, (byte) 0x98, (byte) 0xD1, (byte) 0x62, (byte) 0xD1,
+          (byte) 0xFD, (byte) 0x48, (byte) 0x11, (byte) 0x91, (byte) 0x50, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4D_INVERT_AVX_LINUX = {
+          (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x76, (byte) 0x50, (byte) 0xC5, (byte) 0xFD, (byte) 0x10,
+          (byte) 0x6E, (byte) 0x70, (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x4E, (byte) 0x10, (byte) 0xC5,
+          (byte) 0xFD, (byte) 0x10, (byte) 0x66, (byte) 0x30, (byte) 0xC4, (byte) 0x63, (byte) 0x4D, (byte) 0x18,
+          (byte) 0xD5, (byte) 0x01, (byte) 0xC4, (byte) 0xE3, (byte) 0x4D, (byte) 0x06, (byte) 0xD5, (byte) 0x31,
+          (byte) 0xC4, (byte) 0x63, (byte) 0x75, (byte) 0x06, (byte) 0xCC, (byte) 0x31, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0x75, (byte) 0x18, (byte) 0xC4, (byte) 0x01, (byte) 0xC5, (byte) 0xF5, (byte) 0x14, (byte) 0xDE,
+          (byte) 0xC5, (byte) 0xDD, (byte) 0x15, (byte) 0xFD, (byte) 0xC5, (byte) 0xF5, (byte) 0x15, (byte) 0xCE,
+          (byte) 0xC5, (byte) 0xDD, (byte) 0x14, (byte) 0xE5, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01,
+          (byte) 0xE4, (byte) 0xD8, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0xD8,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xDB, (byte) 0xD8, (byte) 0xC5, (byte) 0xF5,
+          (byte) 0x59, (byte) 0xCC, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xFF, (byte) 0xD8,
+          (byte) 0xC4, (byte) 0xC3, (byte) 0xFD, (byte) 0x01, (byte) 0xEA, (byte) 0x4E, (byte) 0xC4, (byte) 0x63,
+          (byte) 0xFD, (byte) 0x01, (byte) 0xD8, (byte) 0x0F, (byte) 0xC4, (byte) 0x43, (byte) 0x7D, (byte) 0x05,
+          (byte) 0xEA, (byte) 0x05, (byte) 0xC4, (byte) 0xE2, (byte) 0xE5, (byte) 0xBA, (byte) 0xCF, (byte) 0xC4,
+          (byte) 0xE3, (byte) 0x7D, (byte) 0x05, (byte) 0xDA, (byte) 0x03, (byte) 0xC5, (byte) 0xE5, (byte) 0x59,
+          (byte) 0xDD, (byte) 0xC4, (byte) 0xC3, (byte) 0xFD, (byte) 0x01, (byte) 0xE9, (byte) 0x4E, (byte) 0xC4,
+          (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xC1, (byte) 0xAA, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD,
+          (byte) 0x01, (byte) 0xE1, (byte) 0xFF, (byte) 0xC4, (byte) 0xE2, (byte) 0x7D, (byte) 0x19, (byte) 0xF1,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xF9, (byte) 0x55, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0xFD, (byte) 0x01, (byte) 0xCA, (byte) 0x0F, (byte) 0xC4, (byte) 0xC2, (byte) 0xE5, (byte) 0x9A,
+          (byte) 0xCA, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x05, (byte) 0xD8, (byte) 0x03, (byte) 0xC5,
+          (byte) 0xE5, (byte) 0x59, (byte) 0xDD, (byte) 0xC4, (byte) 0xC3, (byte) 0x7D, (byte) 0x05, (byte) 0xE9,
+          (byte) 0x05, (byte) 0xC4, (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xE1, (byte) 0x66, (byte) 0xC4,
+          (byte) 0xC1, (byte) 0x55, (byte) 0x59, (byte) 0xEC, (byte) 0xC4, (byte) 0x42, (byte) 0xE5, (byte) 0x9A,
+          (byte) 0xD9, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xD9, (byte) 0xCC, (byte) 0xC4,
+          (byte) 0x43, (byte) 0xFD, (byte) 0x01, (byte) 0xFB, (byte) 0x66, (byte) 0xC4, (byte) 0xC2, (byte) 0xD5,
+          (byte) 0x98, (byte) 0xD9, (byte) 0xC4, (byte) 0xC3, (byte) 0xFD, (byte) 0x01, (byte) 0xEB, (byte) 0xCC,
+          (byte) 0xC4, (byte) 0x41, (byte) 0x15, (byte) 0x59, (byte) 0xEF, (byte) 0xC4, (byte) 0x43, (byte) 0xFD,
+          (byte) 0x01, (byte) 0xF3, (byte) 0x33, (byte) 0xC4, (byte) 0xE2, (byte) 0xFD, (byte) 0xBA, (byte) 0xDC,
+          (byte) 0xC4, (byte) 0xC2, (byte) 0x95, (byte) 0x98, (byte) 0xEA, (byte) 0xC4, (byte) 0x63, (byte) 0x7D,
+          (byte) 0x05, (byte) 0xEA, (byte) 0x05, (byte) 0xC4, (byte) 0x41, (byte) 0x15, (byte) 0x59, (byte) 0xEF,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0xED, (byte) 0xBA, (byte) 0xEE, (byte) 0xC4, (byte) 0xC2, (byte) 0x95,
+          (byte) 0x9A, (byte) 0xD6, (byte) 0xC4, (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xE9, (byte) 0x33,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0xD8, (byte) 0xC4, (byte) 0xC1,
+          (byte) 0x75, (byte) 0x59, (byte) 0xCB, (byte) 0xC4, (byte) 0xE2, (byte) 0xAD, (byte) 0xBA, (byte) 0xD7,
+          (byte) 0xC4, (byte) 0x63, (byte) 0x7D, (byte) 0x05, (byte) 0xD0, (byte) 0x05, (byte) 0xC4, (byte) 0x41,
+          (byte) 0x2D, (byte) 0x59, (byte) 0xD4, (byte) 0xC4, (byte) 0xC1, (byte) 0x45, (byte) 0x59, (byte) 0xF8,
+          (byte) 0xC4, (byte) 0xC2, (byte) 0xAD, (byte) 0x9A, (byte) 0xC5, (byte) 0xC4, (byte) 0xE2, (byte) 0xC5,
+          (byte) 0x98, (byte) 0xF4, (byte) 0xC4, (byte) 0xC2, (byte) 0xB5, (byte) 0xBA, (byte) 0xC0, (byte) 0xC4,
+          (byte) 0x63, (byte) 0x7D, (byte) 0x05, (byte) 0xC9, (byte) 0x05, (byte) 0xC4, (byte) 0xC1, (byte) 0x75,
+          (byte) 0x58, (byte) 0xC9, (byte) 0xC4, (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0x4E,
+          (byte) 0xC4, (byte) 0xC1, (byte) 0x75, (byte) 0x58, (byte) 0xC9, (byte) 0xC5, (byte) 0xCD, (byte) 0x5C,
+          (byte) 0xF9, (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x35, (byte) 0x67, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xC5, (byte) 0xCD, (byte) 0x5E, (byte) 0xF7, (byte) 0xC5, (byte) 0xE5, (byte) 0x59,
+          (byte) 0xCE, (byte) 0xC5, (byte) 0xED, (byte) 0x59, (byte) 0xD6, (byte) 0xC5, (byte) 0xFD, (byte) 0x59,
+          (byte) 0xC6, (byte) 0xC5, (byte) 0xD5, (byte) 0x59, (byte) 0xEE, (byte) 0xC5, (byte) 0xF5, (byte) 0x15,
+          (byte) 0xDA, (byte) 0xC5, (byte) 0xF5, (byte) 0x14, (byte) 0xCA, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD,
+          (byte) 0x01, (byte) 0xC9, (byte) 0x72, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xDB,
+          (byte) 0x72, (byte) 0xC5, (byte) 0xFD, (byte) 0x11, (byte) 0x4A, (byte) 0x30, (byte) 0xC5, (byte) 0xFD,
+          (byte) 0x15, (byte) 0xCD, (byte) 0xC5, (byte) 0xFD, (byte) 0x14, (byte) 0xC5, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0x72, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01,
+          (byte) 0xC0, (byte) 0x72, (byte) 0xC5, (byte) 0xFD, (byte) 0x11, (byte) 0x5A, (byte) 0x10, (byte) 0xC5,
+          (byte) 0xFD, (byte) 0x11, (byte) 0x4A, (byte) 0x50, (byte) 0xC5, (byte) 0xFD, (byte) 0x11, (byte) 0x42,
+          (byte) 0x70, (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3,
+          // padding and constants, addressed RIP-relative by the code above:
+          (byte) 0x66, (byte) 0x66, (byte) 0x2E, (byte) 0x0F, (byte) 0x1F, (byte) 0x84, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x0F, (byte) 0x1F, (byte) 0x84, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xF0, (byte) 0x3F, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xF0, (byte) 0xBF, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xF0, (byte) 0xBF, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xF0, (byte) 0x3F };
+  static final byte[] MATRIX4D_INVERT_AVX_WINDOWS = {
+          (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x72, (byte) 0x50, (byte) 0xC5, (byte) 0xFD, (byte) 0x10,
+          (byte) 0x6A, (byte) 0x70, (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x4A, (byte) 0x10, (byte) 0xC5,
+          (byte) 0xFD, (byte) 0x10, (byte) 0x62, (byte) 0x30, (byte) 0xC4, (byte) 0x63, (byte) 0x4D, (byte) 0x18,
+          (byte) 0xD5, (byte) 0x01, (byte) 0xC4, (byte) 0xE3, (byte) 0x4D, (byte) 0x06, (byte) 0xD5, (byte) 0x31,
+          (byte) 0xC4, (byte) 0x63, (byte) 0x75, (byte) 0x06, (byte) 0xCC, (byte) 0x31, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0x75, (byte) 0x18, (byte) 0xC4, (byte) 0x01, (byte) 0xC5, (byte) 0xF5, (byte) 0x14, (byte) 0xDE,
+          (byte) 0xC5, (byte) 0xDD, (byte) 0x15, (byte) 0xFD, (byte) 0xC5, (byte) 0xF5, (byte) 0x15, (byte) 0xCE,
+          (byte) 0xC5, (byte) 0xDD, (byte) 0x14, (byte) 0xE5, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01,
+          (byte) 0xE4, (byte) 0xD8, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0xD8,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xDB, (byte) 0xD8, (byte) 0xC5, (byte) 0xF5,
+          (byte) 0x59, (byte) 0xCC, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xFF, (byte) 0xD8,
+          (byte) 0xC4, (byte) 0xC3, (byte) 0xFD, (byte) 0x01, (byte) 0xEA, (byte) 0x4E, (byte) 0xC4, (byte) 0x63,
+          (byte) 0xFD, (byte) 0x01, (byte) 0xD8, (byte) 0x0F, (byte) 0xC4, (byte) 0x43, (byte) 0x7D, (byte) 0x05,
+          (byte) 0xEA, (byte) 0x05, (byte) 0xC4, (byte) 0xE2, (byte) 0xE5, (byte) 0xBA, (byte) 0xCF, (byte) 0xC4,
+          (byte) 0xE3, (byte) 0x7D, (byte) 0x05, (byte) 0xDA, (byte) 0x03, (byte) 0xC5, (byte) 0xE5, (byte) 0x59,
+          (byte) 0xDD, (byte) 0xC4, (byte) 0xC3, (byte) 0xFD, (byte) 0x01, (byte) 0xE9, (byte) 0x4E, (byte) 0xC4,
+          (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xC1, (byte) 0xAA, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD,
+          (byte) 0x01, (byte) 0xE1, (byte) 0xFF, (byte) 0xC4, (byte) 0xE2, (byte) 0x7D, (byte) 0x19, (byte) 0xF1,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xF9, (byte) 0x55, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0xFD, (byte) 0x01, (byte) 0xCA, (byte) 0x0F, (byte) 0xC4, (byte) 0xC2, (byte) 0xE5, (byte) 0x9A,
+          (byte) 0xCA, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x05, (byte) 0xD8, (byte) 0x03, (byte) 0xC5,
+          (byte) 0xE5, (byte) 0x59, (byte) 0xDD, (byte) 0xC4, (byte) 0xC3, (byte) 0x7D, (byte) 0x05, (byte) 0xE9,
+          (byte) 0x05, (byte) 0xC4, (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xE1, (byte) 0x66, (byte) 0xC4,
+          (byte) 0xC1, (byte) 0x55, (byte) 0x59, (byte) 0xEC, (byte) 0xC4, (byte) 0x42, (byte) 0xE5, (byte) 0x9A,
+          (byte) 0xD9, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xD9, (byte) 0xCC, (byte) 0xC4,
+          (byte) 0x43, (byte) 0xFD, (byte) 0x01, (byte) 0xFB, (byte) 0x66, (byte) 0xC4, (byte) 0xC2, (byte) 0xD5,
+          (byte) 0x98, (byte) 0xD9, (byte) 0xC4, (byte) 0xC3, (byte) 0xFD, (byte) 0x01, (byte) 0xEB, (byte) 0xCC,
+          (byte) 0xC4, (byte) 0x41, (byte) 0x15, (byte) 0x59, (byte) 0xEF, (byte) 0xC4, (byte) 0x43, (byte) 0xFD,
+          (byte) 0x01, (byte) 0xF3, (byte) 0x33, (byte) 0xC4, (byte) 0xE2, (byte) 0xFD, (byte) 0xBA, (byte) 0xDC,
+          (byte) 0xC4, (byte) 0xC2, (byte) 0x95, (byte) 0x98, (byte) 0xEA, (byte) 0xC4, (byte) 0x63, (byte) 0x7D,
+          (byte) 0x05, (byte) 0xEA, (byte) 0x05, (byte) 0xC4, (byte) 0x41, (byte) 0x15, (byte) 0x59, (byte) 0xEF,
+          (byte) 0xC4, (byte) 0xE2, (byte) 0xED, (byte) 0xBA, (byte) 0xEE, (byte) 0xC4, (byte) 0xC2, (byte) 0x95,
+          (byte) 0x9A, (byte) 0xD6, (byte) 0xC4, (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xE9, (byte) 0x33,
+          (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0xD8, (byte) 0xC4, (byte) 0xC1,
+          (byte) 0x75, (byte) 0x59, (byte) 0xCB, (byte) 0xC4, (byte) 0xE2, (byte) 0xAD, (byte) 0xBA, (byte) 0xD7,
+          (byte) 0xC4, (byte) 0x63, (byte) 0x7D, (byte) 0x05, (byte) 0xD0, (byte) 0x05, (byte) 0xC4, (byte) 0x41,
+          (byte) 0x2D, (byte) 0x59, (byte) 0xD4, (byte) 0xC4, (byte) 0xC1, (byte) 0x45, (byte) 0x59, (byte) 0xF8,
+          (byte) 0xC4, (byte) 0xC2, (byte) 0xAD, (byte) 0x9A, (byte) 0xC5, (byte) 0xC4, (byte) 0xE2, (byte) 0xC5,
+          (byte) 0x98, (byte) 0xF4, (byte) 0xC4, (byte) 0xC2, (byte) 0xB5, (byte) 0xBA, (byte) 0xC0, (byte) 0xC4,
+          (byte) 0x63, (byte) 0x7D, (byte) 0x05, (byte) 0xC9, (byte) 0x05, (byte) 0xC4, (byte) 0xC1, (byte) 0x75,
+          (byte) 0x58, (byte) 0xC9, (byte) 0xC4, (byte) 0x63, (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0x4E,
+          (byte) 0xC4, (byte) 0xC1, (byte) 0x75, (byte) 0x58, (byte) 0xC9, (byte) 0xC5, (byte) 0xCD, (byte) 0x5C,
+          (byte) 0xF9, (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x35, (byte) 0x67, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0xC5, (byte) 0xCD, (byte) 0x5E, (byte) 0xF7, (byte) 0xC5, (byte) 0xE5, (byte) 0x59,
+          (byte) 0xCE, (byte) 0xC5, (byte) 0xED, (byte) 0x59, (byte) 0xD6, (byte) 0xC5, (byte) 0xFD, (byte) 0x59,
+          (byte) 0xC6, (byte) 0xC5, (byte) 0xD5, (byte) 0x59, (byte) 0xEE, (byte) 0xC5, (byte) 0xF5, (byte) 0x15,
+          (byte) 0xDA, (byte) 0xC5, (byte) 0xF5, (byte) 0x14, (byte) 0xCA, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD,
+          (byte) 0x01, (byte) 0xC9, (byte) 0x72, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xDB,
+          (byte) 0x72, (byte) 0xC4, (byte) 0xC1, (byte) 0x7D, (byte) 0x11, (byte) 0x48, (byte) 0x30, (byte) 0xC5,
+          (byte) 0xFD, (byte) 0x15, (byte) 0xCD, (byte) 0xC5, (byte) 0xFD, (byte) 0x14, (byte) 0xC5, (byte) 0xC4,
+          (byte) 0xE3, (byte) 0xFD, (byte) 0x01, (byte) 0xC9, (byte) 0x72, (byte) 0xC4, (byte) 0xE3, (byte) 0xFD,
+          (byte) 0x01, (byte) 0xC0, (byte) 0x72, (byte) 0xC4, (byte) 0xC1, (byte) 0x7D, (byte) 0x11, (byte) 0x58,
+          (byte) 0x10, (byte) 0xC4, (byte) 0xC1, (byte) 0x7D, (byte) 0x11, (byte) 0x48, (byte) 0x50, (byte) 0xC4,
+          (byte) 0xC1, (byte) 0x7D, (byte) 0x11, (byte) 0x40, (byte) 0x70, (byte) 0xC5, (byte) 0xF8, (byte) 0x77,
+          (byte) 0xC3,
+          // padding and constants, addressed RIP-relative by the code above:
+          (byte) 0x66, (byte) 0x66, (byte) 0x2E, (byte) 0x0F, (byte) 0x1F, (byte) 0x84, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x0F, (byte) 0x1F, (byte) 0x40, (byte) 0x00, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xF0, (byte) 0x3F, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xF0, (byte) 0xBF, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xF0, (byte) 0xBF, (byte) 0x00,
+          (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0xF0, (byte) 0x3F };
+  static final byte[] MATRIX4D_TRANSPOSE_AVX_LINUX = {
+          (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x5E, (byte) 0x30, (byte) 0xC5, (byte) 0xFD, (byte) 0x10,
+          (byte) 0x66, (byte) 0x70, (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x46, (byte) 0x10, (byte) 0xC5,
+          (byte) 0xFD, (byte) 0x10, (byte) 0x4E, (byte) 0x50, (byte) 0xC5, (byte) 0xFD, (byte) 0x14, (byte) 0xD3,
+          (byte) 0xC5, (byte) 0xFD, (byte) 0x15, (byte) 0xC3, (byte) 0xC5, (byte) 0xF5, (byte) 0x14, (byte) 0xDC,
+          (byte) 0xC5, (byte) 0xF5, (byte) 0x15, (byte) 0xCC, (byte) 0xC4, (byte) 0xE3, (byte) 0x6D, (byte) 0x18,
+          (byte) 0xE3, (byte) 0x01, (byte) 0xC4, (byte) 0xE3, (byte) 0x6D, (byte) 0x06, (byte) 0xD3, (byte) 0x31,
+          (byte) 0xC5, (byte) 0xFD, (byte) 0x11, (byte) 0x62, (byte) 0x10, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D,
+          (byte) 0x18, (byte) 0xE1, (byte) 0x01, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x06, (byte) 0xC1,
+          (byte) 0x31, (byte) 0xC5, (byte) 0xFD, (byte) 0x11, (byte) 0x62, (byte) 0x30, (byte) 0xC5, (byte) 0xFD,
+          (byte) 0x11, (byte) 0x52, (byte) 0x50, (byte) 0xC5, (byte) 0xFD, (byte) 0x11, (byte) 0x42, (byte) 0x70,
+          (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3 };
+  static final byte[] MATRIX4D_TRANSPOSE_AVX_WINDOWS = {
+          (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x5A, (byte) 0x30, (byte) 0xC5, (byte) 0xFD, (byte) 0x10,
+          (byte) 0x62, (byte) 0x70, (byte) 0xC5, (byte) 0xFD, (byte) 0x10, (byte) 0x42, (byte) 0x10, (byte) 0xC5,
+          (byte) 0xFD, (byte) 0x10, (byte) 0x4A, (byte) 0x50, (byte) 0xC5, (byte) 0xFD, (byte) 0x14, (byte) 0xD3,
+          (byte) 0xC5, (byte) 0xFD, (byte) 0x15, (byte) 0xC3, (byte) 0xC5, (byte) 0xF5, (byte) 0x14, (byte) 0xDC,
+          (byte) 0xC5, (byte) 0xF5, (byte) 0x15, (byte) 0xCC, (byte) 0xC4, (byte) 0xE3, (byte) 0x6D, (byte) 0x18,
+          (byte) 0xE3, (byte) 0x01, (byte) 0xC4, (byte) 0xE3, (byte) 0x6D, (byte) 0x06, (byte) 0xD3, (byte) 0x31,
+          (byte) 0xC4, (byte) 0xC1, (byte) 0x7D, (byte) 0x11, (byte) 0x60, (byte) 0x10, (byte) 0xC4, (byte) 0xE3,
+          (byte) 0x7D, (byte) 0x18, (byte) 0xE1, (byte) 0x01, (byte) 0xC4, (byte) 0xE3, (byte) 0x7D, (byte) 0x06,
+          (byte) 0xC1, (byte) 0x31, (byte) 0xC4, (byte) 0xC1, (byte) 0x7D, (byte) 0x11, (byte) 0x60, (byte) 0x30,
+          (byte) 0xC4, (byte) 0xC1, (byte) 0x7D, (byte) 0x11, (byte) 0x50, (byte) 0x50, (byte) 0xC4, (byte) 0xC1,
+          (byte) 0x7D, (byte) 0x11, (byte) 0x40, (byte) 0x70, (byte) 0xC5, (byte) 0xF8, (byte) 0x77, (byte) 0xC3 };
   static {
     boolean _canUseJvmci = false;
+    boolean _canUseAvx512 = false;
+    String _unavailableReason = null;
+    String _avx512UnavailableReason = "AVX-512 not supported by the CPU or disabled by -XX:UseAVX";
     try {
       boolean _isWindows = System.getProperty("os.name").contains("Windows");
       JVMCIRuntime jvmciRuntime = JVMCI.getRuntime();
@@ -347,20 +796,49 @@ class JvmciCode {
         throw new AssertionError("CPU lacks AVX or FMA support");
       checkMatrix4f();
       checkMatrix4d();
+      checkMatrix4x3f();
       checkQuaternionf();
       installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4f_mul", Matrix4f.class, Matrix4f.class, Matrix4f.class), _isWindows ? MATRIX4F_MUL_AVX_WINDOWS : MATRIX4F_MUL_AVX_LINUX);
+      installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4f_mulAffine", Matrix4f.class, Matrix4f.class, Matrix4f.class), _isWindows ? MATRIX4F_MULAFFINE_AVX_WINDOWS : MATRIX4F_MULAFFINE_AVX_LINUX);
       installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4d_mul", Matrix4d.class, Matrix4d.class, Matrix4d.class), _isWindows ? MATRIX4D_MUL_AVX_WINDOWS : MATRIX4D_MUL_AVX_LINUX);
+      installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4x3f_mul", Matrix4x3f.class, Matrix4x3f.class, Matrix4x3f.class), _isWindows ? MATRIX4X3F_MUL_AVX_WINDOWS : MATRIX4X3F_MUL_AVX_LINUX);
       installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4f_invert", Matrix4f.class, Matrix4f.class), _isWindows ? MATRIX4F_INVERT_AVX_WINDOWS : MATRIX4F_INVERT_AVX_LINUX);
+      installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4d_invert", Matrix4d.class, Matrix4d.class), _isWindows ? MATRIX4D_INVERT_AVX_WINDOWS : MATRIX4D_INVERT_AVX_LINUX);
       installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4f_transpose", Matrix4f.class, Matrix4f.class), _isWindows ? MATRIX4F_TRANSPOSE_AVX_WINDOWS : MATRIX4F_TRANSPOSE_AVX_LINUX);
+      installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4d_transpose", Matrix4d.class, Matrix4d.class), _isWindows ? MATRIX4D_TRANSPOSE_AVX_WINDOWS : MATRIX4D_TRANSPOSE_AVX_LINUX);
       installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4f_set", Matrix4f.class, Matrix4f.class), _isWindows ? MATRIX4F_SET_AVX_WINDOWS : MATRIX4F_SET_AVX_LINUX);
       installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Quaternionf_mul", Quaternionf.class, Quaternionf.class, Quaternionf.class), _isWindows ? QUATERNIONF_MUL_AVX_WINDOWS : QUATERNIONF_MUL_AVX_LINUX);
+      // While this class is being initialized, canUseJvmci is still false, so the JOML methods used as reference
+      // below run their Java code.
+      verifyAvx();
       _canUseJvmci = true;
+      if (features.contains(AMD64.CPUFeature.AVX512F)) {
+        try {
+          installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4f_mul_avx512", Matrix4f.class, Matrix4f.class, Matrix4f.class), _isWindows ? MATRIX4F_MUL_AVX512_WINDOWS : MATRIX4F_MUL_AVX512_LINUX);
+          installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4f_mulAffine_avx512", Matrix4f.class, Matrix4f.class, Matrix4f.class), _isWindows ? MATRIX4F_MULAFFINE_AVX512_WINDOWS : MATRIX4F_MULAFFINE_AVX512_LINUX);
+          installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4d_mul_avx512", Matrix4d.class, Matrix4d.class, Matrix4d.class), _isWindows ? MATRIX4D_MUL_AVX512_WINDOWS : MATRIX4D_MUL_AVX512_LINUX);
+          installCode(jvmciBackend, JvmciCode.class.getDeclaredMethod("__Matrix4x3f_mul_avx512", Matrix4x3f.class, Matrix4x3f.class, Matrix4x3f.class), _isWindows ? MATRIX4X3F_MUL_AVX512_WINDOWS : MATRIX4X3F_MUL_AVX512_LINUX);
+          verifyAvx512();
+          _canUseAvx512 = true;
+          _avx512UnavailableReason = null;
+        } catch (Throwable e) {
+          _avx512UnavailableReason = e.getClass().getName() + ": " + e.getMessage();
+          if (Options.DEBUG) {
+            System.out.println("[JOML] JVMCI AVX-512 kernels not available, because: " + e.getClass().getName() + ": " + e.getMessage());
+          }
+        }
+      }
     } catch (Throwable e) {
+      _unavailableReason = e.getClass().getName() + ": " + e.getMessage();
+      _avx512UnavailableReason = "JVMCI not available";
       if (Options.DEBUG) {
         System.out.println("[JOML] JVMCI not available, because: " + e.getClass().getName() + ": " + e.getMessage());
       }
     }
     canUseJvmci = _canUseJvmci;
+    canUseAvx512 = _canUseAvx512;
+    unavailableReason = _unavailableReason;
+    avx512UnavailableReason = _avx512UnavailableReason;
   }
   private static void checkMatrix4f() throws Throwable {
     Field f;
@@ -394,6 +872,124 @@ class JvmciCode {
         u.objectFieldOffset(Quaternionf.class.getDeclaredField("z")) != 28L)
       throw new AssertionError("invalid Quaternionf field offset");
   }
+  private static void checkMatrix4x3f() throws Throwable {
+    sun.misc.Unsafe u = unsafeInstance();
+    for (int i = 0; i < 12; i++) {
+      int c = i / 3;
+      int r = i % 3;
+      long offset = u.objectFieldOffset(Matrix4x3f.class.getDeclaredField("m" + c + r));
+      if (offset != 12 + (i << 2))
+        throw new AssertionError("invalid Matrix4x3f field offset");
+    }
+    // the AVX kernel reads the last column with a 16-byte load that ends at the properties field
+    if (u.objectFieldOffset(Matrix4x3f.class.getDeclaredField("properties")) != 60L)
+      throw new AssertionError("invalid Matrix4x3f field offset");
+  }
+
+  private static final int MUL = 0, MUL_AFFINE = 1, INVERT = 2, TRANSPOSE = 3, SET = 4;
+  private static final String[] OP_NAMES = {"mul", "mulAffine", "invert", "transpose", "set"};
+
+  /*
+   * The verification methods below run a kernel on fixed inputs, once with a separate destination and once with the
+   * destination aliasing each of the operands, and compare the result with the one of the Java code.
+   */
+  private static void verifyAvx() {
+    verifyMatrix4f(MUL, false);
+    verifyMatrix4f(MUL_AFFINE, false);
+    verifyMatrix4f(INVERT, false);
+    verifyMatrix4f(TRANSPOSE, false);
+    verifyMatrix4f(SET, false);
+    verifyMatrix4d(MUL, false);
+    verifyMatrix4d(INVERT, false);
+    verifyMatrix4d(TRANSPOSE, false);
+    verifyMatrix4x3f(false);
+    verifyQuaternionf();
+  }
+  private static void verifyAvx512() {
+    verifyMatrix4f(MUL, true);
+    verifyMatrix4f(MUL_AFFINE, true);
+    verifyMatrix4d(MUL, true);
+    verifyMatrix4x3f(true);
+  }
+  private static void verifyMatrix4f(int op, boolean avx512) {
+    Matrix4f a, b;
+    if (op == MUL_AFFINE) {
+      a = new Matrix4f(0.8f, 0.1f, -0.3f, 0.0f, -0.2f, 0.9f, 0.4f, 0.0f, 0.3f, -0.4f, 1.1f, 0.0f, 1.5f, -2.0f, 0.7f, 1.0f);
+      b = new Matrix4f(1.2f, -0.3f, 0.2f, 0.0f, 0.4f, 0.7f, -0.6f, 0.0f, -0.1f, 0.5f, 0.9f, 0.0f, -0.8f, 0.3f, 2.5f, 1.0f);
+    } else {
+      a = new Matrix4f(0.8f, 0.1f, -0.3f, 0.2f, -0.2f, 0.9f, 0.4f, -0.1f, 0.3f, -0.4f, 1.1f, 0.3f, 1.5f, -2.0f, 0.7f, 1.2f);
+      b = new Matrix4f(1.2f, -0.3f, 0.2f, 0.1f, 0.4f, 0.7f, -0.6f, 0.2f, -0.1f, 0.5f, 0.9f, -0.3f, -0.8f, 0.3f, 2.5f, 0.9f);
+    }
+    Matrix4f expected = new Matrix4f();
+    switch (op) {
+      case MUL: a.mul0(b, expected); break;
+      case MUL_AFFINE: a.mulAffine(b, expected); break;
+      case INVERT: a.invert(expected); break;
+      case TRANSPOSE: a.transpose(expected); break;
+      default: expected.set(a);
+    }
+    for (int alias = 0; alias < 3; alias++) {
+      Matrix4f l = new Matrix4f(a), r = new Matrix4f(b);
+      Matrix4f d = alias == 0 ? new Matrix4f() : alias == 1 ? l : r;
+      switch (op) {
+        case MUL: if (avx512) __Matrix4f_mul_avx512(l, r, d); else __Matrix4f_mul(l, r, d); break;
+        case MUL_AFFINE: if (avx512) __Matrix4f_mulAffine_avx512(l, r, d); else __Matrix4f_mulAffine(l, r, d); break;
+        case INVERT: if (alias == 2) continue; __Matrix4f_invert(l, d); break;
+        case TRANSPOSE: if (alias == 2) continue; __Matrix4f_transpose(l, d); break;
+        default: if (alias == 2) continue; __Matrix4f_set(l, d);
+      }
+      if (!d.equals(expected, 1E-5f))
+        throw new AssertionError("Matrix4f." + OP_NAMES[op] + " kernel does not match the Java code");
+    }
+  }
+  private static void verifyMatrix4d(int op, boolean avx512) {
+    Matrix4d a = new Matrix4d(0.8, 0.1, -0.3, 0.2, -0.2, 0.9, 0.4, -0.1, 0.3, -0.4, 1.1, 0.3, 1.5, -2.0, 0.7, 1.2);
+    Matrix4d b = new Matrix4d(1.2, -0.3, 0.2, 0.1, 0.4, 0.7, -0.6, 0.2, -0.1, 0.5, 0.9, -0.3, -0.8, 0.3, 2.5, 0.9);
+    Matrix4d expected = new Matrix4d();
+    switch (op) {
+      case MUL: a.mul0(b, expected); break;
+      case INVERT: a.invert(expected); break;
+      default: a.transpose(expected);
+    }
+    for (int alias = 0; alias < 3; alias++) {
+      Matrix4d l = new Matrix4d(a), r = new Matrix4d(b);
+      Matrix4d d = alias == 0 ? new Matrix4d() : alias == 1 ? l : r;
+      switch (op) {
+        case MUL: if (avx512) __Matrix4d_mul_avx512(l, r, d); else __Matrix4d_mul(l, r, d); break;
+        case INVERT: if (alias == 2) continue; __Matrix4d_invert(l, d); break;
+        default: if (alias == 2) continue; __Matrix4d_transpose(l, d);
+      }
+      if (!d.equals(expected, 1E-12))
+        throw new AssertionError("Matrix4d." + OP_NAMES[op] + " kernel does not match the Java code");
+    }
+  }
+  private static void verifyMatrix4x3f(boolean avx512) {
+    Matrix4x3f a = new Matrix4x3f(0.8f, 0.1f, -0.3f, -0.2f, 0.9f, 0.4f, 0.3f, -0.4f, 1.1f, 1.5f, -2.0f, 0.7f);
+    Matrix4x3f b = new Matrix4x3f(1.2f, -0.3f, 0.2f, 0.4f, 0.7f, -0.6f, -0.1f, 0.5f, 0.9f, -0.8f, 0.3f, 2.5f);
+    Matrix4x3f expected = a.mul(b, new Matrix4x3f());
+    for (int alias = 0; alias < 3; alias++) {
+      Matrix4x3f l = new Matrix4x3f(a), r = new Matrix4x3f(b);
+      Matrix4x3f d = alias == 0 ? new Matrix4x3f() : alias == 1 ? l : r;
+      int properties = d.properties;
+      if (avx512)
+        __Matrix4x3f_mul_avx512(l, r, d);
+      else
+        __Matrix4x3f_mul(l, r, d);
+      if (d.properties != properties || !d.equals(expected, 1E-5f))
+        throw new AssertionError("Matrix4x3f.mul kernel does not match the Java code");
+    }
+  }
+  private static void verifyQuaternionf() {
+    Quaternionf a = new Quaternionf(0.1f, -0.5f, 0.3f, 0.8f), b = new Quaternionf(-0.4f, 0.2f, 0.7f, 0.5f);
+    Quaternionf expected = a.mul(b, new Quaternionf());
+    for (int alias = 0; alias < 3; alias++) {
+      Quaternionf l = new Quaternionf(a), r = new Quaternionf(b);
+      Quaternionf d = alias == 0 ? new Quaternionf() : alias == 1 ? l : r;
+      __Quaternionf_mul(l, r, d);
+      if (!d.equals(expected, 1E-6f))
+        throw new AssertionError("Quaternionf.mul kernel does not match the Java code");
+    }
+  }
   private static sun.misc.Unsafe unsafeInstance() throws SecurityException {
     java.lang.reflect.Field[] fields = sun.misc.Unsafe.class.getDeclaredFields();
     for (int i = 0; i < fields.length; i++) {
@@ -428,10 +1024,43 @@ class JvmciCode {
     setDefaultCodeMethod.invoke(codeCache, rm, nm);
   }
 
+  static void mul(Matrix4f a, Matrix4f b, Matrix4f r) {
+    if (canUseAvx512)
+      __Matrix4f_mul_avx512(a, b, r);
+    else
+      __Matrix4f_mul(a, b, r);
+  }
+  static void mulAffine(Matrix4f a, Matrix4f b, Matrix4f r) {
+    if (canUseAvx512)
+      __Matrix4f_mulAffine_avx512(a, b, r);
+    else
+      __Matrix4f_mulAffine(a, b, r);
+  }
+  static void mul(Matrix4d a, Matrix4d b, Matrix4d r) {
+    if (canUseAvx512)
+      __Matrix4d_mul_avx512(a, b, r);
+    else
+      __Matrix4d_mul(a, b, r);
+  }
+  static void mul(Matrix4x3f a, Matrix4x3f b, Matrix4x3f r) {
+    if (canUseAvx512)
+      __Matrix4x3f_mul_avx512(a, b, r);
+    else
+      __Matrix4x3f_mul(a, b, r);
+  }
+
   static native void __Matrix4f_mul(Matrix4f a, Matrix4f b, Matrix4f r);
+  static native void __Matrix4f_mul_avx512(Matrix4f a, Matrix4f b, Matrix4f r);
+  static native void __Matrix4f_mulAffine(Matrix4f a, Matrix4f b, Matrix4f r);
+  static native void __Matrix4f_mulAffine_avx512(Matrix4f a, Matrix4f b, Matrix4f r);
   static native void __Matrix4d_mul(Matrix4d a, Matrix4d b, Matrix4d r);
+  static native void __Matrix4d_mul_avx512(Matrix4d a, Matrix4d b, Matrix4d r);
+  static native void __Matrix4x3f_mul(Matrix4x3f a, Matrix4x3f b, Matrix4x3f r);
+  static native void __Matrix4x3f_mul_avx512(Matrix4x3f a, Matrix4x3f b, Matrix4x3f r);
   static native void __Matrix4f_invert(Matrix4f a, Matrix4f r);
+  static native void __Matrix4d_invert(Matrix4d a, Matrix4d r);
   static native void __Matrix4f_transpose(Matrix4f a, Matrix4f r);
+  static native void __Matrix4d_transpose(Matrix4d a, Matrix4d r);
   static native void __Matrix4f_set(Matrix4f a, Matrix4f r);
   static native void __Quaternionf_mul(Quaternionf a, Quaternionf b, Quaternionf r);
 }
@@ -23,6 +23,10 @@
  */
 package org.joml;
 
+//#ifdef __HAS_NIO__
+import java.nio.FloatBuffer;
+//#endif
+
 /**
  * Contains fast approximations of some {@link java.lang.Math} operations.
  * <p>
@@ -36,6 +40,9 @@ package org.joml;
  * </ol>
  * By default, the first algorithm is being used. In order to use the second one, start the JVM with <code>-Djoml.sinLookup</code>. The lookup table bit length of the second algorithm can also be adjusted
  * for improved accuracy via <code>-Djoml.sinLookup.bits=&lt;n&gt;</code>, where &lt;n&gt; is the number of bits of the lookup table.
+ * <p>
+ * The bulk methods computing sin, cos or atan2 of whole arrays or buffers, such as {@link #sin(float[], int, float[], int, int)},
+ * always use branch-free polynomial approximations with a documented maximum error, independently of <code>-Djoml.fastmath</code>.
  * 
  * @author Kai Burjack
  */
@@ -345,6 +352,626 @@ public class Math {
         return java.lang.Math.atan2(y, x);
     }
 
+    /*
+     * Bulk trigonometry.
+     * 
+     * The array methods below evaluate branch-free polynomials in short loops, so that the JIT can vectorize them.
+     * Arguments are reduced to [-pi/2..+pi/2] by subtracting the nearest multiple k of pi, which is rounded by adding and
+     * subtracting a "magic" constant and is subtracted in four parts (Cody-Waite reduction). The sign (-1)^k is computed
+     * as 1 - 2 * p^2, where p = k - 2 * round(k/2) is -1, 0 or +1, which is exact. atan2 applies the reflections into the
+     * right octant by sign-bit operations and is split into three loops, since a single loop is too large to be vectorized.
+     * The arrays are processed in blocks, which are copied to and from temporary arrays, because the JIT does not vectorize
+     * loops whose source and destination are arrays with different offsets that may overlap.
+     * The polynomial coefficients are those of SLEEF (https://sleef.org/), distributed under the Boost Software License 1.0.
+     */
+
+    private static final int BULK_BLOCK = 1024;
+    private static final float SIN_LIMIT_f = 39000.0f;
+    private static final double SIN_LIMIT = 1E8;
+    private static final float ROUND_MAGIC_f = 12582912.0f; // 1.5 * 2^23
+    private static final float PI_A_f = 3.140625f;
+    private static final float PI_B_f = 9.670257568359375E-4f;
+    private static final float PI_C_f = 6.2771141529083251953E-7f;
+    private static final float PI_D_f = 1.2154201256553420762E-10f;
+    private static final double ROUND_MAGIC = 6755399441055744.0; // 1.5 * 2^52
+    private static final double PI_A = 3.1415926218032836914;
+    private static final double PI_B = 3.1786509424591713469E-8;
+    private static final double PI_C = 1.2246467864107188502E-16;
+    private static final double PI_D = 1.2736634327021899816E-24;
+
+    /**
+     * Sine of <code>d</code> in <code>[-pi/2..+pi/2]</code>.
+     */
+    private static float sinPoly(float d) {
+        float s = d * d;
+        float u = 2.6083159809786593541503E-6f;
+        u = u * s - 1.981069071916863322258E-4f;
+        u = u * s + 8.33307858556509017944336E-3f;
+        u = u * s - 1.66666597127914428710938E-1f;
+        return u * s * d + d;
+    }
+    private static double sinPoly(double d) {
+        double s = d * d;
+        double u = -7.97255955009037868891952E-18;
+        u = u * s + 2.81009972710863200091251E-15;
+        u = u * s - 7.64712219118158833288484E-13;
+        u = u * s + 1.60590430605664501629054E-10;
+        u = u * s - 2.50521083763502045810755E-8;
+        u = u * s + 2.75573192239198747630416E-6;
+        u = u * s - 1.98412698412696162806809E-4;
+        u = u * s + 8.33333333333332974823815E-3;
+        u = u * s - 1.66666666666666657414808E-1;
+        return u * s * d + d;
+    }
+
+    /**
+     * Return <code>+1</code> for even and <code>-1</code> for odd integral values <code>k</code>.
+     */
+    private static float parity(float k) {
+        float p = k - 2.0f * (k * 0.5f + ROUND_MAGIC_f - ROUND_MAGIC_f);
+        return 1.0f - 2.0f * p * p;
+    }
+    private static double parity(double k) {
+        double p = k - 2.0 * (k * 0.5 + ROUND_MAGIC - ROUND_MAGIC);
+        return 1.0 - 2.0 * p * p;
+    }
+
+    static float sinBulk(float x) {
+        float k = x * ONE_OVER_PI_f + ROUND_MAGIC_f - ROUND_MAGIC_f;
+        float d = x - k * PI_A_f - k * PI_B_f - k * PI_C_f - k * PI_D_f;
+        return sinPoly(d) * parity(k);
+    }
+    static double sinBulk(double x) {
+        double k = x * ONE_OVER_PI + ROUND_MAGIC - ROUND_MAGIC;
+        double d = x - k * PI_A - k * PI_B - k * PI_C - k * PI_D;
+        return sinPoly(d) * parity(k);
+    }
+
+    /**
+     * cos(x) = -(-1)^k * sin(x - (k + 1/2) * pi) with k = round(x/pi - 1/2).
+     */
+    static float cosBulk(float x) {
+        float k = x * ONE_OVER_PI_f - 0.5f + ROUND_MAGIC_f - ROUND_MAGIC_f;
+        float h = k + 0.5f;
+        float d = x - h * PI_A_f - h * PI_B_f - h * PI_C_f - h * PI_D_f;
+        return -sinPoly(d) * parity(k);
+    }
+    static double cosBulk(double x) {
+        double k = x * ONE_OVER_PI - 0.5 + ROUND_MAGIC - ROUND_MAGIC;
+        double h = k + 0.5;
+        double d = x - h * PI_A - h * PI_B - h * PI_C - h * PI_D;
+        return -sinPoly(d) * parity(k);
+    }
+
+    /**
+     * Arctangent of <code>a</code> in <code>[0..1]</code>.
+     */
+    private static float atanPoly(float a) {
+        float t = a * a;
+        float u = 2.82363896258175373077393E-3f;
+        u = u * t - 1.59569028764963150024414E-2f;
+        u = u * t + 4.25049886107444763183594E-2f;
+        u = u * t - 7.48900920152664184570312E-2f;
+        u = u * t + 1.06347933411598205566406E-1f;
+        u = u * t - 1.42027363181114196777344E-1f;
+        u = u * t + 1.99926957488059997558594E-1f;
+        u = u * t - 3.33331018686294555664062E-1f;
+        return u * t * a + a;
+    }
+    private static double atanPoly(double a) {
+        double t = a * a;
+        double u = -1.88796008463073496563746E-5;
+        u = u * t + 2.09850076645816976906797E-4;
+        u = u * t - 1.10611831486672482563471E-3;
+        u = u * t + 3.70026744188713119232403E-3;
+        u = u * t - 8.89896195887655491740809E-3;
+        u = u * t + 1.6599329773529201970117E-2;
+        u = u * t - 2.54517624932312641616861E-2;
+        u = u * t + 3.37852580001353069993897E-2;
+        u = u * t - 4.07629191276836500001934E-2;
+        u = u * t + 4.66667150077840625632675E-2;
+        u = u * t - 5.23674852303482457616113E-2;
+        u = u * t + 5.87666392926673580854313E-2;
+        u = u * t - 6.66573579361080525984562E-2;
+        u = u * t + 7.69219538311769618355029E-2;
+        u = u * t - 9.0908995008245008229153E-2;
+        u = u * t + 1.11111105648261418443745E-1;
+        u = u * t - 1.4285714266771329383765E-1;
+        u = u * t + 1.99999999996591265594148E-1;
+        u = u * t - 3.33333333333311110369124E-1;
+        return u * t * a + a;
+    }
+
+    /**
+     * The ratio of the smaller to the larger of <code>|y|</code> and <code>|x|</code>, whose arctangent is taken.
+     */
+    private static float atanRatio(float y, float x) {
+        float ax = java.lang.Math.abs(x), ay = java.lang.Math.abs(y);
+        return java.lang.Math.min(ax, ay) / java.lang.Math.max(java.lang.Math.max(ax, ay), Float.MIN_VALUE);
+    }
+    private static double atanRatio(double y, double x) {
+        double ax = java.lang.Math.abs(x), ay = java.lang.Math.abs(y);
+        return java.lang.Math.min(ax, ay) / java.lang.Math.max(java.lang.Math.max(ax, ay), Double.MIN_VALUE);
+    }
+
+    /**
+     * Map the arctangent <code>r</code> of {@link #atanRatio(float, float)} to the octant of <code>(x, y)</code>:
+     * <code>pi/2 - r</code> if <code>|y| &gt; |x|</code>, then <code>pi - r</code> if <code>x</code> is negative, then the sign of <code>y</code>.
+     */
+    private static float atanReflect(float r, float y, float x) {
+        int swap = Float.floatToRawIntBits(java.lang.Math.abs(x) - java.lang.Math.abs(y)) >> 31;
+        r = Float.intBitsToFloat(Float.floatToRawIntBits(PI_OVER_2_f) & swap) + Float.intBitsToFloat(Float.floatToRawIntBits(r) ^ swap << 31);
+        int left = Float.floatToRawIntBits(x) >> 31;
+        r = Float.intBitsToFloat(Float.floatToRawIntBits(PI_f) & left) + Float.intBitsToFloat(Float.floatToRawIntBits(r) ^ left << 31);
+        return Float.intBitsToFloat(Float.floatToRawIntBits(r) ^ Float.floatToRawIntBits(y) & 0x80000000);
+    }
+    private static double atanReflect(double r, double y, double x) {
+        long swap = Double.doubleToRawLongBits(java.lang.Math.abs(x) - java.lang.Math.abs(y)) >> 63;
+        r = Double.longBitsToDouble(Double.doubleToRawLongBits(PI_OVER_2) & swap) + Double.longBitsToDouble(Double.doubleToRawLongBits(r) ^ swap << 63);
+        long left = Double.doubleToRawLongBits(x) >> 63;
+        r = Double.longBitsToDouble(Double.doubleToRawLongBits(PI) & left) + Double.longBitsToDouble(Double.doubleToRawLongBits(r) ^ left << 63);
+        return Double.longBitsToDouble(Double.doubleToRawLongBits(r) ^ Double.doubleToRawLongBits(y) & 0x8000000000000000L);
+    }
+
+    static float atan2Bulk(float y, float x) {
+        return atanReflect(atanPoly(atanRatio(y, x)), y, x);
+    }
+    static double atan2Bulk(double y, double x) {
+        return atanReflect(atanPoly(atanRatio(y, x)), y, x);
+    }
+
+    /**
+     * Replace the result <code>r</code> of {@link #sinBulk(float)} by that of {@link java.lang.Math#sin(double)} if the
+     * reduction of <code>x</code> is inexact or <code>x</code> is a signed zero, infinite or NaN.
+     */
+    static float sinFix(float x, float r) {
+        return java.lang.Math.abs(x) <= SIN_LIMIT_f && x != 0.0f ? r : (float) java.lang.Math.sin(x);
+    }
+    static double sinFix(double x, double r) {
+        return java.lang.Math.abs(x) <= SIN_LIMIT && x != 0.0 ? r : java.lang.Math.sin(x);
+    }
+    static float cosFix(float x, float r) {
+        return java.lang.Math.abs(x) <= SIN_LIMIT_f ? r : (float) java.lang.Math.cos(x);
+    }
+    static double cosFix(double x, double r) {
+        return java.lang.Math.abs(x) <= SIN_LIMIT ? r : java.lang.Math.cos(x);
+    }
+
+    /**
+     * Replace a NaN result <code>r</code> of {@link #atan2Bulk(float, float)}, which is obtained for two infinite coordinates,
+     * by that of {@link java.lang.Math#atan2(double, double)}.
+     */
+    static float atan2Fix(float y, float x, float r) {
+        return r == r ? r : (float) java.lang.Math.atan2(y, x);
+    }
+    static double atan2Fix(double y, double x, double r) {
+        return r == r ? r : java.lang.Math.atan2(y, x);
+    }
+
+    /**
+     * Compute the sine of each of the <code>count</code> angles in <code>src</code>, starting at <code>srcOffset</code>, and store
+     * the results in <code>dest</code>, starting at <code>destOffset</code>.
+     * <p>
+     * The absolute error is at most <code>2E-7</code> for angles with <code>|x| &lt;= 39000</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. <code>src</code> and <code>dest</code> may be the same array with the same offset.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcOffset
+     *          the index of the first angle in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param count
+     *          the number of angles
+     * @return dest
+     */
+    public static float[] sin(float[] src, int srcOffset, float[] dest, int destOffset, int count) {
+        float[] t = new float[java.lang.Math.min(count, BULK_BLOCK)];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(src, srcOffset + b, t, 0, n);
+            for (int i = 0; i < n; i++)
+                t[i] = sinBulk(t[i]);
+            for (int i = 0; i < n; i++)
+                t[i] = sinFix(src[srcOffset + b + i], t[i]);
+            System.arraycopy(t, 0, dest, destOffset + b, n);
+        }
+        return dest;
+    }
+
+    /**
+     * Compute the sine of each of the <code>count</code> angles in <code>src</code>, starting at <code>srcOffset</code>, and store
+     * the results in <code>dest</code>, starting at <code>destOffset</code>.
+     * <p>
+     * The absolute error is at most <code>5E-16</code> for angles with <code>|x| &lt;= 1E8</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. <code>src</code> and <code>dest</code> may be the same array with the same offset.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcOffset
+     *          the index of the first angle in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param count
+     *          the number of angles
+     * @return dest
+     */
+    public static double[] sin(double[] src, int srcOffset, double[] dest, int destOffset, int count) {
+        double[] t = new double[java.lang.Math.min(count, BULK_BLOCK)];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(src, srcOffset + b, t, 0, n);
+            for (int i = 0; i < n; i++)
+                t[i] = sinBulk(t[i]);
+            for (int i = 0; i < n; i++)
+                t[i] = sinFix(src[srcOffset + b + i], t[i]);
+            System.arraycopy(t, 0, dest, destOffset + b, n);
+        }
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute the sine of each of the <code>count</code> angles in <code>src</code>, starting at the absolute index <code>srcIndex</code>,
+     * and store the results in <code>dest</code>, starting at the absolute index <code>destIndex</code>.
+     * <p>
+     * The absolute error is at most <code>2E-7</code> for angles with <code>|x| &lt;= 39000</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. The positions of both buffers are not changed.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcIndex
+     *          the absolute index of the first angle in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first result
+     * @param count
+     *          the number of angles
+     * @return dest
+     */
+    public static FloatBuffer sin(FloatBuffer src, int srcIndex, FloatBuffer dest, int destIndex, int count) {
+        for (int i = 0; i < count; i++) {
+            float x = src.get(srcIndex + i);
+            dest.put(destIndex + i, sinFix(x, sinBulk(x)));
+        }
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute the cosine of each of the <code>count</code> angles in <code>src</code>, starting at <code>srcOffset</code>, and store
+     * the results in <code>dest</code>, starting at <code>destOffset</code>.
+     * <p>
+     * The absolute error is at most <code>2E-7</code> for angles with <code>|x| &lt;= 39000</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. <code>src</code> and <code>dest</code> may be the same array with the same offset.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcOffset
+     *          the index of the first angle in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param count
+     *          the number of angles
+     * @return dest
+     */
+    public static float[] cos(float[] src, int srcOffset, float[] dest, int destOffset, int count) {
+        float[] t = new float[java.lang.Math.min(count, BULK_BLOCK)];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(src, srcOffset + b, t, 0, n);
+            for (int i = 0; i < n; i++)
+                t[i] = cosBulk(t[i]);
+            for (int i = 0; i < n; i++)
+                t[i] = cosFix(src[srcOffset + b + i], t[i]);
+            System.arraycopy(t, 0, dest, destOffset + b, n);
+        }
+        return dest;
+    }
+
+    /**
+     * Compute the cosine of each of the <code>count</code> angles in <code>src</code>, starting at <code>srcOffset</code>, and store
+     * the results in <code>dest</code>, starting at <code>destOffset</code>.
+     * <p>
+     * The absolute error is at most <code>5E-16</code> for angles with <code>|x| &lt;= 1E8</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. <code>src</code> and <code>dest</code> may be the same array with the same offset.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcOffset
+     *          the index of the first angle in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first result
+     * @param count
+     *          the number of angles
+     * @return dest
+     */
+    public static double[] cos(double[] src, int srcOffset, double[] dest, int destOffset, int count) {
+        double[] t = new double[java.lang.Math.min(count, BULK_BLOCK)];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(src, srcOffset + b, t, 0, n);
+            for (int i = 0; i < n; i++)
+                t[i] = cosBulk(t[i]);
+            for (int i = 0; i < n; i++)
+                t[i] = cosFix(src[srcOffset + b + i], t[i]);
+            System.arraycopy(t, 0, dest, destOffset + b, n);
+        }
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute the cosine of each of the <code>count</code> angles in <code>src</code>, starting at the absolute index <code>srcIndex</code>,
+     * and store the results in <code>dest</code>, starting at the absolute index <code>destIndex</code>.
+     * <p>
+     * The absolute error is at most <code>2E-7</code> for angles with <code>|x| &lt;= 39000</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. The positions of both buffers are not changed.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcIndex
+     *          the absolute index of the first angle in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first result
+     * @param count
+     *          the number of angles
+     * @return dest
+     */
+    public static FloatBuffer cos(FloatBuffer src, int srcIndex, FloatBuffer dest, int destIndex, int count) {
+        for (int i = 0; i < count; i++) {
+            float x = src.get(srcIndex + i);
+            dest.put(destIndex + i, cosFix(x, cosBulk(x)));
+        }
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute both the sine and the cosine of each of the <code>count</code> angles in <code>src</code>, starting at <code>srcOffset</code>,
+     * and store them in <code>sinDest</code> and <code>cosDest</code>.
+     * <p>
+     * The absolute error is at most <code>2E-7</code> for angles with <code>|x| &lt;= 39000</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. <code>src</code> may be the same array as <code>sinDest</code> or <code>cosDest</code> with the same offset.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcOffset
+     *          the index of the first angle in <code>src</code>
+     * @param sinDest
+     *          will hold the sines
+     * @param sinOffset
+     *          the index in <code>sinDest</code> at which to store the first sine
+     * @param cosDest
+     *          will hold the cosines
+     * @param cosOffset
+     *          the index in <code>cosDest</code> at which to store the first cosine
+     * @param count
+     *          the number of angles
+     */
+    public static void sinCos(float[] src, int srcOffset, float[] sinDest, int sinOffset, float[] cosDest, int cosOffset, int count) {
+        int size = java.lang.Math.min(count, BULK_BLOCK);
+        float[] s = new float[size], c = new float[size];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(src, srcOffset + b, s, 0, n);
+            for (int i = 0; i < n; i++)
+                c[i] = cosBulk(s[i]);
+            for (int i = 0; i < n; i++)
+                s[i] = sinBulk(s[i]);
+            for (int i = 0; i < n; i++) {
+                c[i] = cosFix(src[srcOffset + b + i], c[i]);
+                s[i] = sinFix(src[srcOffset + b + i], s[i]);
+            }
+            System.arraycopy(s, 0, sinDest, sinOffset + b, n);
+            System.arraycopy(c, 0, cosDest, cosOffset + b, n);
+        }
+    }
+
+    /**
+     * Compute both the sine and the cosine of each of the <code>count</code> angles in <code>src</code>, starting at <code>srcOffset</code>,
+     * and store them in <code>sinDest</code> and <code>cosDest</code>.
+     * <p>
+     * The absolute error is at most <code>5E-16</code> for angles with <code>|x| &lt;= 1E8</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. <code>src</code> may be the same array as <code>sinDest</code> or <code>cosDest</code> with the same offset.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcOffset
+     *          the index of the first angle in <code>src</code>
+     * @param sinDest
+     *          will hold the sines
+     * @param sinOffset
+     *          the index in <code>sinDest</code> at which to store the first sine
+     * @param cosDest
+     *          will hold the cosines
+     * @param cosOffset
+     *          the index in <code>cosDest</code> at which to store the first cosine
+     * @param count
+     *          the number of angles
+     */
+    public static void sinCos(double[] src, int srcOffset, double[] sinDest, int sinOffset, double[] cosDest, int cosOffset, int count) {
+        int size = java.lang.Math.min(count, BULK_BLOCK);
+        double[] s = new double[size], c = new double[size];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(src, srcOffset + b, s, 0, n);
+            for (int i = 0; i < n; i++)
+                c[i] = cosBulk(s[i]);
+            for (int i = 0; i < n; i++)
+                s[i] = sinBulk(s[i]);
+            for (int i = 0; i < n; i++) {
+                c[i] = cosFix(src[srcOffset + b + i], c[i]);
+                s[i] = sinFix(src[srcOffset + b + i], s[i]);
+            }
+            System.arraycopy(s, 0, sinDest, sinOffset + b, n);
+            System.arraycopy(c, 0, cosDest, cosOffset + b, n);
+        }
+    }
+//#ifdef __HAS_NIO__
+    /**
+     * Compute both the sine and the cosine of each of the <code>count</code> angles in <code>src</code>, starting at the absolute
+     * index <code>srcIndex</code>, and store them in <code>sinDest</code> and <code>cosDest</code>.
+     * <p>
+     * The absolute error is at most <code>2E-7</code> for angles with <code>|x| &lt;= 39000</code>. Larger and non-finite
+     * angles are computed by {@link java.lang.Math}. The positions of all buffers are not changed.
+     * 
+     * @param src
+     *          the angles in radians
+     * @param srcIndex
+     *          the absolute index of the first angle in <code>src</code>
+     * @param sinDest
+     *          will hold the sines
+     * @param sinIndex
+     *          the absolute index in <code>sinDest</code> at which to store the first sine
+     * @param cosDest
+     *          will hold the cosines
+     * @param cosIndex
+     *          the absolute index in <code>cosDest</code> at which to store the first cosine
+     * @param count
+     *          the number of angles
+     */
+    public static void sinCos(FloatBuffer src, int srcIndex, FloatBuffer sinDest, int sinIndex, FloatBuffer cosDest, int cosIndex, int count) {
+        for (int i = 0; i < count; i++) {
+            float x = src.get(srcIndex + i);
+            sinDest.put(sinIndex + i, sinFix(x, sinBulk(x)));
+            cosDest.put(cosIndex + i, cosFix(x, cosBulk(x)));
+        }
+    }
+//#endif
+
+    /**
+     * Compute the angle of each of the <code>count</code> points <code>(x, y)</code> given by <code>y</code>, starting at <code>yOffset</code>,
+     * and <code>x</code>, starting at <code>xOffset</code>, like {@link java.lang.Math#atan2(double, double)}, and store the results in
+     * <code>dest</code>, starting at <code>destOffset</code>.
+     * <p>
+     * The absolute error is at most <code>4E-7</code> for finite coordinates, and infinite coordinates give the results of {@link java.lang.Math#atan2(double, double)}.
+     * <code>dest</code> may be the same array as <code>y</code> or <code>x</code> with the same offset.
+     * 
+     * @param y
+     *          the y coordinates
+     * @param yOffset
+     *          the index of the first y coordinate
+     * @param x
+     *          the x coordinates
+     * @param xOffset
+     *          the index of the first x coordinate
+     * @param dest
+     *          will hold the angles in radians in <code>[-pi..+pi]</code>
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first angle
+     * @param count
+     *          the number of points
+     * @return dest
+     */
+    public static float[] atan2(float[] y, int yOffset, float[] x, int xOffset, float[] dest, int destOffset, int count) {
+        int size = java.lang.Math.min(count, BULK_BLOCK);
+        float[] ty = new float[size], tx = new float[size], r = new float[size];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(y, yOffset + b, ty, 0, n);
+            System.arraycopy(x, xOffset + b, tx, 0, n);
+            for (int i = 0; i < n; i++)
+                r[i] = atanRatio(ty[i], tx[i]);
+            for (int i = 0; i < n; i++)
+                r[i] = atanPoly(r[i]);
+            for (int i = 0; i < n; i++)
+                r[i] = atanReflect(r[i], ty[i], tx[i]);
+            for (int i = 0; i < n; i++)
+                r[i] = atan2Fix(ty[i], tx[i], r[i]);
+            System.arraycopy(r, 0, dest, destOffset + b, n);
+        }
+        return dest;
+    }
+
+    /**
+     * Compute the angle of each of the <code>count</code> points <code>(x, y)</code> given by <code>y</code>, starting at <code>yOffset</code>,
+     * and <code>x</code>, starting at <code>xOffset</code>, like {@link java.lang.Math#atan2(double, double)}, and store the results in
+     * <code>dest</code>, starting at <code>destOffset</code>.
+     * <p>
+     * The absolute error is at most <code>1E-15</code> for finite coordinates, and infinite coordinates give the results of {@link java.lang.Math#atan2(double, double)}.
+     * <code>dest</code> may be the same array as <code>y</code> or <code>x</code> with the same offset.
+     * 
+     * @param y
+     *          the y coordinates
+     * @param yOffset
+     *          the index of the first y coordinate
+     * @param x
+     *          the x coordinates
+     * @param xOffset
+     *          the index of the first x coordinate
+     * @param dest
+     *          will hold the angles in radians in <code>[-pi..+pi]</code>
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first angle
+     * @param count
+     *          the number of points
+     * @return dest
+     */
+    public static double[] atan2(double[] y, int yOffset, double[] x, int xOffset, double[] dest, int destOffset, int count) {
+        int size = java.lang.Math.min(count, BULK_BLOCK);
+        double[] ty = new double[size], tx = new double[size], r = new double[size];
+        for (int b = 0; b < count; b += BULK_BLOCK) {
+            int n = java.lang.Math.min(BULK_BLOCK, count - b);
+            System.arraycopy(y, yOffset + b, ty, 0, n);
+            System.arraycopy(x, xOffset + b, tx, 0, n);
+            for (int i = 0; i < n; i++)
+                r[i] = atanRatio(ty[i], tx[i]);
+            for (int i = 0; i < n; i++)
+                r[i] = atanPoly(r[i]);
+            for (int i = 0; i < n; i++)
+                r[i] = atanReflect(r[i], ty[i], tx[i]);
+            for (int i = 0; i < n; i++)
+                r[i] = atan2Fix(ty[i], tx[i], r[i]);
+            System.arraycopy(r, 0, dest, destOffset + b, n);
+        }
+        return dest;
+    }
+//#ifdef __HAS_NIO__
+    /**
+     * Compute the angle of each of the <code>count</code> points <code>(x, y)</code> given by <code>y</code>, starting at the absolute
+     * index <code>yIndex</code>, and <code>x</code>, starting at the absolute index <code>xIndex</code>, like
+     * {@link java.lang.Math#atan2(double, double)}, and store the results in <code>dest</code>, starting at the absolute index <code>destIndex</code>.
+     * <p>
+     * The absolute error is at most <code>4E-7</code> for finite coordinates, and infinite coordinates give the results of {@link java.lang.Math#atan2(double, double)}.
+     * The positions of all buffers are not changed.
+     * 
+     * @param y
+     *          the y coordinates
+     * @param yIndex
+     *          the absolute index of the first y coordinate
+     * @param x
+     *          the x coordinates
+     * @param xIndex
+     *          the absolute index of the first x coordinate
+     * @param dest
+     *          will hold the angles in radians in <code>[-pi..+pi]</code>
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first angle
+     * @param count
+     *          the number of points
+     * @return dest
+     */
+    public static FloatBuffer atan2(FloatBuffer y, int yIndex, FloatBuffer x, int xIndex, FloatBuffer dest, int destIndex, int count) {
+        for (int i = 0; i < count; i++) {
+            float yi = y.get(yIndex + i), xi = x.get(xIndex + i);
+            dest.put(destIndex + i, atan2Fix(yi, xi, atan2Bulk(yi, xi)));
+        }
+        return dest;
+    }
+//#endif
+
     public static float asin(float r) {
         return (float) java.lang.Math.asin(r);
     }
@@ -636,4 +1263,268 @@ public class Math {
 //#endif
         return r;
     }
+
+    /**
+     * Fast approximations of some {@link java.lang.Math} operations, with documented error bounds, for use in individual hot loops.
+     * <p>
+     * Unlike the approximations enabled JVM-wide via <code>-Djoml.fastmath</code>, the methods of this class are always approximate
+     * and never affect any other code, so that exact and fast computations can be mixed at the granularity of single call sites.
+     * The rotation builders such as {@link Matrix4f#rotationX(float, float)} or {@link Quaternionf#rotationX(float, float)} accept
+     * a sine and cosine computed by these methods.
+     * <p>
+     * The stated error bounds are in units in the last place (ulp) of the correctly rounded result and were determined by testing
+     * several million arguments in the given ranges. The methods do not check their arguments and their results for arguments
+     * outside of the stated ranges are unspecified, unless specified otherwise.
+     */
+    public static final class Fast {
+
+        private Fast() {
+        }
+
+        /**
+         * Approximate the sine of the given angle.
+         * <p>
+         * The error is at most 3 ulp for <code>|rad| &lt;= 39000</code>. Larger and non-finite angles are computed by {@link java.lang.Math}.
+         * 
+         * @param rad
+         *          the angle in radians
+         * @return the sine
+         */
+        public static float sin(float rad) {
+            return sinFix(rad, sinBulk(rad));
+        }
+
+        /**
+         * Approximate the sine of the given angle.
+         * <p>
+         * The error is at most 3 ulp for <code>|rad| &lt;= 1E8</code>. Larger and non-finite angles are computed by {@link java.lang.Math}.
+         * 
+         * @param rad
+         *          the angle in radians
+         * @return the sine
+         */
+        public static double sin(double rad) {
+            return sinFix(rad, sinBulk(rad));
+        }
+
+        /**
+         * Approximate the cosine of the given angle.
+         * <p>
+         * The error is at most 3 ulp for <code>|rad| &lt;= 39000</code>. Larger and non-finite angles are computed by {@link java.lang.Math}.
+         * 
+         * @param rad
+         *          the angle in radians
+         * @return the cosine
+         */
+        public static float cos(float rad) {
+            return cosFix(rad, cosBulk(rad));
+        }
+
+        /**
+         * Approximate the cosine of the given angle.
+         * <p>
+         * The error is at most 3 ulp for <code>|rad| &lt;= 1E8</code>. Larger and non-finite angles are computed by {@link java.lang.Math}.
+         * 
+         * @param rad
+         *          the angle in radians
+         * @return the cosine
+         */
+        public static double cos(double rad) {
+            return cosFix(rad, cosBulk(rad));
+        }
+
+        /**
+         * Approximate <code>1 / sqrt(r)</code> by refining the initial estimate obtained from the bit pattern of <code>r</code>
+         * with two Newton-Raphson iterations.
+         * <p>
+         * The error is at most 75 ulp for all positive normal <code>r</code>.
+         * 
+         * @param r
+         *          the positive argument
+         * @return the approximated reciprocal square root
+         */
+        public static float invsqrt(float r) {
+            float h = 0.5f * r;
+            float y = Float.intBitsToFloat(0x5F375A86 - (Float.floatToRawIntBits(r) >> 1));
+            y = y * (1.5f - h * y * y);
+            return y * (1.5f - h * y * y);
+        }
+
+        /**
+         * Approximate <code>1 / sqrt(r)</code> by refining the initial estimate obtained from the bit pattern of <code>r</code>
+         * with four Newton-Raphson iterations.
+         * <p>
+         * The error is at most 4 ulp for all positive normal <code>r</code>.
+         * 
+         * @param r
+         *          the positive argument
+         * @return the approximated reciprocal square root
+         */
+        public static double invsqrt(double r) {
+            double h = 0.5 * r;
+            double y = Double.longBitsToDouble(0x5FE6EB50C7B537A9L - (Double.doubleToRawLongBits(r) >> 1));
+            y = y * (1.5 - h * y * y);
+            y = y * (1.5 - h * y * y);
+            y = y * (1.5 - h * y * y);
+            return y * (1.5 - h * y * y);
+        }
+
+        /**
+         * Approximate the arc cosine of the given value.
+         * <p>
+         * The error is at most 2 ulp for <code>r</code> in <code>[-1..+1]</code>.
+         * 
+         * @param r
+         *          the value in <code>[-1..+1]</code>
+         * @return the angle in radians in <code>[0..pi]</code>
+         */
+        public static float acos(float r) {
+            float a = java.lang.Math.abs(r);
+            if (a < 0.5f) {
+                float s = r * r;
+                return PI_OVER_2_f - (asinPoly(s) * s * r + r);
+            }
+            float t = (1.0f - a) * 0.5f, x = (float) java.lang.Math.sqrt(t);
+            float acos = 2.0f * (asinPoly(t) * t * x + x);
+            return r < 0.0f ? PI_f - acos : acos;
+        }
+
+        /**
+         * Approximate the arc cosine of the given value.
+         * <p>
+         * The error is at most 2 ulp for <code>r</code> in <code>[-1..+1]</code>.
+         * 
+         * @param r
+         *          the value in <code>[-1..+1]</code>
+         * @return the angle in radians in <code>[0..pi]</code>
+         */
+        public static double acos(double r) {
+            double a = java.lang.Math.abs(r);
+            if (a < 0.5) {
+                double s = r * r;
+                return PI_OVER_2 - (asinPoly(s) * s * r + r);
+            }
+            double t = (1.0 - a) * 0.5, x = java.lang.Math.sqrt(t);
+            double acos = 2.0 * (asinPoly(t) * t * x + x);
+            return r < 0.0 ? PI - acos : acos;
+        }
+
+        /**
+         * (asin(x) - x) / x^3 for <code>x</code> in <code>[0..0.5]</code>, given <code>s = x * x</code>.
+         */
+        private static float asinPoly(float s) {
+            float u = 4.197454825E-2f;
+            u = u * s + 2.424046025E-2f;
+            u = u * s + 4.547423869E-2f;
+            u = u * s + 7.495029271E-2f;
+            return u * s + 1.666677296E-1f;
+        }
+        private static double asinPoly(double s) {
+            double u = 0.3161587650653934628E-1;
+            u = u * s - 0.1581918243329996643E-1;
+            u = u * s + 0.1929045477267910674E-1;
+            u = u * s + 0.6606077476277170610E-2;
+            u = u * s + 0.1215360525577377331E-1;
+            u = u * s + 0.1388715184501609218E-1;
+            u = u * s + 0.1735956991223614604E-1;
+            u = u * s + 0.2237176181932048341E-1;
+            u = u * s + 0.3038195928038132237E-1;
+            u = u * s + 0.4464285681377102438E-1;
+            u = u * s + 0.7500000000378581611E-1;
+            return u * s + 0.1666666666666497543E+0;
+        }
+
+        /**
+         * Approximate the angle of the point <code>(x, y)</code> like {@link java.lang.Math#atan2(double, double)}.
+         * <p>
+         * The error is at most 3 ulp for finite coordinates, and infinite coordinates give the result of {@link java.lang.Math#atan2(double, double)}.
+         * 
+         * @param y
+         *          the y coordinate
+         * @param x
+         *          the x coordinate
+         * @return the angle in radians in <code>[-pi..+pi]</code>
+         */
+        public static float atan2(float y, float x) {
+            return atan2Fix(y, x, atan2Bulk(y, x));
+        }
+
+        /**
+         * Approximate the angle of the point <code>(x, y)</code> like {@link java.lang.Math#atan2(double, double)}.
+         * <p>
+         * The error is at most 3 ulp for finite coordinates, and infinite coordinates give the result of {@link java.lang.Math#atan2(double, double)}.
+         * 
+         * @param y
+         *          the y coordinate
+         * @param x
+         *          the x coordinate
+         * @return the angle in radians in <code>[-pi..+pi]</code>
+         */
+        public static double atan2(double y, double x) {
+            return atan2Fix(y, x, atan2Bulk(y, x));
+        }
+
+        /**
+         * Approximate Euler's number <i>e</i> raised to the power of <code>a</code>.
+         * <p>
+         * The error is at most 1 ulp for results in the normal range. Arguments greater than <code>88.72</code> yield
+         * positive infinity and arguments less than <code>-104</code> yield zero.
+         * 
+         * @param a
+         *          the exponent
+         * @return the approximated value of <code>e^a</code>
+         */
+        public static float exp(float a) {
+            if (a > 88.72283f)
+                return Float.POSITIVE_INFINITY;
+            if (a < -104.0f)
+                return 0.0f;
+            float k = a * 1.442695040888963407359924681001892137f + ROUND_MAGIC_f - ROUND_MAGIC_f;
+            float s = a - k * 0.693145751953125f - k * 1.428606765330187045E-6f;
+            float u = 1.98527617612853646278381E-4f;
+            u = u * s + 1.39304355252534151077271E-3f;
+            u = u * s + 8.33336077630519866943359E-3f;
+            u = u * s + 4.16664853692054748535156E-2f;
+            u = u * s + 1.66666671633720397949219E-1f;
+            u = u * s + 0.5f;
+            u = s * s * u + s + 1.0f;
+            // scale by 2^k in two steps, so that neither factor overflows or underflows
+            int q = (int) k, h = q >> 1;
+            return u * Float.intBitsToFloat(h + 127 << 23) * Float.intBitsToFloat(q - h + 127 << 23);
+        }
+
+        /**
+         * Approximate Euler's number <i>e</i> raised to the power of <code>a</code>.
+         * <p>
+         * The error is at most 2 ulp for results in the normal range. Arguments greater than <code>709.78</code> yield
+         * positive infinity and arguments less than <code>-1000</code> yield zero.
+         * 
+         * @param a
+         *          the exponent
+         * @return the approximated value of <code>e^a</code>
+         */
+        public static double exp(double a) {
+            if (a > 709.782712893383973096)
+                return Double.POSITIVE_INFINITY;
+            if (a < -1000.0)
+                return 0.0;
+            double k = a * 1.442695040888963407359924681001892137 + ROUND_MAGIC - ROUND_MAGIC;
+            double s = a - k * 0.69314718055966295651160180568695068359375 - k * 0.28235290563031577122588448175013436025525412068E-12;
+            double u = 2.08860621107283687536341E-9;
+            u = u * s + 2.51112930892876518610661E-8;
+            u = u * s + 2.75573911234900471893338E-7;
+            u = u * s + 2.75572362911928827629423E-6;
+            u = u * s + 2.4801587159235472998791E-5;
+            u = u * s + 1.98412698960509205564975E-4;
+            u = u * s + 1.38888888889774492207962E-3;
+            u = u * s + 8.33333333331652721664984E-3;
+            u = u * s + 4.16666666666665047591422E-2;
+            u = u * s + 1.66666666666666851703837E-1;
+            u = u * s + 0.5;
+            u = s * s * u + s + 1.0;
+            // scale by 2^k in two steps, so that neither factor overflows or underflows
+            long q = (long) k, h = q >> 1;
+            return u * Double.longBitsToDouble(h + 1023L << 52) * Double.longBitsToDouble(q - h + 1023L << 52);
+        }
+    }
 }
@@ -1340,7 +1340,7 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
 //#ifdef __HAS_JVMCI__
         else if (JvmciCode.canUseJvmci && right instanceof Matrix4d) {
             Matrix4d mright = (Matrix4d) right;
-            JvmciCode.__Matrix4d_mul(this, mright, dest);
+            JvmciCode.mul(this, mright, dest);
             dest.properties = properties & mright.properties & (PROPERTY_AFFINE | PROPERTY_ORTHONORMAL);
             return dest;
         }
@@ -1353,6 +1353,13 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
             return mulPerspectiveAffine(right, dest);
         else if ((right.properties() & PROPERTY_AFFINE) != 0)
             return mulAffineR(right, dest);
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseDoubleVectors && right instanceof Matrix4d) {
+            VectorApiCode.mul(this, (Matrix4d) right, dest);
+            dest.properties = 0;
+            return dest;
+        }
+//#endif
         return mul0(right, dest);
     }
 
@@ -2189,6 +2196,14 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
     }
 
     public Matrix4d mulAffine(Matrix4dc right, Matrix4d dest) {
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseDoubleVectors && right instanceof Matrix4d) {
+            int properties = PROPERTY_AFFINE | (this.properties & right.properties() & PROPERTY_ORTHONORMAL);
+            VectorApiCode.mulAffine(this, (Matrix4d) right, dest);
+            dest.properties = properties;
+            return dest;
+        }
+//#endif
         double m00 = this.m00, m01 = this.m01, m02 = this.m02;
         double m10 = this.m10, m11 = this.m11, m12 = this.m12;
         double m20 = this.m20, m21 = this.m21, m22 = this.m22;
@@ -2997,10 +3012,24 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
             return invertTranslation(dest);
         else if ((properties & PROPERTY_ORTHONORMAL) != 0)
             return invertOrthonormal(dest);
+//#ifdef __HAS_JVMCI__
+        else if (JvmciCode.canUseJvmci) {
+            JvmciCode.__Matrix4d_invert(this, dest);
+            dest.properties = properties & PROPERTY_AFFINE;
+            return dest;
+        }
+//#endif
         else if ((properties & PROPERTY_AFFINE) != 0)
             return invertAffine(dest);
         else if ((properties & PROPERTY_PERSPECTIVE) != 0)
             return invertPerspective(dest);
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseDoubleVectors) {
+            VectorApiCode.invert(this, dest);
+            dest.properties = 0;
+            return dest;
+        }
+//#endif
         return invertGeneric(dest);
     }
     private Matrix4d invertTranslation(Matrix4d dest) {
@@ -3334,6 +3363,20 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
     public Matrix4d transpose(Matrix4d dest) {
         if ((properties & PROPERTY_IDENTITY) != 0)
             return dest.identity();
+//#ifdef __HAS_JVMCI__
+        else if (JvmciCode.canUseJvmci) {
+            JvmciCode.__Matrix4d_transpose(this, dest);
+            dest.properties = PROPERTY_UNKNOWN;
+            return dest;
+        }
+//#endif
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseDoubleVectors) {
+            VectorApiCode.transpose(this, dest);
+            dest.properties = PROPERTY_UNKNOWN;
+            return dest;
+        }
+//#endif
         else if (this != dest)
             return transposeNonThisGeneric(dest);
         return transposeThisGeneric(dest);
@@ -4359,10 +4402,18 @@ public class Matrix4d implements Externalizable, Cloneable, Matrix4dc {
     }
 
     public Vector4d transform(Vector4d v) {
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseDoubleVectors && (properties & PROPERTY_AFFINE) == 0)
+            return VectorApiCode.transform(this, v.x, v.y, v.z, v.w, v);
+//#endif
         return v.mul(this);
     }
 
     public Vector4d transform(Vector4dc v, Vector4d dest) {
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseDoubleVectors && (properties & PROPERTY_AFFINE) == 0)
+            return VectorApiCode.transform(this, v.x(), v.y(), v.z(), v.w(), dest);
+//#endif
         return v.mul(this, dest);
     }
 
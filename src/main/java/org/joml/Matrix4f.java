@@ -1245,26 +1245,44 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
     }
 
     public Matrix4f mul(Matrix4fc right, Matrix4f dest) {
-        if ((properties & PROPERTY_IDENTITY) != 0)
+        if ((properties & PROPERTY_IDENTITY) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_IDENTITY);
             return dest.set(right);
-        else if ((right.properties() & PROPERTY_IDENTITY) != 0)
+        } else if ((right.properties() & PROPERTY_IDENTITY) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_IDENTITY);
             return dest.set(this);
+        }
 //#ifdef __HAS_JVMCI__
         else if (JvmciCode.canUseJvmci && right instanceof Matrix4f) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_JVMCI);
             Matrix4f mright = (Matrix4f) right;
-            JvmciCode.__Matrix4f_mul(this, mright, dest);
+            JvmciCode.mul(this, mright, dest);
             dest.properties = properties & mright.properties & (PROPERTY_AFFINE | PROPERTY_ORTHONORMAL);
             return dest;
         }
 //#endif
-        else if ((properties & PROPERTY_TRANSLATION) != 0 && (right.properties() & PROPERTY_AFFINE) != 0)
+        else if ((properties & PROPERTY_TRANSLATION) != 0 && (right.properties() & PROPERTY_AFFINE) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_TRANSLATION);
             return mulTranslationAffine(right, dest);
-        else if ((properties & PROPERTY_AFFINE) != 0 && (right.properties() & PROPERTY_AFFINE) != 0)
+        } else if ((properties & PROPERTY_AFFINE) != 0 && (right.properties() & PROPERTY_AFFINE) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_AFFINE);
             return mulAffine(right, dest);
-        else if ((properties & PROPERTY_PERSPECTIVE) != 0 && (right.properties() & PROPERTY_AFFINE) != 0)
+        } else if ((properties & PROPERTY_PERSPECTIVE) != 0 && (right.properties() & PROPERTY_AFFINE) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_PERSPECTIVE);
             return mulPerspectiveAffine(right, dest);
-        else if ((right.properties() & PROPERTY_AFFINE) != 0)
+        } else if ((right.properties() & PROPERTY_AFFINE) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_AFFINE_RIGHT);
             return mulAffineR(right, dest);
+        }
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseFloatVectors && right instanceof Matrix4f) {
+            PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_VECTOR_API);
+            VectorApiCode.mul(this, (Matrix4f) right, dest);
+            dest.properties = 0;
+            return dest;
+        }
+//#endif
+        PropertyCounters.count(PropertyCounters.OP_MUL, PropertyCounters.PATH_GENERIC);
         return mul0(right, dest);
     }
 
@@ -1963,6 +1981,22 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
     }
 
     public Matrix4f mulAffine(Matrix4fc right, Matrix4f dest) {
+//#ifdef __HAS_JVMCI__
+        if (JvmciCode.canUseJvmci && right instanceof Matrix4f) {
+            int properties = PROPERTY_AFFINE | (this.properties & right.properties() & PROPERTY_ORTHONORMAL);
+            JvmciCode.mulAffine(this, (Matrix4f) right, dest);
+            dest.properties = properties;
+            return dest;
+        }
+//#endif
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseFloatVectors && right instanceof Matrix4f) {
+            int properties = PROPERTY_AFFINE | (this.properties & right.properties() & PROPERTY_ORTHONORMAL);
+            VectorApiCode.mulAffine(this, (Matrix4f) right, dest);
+            dest.properties = properties;
+            return dest;
+        }
+//#endif
         float m00 = this.m00(), m01 = this.m01(), m02 = this.m02();
         float m10 = this.m10(), m11 = this.m11(), m12 = this.m12();
         float m20 = this.m20(), m21 = this.m21(), m22 = this.m22();
@@ -2648,23 +2682,40 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
     }
 
     public Matrix4f invert(Matrix4f dest) {
-        if ((properties & PROPERTY_IDENTITY) != 0)
+        if ((properties & PROPERTY_IDENTITY) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_IDENTITY);
             return dest.identity();
-        else if ((properties & PROPERTY_TRANSLATION) != 0)
+        } else if ((properties & PROPERTY_TRANSLATION) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_TRANSLATION);
             return invertTranslation(dest);
-        else if ((properties & PROPERTY_ORTHONORMAL) != 0)
+        } else if ((properties & PROPERTY_ORTHONORMAL) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_ORTHONORMAL);
             return invertOrthonormal(dest);
+        }
 //#ifdef __HAS_JVMCI__
         else if (JvmciCode.canUseJvmci) {
+            PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_JVMCI);
             JvmciCode.__Matrix4f_invert(this, dest);
             dest.properties = properties & PROPERTY_AFFINE;
             return dest;
         }
 //#endif
-        else if ((properties & PROPERTY_AFFINE) != 0)
+        else if ((properties & PROPERTY_AFFINE) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_AFFINE);
             return invertAffine(dest);
-        else if ((properties & PROPERTY_PERSPECTIVE) != 0)
+        } else if ((properties & PROPERTY_PERSPECTIVE) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_PERSPECTIVE);
             return invertPerspective(dest);
+        }
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseFloatVectors) {
+            PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_VECTOR_API);
+            VectorApiCode.invert(this, dest);
+            dest.properties = 0;
+            return dest;
+        }
+//#endif
+        PropertyCounters.count(PropertyCounters.OP_INVERT, PropertyCounters.PATH_GENERIC);
         return invertGeneric(dest);
     }
     private Matrix4f invertTranslation(Matrix4f dest) {
@@ -3069,6 +3120,13 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
             dest.properties = PROPERTY_UNKNOWN;
             return dest;
         }
+//#endif
+//#ifdef __HAS_VECTOR_API__
+        else if (VectorApiCode.canUseFloatVectors) {
+            VectorApiCode.transpose(this, dest);
+            dest.properties = PROPERTY_UNKNOWN;
+            return dest;
+        }
 //#endif
         else if (this != dest)
             return transposeNonThisGeneric(dest);
@@ -3673,6 +3731,34 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
     }
     private Matrix4f rotationInternal(float angle, float x, float y, float z) {
         float sin = Math.sin(angle), cos = Math.cosFromSin(sin, angle);
+        return rotation(sin, cos, x, y, z);
+    }
+
+    /**
+     * Set this matrix to a rotation matrix which rotates about a given axis, using the given sine and cosine of the rotation angle.
+     * <p>
+     * The axis described by the three components needs to be a unit vector.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotation(float, float, float, float)},
+     * for example via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}.
+     * <p>
+     * Reference: <a href="http://en.wikipedia.org/wiki/Rotation_matrix#Rotation_matrix_from_axis_and_angle">http://en.wikipedia.org</a>
+     * 
+     * @see #rotation(float, float, float, float)
+     * 
+     * @param sin
+     *          the sine of the angle
+     * @param cos
+     *          the cosine of the angle
+     * @param x
+     *          the x-component of the rotation axis
+     * @param y
+     *          the y-component of the rotation axis
+     * @param z
+     *          the z-component of the rotation axis
+     * @return this
+     */
+    public Matrix4f rotation(float sin, float cos, float x, float y, float z) {
         float C = 1.0f - cos, xy = x * y, xz = x * z, yz = y * z;
         if ((properties & PROPERTY_IDENTITY) == 0)
             MemUtil.INSTANCE.identity(this);
@@ -3704,6 +3790,27 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
      */
     public Matrix4f rotationX(float ang) {
         float sin = Math.sin(ang), cos = Math.cosFromSin(sin, ang);
+        return rotationX(sin, cos);
+    }
+
+    /**
+     * Set this matrix to a rotation transformation about the X axis, using the given sine and cosine of the rotation angle.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotationX(float)}, for example
+     * via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}, or for many angles at once via
+     * {@link Math#sinCos(float[], int, float[], int, float[], int, int)}.
+     * <p>
+     * Reference: <a href="http://en.wikipedia.org/wiki/Rotation_matrix#Basic_rotations">http://en.wikipedia.org</a>
+     * 
+     * @see #rotationX(float)
+     * 
+     * @param sin
+     *            the sine of the angle
+     * @param cos
+     *            the cosine of the angle
+     * @return this
+     */
+    public Matrix4f rotationX(float sin, float cos) {
         if ((properties & PROPERTY_IDENTITY) == 0)
             MemUtil.INSTANCE.identity(this);
         this._m11(cos)._m12(sin)._m21(-sin)._m22(cos)._properties(PROPERTY_AFFINE | PROPERTY_ORTHONORMAL);
@@ -3725,6 +3832,27 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
      */
     public Matrix4f rotationY(float ang) {
         float sin = Math.sin(ang), cos = Math.cosFromSin(sin, ang);
+        return rotationY(sin, cos);
+    }
+
+    /**
+     * Set this matrix to a rotation transformation about the Y axis, using the given sine and cosine of the rotation angle.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotationY(float)}, for example
+     * via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}, or for many angles at once via
+     * {@link Math#sinCos(float[], int, float[], int, float[], int, int)}.
+     * <p>
+     * Reference: <a href="http://en.wikipedia.org/wiki/Rotation_matrix#Basic_rotations">http://en.wikipedia.org</a>
+     * 
+     * @see #rotationY(float)
+     * 
+     * @param sin
+     *            the sine of the angle
+     * @param cos
+     *            the cosine of the angle
+     * @return this
+     */
+    public Matrix4f rotationY(float sin, float cos) {
         if ((properties & PROPERTY_IDENTITY) == 0)
             MemUtil.INSTANCE.identity(this);
         this._m00(cos)._m02(-sin)._m20(sin)._m22(cos)._properties(PROPERTY_AFFINE | PROPERTY_ORTHONORMAL);
@@ -3746,6 +3874,27 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
      */
     public Matrix4f rotationZ(float ang) {
         float sin = Math.sin(ang), cos = Math.cosFromSin(sin, ang);
+        return rotationZ(sin, cos);
+    }
+
+    /**
+     * Set this matrix to a rotation transformation about the Z axis, using the given sine and cosine of the rotation angle.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotationZ(float)}, for example
+     * via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}, or for many angles at once via
+     * {@link Math#sinCos(float[], int, float[], int, float[], int, int)}.
+     * <p>
+     * Reference: <a href="http://en.wikipedia.org/wiki/Rotation_matrix#Basic_rotations">http://en.wikipedia.org</a>
+     * 
+     * @see #rotationZ(float)
+     * 
+     * @param sin
+     *            the sine of the angle
+     * @param cos
+     *            the cosine of the angle
+     * @return this
+     */
+    public Matrix4f rotationZ(float sin, float cos) {
         if ((properties & PROPERTY_IDENTITY) == 0)
             MemUtil.INSTANCE.identity(this);
         return this._m00(cos)._m01(sin)._m10(-sin)._m11(cos)._properties(PROPERTY_AFFINE | PROPERTY_ORTHONORMAL);
@@ -4712,10 +4861,22 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
     }
 
     public Vector4f transform(Vector4f v) {
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseFloatVectors && (properties & PROPERTY_AFFINE) == 0) {
+            PropertyCounters.count(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_VECTOR_API);
+            return VectorApiCode.transform(this, v.x, v.y, v.z, v.w, v);
+        }
+//#endif
         return v.mul(this);
     }
 
     public Vector4f transform(Vector4fc v, Vector4f dest) {
+//#ifdef __HAS_VECTOR_API__
+        if (VectorApiCode.canUseFloatVectors && (properties & PROPERTY_AFFINE) == 0) {
+            PropertyCounters.count(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_VECTOR_API);
+            return VectorApiCode.transform(this, v.x(), v.y(), v.z(), v.w(), dest);
+        }
+//#endif
         return v.mul(this, dest);
     }
 
@@ -4789,6 +4950,76 @@ public class Matrix4f implements Externalizable, Cloneable, Matrix4fc {
         return dest.set(x, y, z).mulDirection(this);
     }
 
+    public float[] transformPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        MemUtil.transformAffine(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        return dest;
+    }
+
+    public float[] transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        MemUtil.transformAffine(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0f, 0.0f, 0.0f);
+        return dest;
+    }
+
+    public float[] transformProjects(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        if ((properties & PROPERTY_AFFINE) != 0)
+            return transformPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+        MemUtil.transformProject(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer transformPositions(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count) {
+        MemUtil.INSTANCE.transformAffine(src, srcIndex, srcStride, dest, destIndex, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        return dest;
+    }
+
+    public FloatBuffer transformDirections(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count) {
+        MemUtil.INSTANCE.transformAffine(src, srcIndex, srcStride, dest, destIndex, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0f, 0.0f, 0.0f);
+        return dest;
+    }
+
+    public FloatBuffer transformProjects(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count) {
+        if ((properties & PROPERTY_AFFINE) != 0)
+            return transformPositions(src, srcIndex, srcStride, dest, destIndex, destStride, count);
+        MemUtil.INSTANCE.transformProject(src, srcIndex, srcStride, dest, destIndex, destStride, count,
+                m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        return dest;
+    }
+//#endif
+
+//#ifdef __HAS_UNSAFE__
+    public Matrix4fc transformPositions(long srcAddress, int srcStride, long destAddress, int destStride, int count) {
+        if (Options.NO_UNSAFE)
+            throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
+        MemUtil.MemUtilUnsafe.transformAffine(srcAddress, srcStride, destAddress, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        return this;
+    }
+
+    public Matrix4fc transformDirections(long srcAddress, int srcStride, long destAddress, int destStride, int count) {
+        if (Options.NO_UNSAFE)
+            throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
+        MemUtil.MemUtilUnsafe.transformAffine(srcAddress, srcStride, destAddress, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0f, 0.0f, 0.0f);
+        return this;
+    }
+
+    public Matrix4fc transformProjects(long srcAddress, int srcStride, long destAddress, int destStride, int count) {
+        if ((properties & PROPERTY_AFFINE) != 0)
+            return transformPositions(srcAddress, srcStride, destAddress, destStride, count);
+        if (Options.NO_UNSAFE)
+            throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
+        MemUtil.MemUtilUnsafe.transformProject(srcAddress, srcStride, destAddress, destStride, count,
+                m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        return this;
+    }
+//#endif
+
     public Vector4f transformAffine(Vector4f v) {
         return v.mulAffine(this, v);
     }
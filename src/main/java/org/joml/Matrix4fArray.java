@@ -0,0 +1,502 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+//#endif
+
+/**
+ * Contiguous array of 4x4 matrices of single-precision floats.
+ * <p>
+ * All matrices are stored back-to-back in column-major order in a single <code>float[]</code>, with the
+ * {@link Matrix4fc#properties() properties} of each matrix kept in a separate <code>byte[]</code>. This avoids
+ * the per-object overhead of many individual {@link Matrix4f} instances and allows batch operations and uploads
+ * to run over contiguous memory.
+ * <p>
+ * Single matrices can be copied in and out via {@link #set(int, Matrix4fc)} and {@link #get(int, Matrix4f)},
+ * or accessed in place through a {@link #view(int) view}.
+ * <p>
+ * Batch operations taking another array as operand or destination require it to have the same {@link #size() size}.
+ */
+public class Matrix4fArray {
+
+    private static final byte IDENTITY_PROPERTIES = Matrix4fc.PROPERTY_IDENTITY | Matrix4fc.PROPERTY_AFFINE | Matrix4fc.PROPERTY_TRANSLATION | Matrix4fc.PROPERTY_ORTHONORMAL;
+
+    /**
+     * The values of all matrices, 16 consecutive floats per matrix in column-major order.
+     */
+    private final float[] data;
+
+    /**
+     * The properties of each matrix.
+     */
+    private final byte[] properties;
+
+    /**
+     * Create a new {@link Matrix4fArray} holding <code>size</code> identity matrices.
+     * 
+     * @param size
+     *          the number of matrices
+     */
+    public Matrix4fArray(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("size must be >= 0"); //$NON-NLS-1$
+        data = new float[size << 4];
+        properties = new byte[size];
+        identity();
+    }
+
+    /**
+     * Return the number of matrices in this array.
+     * 
+     * @return the number of matrices
+     */
+    public int size() {
+        return properties.length;
+    }
+
+    private void checkSize(Matrix4fArray other) {
+        if (other.properties.length != properties.length)
+            throw new IllegalArgumentException("arrays must have the same size"); //$NON-NLS-1$
+    }
+
+    /**
+     * Return the backing array holding the values of all matrices, 16 consecutive floats per matrix in column-major order.
+     * <p>
+     * When modifying the returned array directly, the properties of the affected matrices must be updated
+     * with {@link #assume(int, int)} or {@link #determineProperties(int)}.
+     * 
+     * @return the backing array
+     */
+    public float[] array() {
+        return data;
+    }
+
+    /**
+     * Return the properties of the matrix at the given index.
+     * 
+     * @see Matrix4fc#properties()
+     * 
+     * @param index
+     *          the index of the matrix
+     * @return the properties of the matrix
+     */
+    public int properties(int index) {
+        return properties[index];
+    }
+
+    /**
+     * Assume the given properties about the matrix at the given index.
+     * 
+     * @see Matrix4f#assume(int)
+     * 
+     * @param index
+     *          the index of the matrix
+     * @param properties
+     *          bitset of the properties to assume about the matrix
+     * @return this
+     */
+    public Matrix4fArray assume(int index, int properties) {
+        this.properties[index] = (byte) properties;
+        return this;
+    }
+
+    /**
+     * Compute and set the properties of the matrix at the given index from its current values.
+     * 
+     * @see Matrix4f#determineProperties()
+     * 
+     * @param index
+     *          the index of the matrix
+     * @return this
+     */
+    public Matrix4fArray determineProperties(int index) {
+        Matrix4f m = new Matrix4f();
+        MemUtil.INSTANCE.copy(data, index << 4, m);
+        properties[index] = (byte) m.determineProperties().properties();
+        return this;
+    }
+
+    /**
+     * Set all matrices of this array to identity.
+     * 
+     * @return this
+     */
+    public Matrix4fArray identity() {
+        for (int i = 0, off = 0; i < properties.length; i++, off += 16) {
+            for (int j = 0; j < 16; j++)
+                data[off + j] = 0.0f;
+            data[off] = data[off + 5] = data[off + 10] = data[off + 15] = 1.0f;
+            properties[i] = IDENTITY_PROPERTIES;
+        }
+        return this;
+    }
+
+    /**
+     * Set the matrix at the given index to the values and properties of <code>m</code>.
+     * 
+     * @param index
+     *          the index of the matrix to set
+     * @param m
+     *          the matrix to copy the values from
+     * @return this
+     */
+    public Matrix4fArray set(int index, Matrix4fc m) {
+        m.get(data, index << 4);
+        properties[index] = (byte) m.properties();
+        return this;
+    }
+
+    /**
+     * Store the values and properties of the matrix at the given index into <code>dest</code>.
+     * 
+     * @param index
+     *          the index of the matrix to get
+     * @param dest
+     *          will hold the values of the matrix
+     * @return dest
+     */
+    public Matrix4f get(int index, Matrix4f dest) {
+        MemUtil.INSTANCE.copy(data, index << 4, dest);
+        return dest._properties(properties[index]);
+    }
+
+    /**
+     * Return a read-only view of the matrix at the given index.
+     * <p>
+     * The returned view always reflects the current values of the matrix in this array. Its element accessors read
+     * the array directly, and its other methods operate on a private copy of those values, so the view itself is not
+     * thread-safe.
+     * 
+     * @param index
+     *          the index of the matrix
+     * @return the view
+     */
+    public Matrix4fc view(final int index) {
+        if (index < 0 || index >= properties.length)
+            throw new IndexOutOfBoundsException();
+        return new Matrix4fView() {
+            Matrix4f load() {
+                return Matrix4fArray.this.get(index, m);
+            }
+
+            float element(int i) {
+                return data[(index << 4) + i];
+            }
+        };
+    }
+
+    /**
+     * Multiply each matrix of this array by the matrix at the same index in <code>right</code> and store the results in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> array and <code>R</code> the corresponding matrix of <code>right</code>,
+     * then the new matrix will be <code>M * R</code>.
+     * <p>
+     * Both <code>right</code> and <code>dest</code> may be <code>this</code>.
+     * 
+     * @param right
+     *          the right operands
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4fArray mul(Matrix4fArray right, Matrix4fArray dest) {
+        checkSize(right);
+        checkSize(dest);
+        float[] r = right.data, d = dest.data;
+        for (int i = 0, off = 0; i < properties.length; i++, off += 16)
+            dest.properties[i] = mul(data, off, properties[i], r, off, right.properties[i], d, off);
+        return dest;
+    }
+
+    /**
+     * Multiply each matrix of this array by the given <code>right</code> matrix and store the results in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> array and <code>R</code> the <code>right</code> matrix,
+     * then the new matrix will be <code>M * R</code>.
+     * <p>
+     * <code>dest</code> may be <code>this</code>.
+     * 
+     * @param right
+     *          the right operand
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4fArray mul(Matrix4fc right, Matrix4fArray dest) {
+        checkSize(dest);
+        float[] r = right.get(new float[16], 0), d = dest.data;
+        byte rp = (byte) right.properties();
+        for (int i = 0, off = 0; i < properties.length; i++, off += 16)
+            dest.properties[i] = mul(data, off, properties[i], r, 0, rp, d, off);
+        return dest;
+    }
+
+    /**
+     * Pre-multiply each matrix of this array by the given <code>left</code> matrix and store the results in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> array and <code>L</code> the <code>left</code> matrix,
+     * then the new matrix will be <code>L * M</code>.
+     * <p>
+     * <code>dest</code> may be <code>this</code>.
+     * 
+     * @param left
+     *          the left operand
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4fArray mulLocal(Matrix4fc left, Matrix4fArray dest) {
+        checkSize(dest);
+        float[] l = left.get(new float[16], 0), d = dest.data;
+        byte lp = (byte) left.properties();
+        for (int i = 0, off = 0; i < properties.length; i++, off += 16)
+            dest.properties[i] = mul(l, 0, lp, data, off, properties[i], d, off);
+        return dest;
+    }
+
+    /**
+     * Multiply each matrix of this array by the matrix at the same index in <code>right</code>, both of which are assumed
+     * to be {@link Matrix4fc#isAffine() affine}, and store the results in <code>dest</code>.
+     * <p>
+     * This method assumes that all matrices of <code>this</code> and <code>right</code> have their last row equal to <code>(0, 0, 0, 1)</code>.
+     * <p>
+     * Both <code>right</code> and <code>dest</code> may be <code>this</code>.
+     * 
+     * @param right
+     *          the right operands
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4fArray mulAffine(Matrix4fArray right, Matrix4fArray dest) {
+        checkSize(right);
+        checkSize(dest);
+        float[] r = right.data, d = dest.data;
+        for (int i = 0, off = 0; i < properties.length; i++, off += 16) {
+            mulAffine(data, off, r, off, d, off);
+            dest.properties[i] = (byte) (Matrix4fc.PROPERTY_AFFINE | properties[i] & right.properties[i] & Matrix4fc.PROPERTY_ORTHONORMAL);
+        }
+        return dest;
+    }
+
+    /**
+     * Invert each matrix of this array by assuming that it is an {@link Matrix4fc#isAffine() affine} transformation
+     * and store the results in <code>dest</code>.
+     * <p>
+     * <code>dest</code> may be <code>this</code>.
+     * 
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4fArray invertAffine(Matrix4fArray dest) {
+        checkSize(dest);
+        float[] d = dest.data;
+        for (int i = 0, off = 0; i < properties.length; i++, off += 16) {
+            invertAffine(data, off, d, off);
+            // the inverse of an identity, translation or orthonormal matrix is of the same kind
+            dest.properties[i] = (byte) (Matrix4fc.PROPERTY_AFFINE | properties[i]
+                    & (Matrix4fc.PROPERTY_IDENTITY | Matrix4fc.PROPERTY_TRANSLATION | Matrix4fc.PROPERTY_ORTHONORMAL));
+        }
+        return dest;
+    }
+
+    /**
+     * Transpose each matrix of this array and store the results in <code>dest</code>.
+     * <p>
+     * <code>dest</code> may be <code>this</code>.
+     * 
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4fArray transpose(Matrix4fArray dest) {
+        checkSize(dest);
+        float[] d = dest.data;
+        for (int i = 0, off = 0; i < properties.length; i++, off += 16) {
+            transpose(data, off, d, off);
+            dest.properties[i] = (properties[i] & Matrix4fc.PROPERTY_IDENTITY) != 0 ? IDENTITY_PROPERTIES : 0;
+        }
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link FloatBuffer}
+     * at the current buffer {@link FloatBuffer#position() position}.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public FloatBuffer get(FloatBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, buffer.position());
+        return buffer;
+    }
+
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link FloatBuffer}
+     * starting at the specified absolute buffer position/index.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param index
+     *          the absolute position into the FloatBuffer
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public FloatBuffer get(int index, FloatBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, index);
+        return buffer;
+    }
+
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link ByteBuffer}
+     * at the current buffer {@link ByteBuffer#position() position}.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public ByteBuffer get(ByteBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, buffer.position());
+        return buffer;
+    }
+
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link ByteBuffer}
+     * starting at the specified absolute buffer position/index.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param index
+     *          the absolute position into the ByteBuffer
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public ByteBuffer get(int index, ByteBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, index);
+        return buffer;
+    }
+//#endif
+
+    private static byte mul(float[] a, int ao, byte ap, float[] b, int bo, byte bp, float[] d, int dOff) {
+        if ((ap & Matrix4fc.PROPERTY_IDENTITY) != 0) {
+            System.arraycopy(b, bo, d, dOff, 16);
+            return bp;
+        } else if ((bp & Matrix4fc.PROPERTY_IDENTITY) != 0) {
+            System.arraycopy(a, ao, d, dOff, 16);
+            return ap;
+        } else if ((ap & Matrix4fc.PROPERTY_AFFINE) != 0 && (bp & Matrix4fc.PROPERTY_AFFINE) != 0) {
+            mulAffine(a, ao, b, bo, d, dOff);
+            return (byte) (Matrix4fc.PROPERTY_AFFINE | ap & bp & Matrix4fc.PROPERTY_ORTHONORMAL);
+        }
+        mulGeneric(a, ao, b, bo, d, dOff);
+        return 0;
+    }
+
+    private static void mulGeneric(float[] a, int ao, float[] b, int bo, float[] d, int dOff) {
+        float m00 = a[ao], m01 = a[ao + 1], m02 = a[ao + 2], m03 = a[ao + 3];
+        float m10 = a[ao + 4], m11 = a[ao + 5], m12 = a[ao + 6], m13 = a[ao + 7];
+        float m20 = a[ao + 8], m21 = a[ao + 9], m22 = a[ao + 10], m23 = a[ao + 11];
+        float m30 = a[ao + 12], m31 = a[ao + 13], m32 = a[ao + 14], m33 = a[ao + 15];
+        for (int c = 0; c < 16; c += 4) {
+            float r0 = b[bo + c], r1 = b[bo + c + 1], r2 = b[bo + c + 2], r3 = b[bo + c + 3];
+            d[dOff + c]     = Math.fma(m00, r0, Math.fma(m10, r1, Math.fma(m20, r2, m30 * r3)));
+            d[dOff + c + 1] = Math.fma(m01, r0, Math.fma(m11, r1, Math.fma(m21, r2, m31 * r3)));
+            d[dOff + c + 2] = Math.fma(m02, r0, Math.fma(m12, r1, Math.fma(m22, r2, m32 * r3)));
+            d[dOff + c + 3] = Math.fma(m03, r0, Math.fma(m13, r1, Math.fma(m23, r2, m33 * r3)));
+        }
+    }
+
+    private static void mulAffine(float[] a, int ao, float[] b, int bo, float[] d, int dOff) {
+        float m00 = a[ao], m01 = a[ao + 1], m02 = a[ao + 2];
+        float m10 = a[ao + 4], m11 = a[ao + 5], m12 = a[ao + 6];
+        float m20 = a[ao + 8], m21 = a[ao + 9], m22 = a[ao + 10];
+        float m30 = a[ao + 12], m31 = a[ao + 13], m32 = a[ao + 14];
+        for (int c = 0; c < 12; c += 4) {
+            float r0 = b[bo + c], r1 = b[bo + c + 1], r2 = b[bo + c + 2];
+            d[dOff + c]     = Math.fma(m00, r0, Math.fma(m10, r1, m20 * r2));
+            d[dOff + c + 1] = Math.fma(m01, r0, Math.fma(m11, r1, m21 * r2));
+            d[dOff + c + 2] = Math.fma(m02, r0, Math.fma(m12, r1, m22 * r2));
+            d[dOff + c + 3] = 0.0f;
+        }
+        float r0 = b[bo + 12], r1 = b[bo + 13], r2 = b[bo + 14];
+        d[dOff + 12] = Math.fma(m00, r0, Math.fma(m10, r1, Math.fma(m20, r2, m30)));
+        d[dOff + 13] = Math.fma(m01, r0, Math.fma(m11, r1, Math.fma(m21, r2, m31)));
+        d[dOff + 14] = Math.fma(m02, r0, Math.fma(m12, r1, Math.fma(m22, r2, m32)));
+        d[dOff + 15] = 1.0f;
+    }
+
+    private static void invertAffine(float[] a, int ao, float[] d, int dOff) {
+        float m00 = a[ao], m01 = a[ao + 1], m02 = a[ao + 2];
+        float m10 = a[ao + 4], m11 = a[ao + 5], m12 = a[ao + 6];
+        float m20 = a[ao + 8], m21 = a[ao + 9], m22 = a[ao + 10];
+        float m30 = a[ao + 12], m31 = a[ao + 13], m32 = a[ao + 14];
+        float m11m00 = m00 * m11, m10m01 = m01 * m10, m10m02 = m02 * m10;
+        float m12m00 = m00 * m12, m12m01 = m01 * m12, m11m02 = m02 * m11;
+        float det = (m11m00 - m10m01) * m22 + (m10m02 - m12m00) * m21 + (m12m01 - m11m02) * m20;
+        float s = 1.0f / det;
+        float m10m22 = m10 * m22, m10m21 = m10 * m21, m11m22 = m11 * m22;
+        float m11m20 = m11 * m20, m12m21 = m12 * m21, m12m20 = m12 * m20;
+        float m20m02 = m20 * m02, m20m01 = m20 * m01, m21m02 = m21 * m02;
+        float m21m00 = m21 * m00, m22m01 = m22 * m01, m22m00 = m22 * m00;
+        d[dOff]      = (m11m22 - m12m21) * s;
+        d[dOff + 1]  = (m21m02 - m22m01) * s;
+        d[dOff + 2]  = (m12m01 - m11m02) * s;
+        d[dOff + 3]  = 0.0f;
+        d[dOff + 4]  = (m12m20 - m10m22) * s;
+        d[dOff + 5]  = (m22m00 - m20m02) * s;
+        d[dOff + 6]  = (m10m02 - m12m00) * s;
+        d[dOff + 7]  = 0.0f;
+        d[dOff + 8]  = (m10m21 - m11m20) * s;
+        d[dOff + 9]  = (m20m01 - m21m00) * s;
+        d[dOff + 10] = (m11m00 - m10m01) * s;
+        d[dOff + 11] = 0.0f;
+        d[dOff + 12] = (m10m22 * m31 - m10m21 * m32 + m11m20 * m32 - m11m22 * m30 + m12m21 * m30 - m12m20 * m31) * s;
+        d[dOff + 13] = (m20m02 * m31 - m20m01 * m32 + m21m00 * m32 - m21m02 * m30 + m22m01 * m30 - m22m00 * m31) * s;
+        d[dOff + 14] = (m11m02 * m30 - m12m01 * m30 + m12m00 * m31 - m10m02 * m31 + m10m01 * m32 - m11m00 * m32) * s;
+        d[dOff + 15] = 1.0f;
+    }
+
+    private static void transpose(float[] a, int ao, float[] d, int dOff) {
+        for (int c = 0; c < 4; c++) {
+            for (int r = c + 1; r < 4; r++) {
+                float t = a[ao + (c << 2) + r];
+                d[dOff + (c << 2) + r] = a[ao + (r << 2) + c];
+                d[dOff + (r << 2) + c] = t;
+            }
+            d[dOff + (c << 2) + c] = a[ao + (c << 2) + c];
+        }
+    }
+}
@@ -0,0 +1,488 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+//#endif
+
+/**
+ * A growable stack of {@link Matrix4f} instances whose levels are stored back-to-back in one contiguous block of memory.
+ * <p>
+ * Like {@link Matrix4fStack}, this class inherits from {@link Matrix4f}, so the current/top matrix is always the
+ * {@link Matrix4fBufferStack}/{@link Matrix4f} itself. Unlike {@link Matrix4fStack}, the saved matrices are not kept as
+ * individual {@link Matrix4f} objects but as 16 consecutive floats per level in column-major order, either in a
+ * <code>float[]</code> or in a direct {@link ByteBuffer}, and the storage grows when more levels are pushed than it can hold.
+ * <p>
+ * Because all levels are contiguous, the whole stack, from the bottom level up to and including the current matrix,
+ * can be exported into a buffer with a single copy via {@link #getAll(FloatBuffer)}, for example to fill a uniform array of
+ * a shader. A stack backed by a direct buffer can even hand out its storage for that purpose via {@link #buffer()} without any copy.
+ */
+public class Matrix4fBufferStack extends Matrix4f {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The saved levels, 16 floats per level, or <code>null</code> if the levels are stored in {@link #buffer}.
+     */
+    private float @Nullable [] data;
+
+//#ifdef __HAS_NIO__
+    /**
+     * The saved levels, 64 bytes per level in native byte order, or <code>null</code> if the levels are stored in {@link #data}.
+     */
+    private @Nullable ByteBuffer buffer;
+//#endif
+
+    /**
+     * The properties of each saved level.
+     */
+    private byte[] props;
+
+    /**
+     * The index of the "current" level, which is also the number of saved levels.
+     */
+    private int curr;
+
+    /**
+     * Create a new {@link Matrix4fBufferStack} storing its levels in a <code>float[]</code> with room for the given number
+     * of levels, including the current matrix.
+     * <p>
+     * Initially the stack pointer is at zero and the current matrix is set to identity.
+     * 
+     * @param initialCapacity
+     *            the number of levels to allocate memory for up front. This must be at least 1
+     */
+    public Matrix4fBufferStack(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be >= 1"); //$NON-NLS-1$
+        }
+        data = new float[initialCapacity << 4];
+        props = new byte[initialCapacity];
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Create a new {@link Matrix4fBufferStack} with room for the given number of levels, including the current matrix,
+     * storing its levels either in a direct {@link ByteBuffer} in native byte order or in a <code>float[]</code>.
+     * <p>
+     * Initially the stack pointer is at zero and the current matrix is set to identity.
+     * 
+     * @param initialCapacity
+     *            the number of levels to allocate memory for up front. This must be at least 1
+     * @param direct
+     *            whether to store the levels in a direct {@link ByteBuffer}
+     */
+    public Matrix4fBufferStack(int initialCapacity, boolean direct) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be >= 1"); //$NON-NLS-1$
+        }
+        if (direct)
+            buffer = ByteBuffer.allocateDirect(initialCapacity << 6).order(ByteOrder.nativeOrder());
+        else
+            data = new float[initialCapacity << 4];
+        props = new byte[initialCapacity];
+    }
+//#endif
+
+    /**
+     * Do not invoke manually! Only meant for serialization.
+     * <p>
+     * Invoking this constructor from client code will result in an inconsistent state of the 
+     * created {@link Matrix4fBufferStack} instance.
+     */
+    public Matrix4fBufferStack() {
+        /* Empty! */
+    }
+
+    /**
+     * Return the number of levels the storage can currently hold without growing, including the current matrix.
+     * 
+     * @return the capacity in levels
+     */
+    public int capacity() {
+        return props.length;
+    }
+
+    /**
+     * Return the number of levels on this stack, which is the number of saved levels plus one for the current matrix.
+     * 
+     * @return the number of levels
+     */
+    public int size() {
+        return curr + 1;
+    }
+
+    /**
+     * Return whether the levels are stored in a direct {@link ByteBuffer}.
+     * 
+     * @return <code>true</code> if the levels are stored in a direct buffer; <code>false</code> otherwise
+     */
+    public boolean isDirect() {
+//#ifdef __HAS_NIO__
+        return buffer != null;
+//#else
+        return false;
+//#endif
+    }
+
+    /**
+     * Set the stack pointer to zero and set the current/bottom matrix to {@link #identity() identity}.
+     * 
+     * @return this
+     */
+    public Matrix4fBufferStack clear() {
+        curr = 0;
+        identity();
+        return this;
+    }
+
+    /**
+     * Increment the stack pointer by one and set the values of the new current matrix to the one directly below it.
+     * <p>
+     * The storage grows if it is full.
+     * 
+     * @return this
+     */
+    public Matrix4fBufferStack pushMatrix() {
+        ensureCapacity(curr + 2);
+        store(curr++);
+        return this;
+    }
+
+    /**
+     * Increment the stack pointer by one and set the new current matrix to the one directly below it multiplied by
+     * the supplied <code>right</code> matrix.
+     * <p>
+     * This is equivalent to calling {@link #pushMatrix()} followed by {@link #mul(Matrix4fc)}.
+     * 
+     * @param right
+     *          the right operand of the matrix multiplication
+     * @return this
+     */
+    public Matrix4fBufferStack pushMatrix(Matrix4fc right) {
+        pushMatrix();
+        mul(right);
+        return this;
+    }
+
+    /**
+     * Decrement the stack pointer by one.
+     * <p>
+     * This will effectively dispose of the current matrix.
+     * 
+     * @return this
+     */
+    public Matrix4fBufferStack popMatrix() {
+        if (curr == 0) {
+            throw new IllegalStateException("already at the bottom of the stack"); //$NON-NLS-1$
+        }
+        load(--curr, this);
+        return this;
+    }
+
+    /**
+     * Store the values and properties of the given level into <code>dest</code>.
+     * <p>
+     * Level <code>0</code> is the bottom of the stack and level <code>{@link #size()} - 1</code> is the current matrix.
+     * 
+     * @param level
+     *          the level to get
+     * @param dest
+     *          will hold the values of the level
+     * @return dest
+     */
+    public Matrix4f level(int level, Matrix4f dest) {
+        if (level < 0 || level > curr)
+            throw new IndexOutOfBoundsException();
+        if (level == curr)
+            return dest.set(this);
+        return load(level, dest);
+    }
+
+    private void ensureCapacity(int levels) {
+        if (levels <= props.length)
+            return;
+        int newCapacity = java.lang.Math.max(levels, props.length << 1);
+        byte[] newProps = new byte[newCapacity];
+        System.arraycopy(props, 0, newProps, 0, curr);
+        props = newProps;
+//#ifdef __HAS_NIO__
+        if (buffer != null) {
+            ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity << 6).order(ByteOrder.nativeOrder());
+            ByteBuffer src = buffer;
+            src.clear();
+            src.limit(curr << 6);
+            newBuffer.put(src);
+            newBuffer.clear();
+            buffer = newBuffer;
+            return;
+        }
+//#endif
+        float[] newData = new float[newCapacity << 4];
+        System.arraycopy(data, 0, newData, 0, curr << 4);
+        data = newData;
+    }
+
+    private void store(int level) {
+//#ifdef __HAS_NIO__
+        if (buffer != null)
+            MemUtil.INSTANCE.put(this, level << 6, buffer);
+        else
+//#endif
+            MemUtil.INSTANCE.copy(this, data, level << 4);
+        props[level] = (byte) properties;
+    }
+
+    private Matrix4f load(int level, Matrix4f dest) {
+//#ifdef __HAS_NIO__
+        if (buffer != null)
+            MemUtil.INSTANCE.get(dest, level << 6, buffer);
+        else
+//#endif
+            MemUtil.INSTANCE.copy(data, level << 4, dest);
+        return dest._properties(props[level]);
+    }
+
+    /**
+     * Store all levels of this stack in column-major order, one after the other and starting with the bottom level,
+     * into the supplied <code>float[]</code> at the given offset.
+     * <p>
+     * This writes {@link #size()} * 16 floats.
+     * 
+     * @param arr
+     *          the array to write into
+     * @param offset
+     *          the offset into the array
+     * @return the passed in array
+     */
+    public float[] getAll(float[] arr, int offset) {
+//#ifdef __HAS_NIO__
+        if (buffer != null) {
+            buffer().asFloatBuffer().get(arr, offset, (curr + 1) << 4);
+            return arr;
+        }
+//#endif
+        ensureCapacity(curr + 1);
+        store(curr);
+        System.arraycopy(data, 0, arr, offset, (curr + 1) << 4);
+        return arr;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Return the direct buffer holding all levels of this stack, including the current matrix, one after the other
+     * in column-major order and starting with the bottom level.
+     * <p>
+     * The current matrix is written into the buffer first. The returned buffer has its position set to zero and its
+     * limit set to {@link #size()} * 64 bytes, and is only valid until the next call to {@link #pushMatrix()}, which may
+     * replace it with a larger buffer. Modifying its contents does not change the matrices of this stack.
+     * 
+     * @return the buffer holding all levels
+     * @throws IllegalStateException if the levels are not stored in a direct buffer
+     */
+    public ByteBuffer buffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("not a direct stack"); //$NON-NLS-1$
+        }
+        ensureCapacity(curr + 1);
+        store(curr);
+        ByteBuffer buf = buffer;
+        buf.clear();
+        buf.limit((curr + 1) << 6);
+        return buf;
+    }
+
+    /**
+     * Store all levels of this stack in column-major order, one after the other and starting with the bottom level,
+     * into the supplied {@link FloatBuffer} at the current buffer {@link FloatBuffer#position() position}.
+     * <p>
+     * This writes {@link #size()} * 16 floats with a single copy and will not increment the position of the given FloatBuffer.
+     * 
+     * @param buffer
+     *          will receive the values of all levels
+     * @return the passed in buffer
+     */
+    public FloatBuffer getAll(FloatBuffer buffer) {
+        return getAll(buffer.position(), buffer);
+    }
+
+    /**
+     * Store all levels of this stack in column-major order, one after the other and starting with the bottom level,
+     * into the supplied {@link FloatBuffer} starting at the specified absolute buffer position/index.
+     * <p>
+     * This writes {@link #size()} * 16 floats with a single copy and will not increment the position of the given FloatBuffer.
+     * 
+     * @param index
+     *          the absolute position into the FloatBuffer
+     * @param buffer
+     *          will receive the values of all levels
+     * @return the passed in buffer
+     */
+    public FloatBuffer getAll(int index, FloatBuffer buffer) {
+        if (this.buffer != null) {
+            FloatBuffer dest = buffer.duplicate();
+            dest.position(index);
+            dest.put(buffer().asFloatBuffer());
+            return buffer;
+        }
+        ensureCapacity(curr + 1);
+        store(curr);
+        MemUtil.INSTANCE.put(data, 0, (curr + 1) << 4, buffer, index);
+        return buffer;
+    }
+
+    /**
+     * Store all levels of this stack in column-major order, one after the other and starting with the bottom level,
+     * into the supplied {@link ByteBuffer} at the current buffer {@link ByteBuffer#position() position}.
+     * <p>
+     * This writes {@link #size()} * 64 bytes with a single copy and will not increment the position of the given ByteBuffer.
+     * 
+     * @param buffer
+     *          will receive the values of all levels
+     * @return the passed in buffer
+     */
+    public ByteBuffer getAll(ByteBuffer buffer) {
+        return getAll(buffer.position(), buffer);
+    }
+
+    /**
+     * Store all levels of this stack in column-major order, one after the other and starting with the bottom level,
+     * into the supplied {@link ByteBuffer} starting at the specified absolute buffer position/index.
+     * <p>
+     * This writes {@link #size()} * 64 bytes with a single copy and will not increment the position of the given ByteBuffer.
+     * 
+     * @param index
+     *          the absolute position into the ByteBuffer
+     * @param buffer
+     *          will receive the values of all levels
+     * @return the passed in buffer
+     */
+    public ByteBuffer getAll(int index, ByteBuffer buffer) {
+        if (this.buffer != null) {
+            ByteBuffer src = buffer();
+            if (buffer.order() == src.order()) {
+                ByteBuffer dest = buffer.duplicate();
+                dest.position(index);
+                dest.put(src);
+            } else {
+                ByteBuffer dest = buffer.duplicate().order(buffer.order());
+                dest.position(index);
+                dest.asFloatBuffer().put(src.asFloatBuffer());
+            }
+            return buffer;
+        }
+        ensureCapacity(curr + 1);
+        store(curr);
+        MemUtil.INSTANCE.put(data, 0, (curr + 1) << 4, buffer, index);
+        return buffer;
+    }
+//#endif
+
+    public int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        result = prime * result + curr;
+        Matrix4f m = new Matrix4f();
+        for (int i = 0; i < curr; i++) {
+            result = prime * result + load(i, m).hashCode();
+        }
+        return result;
+    }
+
+    /*
+     * Contract between Matrix4f and Matrix4fBufferStack, in line with Matrix4fStack:
+     * 
+     * - Matrix4f.equals(Matrix4fBufferStack) is true iff all the 16 matrix elements are equal
+     * - Matrix4fBufferStack.equals(Matrix4f) is true iff all the 16 matrix elements are equal
+     * - Matrix4fBufferStack.equals(Matrix4fBufferStack) is true iff all 16 matrix elements are equal AND the saved levels as well as the stack pointer are equal
+     * - everything else is inequal
+     */
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj)
+            return true;
+        if (!super.equals(obj))
+            return false;
+        if (obj instanceof Matrix4fBufferStack) {
+            Matrix4fBufferStack other = (Matrix4fBufferStack) obj;
+            if (curr != other.curr)
+                return false;
+            Matrix4f m = new Matrix4f(), o = new Matrix4f();
+            for (int i = 0; i < curr; i++) {
+                if (!load(i, m).equals(other.load(i, o)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+        out.writeInt(curr);
+        Matrix4f m = new Matrix4f();
+        for (int i = 0; i < curr; i++) {
+            load(i, m).writeExternal(out);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException {
+        super.readExternal(in);
+        curr = in.readInt();
+        data = new float[(curr + 1) << 4];
+        props = new byte[curr + 1];
+        Matrix4f m = new Matrix4f();
+        for (int i = 0; i < curr; i++) {
+            m.readExternal(in);
+            MemUtil.INSTANCE.copy(m, data, i << 4);
+            props[i] = (byte) m.properties();
+        }
+    }
+
+    public Object clone() throws CloneNotSupportedException {
+        Matrix4fBufferStack cloned = (Matrix4fBufferStack) super.clone();
+        cloned.props = new byte[props.length];
+        System.arraycopy(props, 0, cloned.props, 0, props.length);
+        if (data != null) {
+            cloned.data = new float[data.length];
+            System.arraycopy(data, 0, cloned.data, 0, data.length);
+        }
+//#ifdef __HAS_NIO__
+        if (buffer != null) {
+            ByteBuffer src = buffer;
+            src.clear();
+            cloned.buffer = ByteBuffer.allocateDirect(src.capacity()).order(ByteOrder.nativeOrder()).put(src);
+            cloned.buffer.clear();
+        }
+//#endif
+        return cloned;
+    }
+
+}
@@ -1698,6 +1698,259 @@ public interface Matrix4fc {
      */
     Vector3f transformDirection(float x, float y, float z, Vector3f dest);
 
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in <code>src</code>, as if they were 4D-vectors with w=1, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from <code>src[srcOffset + i * srcStride]</code> and the two
+     * following elements. The result is written to <code>dest[destOffset + i * destStride]</code> and the two following elements.
+     * <p>
+     * The arrays <code>src</code> and <code>dest</code> may be the same array as long as <code>srcOffset == destOffset</code>
+     * and <code>srcStride == destStride</code>.
+     * 
+     * @see #transformPosition(float, float, float, Vector3f)
+     * 
+     * @param src
+     *          the array containing the positions to transform
+     * @param srcOffset
+     *          the index of the first position in <code>src</code>
+     * @param srcStride
+     *          the number of array elements between two consecutive positions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index of the first result in <code>dest</code>
+     * @param destStride
+     *          the number of array elements between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of positions to transform
+     * @return dest
+     */
+    float[] transformPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in <code>src</code>, as if they were 4D-vectors with w=0, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from <code>src[srcOffset + i * srcStride]</code> and the two
+     * following elements. The result is written to <code>dest[destOffset + i * destStride]</code> and the two following elements.
+     * <p>
+     * The arrays <code>src</code> and <code>dest</code> may be the same array as long as <code>srcOffset == destOffset</code>
+     * and <code>srcStride == destStride</code>.
+     * 
+     * @see #transformDirection(float, float, float, Vector3f)
+     * 
+     * @param src
+     *          the array containing the directions to transform
+     * @param srcOffset
+     *          the index of the first direction in <code>src</code>
+     * @param srcStride
+     *          the number of array elements between two consecutive directions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index of the first result in <code>dest</code>
+     * @param destStride
+     *          the number of array elements between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of directions to transform
+     * @return dest
+     */
+    float[] transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in <code>src</code> by this matrix, perform perspective divide
+     * and store the results in <code>dest</code>.
+     * <p>
+     * This method uses <code>w=1.0</code> as the fourth vector component.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from <code>src[srcOffset + i * srcStride]</code> and the two
+     * following elements. The result is written to <code>dest[destOffset + i * destStride]</code> and the two following elements.
+     * <p>
+     * The arrays <code>src</code> and <code>dest</code> may be the same array as long as <code>srcOffset == destOffset</code>
+     * and <code>srcStride == destStride</code>.
+     * 
+     * @see #transformProject(float, float, float, Vector3f)
+     * 
+     * @param src
+     *          the array containing the vectors to transform
+     * @param srcOffset
+     *          the index of the first vector in <code>src</code>
+     * @param srcStride
+     *          the number of array elements between two consecutive vectors in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destOffset
+     *          the index of the first result in <code>dest</code>
+     * @param destStride
+     *          the number of array elements between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of vectors to transform
+     * @return dest
+     */
+    float[] transformProjects(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count);
+
+//#ifdef __HAS_NIO__
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in <code>src</code>, as if they were 4D-vectors with w=1, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from the absolute buffer index <code>srcIndex + i * srcStride</code>
+     * and the two following elements. The result is written to the absolute buffer index <code>destIndex + i * destStride</code> and the two following elements.
+     * <p>
+     * This method will not increment the position of either buffer.
+     * 
+     * @see #transformPositions(float[], int, int, float[], int, int, int)
+     * 
+     * @param src
+     *          the buffer containing the positions to transform
+     * @param srcIndex
+     *          the absolute index of the first position in <code>src</code>
+     * @param srcStride
+     *          the number of floats between two consecutive positions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destIndex
+     *          the absolute index of the first result in <code>dest</code>
+     * @param destStride
+     *          the number of floats between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of positions to transform
+     * @return dest
+     */
+    FloatBuffer transformPositions(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in <code>src</code>, as if they were 4D-vectors with w=0, by
+     * this matrix and store the results in <code>dest</code>.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from the absolute buffer index <code>srcIndex + i * srcStride</code>
+     * and the two following elements. The result is written to the absolute buffer index <code>destIndex + i * destStride</code> and the two following elements.
+     * <p>
+     * This method will not increment the position of either buffer.
+     * 
+     * @see #transformDirections(float[], int, int, float[], int, int, int)
+     * 
+     * @param src
+     *          the buffer containing the directions to transform
+     * @param srcIndex
+     *          the absolute index of the first direction in <code>src</code>
+     * @param srcStride
+     *          the number of floats between two consecutive directions in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destIndex
+     *          the absolute index of the first result in <code>dest</code>
+     * @param destStride
+     *          the number of floats between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of directions to transform
+     * @return dest
+     */
+    FloatBuffer transformDirections(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in <code>src</code> by this matrix, perform perspective divide
+     * and store the results in <code>dest</code>.
+     * <p>
+     * This method uses <code>w=1.0</code> as the fourth vector component.
+     * <p>
+     * The <code>(x, y, z)</code> components of the <code>i</code>-th vector are read from the absolute buffer index <code>srcIndex + i * srcStride</code>
+     * and the two following elements. The result is written to the absolute buffer index <code>destIndex + i * destStride</code> and the two following elements.
+     * <p>
+     * This method will not increment the position of either buffer.
+     * 
+     * @see #transformProjects(float[], int, int, float[], int, int, int)
+     * 
+     * @param src
+     *          the buffer containing the vectors to transform
+     * @param srcIndex
+     *          the absolute index of the first vector in <code>src</code>
+     * @param srcStride
+     *          the number of floats between two consecutive vectors in <code>src</code>
+     * @param dest
+     *          will hold the results
+     * @param destIndex
+     *          the absolute index of the first result in <code>dest</code>
+     * @param destStride
+     *          the number of floats between two consecutive results in <code>dest</code>
+     * @param count
+     *          the number of vectors to transform
+     * @return dest
+     */
+    FloatBuffer transformProjects(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count);
+//#endif
+
+//#ifdef __HAS_UNSAFE__
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in off-heap memory at <code>srcAddress</code>, as if they were 4D-vectors
+     * with w=1, by this matrix and store the results at <code>destAddress</code>.
+     * <p>
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * <p>
+     * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
+     * 
+     * @param srcAddress
+     *          the off-heap address of the first position
+     * @param srcStride
+     *          the number of bytes between two consecutive positions
+     * @param destAddress
+     *          the off-heap address where to store the first result
+     * @param destStride
+     *          the number of bytes between two consecutive results
+     * @param count
+     *          the number of positions to transform
+     * @return this
+     */
+    Matrix4fc transformPositions(long srcAddress, int srcStride, long destAddress, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in off-heap memory at <code>srcAddress</code>, as if they were 4D-vectors
+     * with w=0, by this matrix and store the results at <code>destAddress</code>.
+     * <p>
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * <p>
+     * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
+     * 
+     * @param srcAddress
+     *          the off-heap address of the first direction
+     * @param srcStride
+     *          the number of bytes between two consecutive directions
+     * @param destAddress
+     *          the off-heap address where to store the first result
+     * @param destStride
+     *          the number of bytes between two consecutive results
+     * @param count
+     *          the number of directions to transform
+     * @return this
+     */
+    Matrix4fc transformDirections(long srcAddress, int srcStride, long destAddress, int destStride, int count);
+
+    /**
+     * Transform/multiply <code>count</code> consecutive 3D-vectors stored in off-heap memory at <code>srcAddress</code> by this matrix,
+     * perform perspective divide and store the results at <code>destAddress</code>.
+     * <p>
+     * This method uses <code>w=1.0</code> as the fourth vector component.
+     * <p>
+     * This method will throw an {@link UnsupportedOperationException} when JOML is used with `-Djoml.nounsafe`.
+     * <p>
+     * <em>This method is unsafe as it can result in a crash of the JVM process when the specified address range does not belong to this process.</em>
+     * 
+     * @param srcAddress
+     *          the off-heap address of the first vector
+     * @param srcStride
+     *          the number of bytes between two consecutive vectors
+     * @param destAddress
+     *          the off-heap address where to store the first result
+     * @param destStride
+     *          the number of bytes between two consecutive results
+     * @param count
+     *          the number of vectors to transform
+     * @return this
+     */
+    Matrix4fc transformProjects(long srcAddress, int srcStride, long destAddress, int destStride, int count);
+//#endif
+
     /**
      * Transform/multiply the given 4D-vector by assuming that <code>this</code> matrix represents an {@link #isAffine() affine} transformation
      * (i.e. its last row is equal to <code>(0, 0, 0, 1)</code>).
@@ -976,6 +976,15 @@ public class Matrix4x3f implements Externalizable, Cloneable, Matrix4x3fc {
             return dest.set(right);
         else if ((right.properties() & PROPERTY_IDENTITY) != 0)
             return dest.set(this);
+//#ifdef __HAS_JVMCI__
+        else if (JvmciCode.canUseJvmci && right instanceof Matrix4x3f) {
+            Matrix4x3f mright = (Matrix4x3f) right;
+            int properties = this.properties & mright.properties & PROPERTY_ORTHONORMAL;
+            JvmciCode.mul(this, mright, dest);
+            dest.properties = properties;
+            return dest;
+        }
+//#endif
         else if ((properties & PROPERTY_TRANSLATION) != 0)
             return mulTranslation(right, dest);
         return mulGeneric(right, dest);
@@ -3249,6 +3258,50 @@ public class Matrix4x3f implements Externalizable, Cloneable, Matrix4x3fc {
         return dest;
     }
 
+    public float[] transformPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        MemUtil.transformAffine(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        return dest;
+    }
+
+    public float[] transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        MemUtil.transformAffine(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0f, 0.0f, 0.0f);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer transformPositions(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count) {
+        MemUtil.INSTANCE.transformAffine(src, srcIndex, srcStride, dest, destIndex, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        return dest;
+    }
+
+    public FloatBuffer transformDirections(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count) {
+        MemUtil.INSTANCE.transformAffine(src, srcIndex, srcStride, dest, destIndex, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0f, 0.0f, 0.0f);
+        return dest;
+    }
+//#endif
+
+//#ifdef __HAS_UNSAFE__
+    public Matrix4x3fc transformPositions(long srcAddress, int srcStride, long destAddress, int destStride, int count) {
+        if (Options.NO_UNSAFE)
+            throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
+        MemUtil.MemUtilUnsafe.transformAffine(srcAddress, srcStride, destAddress, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        return this;
+    }
+
+    public Matrix4x3fc transformDirections(long srcAddress, int srcStride, long destAddress, int destStride, int count) {
+        if (Options.NO_UNSAFE)
+            throw new UnsupportedOperationException("Not supported when using joml.nounsafe");
+        MemUtil.MemUtilUnsafe.transformAffine(srcAddress, srcStride, destAddress, destStride, count,
+                m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0f, 0.0f, 0.0f);
+        return this;
+    }
+//#endif
+
     public Matrix4x3f scale(Vector3fc xyz, Matrix4x3f dest) {
         return scale(xyz.x(), xyz.y(), xyz.z(), dest);
     }
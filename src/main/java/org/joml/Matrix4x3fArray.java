@@ -0,0 +1,432 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+//#endif
+
+/**
+ * Contiguous array of 4x3 matrices of single-precision floats.
+ * <p>
+ * All matrices are stored back-to-back in column-major order in a single <code>float[]</code>, with the
+ * {@link Matrix4x3fc#properties() properties} of each matrix kept in a separate <code>byte[]</code>. This avoids
+ * the per-object overhead of many individual {@link Matrix4x3f} instances and allows batch operations and uploads
+ * to run over contiguous memory.
+ * <p>
+ * Single matrices can be copied in and out via {@link #set(int, Matrix4x3fc)} and {@link #get(int, Matrix4x3f)},
+ * or accessed in place through a {@link #view(int) view}.
+ * <p>
+ * Batch operations taking another array as operand or destination require it to have the same {@link #size() size}.
+ */
+public class Matrix4x3fArray {
+
+    /**
+     * The values of all matrices, 12 consecutive floats per matrix in column-major order.
+     */
+    private final float[] data;
+
+    /**
+     * The properties of each matrix.
+     */
+    private final byte[] properties;
+
+    /**
+     * Create a new {@link Matrix4x3fArray} holding <code>size</code> identity matrices.
+     * 
+     * @param size
+     *          the number of matrices
+     */
+    public Matrix4x3fArray(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("size must be >= 0"); //$NON-NLS-1$
+        data = new float[size * 12];
+        properties = new byte[size];
+        identity();
+    }
+
+    /**
+     * Return the number of matrices in this array.
+     * 
+     * @return the number of matrices
+     */
+    public int size() {
+        return properties.length;
+    }
+
+    private void checkSize(Matrix4x3fArray other) {
+        if (other.properties.length != properties.length)
+            throw new IllegalArgumentException("arrays must have the same size"); //$NON-NLS-1$
+    }
+
+    /**
+     * Return the backing array holding the values of all matrices, 12 consecutive floats per matrix in column-major order.
+     * <p>
+     * When modifying the returned array directly, the properties of the affected matrices must be updated
+     * with {@link #assume(int, int)} or {@link #determineProperties(int)}.
+     * 
+     * @return the backing array
+     */
+    public float[] array() {
+        return data;
+    }
+
+    /**
+     * Return the properties of the matrix at the given index.
+     * 
+     * @see Matrix4x3fc#properties()
+     * 
+     * @param index
+     *          the index of the matrix
+     * @return the properties of the matrix
+     */
+    public int properties(int index) {
+        return properties[index];
+    }
+
+    /**
+     * Assume the given properties about the matrix at the given index.
+     * 
+     * @see Matrix4x3f#assume(int)
+     * 
+     * @param index
+     *          the index of the matrix
+     * @param properties
+     *          bitset of the properties to assume about the matrix
+     * @return this
+     */
+    public Matrix4x3fArray assume(int index, int properties) {
+        this.properties[index] = (byte) properties;
+        return this;
+    }
+
+    /**
+     * Compute and set the properties of the matrix at the given index from its current values.
+     * 
+     * @see Matrix4x3f#determineProperties()
+     * 
+     * @param index
+     *          the index of the matrix
+     * @return this
+     */
+    public Matrix4x3fArray determineProperties(int index) {
+        Matrix4x3f m = new Matrix4x3f();
+        MemUtil.INSTANCE.copy(data, index * 12, m);
+        properties[index] = (byte) m.determineProperties().properties();
+        return this;
+    }
+
+    /**
+     * Set all matrices of this array to identity.
+     * 
+     * @return this
+     */
+    public Matrix4x3fArray identity() {
+        for (int i = 0, off = 0; i < properties.length; i++, off += 12) {
+            for (int j = 0; j < 12; j++)
+                data[off + j] = 0.0f;
+            data[off] = data[off + 4] = data[off + 8] = 1.0f;
+            properties[i] = Matrix4x3fc.PROPERTY_IDENTITY | Matrix4x3fc.PROPERTY_TRANSLATION | Matrix4x3fc.PROPERTY_ORTHONORMAL;
+        }
+        return this;
+    }
+
+    /**
+     * Set the matrix at the given index to the values and properties of <code>m</code>.
+     * 
+     * @param index
+     *          the index of the matrix to set
+     * @param m
+     *          the matrix to copy the values from
+     * @return this
+     */
+    public Matrix4x3fArray set(int index, Matrix4x3fc m) {
+        m.get(data, index * 12);
+        properties[index] = (byte) m.properties();
+        return this;
+    }
+
+    /**
+     * Store the values and properties of the matrix at the given index into <code>dest</code>.
+     * 
+     * @param index
+     *          the index of the matrix to get
+     * @param dest
+     *          will hold the values of the matrix
+     * @return dest
+     */
+    public Matrix4x3f get(int index, Matrix4x3f dest) {
+        MemUtil.INSTANCE.copy(data, index * 12, dest);
+        return dest._properties(properties[index]);
+    }
+
+    /**
+     * Return a read-only view of the matrix at the given index.
+     * <p>
+     * The returned view always reflects the current values of the matrix in this array. Its element accessors read
+     * the array directly, and its other methods operate on a private copy of those values, so the view itself is not
+     * thread-safe.
+     * 
+     * @param index
+     *          the index of the matrix
+     * @return the view
+     */
+    public Matrix4x3fc view(final int index) {
+        if (index < 0 || index >= properties.length)
+            throw new IndexOutOfBoundsException();
+        return new Matrix4x3fView() {
+            Matrix4x3f load() {
+                return Matrix4x3fArray.this.get(index, m);
+            }
+
+            float element(int i) {
+                return data[index * 12 + i];
+            }
+        };
+    }
+
+    /**
+     * Multiply each matrix of this array by the matrix at the same index in <code>right</code> and store the results in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> array and <code>R</code> the corresponding matrix of <code>right</code>,
+     * then the new matrix will be <code>M * R</code>.
+     * <p>
+     * Both <code>right</code> and <code>dest</code> may be <code>this</code>.
+     * 
+     * @param right
+     *          the right operands
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4x3fArray mul(Matrix4x3fArray right, Matrix4x3fArray dest) {
+        checkSize(right);
+        checkSize(dest);
+        float[] r = right.data, d = dest.data;
+        for (int i = 0, off = 0; i < properties.length; i++, off += 12)
+            dest.properties[i] = mul(data, off, properties[i], r, off, right.properties[i], d, off);
+        return dest;
+    }
+
+    /**
+     * Multiply each matrix of this array by the given <code>right</code> matrix and store the results in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> array and <code>R</code> the <code>right</code> matrix,
+     * then the new matrix will be <code>M * R</code>.
+     * <p>
+     * <code>dest</code> may be <code>this</code>.
+     * 
+     * @param right
+     *          the right operand
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4x3fArray mul(Matrix4x3fc right, Matrix4x3fArray dest) {
+        checkSize(dest);
+        float[] r = right.get(new float[12], 0), d = dest.data;
+        byte rp = (byte) right.properties();
+        for (int i = 0, off = 0; i < properties.length; i++, off += 12)
+            dest.properties[i] = mul(data, off, properties[i], r, 0, rp, d, off);
+        return dest;
+    }
+
+    /**
+     * Pre-multiply each matrix of this array by the given <code>left</code> matrix and store the results in <code>dest</code>.
+     * <p>
+     * If <code>M</code> is a matrix of <code>this</code> array and <code>L</code> the <code>left</code> matrix,
+     * then the new matrix will be <code>L * M</code>.
+     * <p>
+     * <code>dest</code> may be <code>this</code>.
+     * 
+     * @param left
+     *          the left operand
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4x3fArray mulLocal(Matrix4x3fc left, Matrix4x3fArray dest) {
+        checkSize(dest);
+        float[] l = left.get(new float[12], 0), d = dest.data;
+        byte lp = (byte) left.properties();
+        for (int i = 0, off = 0; i < properties.length; i++, off += 12)
+            dest.properties[i] = mul(l, 0, lp, data, off, properties[i], d, off);
+        return dest;
+    }
+
+    /**
+     * Invert each matrix of this array and store the results in <code>dest</code>.
+     * <p>
+     * <code>dest</code> may be <code>this</code>.
+     * 
+     * @param dest
+     *          will hold the results
+     * @return dest
+     */
+    public Matrix4x3fArray invert(Matrix4x3fArray dest) {
+        checkSize(dest);
+        float[] d = dest.data;
+        for (int i = 0, off = 0; i < properties.length; i++, off += 12)
+            dest.properties[i] = invert(data, off, properties[i], d, off);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link FloatBuffer}
+     * at the current buffer {@link FloatBuffer#position() position}.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public FloatBuffer get(FloatBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, buffer.position());
+        return buffer;
+    }
+
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link FloatBuffer}
+     * starting at the specified absolute buffer position/index.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param index
+     *          the absolute position into the FloatBuffer
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public FloatBuffer get(int index, FloatBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, index);
+        return buffer;
+    }
+
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link ByteBuffer}
+     * at the current buffer {@link ByteBuffer#position() position}.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public ByteBuffer get(ByteBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, buffer.position());
+        return buffer;
+    }
+
+    /**
+     * Store all matrices of this array in column-major order, one after the other, into the supplied {@link ByteBuffer}
+     * starting at the specified absolute buffer position/index.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param index
+     *          the absolute position into the ByteBuffer
+     * @param buffer
+     *          will receive the values of all matrices
+     * @return the passed in buffer
+     */
+    public ByteBuffer get(int index, ByteBuffer buffer) {
+        MemUtil.INSTANCE.put(data, 0, data.length, buffer, index);
+        return buffer;
+    }
+//#endif
+
+    static byte mul(float[] a, int ao, byte ap, float[] b, int bo, byte bp, float[] d, int dOff) {
+        if ((ap & Matrix4x3fc.PROPERTY_IDENTITY) != 0) {
+            System.arraycopy(b, bo, d, dOff, 12);
+            return bp;
+        } else if ((bp & Matrix4x3fc.PROPERTY_IDENTITY) != 0) {
+            System.arraycopy(a, ao, d, dOff, 12);
+            return ap;
+        }
+        float m00 = a[ao], m01 = a[ao + 1], m02 = a[ao + 2];
+        float m10 = a[ao + 3], m11 = a[ao + 4], m12 = a[ao + 5];
+        float m20 = a[ao + 6], m21 = a[ao + 7], m22 = a[ao + 8];
+        float m30 = a[ao + 9], m31 = a[ao + 10], m32 = a[ao + 11];
+        for (int c = 0; c < 9; c += 3) {
+            float r0 = b[bo + c], r1 = b[bo + c + 1], r2 = b[bo + c + 2];
+            d[dOff + c]     = Math.fma(m00, r0, Math.fma(m10, r1, m20 * r2));
+            d[dOff + c + 1] = Math.fma(m01, r0, Math.fma(m11, r1, m21 * r2));
+            d[dOff + c + 2] = Math.fma(m02, r0, Math.fma(m12, r1, m22 * r2));
+        }
+        float r0 = b[bo + 9], r1 = b[bo + 10], r2 = b[bo + 11];
+        d[dOff + 9]  = Math.fma(m00, r0, Math.fma(m10, r1, Math.fma(m20, r2, m30)));
+        d[dOff + 10] = Math.fma(m01, r0, Math.fma(m11, r1, Math.fma(m21, r2, m31)));
+        d[dOff + 11] = Math.fma(m02, r0, Math.fma(m12, r1, Math.fma(m22, r2, m32)));
+        return (byte) (ap & bp & Matrix4x3fc.PROPERTY_ORTHONORMAL);
+    }
+
+    private static byte invert(float[] a, int ao, byte ap, float[] d, int dOff) {
+        if ((ap & Matrix4x3fc.PROPERTY_IDENTITY) != 0) {
+            System.arraycopy(a, ao, d, dOff, 12);
+            return ap;
+        }
+        float m00 = a[ao], m01 = a[ao + 1], m02 = a[ao + 2];
+        float m10 = a[ao + 3], m11 = a[ao + 4], m12 = a[ao + 5];
+        float m20 = a[ao + 6], m21 = a[ao + 7], m22 = a[ao + 8];
+        float m30 = a[ao + 9], m31 = a[ao + 10], m32 = a[ao + 11];
+        if ((ap & Matrix4x3fc.PROPERTY_ORTHONORMAL) != 0) {
+            d[dOff]      = m00;
+            d[dOff + 1]  = m10;
+            d[dOff + 2]  = m20;
+            d[dOff + 3]  = m01;
+            d[dOff + 4]  = m11;
+            d[dOff + 5]  = m21;
+            d[dOff + 6]  = m02;
+            d[dOff + 7]  = m12;
+            d[dOff + 8]  = m22;
+            d[dOff + 9]  = -(m00 * m30 + m01 * m31 + m02 * m32);
+            d[dOff + 10] = -(m10 * m30 + m11 * m31 + m12 * m32);
+            d[dOff + 11] = -(m20 * m30 + m21 * m31 + m22 * m32);
+            return Matrix4x3fc.PROPERTY_ORTHONORMAL;
+        }
+        float m11m00 = m00 * m11, m10m01 = m01 * m10, m10m02 = m02 * m10;
+        float m12m00 = m00 * m12, m12m01 = m01 * m12, m11m02 = m02 * m11;
+        float s = 1.0f / ((m11m00 - m10m01) * m22 + (m10m02 - m12m00) * m21 + (m12m01 - m11m02) * m20);
+        float m10m22 = m10 * m22, m10m21 = m10 * m21, m11m22 = m11 * m22;
+        float m11m20 = m11 * m20, m12m21 = m12 * m21, m12m20 = m12 * m20;
+        float m20m02 = m20 * m02, m20m01 = m20 * m01, m21m02 = m21 * m02;
+        float m21m00 = m21 * m00, m22m01 = m22 * m01, m22m00 = m22 * m00;
+        d[dOff]      = (m11m22 - m12m21) * s;
+        d[dOff + 1]  = (m21m02 - m22m01) * s;
+        d[dOff + 2]  = (m12m01 - m11m02) * s;
+        d[dOff + 3]  = (m12m20 - m10m22) * s;
+        d[dOff + 4]  = (m22m00 - m20m02) * s;
+        d[dOff + 5]  = (m10m02 - m12m00) * s;
+        d[dOff + 6]  = (m10m21 - m11m20) * s;
+        d[dOff + 7]  = (m20m01 - m21m00) * s;
+        d[dOff + 8]  = (m11m00 - m10m01) * s;
+        d[dOff + 9]  = (m10m22 * m31 - m10m21 * m32 + m11m20 * m32 - m11m22 * m30 + m12m21 * m30 - m12m20 * m31) * s;
+        d[dOff + 10] = (m20m02 * m31 - m20m01 * m32 + m21m00 * m32 - m21m02 * m30 + m22m01 * m30 - m22m00 * m31) * s;
+        d[dOff + 11] = (m11m02 * m30 - m12m01 * m30 + m12m00 * m31 - m10m02 * m31 + m10m01 * m32 - m11m00 * m32) * s;
+        return 0;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_NIO__
+package org.joml;
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Mutable {@link Matrix4x3fc} view onto the 12 float values of a matrix stored in column-major order in a {@link ByteBuffer} at a given byte index.
+ * <p>
+ * The view copies through a temporary {@link Matrix4x3f} owned by it: every read-only operation of {@link Matrix4x3fc}, except for the
+ * element accessors such as {@link #m00()}, first copies the 12 values from the buffer into that temporary matrix, and every
+ * mutating method of this class computes its result in it and copies the result back into the buffer. So matrices kept in off-heap memory, such as memory mapped for the GPU,
+ * can be used without keeping a separate {@link Matrix4x3f} for each of them, but every operation still costs a copy.
+ * <p>
+ * A single view can be moved over many matrices stored in the same buffer via {@link #at(int)}, which avoids allocating one view per matrix.
+ * <p>
+ * The buffer must be in {@link ByteOrder#nativeOrder() native byte order}, which is the order sun.misc.Unsafe reads and writes
+ * matrices in, and the constructors throw an {@link IllegalArgumentException} otherwise. When sun.misc.Unsafe is used, the buffer
+ * must also be a direct buffer, just like for {@link Matrix4x3f#set(int, ByteBuffer)}.
+ * <p>
+ * Because of the temporary matrix, instances of this class are not thread-safe, not even when only reading. Use one view per thread.
+ */
+public class Matrix4x3fBufferView extends Matrix4x3fView {
+
+    private final ByteBuffer buffer;
+    private int index;
+
+    /**
+     * Create a new {@link Matrix4x3fBufferView} onto the matrix stored at the current {@link ByteBuffer#position() position} of the given buffer.
+     * 
+     * @param buffer
+     *          the buffer holding the matrix, in native byte order
+     */
+    public Matrix4x3fBufferView(ByteBuffer buffer) {
+        this(buffer, buffer.position());
+    }
+
+    /**
+     * Create a new {@link Matrix4x3fBufferView} onto the matrix stored at the given absolute byte index of the given buffer.
+     * 
+     * @param buffer
+     *          the buffer holding the matrix, in native byte order
+     * @param index
+     *          the absolute byte index of the matrix in the buffer
+     */
+    public Matrix4x3fBufferView(ByteBuffer buffer, int index) {
+        if (buffer.order() != ByteOrder.nativeOrder())
+            throw new IllegalArgumentException("buffer must be in native byte order"); //$NON-NLS-1$
+        this.buffer = buffer;
+        this.index = index;
+    }
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Create a new {@link Matrix4x3fBufferView} onto the matrix stored at the given byte offset of the given native {@link MemorySegment}.
+     * <p>
+     * The view accesses the segment through a {@link MemorySegment#asByteBuffer() ByteBuffer} in native byte order spanning the segment,
+     * so the segment must not be larger than {@link Integer#MAX_VALUE} bytes.
+     * 
+     * @param segment
+     *          the native segment holding the matrix
+     * @param offset
+     *          the byte offset of the matrix in the segment, within <code>[0, Integer.MAX_VALUE]</code>
+     */
+    public Matrix4x3fBufferView(MemorySegment segment, long offset) {
+        this(buffer(segment), index(offset));
+    }
+
+    private static int index(long offset) {
+        if (offset < 0L || offset > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("offset must be in [0, Integer.MAX_VALUE]"); //$NON-NLS-1$
+        return (int) offset;
+    }
+
+    private static ByteBuffer buffer(MemorySegment segment) {
+        if (!segment.isNative())
+            throw new IllegalArgumentException("segment is not native"); //$NON-NLS-1$
+        return segment.asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+//#endif
+
+    Matrix4x3f load() {
+        return m.set(index, buffer);
+    }
+
+    float element(int i) {
+        return buffer.getFloat(index + (i << 2));
+    }
+
+    /**
+     * Return the buffer holding the matrix of this view.
+     * 
+     * @return the buffer
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Return the absolute byte index of the matrix of this view in its {@link #buffer() buffer}.
+     * 
+     * @return the byte index
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Move this view onto the matrix stored at the given absolute byte index of its {@link #buffer() buffer}.
+     * 
+     * @param index
+     *          the absolute byte index of the matrix in the buffer
+     * @return this
+     */
+    public Matrix4x3fBufferView at(int index) {
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Store the values of the given matrix into the buffer at the index of this view.
+     * 
+     * @param m
+     *          the matrix to copy the values from
+     * @return this
+     */
+    public Matrix4x3fBufferView set(Matrix4x3fc m) {
+        m.get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Set the matrix of this view to the identity.
+     * 
+     * @return this
+     */
+    public Matrix4x3fBufferView identity() {
+        m.identity().get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Multiply the matrix of this view by the supplied <code>right</code> matrix and store the result back into the buffer.
+     * 
+     * @see Matrix4x3f#mul(Matrix4x3fc)
+     * 
+     * @param right
+     *          the right operand of the matrix multiplication
+     * @return this
+     */
+    public Matrix4x3fBufferView mul(Matrix4x3fc right) {
+        load().mul(right).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Pre-multiply the matrix of this view by the supplied <code>left</code> matrix and store the result back into the buffer.
+     * 
+     * @see Matrix4x3fc#mul(Matrix4x3fc, Matrix4x3f)
+     * 
+     * @param left
+     *          the left operand of the matrix multiplication
+     * @return this
+     */
+    public Matrix4x3fBufferView mulLocal(Matrix4x3fc left) {
+        left.mul(load(), m).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Apply a translation to the matrix of this view and store the result back into the buffer.
+     * 
+     * @see Matrix4x3f#translate(float, float, float)
+     * 
+     * @param x
+     *          the offset to translate in x
+     * @param y
+     *          the offset to translate in y
+     * @param z
+     *          the offset to translate in z
+     * @return this
+     */
+    public Matrix4x3fBufferView translate(float x, float y, float z) {
+        load().translate(x, y, z).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Apply the rotation transformation of the given {@link Quaternionfc} to the matrix of this view and store the result back into the buffer.
+     * 
+     * @see Matrix4x3f#rotate(Quaternionfc)
+     * 
+     * @param quat
+     *          the {@link Quaternionfc}
+     * @return this
+     */
+    public Matrix4x3fBufferView rotate(Quaternionfc quat) {
+        load().rotate(quat).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Apply scaling to the matrix of this view and store the result back into the buffer.
+     * 
+     * @see Matrix4x3f#scale(float, float, float)
+     * 
+     * @param x
+     *          the factor of the x component
+     * @param y
+     *          the factor of the y component
+     * @param z
+     *          the factor of the z component
+     * @return this
+     */
+    public Matrix4x3fBufferView scale(float x, float y, float z) {
+        load().scale(x, y, z).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Invert the matrix of this view and store the result back into the buffer.
+     * 
+     * @see Matrix4x3f#invert()
+     * 
+     * @return this
+     */
+    public Matrix4x3fBufferView invert() {
+        load().invert().get(index, buffer);
+        return this;
+    }
+}
+//#endif
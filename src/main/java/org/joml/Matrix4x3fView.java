@@ -0,0 +1,899 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+//#endif
+import java.text.NumberFormat;
+
+/**
+ * Base class of read-only {@link Matrix4x3fc} views onto matrix values kept in some other storage.
+ * <p>
+ * The element accessors such as {@link #m00()} read the single requested {@link #element(int) element} from the backing
+ * storage. Every other method first {@link #load() loads} the current values from the backing storage into a temporary
+ * {@link Matrix4x3f} and then delegates to it. Instances are therefore always up-to-date with their storage, but are not thread-safe.
+ */
+abstract class Matrix4x3fView implements Matrix4x3fc {
+
+    /**
+     * Temporary matrix receiving the values of the backing storage in {@link #load()}.
+     */
+    final Matrix4x3f m = new Matrix4x3f();
+
+    /**
+     * Load the current values of the backing storage into {@link #m} and return it.
+     * 
+     * @return {@link #m}
+     */
+    abstract Matrix4x3f load();
+
+    /**
+     * Read the current value of the element at the given column-major index from the backing storage.
+     * 
+     * @param i
+     *          the index of the element, which is <code>column * 3 + row</code>
+     * @return the value of the element
+     */
+    abstract float element(int i);
+
+    public int properties() {
+        return load().properties();
+    }
+
+    public float m00() {
+        return element(0);
+    }
+
+    public float m01() {
+        return element(1);
+    }
+
+    public float m02() {
+        return element(2);
+    }
+
+    public float m10() {
+        return element(3);
+    }
+
+    public float m11() {
+        return element(4);
+    }
+
+    public float m12() {
+        return element(5);
+    }
+
+    public float m20() {
+        return element(6);
+    }
+
+    public float m21() {
+        return element(7);
+    }
+
+    public float m22() {
+        return element(8);
+    }
+
+    public float m30() {
+        return element(9);
+    }
+
+    public float m31() {
+        return element(10);
+    }
+
+    public float m32() {
+        return element(11);
+    }
+
+    public Matrix4f get(Matrix4f dest) {
+        return load().get(dest);
+    }
+
+    public Matrix4d get(Matrix4d dest) {
+        return load().get(dest);
+    }
+
+    public Matrix4x3f mul(Matrix4x3fc right, Matrix4x3f dest) {
+        return load().mul(right, dest);
+    }
+
+    public Matrix4x3f mulTranslation(Matrix4x3fc right, Matrix4x3f dest) {
+        return load().mulTranslation(right, dest);
+    }
+
+    public Matrix4x3f mulOrtho(Matrix4x3fc view, Matrix4x3f dest) {
+        return load().mulOrtho(view, dest);
+    }
+
+    public Matrix4x3f mul3x3(float rm00, float rm01, float rm02, float rm10, float rm11, float rm12, float rm20, float rm21, float rm22, Matrix4x3f dest) {
+        return load().mul3x3(rm00, rm01, rm02, rm10, rm11, rm12, rm20, rm21, rm22, dest);
+    }
+
+    public Matrix4x3f fma(Matrix4x3fc other, float otherFactor, Matrix4x3f dest) {
+        return load().fma(other, otherFactor, dest);
+    }
+
+    public Matrix4x3f add(Matrix4x3fc other, Matrix4x3f dest) {
+        return load().add(other, dest);
+    }
+
+    public Matrix4x3f sub(Matrix4x3fc subtrahend, Matrix4x3f dest) {
+        return load().sub(subtrahend, dest);
+    }
+
+    public Matrix4x3f mulComponentWise(Matrix4x3fc other, Matrix4x3f dest) {
+        return load().mulComponentWise(other, dest);
+    }
+
+    public float determinant() {
+        return load().determinant();
+    }
+
+    public Matrix4x3f invert(Matrix4x3f dest) {
+        return load().invert(dest);
+    }
+
+    public Matrix4f invert(Matrix4f dest) {
+        return load().invert(dest);
+    }
+
+    public Matrix4x3f invertOrtho(Matrix4x3f dest) {
+        return load().invertOrtho(dest);
+    }
+
+    public Matrix4x3f transpose3x3(Matrix4x3f dest) {
+        return load().transpose3x3(dest);
+    }
+
+    public Matrix3f transpose3x3(Matrix3f dest) {
+        return load().transpose3x3(dest);
+    }
+
+    public Vector3f getTranslation(Vector3f dest) {
+        return load().getTranslation(dest);
+    }
+
+    public Vector3f getScale(Vector3f dest) {
+        return load().getScale(dest);
+    }
+
+    public String toString(NumberFormat formatter) {
+        return load().toString(formatter);
+    }
+
+    public Matrix4x3f get(Matrix4x3f dest) {
+        return load().get(dest);
+    }
+
+    public Matrix4x3d get(Matrix4x3d dest) {
+        return load().get(dest);
+    }
+
+    public AxisAngle4f getRotation(AxisAngle4f dest) {
+        return load().getRotation(dest);
+    }
+
+    public AxisAngle4d getRotation(AxisAngle4d dest) {
+        return load().getRotation(dest);
+    }
+
+    public Quaternionf getUnnormalizedRotation(Quaternionf dest) {
+        return load().getUnnormalizedRotation(dest);
+    }
+
+    public Quaternionf getNormalizedRotation(Quaternionf dest) {
+        return load().getNormalizedRotation(dest);
+    }
+
+    public Quaterniond getUnnormalizedRotation(Quaterniond dest) {
+        return load().getUnnormalizedRotation(dest);
+    }
+
+    public Quaterniond getNormalizedRotation(Quaterniond dest) {
+        return load().getNormalizedRotation(dest);
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer get(FloatBuffer buffer) {
+        return load().get(buffer);
+    }
+
+    public FloatBuffer get(int index, FloatBuffer buffer) {
+        return load().get(index, buffer);
+    }
+
+    public ByteBuffer get(ByteBuffer buffer) {
+        return load().get(buffer);
+    }
+
+    public ByteBuffer get(int index, ByteBuffer buffer) {
+        return load().get(index, buffer);
+    }
+
+//#endif
+//#ifdef __HAS_UNSAFE__
+    public Matrix4x3fc getToAddress(long address) {
+        load().getToAddress(address);
+        return this;
+    }
+
+    public Matrix4x3fc getTransposedToAddress(long address) {
+        load().getTransposedToAddress(address);
+        return this;
+    }
+
+//#endif
+    public float[] get(float[] arr, int offset) {
+        return load().get(arr, offset);
+    }
+
+    public float[] get(float[] arr) {
+        return load().get(arr);
+    }
+
+    public float[] get4x4(float[] arr, int offset) {
+        return load().get4x4(arr, offset);
+    }
+
+    public float[] get4x4(float[] arr) {
+        return load().get4x4(arr);
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer get4x4(FloatBuffer buffer) {
+        return load().get4x4(buffer);
+    }
+
+    public FloatBuffer get4x4(int index, FloatBuffer buffer) {
+        return load().get4x4(index, buffer);
+    }
+
+    public ByteBuffer get4x4(ByteBuffer buffer) {
+        return load().get4x4(buffer);
+    }
+
+    public ByteBuffer get4x4(int index, ByteBuffer buffer) {
+        return load().get4x4(index, buffer);
+    }
+
+    public FloatBuffer get3x4(FloatBuffer buffer) {
+        return load().get3x4(buffer);
+    }
+
+    public FloatBuffer get3x4(int index, FloatBuffer buffer) {
+        return load().get3x4(index, buffer);
+    }
+
+    public ByteBuffer get3x4(ByteBuffer buffer) {
+        return load().get3x4(buffer);
+    }
+
+    public ByteBuffer get3x4(int index, ByteBuffer buffer) {
+        return load().get3x4(index, buffer);
+    }
+
+    public FloatBuffer getTransposed(FloatBuffer buffer) {
+        return load().getTransposed(buffer);
+    }
+
+    public FloatBuffer getTransposed(int index, FloatBuffer buffer) {
+        return load().getTransposed(index, buffer);
+    }
+
+    public ByteBuffer getTransposed(ByteBuffer buffer) {
+        return load().getTransposed(buffer);
+    }
+
+    public ByteBuffer getTransposed(int index, ByteBuffer buffer) {
+        return load().getTransposed(index, buffer);
+    }
+
+//#endif
+    public float[] getTransposed(float[] arr, int offset) {
+        return load().getTransposed(arr, offset);
+    }
+
+    public float[] getTransposed(float[] arr) {
+        return load().getTransposed(arr);
+    }
+
+    public Vector4f transform(Vector4f v) {
+        return load().transform(v);
+    }
+
+    public Vector4f transform(Vector4fc v, Vector4f dest) {
+        return load().transform(v, dest);
+    }
+
+    public Vector3f transformPosition(Vector3f v) {
+        return load().transformPosition(v);
+    }
+
+    public Vector3f transformPosition(Vector3fc v, Vector3f dest) {
+        return load().transformPosition(v, dest);
+    }
+
+    public Vector3f transformDirection(Vector3f v) {
+        return load().transformDirection(v);
+    }
+
+    public Vector3f transformDirection(Vector3fc v, Vector3f dest) {
+        return load().transformDirection(v, dest);
+    }
+
+    public float[] transformPositions(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        return load().transformPositions(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+
+    public float[] transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+        return load().transformDirections(src, srcOffset, srcStride, dest, destOffset, destStride, count);
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer transformPositions(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count) {
+        return load().transformPositions(src, srcIndex, srcStride, dest, destIndex, destStride, count);
+    }
+
+    public FloatBuffer transformDirections(FloatBuffer src, int srcIndex, int srcStride, FloatBuffer dest, int destIndex, int destStride, int count) {
+        return load().transformDirections(src, srcIndex, srcStride, dest, destIndex, destStride, count);
+    }
+
+//#endif
+//#ifdef __HAS_UNSAFE__
+    public Matrix4x3fc transformPositions(long srcAddress, int srcStride, long destAddress, int destStride, int count) {
+        load().transformPositions(srcAddress, srcStride, destAddress, destStride, count);
+        return this;
+    }
+
+    public Matrix4x3fc transformDirections(long srcAddress, int srcStride, long destAddress, int destStride, int count) {
+        load().transformDirections(srcAddress, srcStride, destAddress, destStride, count);
+        return this;
+    }
+
+//#endif
+    public Matrix4x3f scale(Vector3fc xyz, Matrix4x3f dest) {
+        return load().scale(xyz, dest);
+    }
+
+    public Matrix4x3f scale(float xyz, Matrix4x3f dest) {
+        return load().scale(xyz, dest);
+    }
+
+    public Matrix4x3f scaleXY(float x, float y, Matrix4x3f dest) {
+        return load().scaleXY(x, y, dest);
+    }
+
+    public Matrix4x3f scaleAround(float sx, float sy, float sz, float ox, float oy, float oz, Matrix4x3f dest) {
+        return load().scaleAround(sx, sy, sz, ox, oy, oz, dest);
+    }
+
+    public Matrix4x3f scaleAround(float factor, float ox, float oy, float oz, Matrix4x3f dest) {
+        return load().scaleAround(factor, ox, oy, oz, dest);
+    }
+
+    public Matrix4x3f scale(float x, float y, float z, Matrix4x3f dest) {
+        return load().scale(x, y, z, dest);
+    }
+
+    public Matrix4x3f scaleLocal(float x, float y, float z, Matrix4x3f dest) {
+        return load().scaleLocal(x, y, z, dest);
+    }
+
+    public Matrix4x3f rotateX(float ang, Matrix4x3f dest) {
+        return load().rotateX(ang, dest);
+    }
+
+    public Matrix4x3f rotateY(float ang, Matrix4x3f dest) {
+        return load().rotateY(ang, dest);
+    }
+
+    public Matrix4x3f rotateZ(float ang, Matrix4x3f dest) {
+        return load().rotateZ(ang, dest);
+    }
+
+    public Matrix4x3f rotateXYZ(float angleX, float angleY, float angleZ, Matrix4x3f dest) {
+        return load().rotateXYZ(angleX, angleY, angleZ, dest);
+    }
+
+    public Matrix4x3f rotateZYX(float angleZ, float angleY, float angleX, Matrix4x3f dest) {
+        return load().rotateZYX(angleZ, angleY, angleX, dest);
+    }
+
+    public Matrix4x3f rotateYXZ(float angleY, float angleX, float angleZ, Matrix4x3f dest) {
+        return load().rotateYXZ(angleY, angleX, angleZ, dest);
+    }
+
+    public Matrix4x3f rotate(float ang, float x, float y, float z, Matrix4x3f dest) {
+        return load().rotate(ang, x, y, z, dest);
+    }
+
+    public Matrix4x3f rotateTranslation(float ang, float x, float y, float z, Matrix4x3f dest) {
+        return load().rotateTranslation(ang, x, y, z, dest);
+    }
+
+    public Matrix4x3f rotateAround(Quaternionfc quat, float ox, float oy, float oz, Matrix4x3f dest) {
+        return load().rotateAround(quat, ox, oy, oz, dest);
+    }
+
+    public Matrix4x3f rotateLocal(float ang, float x, float y, float z, Matrix4x3f dest) {
+        return load().rotateLocal(ang, x, y, z, dest);
+    }
+
+    public Matrix4x3f translate(Vector3fc offset, Matrix4x3f dest) {
+        return load().translate(offset, dest);
+    }
+
+    public Matrix4x3f translate(float x, float y, float z, Matrix4x3f dest) {
+        return load().translate(x, y, z, dest);
+    }
+
+    public Matrix4x3f translateLocal(Vector3fc offset, Matrix4x3f dest) {
+        return load().translateLocal(offset, dest);
+    }
+
+    public Matrix4x3f translateLocal(float x, float y, float z, Matrix4x3f dest) {
+        return load().translateLocal(x, y, z, dest);
+    }
+
+    public Matrix4x3f ortho(float left, float right, float bottom, float top, float zNear, float zFar, boolean zZeroToOne, Matrix4x3f dest) {
+        return load().ortho(left, right, bottom, top, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4x3f ortho(float left, float right, float bottom, float top, float zNear, float zFar, Matrix4x3f dest) {
+        return load().ortho(left, right, bottom, top, zNear, zFar, dest);
+    }
+
+    public Matrix4x3f orthoLH(float left, float right, float bottom, float top, float zNear, float zFar, boolean zZeroToOne, Matrix4x3f dest) {
+        return load().orthoLH(left, right, bottom, top, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4x3f orthoLH(float left, float right, float bottom, float top, float zNear, float zFar, Matrix4x3f dest) {
+        return load().orthoLH(left, right, bottom, top, zNear, zFar, dest);
+    }
+
+    public Matrix4x3f orthoSymmetric(float width, float height, float zNear, float zFar, boolean zZeroToOne, Matrix4x3f dest) {
+        return load().orthoSymmetric(width, height, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4x3f orthoSymmetric(float width, float height, float zNear, float zFar, Matrix4x3f dest) {
+        return load().orthoSymmetric(width, height, zNear, zFar, dest);
+    }
+
+    public Matrix4x3f orthoSymmetricLH(float width, float height, float zNear, float zFar, boolean zZeroToOne, Matrix4x3f dest) {
+        return load().orthoSymmetricLH(width, height, zNear, zFar, zZeroToOne, dest);
+    }
+
+    public Matrix4x3f orthoSymmetricLH(float width, float height, float zNear, float zFar, Matrix4x3f dest) {
+        return load().orthoSymmetricLH(width, height, zNear, zFar, dest);
+    }
+
+    public Matrix4x3f ortho2D(float left, float right, float bottom, float top, Matrix4x3f dest) {
+        return load().ortho2D(left, right, bottom, top, dest);
+    }
+
+    public Matrix4x3f ortho2DLH(float left, float right, float bottom, float top, Matrix4x3f dest) {
+        return load().ortho2DLH(left, right, bottom, top, dest);
+    }
+
+    public Matrix4x3f lookAlong(Vector3fc dir, Vector3fc up, Matrix4x3f dest) {
+        return load().lookAlong(dir, up, dest);
+    }
+
+    public Matrix4x3f lookAlong(float dirX, float dirY, float dirZ, float upX, float upY, float upZ, Matrix4x3f dest) {
+        return load().lookAlong(dirX, dirY, dirZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4x3f lookAt(Vector3fc eye, Vector3fc center, Vector3fc up, Matrix4x3f dest) {
+        return load().lookAt(eye, center, up, dest);
+    }
+
+    public Matrix4x3f lookAt(float eyeX, float eyeY, float eyeZ, float centerX, float centerY, float centerZ, float upX, float upY, float upZ, Matrix4x3f dest) {
+        return load().lookAt(eyeX, eyeY, eyeZ, centerX, centerY, centerZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4x3f lookAtLH(Vector3fc eye, Vector3fc center, Vector3fc up, Matrix4x3f dest) {
+        return load().lookAtLH(eye, center, up, dest);
+    }
+
+    public Matrix4x3f lookAtLH(float eyeX, float eyeY, float eyeZ, float centerX, float centerY, float centerZ, float upX, float upY, float upZ, Matrix4x3f dest) {
+        return load().lookAtLH(eyeX, eyeY, eyeZ, centerX, centerY, centerZ, upX, upY, upZ, dest);
+    }
+
+    public Matrix4x3f rotate(Quaternionfc quat, Matrix4x3f dest) {
+        return load().rotate(quat, dest);
+    }
+
+    public Matrix4x3f rotateTranslation(Quaternionfc quat, Matrix4x3f dest) {
+        return load().rotateTranslation(quat, dest);
+    }
+
+    public Matrix4x3f rotateLocal(Quaternionfc quat, Matrix4x3f dest) {
+        return load().rotateLocal(quat, dest);
+    }
+
+    public Matrix4x3f rotate(AxisAngle4f axisAngle, Matrix4x3f dest) {
+        return load().rotate(axisAngle, dest);
+    }
+
+    public Matrix4x3f rotate(float angle, Vector3fc axis, Matrix4x3f dest) {
+        return load().rotate(angle, axis, dest);
+    }
+
+    public Matrix4x3f reflect(float a, float b, float c, float d, Matrix4x3f dest) {
+        return load().reflect(a, b, c, d, dest);
+    }
+
+    public Matrix4x3f reflect(float nx, float ny, float nz, float px, float py, float pz, Matrix4x3f dest) {
+        return load().reflect(nx, ny, nz, px, py, pz, dest);
+    }
+
+    public Matrix4x3f reflect(Quaternionfc orientation, Vector3fc point, Matrix4x3f dest) {
+        return load().reflect(orientation, point, dest);
+    }
+
+    public Matrix4x3f reflect(Vector3fc normal, Vector3fc point, Matrix4x3f dest) {
+        return load().reflect(normal, point, dest);
+    }
+
+    public Vector4f getRow(int row, Vector4f dest) throws IndexOutOfBoundsException {
+        return load().getRow(row, dest);
+    }
+
+    public Vector3f getColumn(int column, Vector3f dest) throws IndexOutOfBoundsException {
+        return load().getColumn(column, dest);
+    }
+
+    public Matrix4x3f normal(Matrix4x3f dest) {
+        return load().normal(dest);
+    }
+
+    public Matrix3f normal(Matrix3f dest) {
+        return load().normal(dest);
+    }
+
+    public Matrix3f cofactor3x3(Matrix3f dest) {
+        return load().cofactor3x3(dest);
+    }
+
+    public Matrix4x3f cofactor3x3(Matrix4x3f dest) {
+        return load().cofactor3x3(dest);
+    }
+
+    public Matrix4x3f normalize3x3(Matrix4x3f dest) {
+        return load().normalize3x3(dest);
+    }
+
+    public Matrix3f normalize3x3(Matrix3f dest) {
+        return load().normalize3x3(dest);
+    }
+
+    public Vector4f frustumPlane(int which, Vector4f dest) {
+        return load().frustumPlane(which, dest);
+    }
+
+    public Vector3f positiveZ(Vector3f dir) {
+        return load().positiveZ(dir);
+    }
+
+    public Vector3f normalizedPositiveZ(Vector3f dir) {
+        return load().normalizedPositiveZ(dir);
+    }
+
+    public Vector3f positiveX(Vector3f dir) {
+        return load().positiveX(dir);
+    }
+
+    public Vector3f normalizedPositiveX(Vector3f dir) {
+        return load().normalizedPositiveX(dir);
+    }
+
+    public Vector3f positiveY(Vector3f dir) {
+        return load().positiveY(dir);
+    }
+
+    public Vector3f normalizedPositiveY(Vector3f dir) {
+        return load().normalizedPositiveY(dir);
+    }
+
+    public Vector3f origin(Vector3f origin) {
+        return load().origin(origin);
+    }
+
+    public Matrix4x3f shadow(Vector4fc light, float a, float b, float c, float d, Matrix4x3f dest) {
+        return load().shadow(light, a, b, c, d, dest);
+    }
+
+    public Matrix4x3f shadow(float lightX, float lightY, float lightZ, float lightW, float a, float b, float c, float d, Matrix4x3f dest) {
+        return load().shadow(lightX, lightY, lightZ, lightW, a, b, c, d, dest);
+    }
+
+    public Matrix4x3f shadow(Vector4fc light, Matrix4x3fc planeTransform, Matrix4x3f dest) {
+        return load().shadow(light, planeTransform, dest);
+    }
+
+    public Matrix4x3f shadow(float lightX, float lightY, float lightZ, float lightW, Matrix4x3fc planeTransform, Matrix4x3f dest) {
+        return load().shadow(lightX, lightY, lightZ, lightW, planeTransform, dest);
+    }
+
+    public Matrix4x3f pick(float x, float y, float width, float height, int[] viewport, Matrix4x3f dest) {
+        return load().pick(x, y, width, height, viewport, dest);
+    }
+
+    public Matrix4x3f arcball(float radius, float centerX, float centerY, float centerZ, float angleX, float angleY, Matrix4x3f dest) {
+        return load().arcball(radius, centerX, centerY, centerZ, angleX, angleY, dest);
+    }
+
+    public Matrix4x3f arcball(float radius, Vector3fc center, float angleX, float angleY, Matrix4x3f dest) {
+        return load().arcball(radius, center, angleX, angleY, dest);
+    }
+
+    public Matrix4x3f transformAab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, Vector3f outMin, Vector3f outMax) {
+        return load().transformAab(minX, minY, minZ, maxX, maxY, maxZ, outMin, outMax);
+    }
+
+    public Matrix4x3f transformAab(Vector3fc min, Vector3fc max, Vector3f outMin, Vector3f outMax) {
+        return load().transformAab(min, max, outMin, outMax);
+    }
+
+    public Matrix4x3f lerp(Matrix4x3fc other, float t, Matrix4x3f dest) {
+        return load().lerp(other, t, dest);
+    }
+
+    public Matrix4x3f rotateTowards(Vector3fc dir, Vector3fc up, Matrix4x3f dest) {
+        return load().rotateTowards(dir, up, dest);
+    }
+
+    public Matrix4x3f rotateTowards(float dirX, float dirY, float dirZ, float upX, float upY, float upZ, Matrix4x3f dest) {
+        return load().rotateTowards(dirX, dirY, dirZ, upX, upY, upZ, dest);
+    }
+
+    public Vector3f getEulerAnglesXYZ(Vector3f dest) {
+        return load().getEulerAnglesXYZ(dest);
+    }
+
+    public Vector3f getEulerAnglesZYX(Vector3f dest) {
+        return load().getEulerAnglesZYX(dest);
+    }
+
+    public Vector3f getEulerAnglesYXZ(Vector3f dest) {
+        return load().getEulerAnglesYXZ(dest);
+    }
+
+    public Matrix4x3f obliqueZ(float a, float b, Matrix4x3f dest) {
+        return load().obliqueZ(a, b, dest);
+    }
+
+    public Matrix4x3f withLookAtUp(Vector3fc up, Matrix4x3f dest) {
+        return load().withLookAtUp(up, dest);
+    }
+
+    public Matrix4x3f withLookAtUp(float upX, float upY, float upZ, Matrix4x3f dest) {
+        return load().withLookAtUp(upX, upY, upZ, dest);
+    }
+
+    public Matrix4x3f mapXZY(Matrix4x3f dest) {
+        return load().mapXZY(dest);
+    }
+
+    public Matrix4x3f mapXZnY(Matrix4x3f dest) {
+        return load().mapXZnY(dest);
+    }
+
+    public Matrix4x3f mapXnYnZ(Matrix4x3f dest) {
+        return load().mapXnYnZ(dest);
+    }
+
+    public Matrix4x3f mapXnZY(Matrix4x3f dest) {
+        return load().mapXnZY(dest);
+    }
+
+    public Matrix4x3f mapXnZnY(Matrix4x3f dest) {
+        return load().mapXnZnY(dest);
+    }
+
+    public Matrix4x3f mapYXZ(Matrix4x3f dest) {
+        return load().mapYXZ(dest);
+    }
+
+    public Matrix4x3f mapYXnZ(Matrix4x3f dest) {
+        return load().mapYXnZ(dest);
+    }
+
+    public Matrix4x3f mapYZX(Matrix4x3f dest) {
+        return load().mapYZX(dest);
+    }
+
+    public Matrix4x3f mapYZnX(Matrix4x3f dest) {
+        return load().mapYZnX(dest);
+    }
+
+    public Matrix4x3f mapYnXZ(Matrix4x3f dest) {
+        return load().mapYnXZ(dest);
+    }
+
+    public Matrix4x3f mapYnXnZ(Matrix4x3f dest) {
+        return load().mapYnXnZ(dest);
+    }
+
+    public Matrix4x3f mapYnZX(Matrix4x3f dest) {
+        return load().mapYnZX(dest);
+    }
+
+    public Matrix4x3f mapYnZnX(Matrix4x3f dest) {
+        return load().mapYnZnX(dest);
+    }
+
+    public Matrix4x3f mapZXY(Matrix4x3f dest) {
+        return load().mapZXY(dest);
+    }
+
+    public Matrix4x3f mapZXnY(Matrix4x3f dest) {
+        return load().mapZXnY(dest);
+    }
+
+    public Matrix4x3f mapZYX(Matrix4x3f dest) {
+        return load().mapZYX(dest);
+    }
+
+    public Matrix4x3f mapZYnX(Matrix4x3f dest) {
+        return load().mapZYnX(dest);
+    }
+
+    public Matrix4x3f mapZnXY(Matrix4x3f dest) {
+        return load().mapZnXY(dest);
+    }
+
+    public Matrix4x3f mapZnXnY(Matrix4x3f dest) {
+        return load().mapZnXnY(dest);
+    }
+
+    public Matrix4x3f mapZnYX(Matrix4x3f dest) {
+        return load().mapZnYX(dest);
+    }
+
+    public Matrix4x3f mapZnYnX(Matrix4x3f dest) {
+        return load().mapZnYnX(dest);
+    }
+
+    public Matrix4x3f mapnXYnZ(Matrix4x3f dest) {
+        return load().mapnXYnZ(dest);
+    }
+
+    public Matrix4x3f mapnXZY(Matrix4x3f dest) {
+        return load().mapnXZY(dest);
+    }
+
+    public Matrix4x3f mapnXZnY(Matrix4x3f dest) {
+        return load().mapnXZnY(dest);
+    }
+
+    public Matrix4x3f mapnXnYZ(Matrix4x3f dest) {
+        return load().mapnXnYZ(dest);
+    }
+
+    public Matrix4x3f mapnXnYnZ(Matrix4x3f dest) {
+        return load().mapnXnYnZ(dest);
+    }
+
+    public Matrix4x3f mapnXnZY(Matrix4x3f dest) {
+        return load().mapnXnZY(dest);
+    }
+
+    public Matrix4x3f mapnXnZnY(Matrix4x3f dest) {
+        return load().mapnXnZnY(dest);
+    }
+
+    public Matrix4x3f mapnYXZ(Matrix4x3f dest) {
+        return load().mapnYXZ(dest);
+    }
+
+    public Matrix4x3f mapnYXnZ(Matrix4x3f dest) {
+        return load().mapnYXnZ(dest);
+    }
+
+    public Matrix4x3f mapnYZX(Matrix4x3f dest) {
+        return load().mapnYZX(dest);
+    }
+
+    public Matrix4x3f mapnYZnX(Matrix4x3f dest) {
+        return load().mapnYZnX(dest);
+    }
+
+    public Matrix4x3f mapnYnXZ(Matrix4x3f dest) {
+        return load().mapnYnXZ(dest);
+    }
+
+    public Matrix4x3f mapnYnXnZ(Matrix4x3f dest) {
+        return load().mapnYnXnZ(dest);
+    }
+
+    public Matrix4x3f mapnYnZX(Matrix4x3f dest) {
+        return load().mapnYnZX(dest);
+    }
+
+    public Matrix4x3f mapnYnZnX(Matrix4x3f dest) {
+        return load().mapnYnZnX(dest);
+    }
+
+    public Matrix4x3f mapnZXY(Matrix4x3f dest) {
+        return load().mapnZXY(dest);
+    }
+
+    public Matrix4x3f mapnZXnY(Matrix4x3f dest) {
+        return load().mapnZXnY(dest);
+    }
+
+    public Matrix4x3f mapnZYX(Matrix4x3f dest) {
+        return load().mapnZYX(dest);
+    }
+
+    public Matrix4x3f mapnZYnX(Matrix4x3f dest) {
+        return load().mapnZYnX(dest);
+    }
+
+    public Matrix4x3f mapnZnXY(Matrix4x3f dest) {
+        return load().mapnZnXY(dest);
+    }
+
+    public Matrix4x3f mapnZnXnY(Matrix4x3f dest) {
+        return load().mapnZnXnY(dest);
+    }
+
+    public Matrix4x3f mapnZnYX(Matrix4x3f dest) {
+        return load().mapnZnYX(dest);
+    }
+
+    public Matrix4x3f mapnZnYnX(Matrix4x3f dest) {
+        return load().mapnZnYnX(dest);
+    }
+
+    public Matrix4x3f negateX(Matrix4x3f dest) {
+        return load().negateX(dest);
+    }
+
+    public Matrix4x3f negateY(Matrix4x3f dest) {
+        return load().negateY(dest);
+    }
+
+    public Matrix4x3f negateZ(Matrix4x3f dest) {
+        return load().negateZ(dest);
+    }
+
+    public boolean equals(Matrix4x3fc m, float delta) {
+        return load().equals(m, delta);
+    }
+
+    public boolean isFinite() {
+        return load().isFinite();
+    }
+
+    public String toString() {
+        return load().toString();
+    }
+}
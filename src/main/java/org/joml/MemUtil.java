@@ -23,6 +23,10 @@
  */
 package org.joml;
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+//#endif
 import java.lang.reflect.Field;
 //#ifdef __HAS_NIO__
 import java.nio.*;
@@ -37,6 +41,12 @@ import java.nio.*;
  * @author Kai Burjack
  */
 abstract class MemUtil {
+    /**
+     * Why {@link #INSTANCE} is not the fastest implementation, or <code>null</code> if it is.
+     * <p>
+     * It is assigned by {@link #createInstance()} and therefore must not have an initializer of its own.
+     */
+    static String fallbackReason;
     public static final MemUtil INSTANCE = createInstance();
     private static MemUtil createInstance() {
         MemUtil accessor;
@@ -47,25 +57,43 @@ abstract class MemUtil {
             }
             if (Options.NO_UNSAFE) {
                 accessor = new MemUtilNIO();
+                fallbackReason = "Unsafe disabled by -Djoml.nounsafe";
             } else {
                 if (Options.INTERNAL_UNSAFE) {
                     try {
                         accessor = new MemUtilInternalUnsafe();
-                    } catch (Throwable ignored) {
+                    } catch (Throwable e) {
                         // Effectively, this is going to be an IllegalAccessError
                         accessor = new MemUtilUnsafe();
+                        fallbackReason = "jdk.internal.misc.Unsafe not accessible (" + e.getClass().getName()
+                                + "), see --add-exports java.base/jdk.internal.misc=ALL-UNNAMED";
                     }
                 } else {
                     accessor = new MemUtilUnsafe();
+                    fallbackReason = "jdk.internal.misc.Unsafe disabled by -Djoml.internalunsafe=false";
                 }
             }
         } catch (Throwable e) {
             if (Options.FORCE_UNSAFE)
                 throw new ConfigurationException("Unsafe is not supported but its use was forced via -Djoml.forceUnsafe", e);
             accessor = new MemUtilNIO();
+            fallbackReason = "sun.misc.Unsafe not available (" + e + ")";
         }
 //#else
         accessor = new MemUtilNIO();
+        fallbackReason = "built without Unsafe support";
+//#endif
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+        if (Options.USE_FOREIGN_MEMORY || accessor.getClass() == MemUtilNIO.class) {
+            try {
+                accessor = new MemUtilForeign();
+                if (Options.USE_FOREIGN_MEMORY)
+                    fallbackReason = null;
+            } catch (Throwable e) {
+                // java.lang.foreign is not supported by the running JVM
+                fallbackReason = (fallbackReason != null ? fallbackReason + "; " : "") + "java.lang.foreign not available (" + e + ")";
+            }
+        }
 //#endif
         return accessor;
     }
@@ -240,8 +268,37 @@ abstract class MemUtil {
     public abstract void putMatrix4f(Quaternionf q, int position, FloatBuffer dest);
     public abstract void putMatrix4x3f(Quaternionf q, int position, ByteBuffer dest);
     public abstract void putMatrix4x3f(Quaternionf q, int position, FloatBuffer dest);
+    public abstract void put(float[] src, int srcOffset, int count, FloatBuffer dest, int destOffset);
+    public abstract void put(float[] src, int srcOffset, int count, ByteBuffer dest, int destOffset);
+    public abstract void transformAffine(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+            float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32);
+    public abstract void transformProject(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+            float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+            float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33);
 //#endif
 
+    public static void transformAffine(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count,
+            float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32) {
+        for (int i = 0; i < count; i++, srcOffset += srcStride, destOffset += destStride) {
+            float x = src[srcOffset], y = src[srcOffset + 1], z = src[srcOffset + 2];
+            dest[destOffset]     = Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30)));
+            dest[destOffset + 1] = Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31)));
+            dest[destOffset + 2] = Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32)));
+        }
+    }
+
+    public static void transformProject(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count,
+            float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+            float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {
+        for (int i = 0; i < count; i++, srcOffset += srcStride, destOffset += destStride) {
+            float x = src[srcOffset], y = src[srcOffset + 1], z = src[srcOffset + 2];
+            float invW = 1.0f / Math.fma(m03, x, Math.fma(m13, y, Math.fma(m23, z, m33)));
+            dest[destOffset]     = Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))) * invW;
+            dest[destOffset + 1] = Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))) * invW;
+            dest[destOffset + 2] = Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))) * invW;
+        }
+    }
+
     public abstract float get(Matrix4f m, int column, int row);
     public abstract Matrix4f set(Matrix4f m, int column, int row, float v);
     public abstract double get(Matrix4d m, int column, int row);
@@ -3919,6 +3976,58 @@ abstract class MemUtil {
             .put(position + 10, 0.0f)
             .put(position + 11, 0.0f);
         }
+
+        public void put(float[] src, int srcOffset, int count, FloatBuffer dest, int destOffset) {
+            for (int i = 0; i < count; i++)
+                dest.put(destOffset + i, src[srcOffset + i]);
+        }
+
+        public void put(float[] src, int srcOffset, int count, ByteBuffer dest, int destOffset) {
+            for (int i = 0; i < count; i++)
+                dest.putFloat(destOffset + (i << 2), src[srcOffset + i]);
+        }
+
+        /**
+         * Check that the <code>count</code> vectors of three floats, the first at <code>index</code> and each following
+         * <code>stride</code> floats after the previous one, lie within the limit of <code>buf</code>.
+         * <p>
+         * The stride may be negative, in which case the last vector is the one with the lowest index.
+         */
+        static void checkVectors(FloatBuffer buf, int index, int stride, int count) {
+            long last = index + (long) (count - 1) * stride;
+            if (index < 0 || last < 0 || java.lang.Math.max(index, last) + 3 > buf.limit())
+                throw new IndexOutOfBoundsException();
+        }
+
+        public void transformAffine(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32) {
+            if (count <= 0)
+                return;
+            checkVectors(src, srcOffset, srcStride, count);
+            checkVectors(dest, destOffset, destStride, count);
+            for (int i = 0; i < count; i++, srcOffset += srcStride, destOffset += destStride) {
+                float x = src.get(srcOffset), y = src.get(srcOffset + 1), z = src.get(srcOffset + 2);
+                dest.put(destOffset,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))))
+                    .put(destOffset + 1, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))))
+                    .put(destOffset + 2, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))));
+            }
+        }
+
+        public void transformProject(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+                float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {
+            if (count <= 0)
+                return;
+            checkVectors(src, srcOffset, srcStride, count);
+            checkVectors(dest, destOffset, destStride, count);
+            for (int i = 0; i < count; i++, srcOffset += srcStride, destOffset += destStride) {
+                float x = src.get(srcOffset), y = src.get(srcOffset + 1), z = src.get(srcOffset + 2);
+                float invW = 1.0f / Math.fma(m03, x, Math.fma(m13, y, Math.fma(m23, z, m33)));
+                dest.put(destOffset,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))) * invW)
+                    .put(destOffset + 1, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))) * invW)
+                    .put(destOffset + 2, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))) * invW);
+            }
+        }
 //#endif
     }
 
@@ -5215,6 +5324,40 @@ abstract class MemUtil {
             u.putFloat(null, addr + 44, 0.0f);
         }
 
+        public static void put(float[] src, int srcOffset, int count, long destAddr) {
+            sun.misc.Unsafe u = UNSAFE;
+            long srcAddr = floatArrayOffset + ((long) srcOffset << 2);
+            int i = 0;
+            for (; i < count - 1; i += 2)
+                u.putLong(null, destAddr + ((long) i << 2), u.getLong(src, srcAddr + ((long) i << 2)));
+            if (i < count)
+                u.putFloat(null, destAddr + ((long) i << 2), src[srcOffset + i]);
+        }
+
+        public static void transformAffine(long srcAddr, int srcStride, long destAddr, int destStride, int count,
+                float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32) {
+            sun.misc.Unsafe u = UNSAFE;
+            for (int i = 0; i < count; i++, srcAddr += srcStride, destAddr += destStride) {
+                float x = u.getFloat(null, srcAddr), y = u.getFloat(null, srcAddr + 4), z = u.getFloat(null, srcAddr + 8);
+                u.putFloat(null, destAddr,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))));
+                u.putFloat(null, destAddr + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))));
+                u.putFloat(null, destAddr + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))));
+            }
+        }
+
+        public static void transformProject(long srcAddr, int srcStride, long destAddr, int destStride, int count,
+                float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+                float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {
+            sun.misc.Unsafe u = UNSAFE;
+            for (int i = 0; i < count; i++, srcAddr += srcStride, destAddr += destStride) {
+                float x = u.getFloat(null, srcAddr), y = u.getFloat(null, srcAddr + 4), z = u.getFloat(null, srcAddr + 8);
+                float invW = 1.0f / Math.fma(m03, x, Math.fma(m13, y, Math.fma(m23, z, m33)));
+                u.putFloat(null, destAddr,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))) * invW);
+                u.putFloat(null, destAddr + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))) * invW);
+                u.putFloat(null, destAddr + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))) * invW);
+            }
+        }
+
         private static void throwNoDirectBufferException() {
             throw new IllegalArgumentException("Must use a direct buffer");
         }
@@ -6525,6 +6668,57 @@ abstract class MemUtil {
             else
                 super.get(dst, offset, src);
         }
+
+        public void put(float[] src, int srcOffset, int count, FloatBuffer dest, int destOffset) {
+            if (Options.DEBUG) checkPut(destOffset, dest.isDirect(), dest.capacity(), count);
+            if (dest.order() == ByteOrder.nativeOrder())
+                put(src, srcOffset, count, UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2));
+            else
+                super.put(src, srcOffset, count, dest, destOffset);
+        }
+
+        public void put(float[] src, int srcOffset, int count, ByteBuffer dest, int destOffset) {
+            if (Options.DEBUG) checkPut(destOffset, dest.isDirect(), dest.capacity(), count << 2);
+            if (dest.order() == ByteOrder.nativeOrder())
+                put(src, srcOffset, count, UNSAFE.getLong(dest, ADDRESS) + destOffset);
+            else
+                super.put(src, srcOffset, count, dest, destOffset);
+        }
+
+        private static boolean canUseAddresses(FloatBuffer src, FloatBuffer dest) {
+            return src.isDirect() && dest.isDirect() && src.order() == ByteOrder.nativeOrder() && dest.order() == ByteOrder.nativeOrder();
+        }
+
+        public void transformAffine(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32) {
+            if (count <= 0)
+                return;
+            if (canUseAddresses(src, dest)) {
+                checkVectors(src, srcOffset, srcStride, count);
+                checkVectors(dest, destOffset, destStride, count);
+                transformAffine(UNSAFE.getLong(src, ADDRESS) + ((long) srcOffset << 2), srcStride << 2,
+                                UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2), destStride << 2, count,
+                                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+            } else
+                super.transformAffine(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                                      m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        }
+
+        public void transformProject(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+                float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {
+            if (count <= 0)
+                return;
+            if (canUseAddresses(src, dest)) {
+                checkVectors(src, srcOffset, srcStride, count);
+                checkVectors(dest, destOffset, destStride, count);
+                transformProject(UNSAFE.getLong(src, ADDRESS) + ((long) srcOffset << 2), srcStride << 2,
+                                 UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2), destStride << 2, count,
+                                 m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+            } else
+                super.transformProject(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                                       m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        }
 //#endif
     }
 //#endif
@@ -6550,6 +6744,7 @@ abstract class MemUtil {
         public static final long Vector3i_x;
         public static final long Vector2f_x;
         public static final long Vector2i_x;
+        public static final long floatArrayOffset;
 
         static {
             UNSAFE = jdk.internal.misc.Unsafe.getUnsafe();
@@ -6570,6 +6765,7 @@ abstract class MemUtil {
                 Vector3i_x = checkVector3i();
                 Vector2f_x = checkVector2f();
                 Vector2i_x = checkVector2i();
+                floatArrayOffset = UNSAFE.arrayBaseOffset(float[].class);
             } catch (NoSuchFieldException e) {
                 throw new UnsupportedOperationException(e);
             }
@@ -7796,6 +7992,40 @@ abstract class MemUtil {
             u.putFloat(null, addr + 44, 0.0f);
         }
 
+        public static void put(float[] src, int srcOffset, int count, long destAddr) {
+            jdk.internal.misc.Unsafe u = UNSAFE;
+            long srcAddr = floatArrayOffset + ((long) srcOffset << 2);
+            int i = 0;
+            for (; i < count - 1; i += 2)
+                u.putLong(null, destAddr + ((long) i << 2), u.getLong(src, srcAddr + ((long) i << 2)));
+            if (i < count)
+                u.putFloat(null, destAddr + ((long) i << 2), src[srcOffset + i]);
+        }
+
+        public static void transformAffine(long srcAddr, int srcStride, long destAddr, int destStride, int count,
+                float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32) {
+            jdk.internal.misc.Unsafe u = UNSAFE;
+            for (int i = 0; i < count; i++, srcAddr += srcStride, destAddr += destStride) {
+                float x = u.getFloat(null, srcAddr), y = u.getFloat(null, srcAddr + 4), z = u.getFloat(null, srcAddr + 8);
+                u.putFloat(null, destAddr,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))));
+                u.putFloat(null, destAddr + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))));
+                u.putFloat(null, destAddr + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))));
+            }
+        }
+
+        public static void transformProject(long srcAddr, int srcStride, long destAddr, int destStride, int count,
+                float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+                float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {
+            jdk.internal.misc.Unsafe u = UNSAFE;
+            for (int i = 0; i < count; i++, srcAddr += srcStride, destAddr += destStride) {
+                float x = u.getFloat(null, srcAddr), y = u.getFloat(null, srcAddr + 4), z = u.getFloat(null, srcAddr + 8);
+                float invW = 1.0f / Math.fma(m03, x, Math.fma(m13, y, Math.fma(m23, z, m33)));
+                u.putFloat(null, destAddr,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))) * invW);
+                u.putFloat(null, destAddr + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))) * invW);
+                u.putFloat(null, destAddr + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))) * invW);
+            }
+        }
+
         private static void throwNoDirectBufferException() {
             throw new IllegalArgumentException("Must use a direct buffer");
         }
@@ -9106,6 +9336,2313 @@ abstract class MemUtil {
             else
                 super.get(dst, offset, src);
         }
+
+        public void put(float[] src, int srcOffset, int count, FloatBuffer dest, int destOffset) {
+            if (Options.DEBUG) checkPut(destOffset, dest.isDirect(), dest.capacity(), count);
+            if (dest.order() == ByteOrder.nativeOrder())
+                put(src, srcOffset, count, UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2));
+            else
+                super.put(src, srcOffset, count, dest, destOffset);
+        }
+
+        public void put(float[] src, int srcOffset, int count, ByteBuffer dest, int destOffset) {
+            if (Options.DEBUG) checkPut(destOffset, dest.isDirect(), dest.capacity(), count << 2);
+            if (dest.order() == ByteOrder.nativeOrder())
+                put(src, srcOffset, count, UNSAFE.getLong(dest, ADDRESS) + destOffset);
+            else
+                super.put(src, srcOffset, count, dest, destOffset);
+        }
+
+        private static boolean canUseAddresses(FloatBuffer src, FloatBuffer dest) {
+            return src.isDirect() && dest.isDirect() && src.order() == ByteOrder.nativeOrder() && dest.order() == ByteOrder.nativeOrder();
+        }
+
+        public void transformAffine(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32) {
+            if (count <= 0)
+                return;
+            if (canUseAddresses(src, dest)) {
+                checkVectors(src, srcOffset, srcStride, count);
+                checkVectors(dest, destOffset, destStride, count);
+                transformAffine(UNSAFE.getLong(src, ADDRESS) + ((long) srcOffset << 2), srcStride << 2,
+                                UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2), destStride << 2, count,
+                                m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+            } else
+                super.transformAffine(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                                      m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+        }
+
+        public void transformProject(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+                float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {
+            if (count <= 0)
+                return;
+            if (canUseAddresses(src, dest)) {
+                checkVectors(src, srcOffset, srcStride, count);
+                checkVectors(dest, destOffset, destStride, count);
+                transformProject(UNSAFE.getLong(src, ADDRESS) + ((long) srcOffset << 2), srcStride << 2,
+                                 UNSAFE.getLong(dest, ADDRESS) + ((long) destOffset << 2), destStride << 2, count,
+                                 m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+            } else
+                super.transformProject(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                                       m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        }
+//#endif
+    }
+//#endif
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Implementation of the buffer operations on the Foreign Function &amp; Memory API, for JDKs on which
+     * sun.misc.Unsafe memory access is unavailable, disabled or deprecated.
+     * <p>
+     * Each operation wraps the buffer in a single {@link MemorySegment} and accesses all elements through it,
+     * so that the JIT can hoist the bounds and liveness checks out of the individual element accesses, which
+     * the per-element NIO implementation cannot do. In contrast to {@link MemUtilUnsafe}, heap buffers are supported as well.
+     * Buffers not in native byte order and absolute offsets before the buffer's position are delegated to {@link MemUtilNIO}.
+     */
+    public static class MemUtilForeign extends MemUtilNIO {
+        private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+        private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED;
+        private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+        private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+
+//#ifdef __HAS_NIO__
+        private static void put(Matrix4f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m03());
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, m.m13());
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m23());
+            dest.set(FLOAT, offset + 48, m.m30());
+            dest.set(FLOAT, offset + 52, m.m31());
+            dest.set(FLOAT, offset + 56, m.m32());
+            dest.set(FLOAT, offset + 60, m.m33());
+        }
+
+        private static void put(Matrix4x3f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m10());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m12());
+            dest.set(FLOAT, offset + 24, m.m20());
+            dest.set(FLOAT, offset + 28, m.m21());
+            dest.set(FLOAT, offset + 32, m.m22());
+            dest.set(FLOAT, offset + 36, m.m30());
+            dest.set(FLOAT, offset + 40, m.m31());
+            dest.set(FLOAT, offset + 44, m.m32());
+        }
+
+        private static void put4x4(Matrix4x3f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, 0.0f);
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, 0.0f);
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, 0.0f);
+            dest.set(FLOAT, offset + 48, m.m30());
+            dest.set(FLOAT, offset + 52, m.m31());
+            dest.set(FLOAT, offset + 56, m.m32());
+            dest.set(FLOAT, offset + 60, 1.0f);
+        }
+
+        private static void put4x4(Matrix4x3d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m02());
+            dest.set(DOUBLE, offset + 24, 0.0);
+            dest.set(DOUBLE, offset + 32, m.m10());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m12());
+            dest.set(DOUBLE, offset + 56, 0.0);
+            dest.set(DOUBLE, offset + 64, m.m20());
+            dest.set(DOUBLE, offset + 72, m.m21());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, 0.0);
+            dest.set(DOUBLE, offset + 96, m.m30());
+            dest.set(DOUBLE, offset + 104, m.m31());
+            dest.set(DOUBLE, offset + 112, m.m32());
+            dest.set(DOUBLE, offset + 120, 1.0);
+        }
+
+        private static void put4x4(Matrix3x2f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, 0.0f);
+            dest.set(FLOAT, offset + 12, 0.0f);
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, 0.0f);
+            dest.set(FLOAT, offset + 28, 0.0f);
+            dest.set(FLOAT, offset + 32, 0.0f);
+            dest.set(FLOAT, offset + 36, 0.0f);
+            dest.set(FLOAT, offset + 40, 1.0f);
+            dest.set(FLOAT, offset + 44, 0.0f);
+            dest.set(FLOAT, offset + 48, m.m20());
+            dest.set(FLOAT, offset + 52, m.m21());
+            dest.set(FLOAT, offset + 56, 0.0f);
+            dest.set(FLOAT, offset + 60, 1.0f);
+        }
+
+        private static void put4x4(Matrix3x2d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, 0.0);
+            dest.set(DOUBLE, offset + 24, 0.0);
+            dest.set(DOUBLE, offset + 32, m.m10());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, 0.0);
+            dest.set(DOUBLE, offset + 56, 0.0);
+            dest.set(DOUBLE, offset + 64, 0.0);
+            dest.set(DOUBLE, offset + 72, 0.0);
+            dest.set(DOUBLE, offset + 80, 1.0);
+            dest.set(DOUBLE, offset + 88, 0.0);
+            dest.set(DOUBLE, offset + 96, m.m20());
+            dest.set(DOUBLE, offset + 104, m.m21());
+            dest.set(DOUBLE, offset + 112, 0.0);
+            dest.set(DOUBLE, offset + 120, 1.0);
+        }
+
+        private static void put3x3(Matrix3x2f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, 0.0f);
+            dest.set(FLOAT, offset + 12, m.m10());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, 0.0f);
+            dest.set(FLOAT, offset + 24, m.m20());
+            dest.set(FLOAT, offset + 28, m.m21());
+            dest.set(FLOAT, offset + 32, 1.0f);
+        }
+
+        private static void put3x3(Matrix3x2d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, 0.0);
+            dest.set(DOUBLE, offset + 24, m.m10());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, 0.0);
+            dest.set(DOUBLE, offset + 48, m.m20());
+            dest.set(DOUBLE, offset + 56, m.m21());
+            dest.set(DOUBLE, offset + 64, 1.0);
+        }
+
+        private static void put4x3(Matrix4f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m10());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m12());
+            dest.set(FLOAT, offset + 24, m.m20());
+            dest.set(FLOAT, offset + 28, m.m21());
+            dest.set(FLOAT, offset + 32, m.m22());
+            dest.set(FLOAT, offset + 36, m.m30());
+            dest.set(FLOAT, offset + 40, m.m31());
+            dest.set(FLOAT, offset + 44, m.m32());
+        }
+
+        private static void put3x4(Matrix4f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m03());
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, m.m13());
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m23());
+        }
+
+        private static void put3x4(Matrix4x3f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, 0.0f);
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, 0.0f);
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, 0.0f);
+        }
+
+        private static void put3x4(Matrix3f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, 0.0f);
+            dest.set(FLOAT, offset + 16, m.m10());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m12());
+            dest.set(FLOAT, offset + 28, 0.0f);
+            dest.set(FLOAT, offset + 32, m.m20());
+            dest.set(FLOAT, offset + 36, m.m21());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, 0.0f);
+        }
+
+        private static void putTransposed(Matrix4f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m30());
+            dest.set(FLOAT, offset + 16, m.m01());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m21());
+            dest.set(FLOAT, offset + 28, m.m31());
+            dest.set(FLOAT, offset + 32, m.m02());
+            dest.set(FLOAT, offset + 36, m.m12());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m32());
+            dest.set(FLOAT, offset + 48, m.m03());
+            dest.set(FLOAT, offset + 52, m.m13());
+            dest.set(FLOAT, offset + 56, m.m23());
+            dest.set(FLOAT, offset + 60, m.m33());
+        }
+
+        private static void put4x3Transposed(Matrix4f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m30());
+            dest.set(FLOAT, offset + 16, m.m01());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m21());
+            dest.set(FLOAT, offset + 28, m.m31());
+            dest.set(FLOAT, offset + 32, m.m02());
+            dest.set(FLOAT, offset + 36, m.m12());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m32());
+        }
+
+        private static void putTransposed(Matrix4x3f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m30());
+            dest.set(FLOAT, offset + 16, m.m01());
+            dest.set(FLOAT, offset + 20, m.m11());
+            dest.set(FLOAT, offset + 24, m.m21());
+            dest.set(FLOAT, offset + 28, m.m31());
+            dest.set(FLOAT, offset + 32, m.m02());
+            dest.set(FLOAT, offset + 36, m.m12());
+            dest.set(FLOAT, offset + 40, m.m22());
+            dest.set(FLOAT, offset + 44, m.m32());
+        }
+
+        private static void putTransposed(Matrix3x2f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m01());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m21());
+        }
+
+        private static void putTransposed(Matrix3f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m20());
+            dest.set(FLOAT, offset + 12, m.m01());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m21());
+            dest.set(FLOAT, offset + 24, m.m02());
+            dest.set(FLOAT, offset + 28, m.m12());
+            dest.set(FLOAT, offset + 32, m.m22());
+        }
+
+        private static void putTransposed(Matrix2f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m10());
+            dest.set(FLOAT, offset + 8, m.m01());
+            dest.set(FLOAT, offset + 12, m.m11());
+        }
+
+        private static void put(Matrix4d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m02());
+            dest.set(DOUBLE, offset + 24, m.m03());
+            dest.set(DOUBLE, offset + 32, m.m10());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m12());
+            dest.set(DOUBLE, offset + 56, m.m13());
+            dest.set(DOUBLE, offset + 64, m.m20());
+            dest.set(DOUBLE, offset + 72, m.m21());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, m.m23());
+            dest.set(DOUBLE, offset + 96, m.m30());
+            dest.set(DOUBLE, offset + 104, m.m31());
+            dest.set(DOUBLE, offset + 112, m.m32());
+            dest.set(DOUBLE, offset + 120, m.m33());
+        }
+
+        private static void put(Matrix4x3d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m02());
+            dest.set(DOUBLE, offset + 24, m.m10());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m12());
+            dest.set(DOUBLE, offset + 48, m.m20());
+            dest.set(DOUBLE, offset + 56, m.m21());
+            dest.set(DOUBLE, offset + 64, m.m22());
+            dest.set(DOUBLE, offset + 72, m.m30());
+            dest.set(DOUBLE, offset + 80, m.m31());
+            dest.set(DOUBLE, offset + 88, m.m32());
+        }
+
+        private static void putf(Matrix4d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m01());
+            dest.set(FLOAT, offset + 8, (float)m.m02());
+            dest.set(FLOAT, offset + 12, (float)m.m03());
+            dest.set(FLOAT, offset + 16, (float)m.m10());
+            dest.set(FLOAT, offset + 20, (float)m.m11());
+            dest.set(FLOAT, offset + 24, (float)m.m12());
+            dest.set(FLOAT, offset + 28, (float)m.m13());
+            dest.set(FLOAT, offset + 32, (float)m.m20());
+            dest.set(FLOAT, offset + 36, (float)m.m21());
+            dest.set(FLOAT, offset + 40, (float)m.m22());
+            dest.set(FLOAT, offset + 44, (float)m.m23());
+            dest.set(FLOAT, offset + 48, (float)m.m30());
+            dest.set(FLOAT, offset + 52, (float)m.m31());
+            dest.set(FLOAT, offset + 56, (float)m.m32());
+            dest.set(FLOAT, offset + 60, (float)m.m33());
+        }
+
+        private static void putf(Matrix4x3d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m01());
+            dest.set(FLOAT, offset + 8, (float)m.m02());
+            dest.set(FLOAT, offset + 12, (float)m.m10());
+            dest.set(FLOAT, offset + 16, (float)m.m11());
+            dest.set(FLOAT, offset + 20, (float)m.m12());
+            dest.set(FLOAT, offset + 24, (float)m.m20());
+            dest.set(FLOAT, offset + 28, (float)m.m21());
+            dest.set(FLOAT, offset + 32, (float)m.m22());
+            dest.set(FLOAT, offset + 36, (float)m.m30());
+            dest.set(FLOAT, offset + 40, (float)m.m31());
+            dest.set(FLOAT, offset + 44, (float)m.m32());
+        }
+
+        private static void put4x3Transposed(Matrix4d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m30());
+            dest.set(DOUBLE, offset + 32, m.m01());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m21());
+            dest.set(DOUBLE, offset + 56, m.m31());
+            dest.set(DOUBLE, offset + 64, m.m02());
+            dest.set(DOUBLE, offset + 72, m.m12());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, m.m32());
+        }
+
+        private static void putTransposed(Matrix4d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m30());
+            dest.set(DOUBLE, offset + 32, m.m01());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m21());
+            dest.set(DOUBLE, offset + 56, m.m31());
+            dest.set(DOUBLE, offset + 64, m.m02());
+            dest.set(DOUBLE, offset + 72, m.m12());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, m.m32());
+            dest.set(DOUBLE, offset + 96, m.m03());
+            dest.set(DOUBLE, offset + 104, m.m13());
+            dest.set(DOUBLE, offset + 112, m.m23());
+            dest.set(DOUBLE, offset + 120, m.m33());
+        }
+
+        private static void putTransposed(Matrix4x3d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m30());
+            dest.set(DOUBLE, offset + 32, m.m01());
+            dest.set(DOUBLE, offset + 40, m.m11());
+            dest.set(DOUBLE, offset + 48, m.m21());
+            dest.set(DOUBLE, offset + 56, m.m31());
+            dest.set(DOUBLE, offset + 64, m.m02());
+            dest.set(DOUBLE, offset + 72, m.m12());
+            dest.set(DOUBLE, offset + 80, m.m22());
+            dest.set(DOUBLE, offset + 88, m.m32());
+        }
+
+        private static void putTransposed(Matrix3d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m01());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m21());
+            dest.set(DOUBLE, offset + 48, m.m02());
+            dest.set(DOUBLE, offset + 56, m.m12());
+            dest.set(DOUBLE, offset + 64, m.m22());
+        }
+
+        private static void putTransposed(Matrix3x2d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m20());
+            dest.set(DOUBLE, offset + 24, m.m01());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m21());
+        }
+
+        private static void putTransposed(Matrix2d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m10());
+            dest.set(DOUBLE, offset + 16, m.m01());
+            dest.set(DOUBLE, offset + 24, m.m11());
+        }
+
+        private static void putfTransposed(Matrix4d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m10());
+            dest.set(FLOAT, offset + 8, (float)m.m20());
+            dest.set(FLOAT, offset + 12, (float)m.m30());
+            dest.set(FLOAT, offset + 16, (float)m.m01());
+            dest.set(FLOAT, offset + 20, (float)m.m11());
+            dest.set(FLOAT, offset + 24, (float)m.m21());
+            dest.set(FLOAT, offset + 28, (float)m.m31());
+            dest.set(FLOAT, offset + 32, (float)m.m02());
+            dest.set(FLOAT, offset + 36, (float)m.m12());
+            dest.set(FLOAT, offset + 40, (float)m.m22());
+            dest.set(FLOAT, offset + 44, (float)m.m32());
+            dest.set(FLOAT, offset + 48, (float)m.m03());
+            dest.set(FLOAT, offset + 52, (float)m.m13());
+            dest.set(FLOAT, offset + 56, (float)m.m23());
+            dest.set(FLOAT, offset + 60, (float)m.m33());
+        }
+
+        private static void putfTransposed(Matrix4x3d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m10());
+            dest.set(FLOAT, offset + 8, (float)m.m20());
+            dest.set(FLOAT, offset + 12, (float)m.m30());
+            dest.set(FLOAT, offset + 16, (float)m.m01());
+            dest.set(FLOAT, offset + 20, (float)m.m11());
+            dest.set(FLOAT, offset + 24, (float)m.m21());
+            dest.set(FLOAT, offset + 28, (float)m.m31());
+            dest.set(FLOAT, offset + 32, (float)m.m02());
+            dest.set(FLOAT, offset + 36, (float)m.m12());
+            dest.set(FLOAT, offset + 40, (float)m.m22());
+            dest.set(FLOAT, offset + 44, (float)m.m32());
+        }
+
+        private static void putfTransposed(Matrix3d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m10());
+            dest.set(FLOAT, offset + 8, (float)m.m20());
+            dest.set(FLOAT, offset + 12, (float)m.m01());
+            dest.set(FLOAT, offset + 16, (float)m.m11());
+            dest.set(FLOAT, offset + 20, (float)m.m21());
+            dest.set(FLOAT, offset + 24, (float)m.m02());
+            dest.set(FLOAT, offset + 28, (float)m.m12());
+            dest.set(FLOAT, offset + 32, (float)m.m22());
+        }
+
+        private static void putfTransposed(Matrix3x2d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m10());
+            dest.set(FLOAT, offset + 8, (float)m.m20());
+            dest.set(FLOAT, offset + 12, (float)m.m01());
+            dest.set(FLOAT, offset + 16, (float)m.m11());
+            dest.set(FLOAT, offset + 20, (float)m.m21());
+        }
+
+        private static void putfTransposed(Matrix2d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m10());
+            dest.set(FLOAT, offset + 8, (float)m.m01());
+            dest.set(FLOAT, offset + 12, (float)m.m11());
+        }
+
+        private static void put(Matrix3f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m02());
+            dest.set(FLOAT, offset + 12, m.m10());
+            dest.set(FLOAT, offset + 16, m.m11());
+            dest.set(FLOAT, offset + 20, m.m12());
+            dest.set(FLOAT, offset + 24, m.m20());
+            dest.set(FLOAT, offset + 28, m.m21());
+            dest.set(FLOAT, offset + 32, m.m22());
+        }
+
+        private static void put(Matrix3d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m02());
+            dest.set(DOUBLE, offset + 24, m.m10());
+            dest.set(DOUBLE, offset + 32, m.m11());
+            dest.set(DOUBLE, offset + 40, m.m12());
+            dest.set(DOUBLE, offset + 48, m.m20());
+            dest.set(DOUBLE, offset + 56, m.m21());
+            dest.set(DOUBLE, offset + 64, m.m22());
+        }
+
+        private static void putf(Matrix3d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m01());
+            dest.set(FLOAT, offset + 8, (float)m.m02());
+            dest.set(FLOAT, offset + 12, (float)m.m10());
+            dest.set(FLOAT, offset + 16, (float)m.m11());
+            dest.set(FLOAT, offset + 20, (float)m.m12());
+            dest.set(FLOAT, offset + 24, (float)m.m20());
+            dest.set(FLOAT, offset + 28, (float)m.m21());
+            dest.set(FLOAT, offset + 32, (float)m.m22());
+        }
+
+        private static void put(Matrix3x2f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m10());
+            dest.set(FLOAT, offset + 12, m.m11());
+            dest.set(FLOAT, offset + 16, m.m20());
+            dest.set(FLOAT, offset + 20, m.m21());
+        }
+
+        private static void put(Matrix3x2d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m10());
+            dest.set(DOUBLE, offset + 24, m.m11());
+            dest.set(DOUBLE, offset + 32, m.m20());
+            dest.set(DOUBLE, offset + 40, m.m21());
+        }
+
+        private static void put(Matrix2f m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, m.m00());
+            dest.set(FLOAT, offset + 4, m.m01());
+            dest.set(FLOAT, offset + 8, m.m10());
+            dest.set(FLOAT, offset + 12, m.m11());
+        }
+
+        private static void put(Matrix2d m, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, m.m00());
+            dest.set(DOUBLE, offset + 8, m.m01());
+            dest.set(DOUBLE, offset + 16, m.m10());
+            dest.set(DOUBLE, offset + 24, m.m11());
+        }
+
+        private static void putf(Matrix2d m, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float)m.m00());
+            dest.set(FLOAT, offset + 4, (float)m.m01());
+            dest.set(FLOAT, offset + 8, (float)m.m10());
+            dest.set(FLOAT, offset + 12, (float)m.m11());
+        }
+
+        private static void put(Vector4d src, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, src.x);
+            dest.set(DOUBLE, offset + 8, src.y);
+            dest.set(DOUBLE, offset + 16, src.z);
+            dest.set(DOUBLE, offset + 24, src.w);
+        }
+
+        private static void putf(Vector4d src, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float) src.x);
+            dest.set(FLOAT, offset + 4, (float) src.y);
+            dest.set(FLOAT, offset + 8, (float) src.z);
+            dest.set(FLOAT, offset + 12, (float) src.w);
+        }
+
+        private static void put(Vector4f src, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, src.x);
+            dest.set(FLOAT, offset + 4, src.y);
+            dest.set(FLOAT, offset + 8, src.z);
+            dest.set(FLOAT, offset + 12, src.w);
+        }
+
+        private static void put(Vector4i src, MemorySegment dest, long offset) {
+            dest.set(INT, offset, src.x);
+            dest.set(INT, offset + 4, src.y);
+            dest.set(INT, offset + 8, src.z);
+            dest.set(INT, offset + 12, src.w);
+        }
+
+        private static void put(Vector4L src, MemorySegment dest, long offset) {
+            dest.set(LONG, offset, src.x);
+            dest.set(LONG, offset + 8, src.y);
+            dest.set(LONG, offset + 16, src.z);
+            dest.set(LONG, offset + 24, src.w);
+        }
+
+        private static void put(Vector3f src, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, src.x);
+            dest.set(FLOAT, offset + 4, src.y);
+            dest.set(FLOAT, offset + 8, src.z);
+        }
+
+        private static void put(Vector3d src, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, src.x);
+            dest.set(DOUBLE, offset + 8, src.y);
+            dest.set(DOUBLE, offset + 16, src.z);
+        }
+
+        private static void putf(Vector3d src, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, (float) src.x);
+            dest.set(FLOAT, offset + 4, (float) src.y);
+            dest.set(FLOAT, offset + 8, (float) src.z);
+        }
+
+        private static void put(Vector3i src, MemorySegment dest, long offset) {
+            dest.set(INT, offset, src.x);
+            dest.set(INT, offset + 4, src.y);
+            dest.set(INT, offset + 8, src.z);
+        }
+
+        private static void put(Vector3L src, MemorySegment dest, long offset) {
+            dest.set(LONG, offset, src.x);
+            dest.set(LONG, offset + 8, src.y);
+            dest.set(LONG, offset + 16, src.z);
+        }
+
+        private static void put(Vector2f src, MemorySegment dest, long offset) {
+            dest.set(FLOAT, offset, src.x);
+            dest.set(FLOAT, offset + 4, src.y);
+        }
+
+        private static void put(Vector2d src, MemorySegment dest, long offset) {
+            dest.set(DOUBLE, offset, src.x);
+            dest.set(DOUBLE, offset + 8, src.y);
+        }
+
+        private static void put(Vector2i src, MemorySegment dest, long offset) {
+            dest.set(INT, offset, src.x);
+            dest.set(INT, offset + 4, src.y);
+        }
+
+        private static void put(Vector2L src, MemorySegment dest, long offset) {
+            dest.set(LONG, offset, src.x);
+            dest.set(LONG, offset + 8, src.y);
+        }
+
+        private static void get(Matrix4f m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m02(src.get(FLOAT, offset + 8))
+            ._m03(src.get(FLOAT, offset + 12))
+            ._m10(src.get(FLOAT, offset + 16))
+            ._m11(src.get(FLOAT, offset + 20))
+            ._m12(src.get(FLOAT, offset + 24))
+            ._m13(src.get(FLOAT, offset + 28))
+            ._m20(src.get(FLOAT, offset + 32))
+            ._m21(src.get(FLOAT, offset + 36))
+            ._m22(src.get(FLOAT, offset + 40))
+            ._m23(src.get(FLOAT, offset + 44))
+            ._m30(src.get(FLOAT, offset + 48))
+            ._m31(src.get(FLOAT, offset + 52))
+            ._m32(src.get(FLOAT, offset + 56))
+            ._m33(src.get(FLOAT, offset + 60));
+        }
+
+        private static void getTransposed(Matrix4f m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m10(src.get(FLOAT, offset + 4))
+            ._m20(src.get(FLOAT, offset + 8))
+            ._m30(src.get(FLOAT, offset + 12))
+            ._m01(src.get(FLOAT, offset + 16))
+            ._m11(src.get(FLOAT, offset + 20))
+            ._m21(src.get(FLOAT, offset + 24))
+            ._m31(src.get(FLOAT, offset + 28))
+            ._m02(src.get(FLOAT, offset + 32))
+            ._m12(src.get(FLOAT, offset + 36))
+            ._m22(src.get(FLOAT, offset + 40))
+            ._m32(src.get(FLOAT, offset + 44))
+            ._m03(src.get(FLOAT, offset + 48))
+            ._m13(src.get(FLOAT, offset + 52))
+            ._m23(src.get(FLOAT, offset + 56))
+            ._m33(src.get(FLOAT, offset + 60));
+        }
+
+        private static void get(Matrix4x3f m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m02(src.get(FLOAT, offset + 8))
+            ._m10(src.get(FLOAT, offset + 12))
+            ._m11(src.get(FLOAT, offset + 16))
+            ._m12(src.get(FLOAT, offset + 20))
+            ._m20(src.get(FLOAT, offset + 24))
+            ._m21(src.get(FLOAT, offset + 28))
+            ._m22(src.get(FLOAT, offset + 32))
+            ._m30(src.get(FLOAT, offset + 36))
+            ._m31(src.get(FLOAT, offset + 40))
+            ._m32(src.get(FLOAT, offset + 44));
+        }
+
+        private static void get(Matrix4d m, MemorySegment src, long offset) {
+            m._m00(src.get(DOUBLE, offset))
+            ._m01(src.get(DOUBLE, offset + 8))
+            ._m02(src.get(DOUBLE, offset + 16))
+            ._m03(src.get(DOUBLE, offset + 24))
+            ._m10(src.get(DOUBLE, offset + 32))
+            ._m11(src.get(DOUBLE, offset + 40))
+            ._m12(src.get(DOUBLE, offset + 48))
+            ._m13(src.get(DOUBLE, offset + 56))
+            ._m20(src.get(DOUBLE, offset + 64))
+            ._m21(src.get(DOUBLE, offset + 72))
+            ._m22(src.get(DOUBLE, offset + 80))
+            ._m23(src.get(DOUBLE, offset + 88))
+            ._m30(src.get(DOUBLE, offset + 96))
+            ._m31(src.get(DOUBLE, offset + 104))
+            ._m32(src.get(DOUBLE, offset + 112))
+            ._m33(src.get(DOUBLE, offset + 120));
+        }
+
+        private static void get(Matrix4x3d m, MemorySegment src, long offset) {
+            m._m00(src.get(DOUBLE, offset))
+            ._m01(src.get(DOUBLE, offset + 8))
+            ._m02(src.get(DOUBLE, offset + 16))
+            ._m10(src.get(DOUBLE, offset + 24))
+            ._m11(src.get(DOUBLE, offset + 32))
+            ._m12(src.get(DOUBLE, offset + 40))
+            ._m20(src.get(DOUBLE, offset + 48))
+            ._m21(src.get(DOUBLE, offset + 56))
+            ._m22(src.get(DOUBLE, offset + 64))
+            ._m30(src.get(DOUBLE, offset + 72))
+            ._m31(src.get(DOUBLE, offset + 80))
+            ._m32(src.get(DOUBLE, offset + 88));
+        }
+
+        private static void getf(Matrix4d m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m02(src.get(FLOAT, offset + 8))
+            ._m03(src.get(FLOAT, offset + 12))
+            ._m10(src.get(FLOAT, offset + 16))
+            ._m11(src.get(FLOAT, offset + 20))
+            ._m12(src.get(FLOAT, offset + 24))
+            ._m13(src.get(FLOAT, offset + 28))
+            ._m20(src.get(FLOAT, offset + 32))
+            ._m21(src.get(FLOAT, offset + 36))
+            ._m22(src.get(FLOAT, offset + 40))
+            ._m23(src.get(FLOAT, offset + 44))
+            ._m30(src.get(FLOAT, offset + 48))
+            ._m31(src.get(FLOAT, offset + 52))
+            ._m32(src.get(FLOAT, offset + 56))
+            ._m33(src.get(FLOAT, offset + 60));
+        }
+
+        private static void getf(Matrix4x3d m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m02(src.get(FLOAT, offset + 8))
+            ._m10(src.get(FLOAT, offset + 12))
+            ._m11(src.get(FLOAT, offset + 16))
+            ._m12(src.get(FLOAT, offset + 20))
+            ._m20(src.get(FLOAT, offset + 24))
+            ._m21(src.get(FLOAT, offset + 28))
+            ._m22(src.get(FLOAT, offset + 32))
+            ._m30(src.get(FLOAT, offset + 36))
+            ._m31(src.get(FLOAT, offset + 40))
+            ._m32(src.get(FLOAT, offset + 44));
+        }
+
+        private static void get(Matrix3f m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m02(src.get(FLOAT, offset + 8))
+            ._m10(src.get(FLOAT, offset + 12))
+            ._m11(src.get(FLOAT, offset + 16))
+            ._m12(src.get(FLOAT, offset + 20))
+            ._m20(src.get(FLOAT, offset + 24))
+            ._m21(src.get(FLOAT, offset + 28))
+            ._m22(src.get(FLOAT, offset + 32));
+        }
+
+        private static void get(Matrix3d m, MemorySegment src, long offset) {
+            m._m00(src.get(DOUBLE, offset))
+            ._m01(src.get(DOUBLE, offset + 8))
+            ._m02(src.get(DOUBLE, offset + 16))
+            ._m10(src.get(DOUBLE, offset + 24))
+            ._m11(src.get(DOUBLE, offset + 32))
+            ._m12(src.get(DOUBLE, offset + 40))
+            ._m20(src.get(DOUBLE, offset + 48))
+            ._m21(src.get(DOUBLE, offset + 56))
+            ._m22(src.get(DOUBLE, offset + 64));
+        }
+
+        private static void get(Matrix3x2f m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m10(src.get(FLOAT, offset + 8))
+            ._m11(src.get(FLOAT, offset + 12))
+            ._m20(src.get(FLOAT, offset + 16))
+            ._m21(src.get(FLOAT, offset + 20));
+        }
+
+        private static void get(Matrix3x2d m, MemorySegment src, long offset) {
+            m._m00(src.get(DOUBLE, offset))
+            ._m01(src.get(DOUBLE, offset + 8))
+            ._m10(src.get(DOUBLE, offset + 16))
+            ._m11(src.get(DOUBLE, offset + 24))
+            ._m20(src.get(DOUBLE, offset + 32))
+            ._m21(src.get(DOUBLE, offset + 40));
+        }
+
+        private static void getf(Matrix3d m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m02(src.get(FLOAT, offset + 8))
+            ._m10(src.get(FLOAT, offset + 12))
+            ._m11(src.get(FLOAT, offset + 16))
+            ._m12(src.get(FLOAT, offset + 20))
+            ._m20(src.get(FLOAT, offset + 24))
+            ._m21(src.get(FLOAT, offset + 28))
+            ._m22(src.get(FLOAT, offset + 32));
+        }
+
+        private static void get(Matrix2f m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m10(src.get(FLOAT, offset + 8))
+            ._m11(src.get(FLOAT, offset + 12));
+        }
+
+        private static void get(Matrix2d m, MemorySegment src, long offset) {
+            m._m00(src.get(DOUBLE, offset))
+            ._m01(src.get(DOUBLE, offset + 8))
+            ._m10(src.get(DOUBLE, offset + 16))
+            ._m11(src.get(DOUBLE, offset + 24));
+        }
+
+        private static void getf(Matrix2d m, MemorySegment src, long offset) {
+            m._m00(src.get(FLOAT, offset))
+            ._m01(src.get(FLOAT, offset + 4))
+            ._m10(src.get(FLOAT, offset + 8))
+            ._m11(src.get(FLOAT, offset + 12));
+        }
+
+        private static void get(Vector4d dst, MemorySegment src, long offset) {
+            dst.x = src.get(DOUBLE, offset);
+            dst.y = src.get(DOUBLE, offset + 8);
+            dst.z = src.get(DOUBLE, offset + 16);
+            dst.w = src.get(DOUBLE, offset + 24);
+        }
+
+        private static void get(Vector4f dst, MemorySegment src, long offset) {
+            dst.x = src.get(FLOAT, offset);
+            dst.y = src.get(FLOAT, offset + 4);
+            dst.z = src.get(FLOAT, offset + 8);
+            dst.w = src.get(FLOAT, offset + 12);
+        }
+
+        private static void get(Vector4i dst, MemorySegment src, long offset) {
+            dst.x = src.get(INT, offset);
+            dst.y = src.get(INT, offset + 4);
+            dst.z = src.get(INT, offset + 8);
+            dst.w = src.get(INT, offset + 12);
+        }
+
+        private static void get(Vector4L dst, MemorySegment src, long offset) {
+            dst.x = src.get(LONG, offset);
+            dst.y = src.get(LONG, offset + 8);
+            dst.z = src.get(LONG, offset + 16);
+            dst.w = src.get(LONG, offset + 24);
+        }
+
+        private static void get(Vector3f dst, MemorySegment src, long offset) {
+            dst.x = src.get(FLOAT, offset);
+            dst.y = src.get(FLOAT, offset + 4);
+            dst.z = src.get(FLOAT, offset + 8);
+        }
+
+        private static void get(Vector3d dst, MemorySegment src, long offset) {
+            dst.x = src.get(DOUBLE, offset);
+            dst.y = src.get(DOUBLE, offset + 8);
+            dst.z = src.get(DOUBLE, offset + 16);
+        }
+
+        private static void get(Vector3i dst, MemorySegment src, long offset) {
+            dst.x = src.get(INT, offset);
+            dst.y = src.get(INT, offset + 4);
+            dst.z = src.get(INT, offset + 8);
+        }
+
+        private static void get(Vector3L dst, MemorySegment src, long offset) {
+            dst.x = src.get(LONG, offset);
+            dst.y = src.get(LONG, offset + 8);
+            dst.z = src.get(LONG, offset + 16);
+        }
+
+        private static void get(Vector2f dst, MemorySegment src, long offset) {
+            dst.x = src.get(FLOAT, offset);
+            dst.y = src.get(FLOAT, offset + 4);
+        }
+
+        private static void get(Vector2d dst, MemorySegment src, long offset) {
+            dst.x = src.get(DOUBLE, offset);
+            dst.y = src.get(DOUBLE, offset + 8);
+        }
+
+        private static void get(Vector2i dst, MemorySegment src, long offset) {
+            dst.x = src.get(INT, offset);
+            dst.y = src.get(INT, offset + 4);
+        }
+
+        private static void get(Vector2L dst, MemorySegment src, long offset) {
+            dst.x = src.get(LONG, offset);
+            dst.y = src.get(LONG, offset + 8);
+        }
+
+        private static void putMatrix3f(Quaternionf q, MemorySegment dest, long position) {
+            float w2 = q.w * q.w;
+            float x2 = q.x * q.x;
+            float y2 = q.y * q.y;
+            float z2 = q.z * q.z;
+            float zw = q.z * q.w;
+            float xy = q.x * q.y;
+            float xz = q.x * q.z;
+            float yw = q.y * q.w;
+            float yz = q.y * q.z;
+            float xw = q.x * q.w;
+            dest.set(FLOAT, position, w2 + x2 - z2 - y2);
+            dest.set(FLOAT, position + 4, xy + zw + zw + xy);
+            dest.set(FLOAT, position + 8, xz - yw + xz - yw);
+            dest.set(FLOAT, position + 12, -zw + xy - zw + xy);
+            dest.set(FLOAT, position + 16, y2 - z2 + w2 - x2);
+            dest.set(FLOAT, position + 20, yz + yz + xw + xw);
+            dest.set(FLOAT, position + 24, yw + xz + xz + yw);
+            dest.set(FLOAT, position + 28, yz + yz - xw - xw);
+            dest.set(FLOAT, position + 32, z2 - y2 - x2 + w2);
+        }
+
+        private static void putMatrix4f(Quaternionf q, MemorySegment dest, long position) {
+            float w2 = q.w * q.w;
+            float x2 = q.x * q.x;
+            float y2 = q.y * q.y;
+            float z2 = q.z * q.z;
+            float zw = q.z * q.w;
+            float xy = q.x * q.y;
+            float xz = q.x * q.z;
+            float yw = q.y * q.w;
+            float yz = q.y * q.z;
+            float xw = q.x * q.w;
+            dest.set(FLOAT, position, w2 + x2 - z2 - y2);
+            dest.set(FLOAT, position + 4, xy + zw + zw + xy);
+            dest.set(FLOAT, position + 8, xz - yw + xz - yw);
+            dest.set(FLOAT, position + 12, 0.0f);
+            dest.set(FLOAT, position + 16, -zw + xy - zw + xy);
+            dest.set(FLOAT, position + 20, y2 - z2 + w2 - x2);
+            dest.set(FLOAT, position + 24, yz + yz + xw + xw);
+            dest.set(FLOAT, position + 28, 0.0f);
+            dest.set(FLOAT, position + 32, yw + xz + xz + yw);
+            dest.set(FLOAT, position + 36, yz + yz - xw - xw);
+            dest.set(FLOAT, position + 40, z2 - y2 - x2 + w2);
+            dest.set(FLOAT, position + 44, 0.0f);
+            dest.set(FLOAT, position + 48, 0.0f);
+            dest.set(FLOAT, position + 52, 0.0f);
+            dest.set(FLOAT, position + 56, 0.0f);
+            dest.set(FLOAT, position + 60, 1.0f);
+        }
+
+        private static void putMatrix4x3f(Quaternionf q, MemorySegment dest, long position) {
+            float w2 = q.w * q.w;
+            float x2 = q.x * q.x;
+            float y2 = q.y * q.y;
+            float z2 = q.z * q.z;
+            float zw = q.z * q.w;
+            float xy = q.x * q.y;
+            float xz = q.x * q.z;
+            float yw = q.y * q.w;
+            float yz = q.y * q.z;
+            float xw = q.x * q.w;
+            dest.set(FLOAT, position, w2 + x2 - z2 - y2);
+            dest.set(FLOAT, position + 4, xy + zw + zw + xy);
+            dest.set(FLOAT, position + 8, xz - yw + xz - yw);
+            dest.set(FLOAT, position + 12, -zw + xy - zw + xy);
+            dest.set(FLOAT, position + 16, y2 - z2 + w2 - x2);
+            dest.set(FLOAT, position + 20, yz + yz + xw + xw);
+            dest.set(FLOAT, position + 24, yw + xz + xz + yw);
+            dest.set(FLOAT, position + 28, yz + yz - xw - xw);
+            dest.set(FLOAT, position + 32, z2 - y2 - x2 + w2);
+            dest.set(FLOAT, position + 36, 0.0f);
+            dest.set(FLOAT, position + 40, 0.0f);
+            dest.set(FLOAT, position + 44, 0.0f);
+        }
+
+        public void put(Matrix4f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put4x4(Matrix4x3f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put4x4(Matrix4x3f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put4x4(Matrix4x3d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put4x4(Matrix4x3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put4x4(Matrix3x2f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put4x4(Matrix3x2f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put4x4(Matrix3x2d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put4x4(Matrix3x2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x4(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put4x4(m, offset, dest);
+        }
+
+        public void put3x3(Matrix3x2f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x3(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put3x3(m, offset, dest);
+        }
+
+        public void put3x3(Matrix3x2f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x3(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put3x3(m, offset, dest);
+        }
+
+        public void put3x3(Matrix3x2d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x3(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put3x3(m, offset, dest);
+        }
+
+        public void put3x3(Matrix3x2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x3(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put3x3(m, offset, dest);
+        }
+
+        public void put4x3(Matrix4f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x3(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put4x3(m, offset, dest);
+        }
+
+        public void put4x3(Matrix4f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x3(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put4x3(m, offset, dest);
+        }
+
+        public void put3x4(Matrix4f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x4(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put3x4(m, offset, dest);
+        }
+
+        public void put3x4(Matrix4f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x4(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put3x4(m, offset, dest);
+        }
+
+        public void put3x4(Matrix4x3f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x4(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put3x4(m, offset, dest);
+        }
+
+        public void put3x4(Matrix4x3f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x4(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put3x4(m, offset, dest);
+        }
+
+        public void put3x4(Matrix3f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x4(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put3x4(m, offset, dest);
+        }
+
+        public void put3x4(Matrix3f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put3x4(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put3x4(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void put4x3Transposed(Matrix4f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x3Transposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put4x3Transposed(m, offset, dest);
+        }
+
+        public void put4x3Transposed(Matrix4f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x3Transposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put4x3Transposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3x2f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void put(Matrix4d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix4x3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void putf(Matrix4d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void putf(Matrix4d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void putf(Matrix4x3d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void putf(Matrix4x3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void put4x3Transposed(Matrix4d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x3Transposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put4x3Transposed(m, offset, dest);
+        }
+
+        public void put4x3Transposed(Matrix4d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put4x3Transposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put4x3Transposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix4x3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3x2d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix3x2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putTransposed(Matrix2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix4d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix4d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix4x3d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix4x3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix3d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix3x2d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix3x2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix2d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void putfTransposed(Matrix2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putfTransposed(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putfTransposed(m, offset, dest);
+        }
+
+        public void put(Matrix3f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void putf(Matrix3d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void putf(Matrix3d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void put(Matrix3x2f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3x2f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3x2d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix3x2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2f m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2f m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2d m, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void put(Matrix2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(m, offset, dest);
+        }
+
+        public void putf(Matrix2d m, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void putf(Matrix2d m, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(m, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putf(m, offset, dest);
+        }
+
+        public void put(Vector4d src, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4d src, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4d src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void putf(Vector4d src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putf(src, offset, dest);
+        }
+
+        public void put(Vector4f src, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4f src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4i src, int offset, IntBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4i src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4L src, int offset, LongBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector4L src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3f src, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3f src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3d src, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3d src, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3d src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void putf(Vector3d src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                putf(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.putf(src, offset, dest);
+        }
+
+        public void put(Vector3i src, int offset, IntBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3i src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3L src, int offset, LongBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector3L src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2f src, int offset, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2f src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2d src, int offset, DoubleBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2d src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2i src, int offset, IntBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 2);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2i src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2L src, int offset, LongBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), (long) (offset - dest.position()) << 3);
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void put(Vector2L src, int offset, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && offset >= dest.position())
+                put(src, MemorySegment.ofBuffer(dest), offset - dest.position());
+            else
+                super.put(src, offset, dest);
+        }
+
+        public void get(Matrix4f m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4f m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void getTransposed(Matrix4f m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getTransposed(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.getTransposed(m, offset, src);
+        }
+
+        public void getTransposed(Matrix4f m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getTransposed(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.getTransposed(m, offset, src);
+        }
+
+        public void get(Matrix4x3f m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4x3f m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4d m, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4x3d m, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix4x3d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void getf(Matrix4d m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void getf(Matrix4d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void getf(Matrix4x3d m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void getf(Matrix4x3d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void get(Matrix3f m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3f m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3d m, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2f m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2f m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2d m, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix3x2d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void getf(Matrix3d m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void getf(Matrix3d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void get(Matrix2f m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix2f m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix2d m, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(m, offset, src);
+        }
+
+        public void get(Matrix2d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(m, offset, src);
+        }
+
+        public void getf(Matrix2d m, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void getf(Matrix2d m, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                getf(m, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.getf(m, offset, src);
+        }
+
+        public void get(Vector4d dst, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4d dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4f dst, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4f dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4i dst, int offset, IntBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4i dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4L dst, int offset, LongBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector4L dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3f dst, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3f dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3d dst, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3d dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3i dst, int offset, IntBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3i dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3L dst, int offset, LongBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector3L dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2f dst, int offset, FloatBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2f dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2d dst, int offset, DoubleBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2d dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2i dst, int offset, IntBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 2);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2i dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2L dst, int offset, LongBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), (long) (offset - src.position()) << 3);
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void get(Vector2L dst, int offset, ByteBuffer src) {
+            if (src.order() == ByteOrder.nativeOrder() && offset >= src.position())
+                get(dst, MemorySegment.ofBuffer(src), offset - src.position());
+            else
+                super.get(dst, offset, src);
+        }
+
+        public void putMatrix3f(Quaternionf q, int position, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && position >= dest.position())
+                putMatrix3f(q, MemorySegment.ofBuffer(dest), position - dest.position());
+            else
+                super.putMatrix3f(q, position, dest);
+        }
+
+        public void putMatrix3f(Quaternionf q, int position, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && position >= dest.position())
+                putMatrix3f(q, MemorySegment.ofBuffer(dest), (long) (position - dest.position()) << 2);
+            else
+                super.putMatrix3f(q, position, dest);
+        }
+
+        public void putMatrix4f(Quaternionf q, int position, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && position >= dest.position())
+                putMatrix4f(q, MemorySegment.ofBuffer(dest), position - dest.position());
+            else
+                super.putMatrix4f(q, position, dest);
+        }
+
+        public void putMatrix4f(Quaternionf q, int position, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && position >= dest.position())
+                putMatrix4f(q, MemorySegment.ofBuffer(dest), (long) (position - dest.position()) << 2);
+            else
+                super.putMatrix4f(q, position, dest);
+        }
+
+        public void putMatrix4x3f(Quaternionf q, int position, ByteBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && position >= dest.position())
+                putMatrix4x3f(q, MemorySegment.ofBuffer(dest), position - dest.position());
+            else
+                super.putMatrix4x3f(q, position, dest);
+        }
+
+        public void putMatrix4x3f(Quaternionf q, int position, FloatBuffer dest) {
+            if (dest.order() == ByteOrder.nativeOrder() && position >= dest.position())
+                putMatrix4x3f(q, MemorySegment.ofBuffer(dest), (long) (position - dest.position()) << 2);
+            else
+                super.putMatrix4x3f(q, position, dest);
+        }
+
+        public void put(float[] src, int srcOffset, int count, FloatBuffer dest, int destOffset) {
+            if (dest.order() == ByteOrder.nativeOrder() && destOffset >= dest.position())
+                MemorySegment.copy(src, srcOffset, MemorySegment.ofBuffer(dest), FLOAT, (long) (destOffset - dest.position()) << 2, count);
+            else
+                super.put(src, srcOffset, count, dest, destOffset);
+        }
+
+        public void put(float[] src, int srcOffset, int count, ByteBuffer dest, int destOffset) {
+            if (dest.order() == ByteOrder.nativeOrder() && destOffset >= dest.position())
+                MemorySegment.copy(src, srcOffset, MemorySegment.ofBuffer(dest), FLOAT, destOffset - dest.position(), count);
+            else
+                super.put(src, srcOffset, count, dest, destOffset);
+        }
+
+        /**
+         * Slice the <code>count</code> vectors of three floats, the first at the absolute <code>index</code> and each following
+         * <code>stride</code> floats after the previous one, out of <code>buf</code>, so that the bounds are checked once.
+         */
+        private static MemorySegment vectors(FloatBuffer buf, int index, int stride, int count) {
+            return MemorySegment.ofBuffer(buf).asSlice((long) (index - buf.position()) << 2, ((long) (count - 1) * stride + 3) << 2);
+        }
+
+        /**
+         * Whether the vectors can be accessed via {@link #vectors(FloatBuffer, int, int, int)}, which slices forward from the first vector
+         * and therefore needs non-negative strides. All other cases are left to the range-checked NIO implementation.
+         */
+        private static boolean canUseSegments(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride) {
+            return src.order() == ByteOrder.nativeOrder() && dest.order() == ByteOrder.nativeOrder()
+                    && srcOffset >= src.position() && destOffset >= dest.position() && srcStride >= 0 && destStride >= 0;
+        }
+
+        public void transformAffine(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float m30, float m31, float m32) {
+            if (count <= 0)
+                return;
+            if (!canUseSegments(src, srcOffset, srcStride, dest, destOffset, destStride)) {
+                super.transformAffine(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                                      m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32);
+                return;
+            }
+            MemorySegment s = vectors(src, srcOffset, srcStride, count), d = vectors(dest, destOffset, destStride, count);
+            long srcStrideBytes = (long) srcStride << 2, destStrideBytes = (long) destStride << 2, i = 0, j = 0;
+            for (int k = 0; k < count; k++, i += srcStrideBytes, j += destStrideBytes) {
+                float x = s.get(FLOAT, i), y = s.get(FLOAT, i + 4), z = s.get(FLOAT, i + 8);
+                d.set(FLOAT, j,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))));
+                d.set(FLOAT, j + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))));
+                d.set(FLOAT, j + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))));
+            }
+        }
+
+        public void transformProject(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count,
+                float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+                float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {
+            if (count <= 0)
+                return;
+            if (!canUseSegments(src, srcOffset, srcStride, dest, destOffset, destStride)) {
+                super.transformProject(src, srcOffset, srcStride, dest, destOffset, destStride, count,
+                                       m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+                return;
+            }
+            MemorySegment s = vectors(src, srcOffset, srcStride, count), d = vectors(dest, destOffset, destStride, count);
+            long srcStrideBytes = (long) srcStride << 2, destStrideBytes = (long) destStride << 2, i = 0, j = 0;
+            for (int k = 0; k < count; k++, i += srcStrideBytes, j += destStrideBytes) {
+                float x = s.get(FLOAT, i), y = s.get(FLOAT, i + 4), z = s.get(FLOAT, i + 8);
+                float invW = 1.0f / Math.fma(m03, x, Math.fma(m13, y, Math.fma(m23, z, m33)));
+                d.set(FLOAT, j,     Math.fma(m00, x, Math.fma(m10, y, Math.fma(m20, z, m30))) * invW);
+                d.set(FLOAT, j + 4, Math.fma(m01, x, Math.fma(m11, y, Math.fma(m21, z, m31))) * invW);
+                d.set(FLOAT, j + 8, Math.fma(m02, x, Math.fma(m12, y, Math.fma(m22, z, m32))) * invW);
+            }
+        }
 //#endif
     }
 //#endif
@@ -0,0 +1,536 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A size-bounded cache of fractal noise tiles that can be used by several threads at the same time.
+ * <p>
+ * Space is divided into cubic (or square, in 2D) chunks of <code>chunkSize</code> units, addressed by integer chunk
+ * coordinates. A tile holds <code>resolution + 1</code> noise values along each axis of one chunk, including both of its
+ * borders, computed with {@link SimplexNoise#sample(float, float, float, float, int, int, int, float, float, float[], int, int) fbm}
+ * for a given {@link Octaves} configuration. Tiles are computed on first use and looked up by chunk coordinates and
+ * octave configuration afterwards, and {@link #sample(Octaves, float, float) sample()} interpolates bilinearly or
+ * trilinearly between the cached values.
+ * <p>
+ * The cache is split into a power-of-two number of stripes, each with its own lock and its own least-recently-used
+ * eviction order, so that threads working on different tiles rarely contend. Tiles are computed outside of any lock. When
+ * two threads miss the same tile at the same time, both compute it and the first one to finish stores it.
+ * <p>
+ * Example:
+ * <pre>
+ * NoiseTileCache cache = new NoiseTileCache(new SimplexNoise(seed), 32.0f, 16, 4096);
+ * NoiseTileCache.Octaves height = new NoiseTileCache.Octaves(6, 1.0f / 256.0f, 2.0f, 0.5f);
+ * float h = cache.sample(height, x, z);
+ * </pre>
+ */
+public class NoiseTileCache {
+
+    /**
+     * An immutable fractal noise configuration, which is part of the key of each cached tile.
+     */
+    public static final class Octaves {
+        private final int octaves;
+        private final float frequency;
+        private final float lacunarity;
+        private final float gain;
+
+        /**
+         * Create a new {@link Octaves} configuration.
+         * 
+         * @param octaves
+         *          the number of octaves, at least <code>1</code>
+         * @param frequency
+         *          the frequency of the first octave, by which coordinates are multiplied before sampling the noise
+         * @param lacunarity
+         *          the factor by which the frequency is multiplied from one octave to the next
+         * @param gain
+         *          the factor by which the amplitude is multiplied from one octave to the next
+         */
+        public Octaves(int octaves, float frequency, float lacunarity, float gain) {
+            if (octaves < 1)
+                throw new IllegalArgumentException("octaves must be >= 1"); //$NON-NLS-1$
+            this.octaves = octaves;
+            this.frequency = frequency;
+            this.lacunarity = lacunarity;
+            this.gain = gain;
+        }
+
+        /**
+         * @return the number of octaves
+         */
+        public int octaves() {
+            return octaves;
+        }
+
+        /**
+         * @return the frequency of the first octave
+         */
+        public float frequency() {
+            return frequency;
+        }
+
+        /**
+         * @return the factor by which the frequency is multiplied from one octave to the next
+         */
+        public float lacunarity() {
+            return lacunarity;
+        }
+
+        /**
+         * @return the factor by which the amplitude is multiplied from one octave to the next
+         */
+        public float gain() {
+            return gain;
+        }
+
+        public int hashCode() {
+            int result = octaves;
+            result = 31 * result + Float.floatToIntBits(frequency);
+            result = 31 * result + Float.floatToIntBits(lacunarity);
+            result = 31 * result + Float.floatToIntBits(gain);
+            return result;
+        }
+
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Octaves))
+                return false;
+            Octaves other = (Octaves) obj;
+            return octaves == other.octaves
+                && Float.floatToIntBits(frequency) == Float.floatToIntBits(other.frequency)
+                && Float.floatToIntBits(lacunarity) == Float.floatToIntBits(other.lacunarity)
+                && Float.floatToIntBits(gain) == Float.floatToIntBits(other.gain);
+        }
+    }
+
+    private static final class Key {
+        Octaves octaves;
+        int dimensions, x, y, z;
+
+        Key(Octaves octaves, int dimensions, int x, int y, int z) {
+            set(octaves, dimensions, x, y, z);
+        }
+
+        Key set(Octaves octaves, int dimensions, int x, int y, int z) {
+            this.octaves = octaves;
+            this.dimensions = dimensions;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            return this;
+        }
+
+        public int hashCode() {
+            return hash(octaves, dimensions, x, y, z);
+        }
+
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof Key))
+                return false;
+            Key other = (Key) obj;
+            return x == other.x && y == other.y && z == other.z && dimensions == other.dimensions && octaves.equals(other.octaves);
+        }
+    }
+
+    /**
+     * One stripe of the cache: a map in access order, whose monitor guards the map, the probe key and the counters.
+     * <p>
+     * The map is a raw {@link LinkedHashMap}, because JOML does not use generics. Its raw-type warnings are confined to this class.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final class Stripe extends LinkedHashMap {
+        private static final long serialVersionUID = 1L;
+
+        final int capacity;
+        final Key probe = new Key(new Octaves(1, 0.0f, 0.0f, 0.0f), 0, 0, 0, 0);
+        long hits, misses, evictions;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            if (size() > capacity) {
+                evictions++;
+                return true;
+            }
+            return false;
+        }
+
+        float[] tile(Key key) {
+            return (float[]) get(key);
+        }
+
+        void putTile(Key key, float[] tile) {
+            put(key, tile);
+        }
+    }
+
+    private final SimplexNoise noise;
+    private final float chunkSize;
+    private final int resolution;
+    private final int maxTiles;
+    private final Stripe[] stripes;
+
+    /**
+     * Create a new {@link NoiseTileCache} with 16 stripes.
+     * 
+     * @param noise
+     *          the noise to cache
+     * @param chunkSize
+     *          the size of a chunk along each axis
+     * @param resolution
+     *          the number of interpolation cells of a tile along each axis
+     * @param maxTiles
+     *          the maximum number of cached tiles
+     */
+    public NoiseTileCache(SimplexNoise noise, float chunkSize, int resolution, int maxTiles) {
+        this(noise, chunkSize, resolution, maxTiles, 16);
+    }
+
+    /**
+     * Create a new {@link NoiseTileCache}.
+     * <p>
+     * The number of stripes is rounded up to a power of two, and then halved until it is at most <code>maxTiles</code>.
+     * The capacities of the stripes differ by at most one and add up to exactly <code>maxTiles</code>. Because tiles are
+     * distributed over the stripes by their hash code, the cache may evict a tile before it holds <code>maxTiles</code>
+     * tiles, but it never holds more.
+     * 
+     * @param noise
+     *          the noise to cache
+     * @param chunkSize
+     *          the size of a chunk along each axis
+     * @param resolution
+     *          the number of interpolation cells of a tile along each axis
+     * @param maxTiles
+     *          the maximum number of cached tiles
+     * @param stripes
+     *          the number of independently locked stripes
+     */
+    public NoiseTileCache(SimplexNoise noise, float chunkSize, int resolution, int maxTiles, int stripes) {
+        if (!(chunkSize > 0.0f))
+            throw new IllegalArgumentException("chunkSize must be > 0"); //$NON-NLS-1$
+        if (resolution < 1)
+            throw new IllegalArgumentException("resolution must be >= 1"); //$NON-NLS-1$
+        if (maxTiles < 1)
+            throw new IllegalArgumentException("maxTiles must be >= 1"); //$NON-NLS-1$
+        if (stripes < 1)
+            throw new IllegalArgumentException("stripes must be >= 1"); //$NON-NLS-1$
+        this.noise = noise;
+        this.chunkSize = chunkSize;
+        this.resolution = resolution;
+        this.maxTiles = maxTiles;
+        int n = 1;
+        while (n < stripes)
+            n <<= 1;
+        while (n > maxTiles)
+            n >>>= 1;
+        this.stripes = new Stripe[n];
+        int capacity = maxTiles / n, remainder = maxTiles - capacity * n;
+        for (int i = 0; i < n; i++)
+            this.stripes[i] = new Stripe(i < remainder ? capacity + 1 : capacity);
+    }
+
+    /**
+     * @return the size of a chunk along each axis
+     */
+    public float chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return the number of interpolation cells of a tile along each axis
+     */
+    public int resolution() {
+        return resolution;
+    }
+
+    /**
+     * @return the maximum number of cached tiles
+     */
+    public int maxTiles() {
+        return maxTiles;
+    }
+
+    /**
+     * Return the tile of the given 2D chunk, computing and caching it if necessary.
+     * <p>
+     * The returned array holds <code>(resolution + 1) * (resolution + 1)</code> values with x varying fastest, and the
+     * value at index <code>j * (resolution + 1) + i</code> is the noise at
+     * <code>((chunk.x + i / resolution) * chunkSize, (chunk.y + j / resolution) * chunkSize)</code>. It is shared by all
+     * users of the cache and must not be modified.
+     */
+    private float[] tile(Octaves octaves, int x, int y) {
+        float[] tile = lookup(octaves, 2, x, y, 0);
+        if (tile != null)
+            return tile;
+        float f = octaves.frequency, step = chunkSize / resolution * f;
+        tile = noise.sample(x * chunkSize * f, y * chunkSize * f, step, step, resolution + 1, resolution + 1, octaves.octaves,
+                octaves.lacunarity, octaves.gain, new float[(resolution + 1) * (resolution + 1)], 0, 1);
+        return store(octaves, 2, x, y, 0, tile);
+    }
+
+    /**
+     * The 3D equivalent of {@link #tile(Octaves, int, int)}, with the value at index
+     * <code>(k * (resolution + 1) + j) * (resolution + 1) + i</code>.
+     */
+    private float[] tile(Octaves octaves, int x, int y, int z) {
+        float[] tile = lookup(octaves, 3, x, y, z);
+        if (tile != null)
+            return tile;
+        float f = octaves.frequency, step = chunkSize / resolution * f;
+        int n = resolution + 1;
+        tile = noise.sample(x * chunkSize * f, y * chunkSize * f, z * chunkSize * f, step, step, step, n, n, n,
+                octaves.octaves, octaves.lacunarity, octaves.gain, new float[n * n * n], 0, 1);
+        return store(octaves, 3, x, y, z, tile);
+    }
+
+    private static int hash(Octaves octaves, int dimensions, int x, int y, int z) {
+        int h = octaves.hashCode();
+        h = 31 * h + dimensions;
+        h = 31 * h + x;
+        h = 31 * h + y;
+        h = 31 * h + z;
+        return h ^ h >>> 16;
+    }
+
+    private Stripe stripe(Octaves octaves, int dimensions, int x, int y, int z) {
+        return stripes[hash(octaves, dimensions, x, y, z) & stripes.length - 1];
+    }
+
+    private float @Nullable [] lookup(Octaves octaves, int dimensions, int x, int y, int z) {
+        Stripe stripe = stripe(octaves, dimensions, x, y, z);
+        synchronized (stripe) {
+            float[] tile = stripe.tile(stripe.probe.set(octaves, dimensions, x, y, z));
+            if (tile != null)
+                stripe.hits++;
+            else
+                stripe.misses++;
+            return tile;
+        }
+    }
+
+    private float[] store(Octaves octaves, int dimensions, int x, int y, int z, float[] tile) {
+        Key key = new Key(octaves, dimensions, x, y, z);
+        Stripe stripe = stripe(octaves, dimensions, x, y, z);
+        synchronized (stripe) {
+            float[] existing = stripe.tile(key);
+            if (existing != null)
+                return existing;
+            stripe.putTile(key, tile);
+            return tile;
+        }
+    }
+
+    private int chunk(float c) {
+        return (int) java.lang.Math.floor(c / chunkSize);
+    }
+
+    /**
+     * Copy the tile of the given 2D chunk into <code>dest</code>, computing and caching the tile if necessary.
+     * <p>
+     * A tile holds <code>(resolution + 1) * (resolution + 1)</code> noise values with x varying fastest. The value at
+     * <code>destOffset + j * (resolution + 1) + i</code> is the noise at
+     * <code>((chunk.x + i / resolution) * chunkSize, (chunk.y + j / resolution) * chunkSize)</code>.
+     * 
+     * @param octaves
+     *          the noise configuration
+     * @param chunk
+     *          the chunk coordinates
+     * @param dest
+     *          will hold the values of the tile
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @return dest
+     */
+    public float[] tile(Octaves octaves, Vector2ic chunk, float[] dest, int destOffset) {
+        float[] tile = tile(octaves, chunk.x(), chunk.y());
+        System.arraycopy(tile, 0, dest, destOffset, tile.length);
+        return dest;
+    }
+
+    /**
+     * Copy the tile of the given 3D chunk into <code>dest</code>, computing and caching the tile if necessary.
+     * <p>
+     * A tile holds <code>(resolution + 1)<sup>3</sup></code> noise values with x varying fastest, followed by y and z. The
+     * value at <code>destOffset + (k * (resolution + 1) + j) * (resolution + 1) + i</code> is the noise at
+     * <code>((chunk.x + i / resolution) * chunkSize, (chunk.y + j / resolution) * chunkSize, (chunk.z + k / resolution) * chunkSize)</code>.
+     * 
+     * @param octaves
+     *          the noise configuration
+     * @param chunk
+     *          the chunk coordinates
+     * @param dest
+     *          will hold the values of the tile
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @return dest
+     */
+    public float[] tile(Octaves octaves, Vector3ic chunk, float[] dest, int destOffset) {
+        float[] tile = tile(octaves, chunk.x(), chunk.y(), chunk.z());
+        System.arraycopy(tile, 0, dest, destOffset, tile.length);
+        return dest;
+    }
+
+    /**
+     * Return the noise at <code>(x, y)</code>, interpolated bilinearly between the values of the tile of the chunk containing
+     * that point, which is computed and cached if necessary.
+     * 
+     * @param octaves
+     *          the noise configuration
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @return the interpolated noise value
+     */
+    public float sample(Octaves octaves, float x, float y) {
+        int cx = chunk(x), cy = chunk(y);
+        float[] tile = tile(octaves, cx, cy);
+        float scale = resolution / chunkSize;
+        float u = (x - cx * chunkSize) * scale, v = (y - cy * chunkSize) * scale;
+        int i = Math.clamp(0, resolution - 1, (int) u), j = Math.clamp(0, resolution - 1, (int) v);
+        float fx = u - i, fy = v - j;
+        int n = resolution + 1, k = j * n + i;
+        float a = Math.lerp(tile[k], tile[k + 1], fx);
+        float b = Math.lerp(tile[k + n], tile[k + n + 1], fx);
+        return Math.lerp(a, b, fy);
+    }
+
+    /**
+     * Return the noise at <code>(x, y, z)</code>, interpolated trilinearly between the values of the tile of the chunk
+     * containing that point, which is computed and cached if necessary.
+     * 
+     * @param octaves
+     *          the noise configuration
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @return the interpolated noise value
+     */
+    public float sample(Octaves octaves, float x, float y, float z) {
+        int cx = chunk(x), cy = chunk(y), cz = chunk(z);
+        float[] tile = tile(octaves, cx, cy, cz);
+        float scale = resolution / chunkSize;
+        float u = (x - cx * chunkSize) * scale, v = (y - cy * chunkSize) * scale, w = (z - cz * chunkSize) * scale;
+        int i = Math.clamp(0, resolution - 1, (int) u), j = Math.clamp(0, resolution - 1, (int) v), l = Math.clamp(0, resolution - 1, (int) w);
+        float fx = u - i, fy = v - j, fz = w - l;
+        int n = resolution + 1, nn = n * n, k = (l * n + j) * n + i;
+        float a = Math.lerp(Math.lerp(tile[k], tile[k + 1], fx), Math.lerp(tile[k + n], tile[k + n + 1], fx), fy);
+        k += nn;
+        float b = Math.lerp(Math.lerp(tile[k], tile[k + 1], fx), Math.lerp(tile[k + n], tile[k + n + 1], fx), fy);
+        return Math.lerp(a, b, fz);
+    }
+
+    /**
+     * @return the number of lookups that found their tile in the cache
+     */
+    public long hits() {
+        long hits = 0L;
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            synchronized (stripe) {
+                hits += stripe.hits;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups that had to compute their tile
+     */
+    public long misses() {
+        long misses = 0L;
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            synchronized (stripe) {
+                misses += stripe.misses;
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * @return the number of tiles removed from the cache to make room for new tiles
+     */
+    public long evictions() {
+        long evictions = 0L;
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            synchronized (stripe) {
+                evictions += stripe.evictions;
+            }
+        }
+        return evictions;
+    }
+
+    /**
+     * @return the number of tiles currently cached
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove all tiles from the cache. The hit, miss and eviction counters are not changed.
+     */
+    public void clear() {
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Reset the hit, miss and eviction counters to zero.
+     */
+    public void resetCounters() {
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            synchronized (stripe) {
+                stripe.hits = stripe.misses = stripe.evictions = 0L;
+            }
+        }
+    }
+
+}
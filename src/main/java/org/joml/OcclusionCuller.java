@@ -0,0 +1,570 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Culls axis-aligned boxes that are hidden behind occluder meshes, using a software depth buffer and a hierarchical
+ * depth pyramid (Hi-Z) computed entirely on the CPU.
+ * <p>
+ * Each frame starts with {@link #begin(Matrix4fc)}, which sets the view-projection matrix and clears the depth buffer.
+ * Occluder triangles are then drawn with {@link #rasterize(float[], int, int, int[], int, int)}: their vertices are
+ * projected with {@link Matrix4fc#transformProjects(float[], int, int, float[], int, int, int)}, the triangles are sorted
+ * into screen tiles of {@value #TILE_SIZE} x {@value #TILE_SIZE} pixels, and the tiles are rasterized independently by a
+ * shared set of JOML worker threads and the calling thread. Only depth is written, and no two threads ever write the same pixel.
+ * <p>
+ * Boxes are then tested with {@link #testAab(float, float, float, float, float, float)} or the batch variant
+ * {@link #testAab(float[], float[], float[], float[], float[], float[], int, int, int[], int)}. The first test after
+ * rasterizing builds the depth pyramid, each of whose texels holds the farthest depth of the four texels below it. A box
+ * is projected to a screen rectangle and its nearest depth, and that depth is compared against the farthest depth of at
+ * most 2x2 texels of the pyramid level whose texels cover the rectangle. This is conservative: a box is only reported
+ * as hidden if no part of it can be in front of the rasterized occluders.
+ * <p>
+ * The depth buffer stores normalized device z coordinates, where smaller values are nearer. It therefore expects a
+ * projection mapping depth to <code>[-1..+1]</code> (i.e. created with <code>zZeroToOne = false</code>), which is the
+ * default in JOML. Triangles having a vertex behind the camera or in front of the near plane are not rasterized, which
+ * only makes the set of occluders smaller. Boxes crossing the near plane are always reported as visible, and boxes lying
+ * completely outside of the viewport are reported as hidden, so frustum culling should happen before occlusion culling.
+ * <p>
+ * Instances of this class are not thread-safe.
+ */
+public class OcclusionCuller {
+
+    /**
+     * The width and height of a screen tile in pixels.
+     */
+    public static final int TILE_SIZE = 64;
+    private static final int TILE_SHIFT = 6;
+
+    /**
+     * The minimum number of vertices transformed by a single thread.
+     */
+    private static final int MIN_VERTICES = 1 << 12;
+
+    /**
+     * The minimum number of boxes tested by a single thread.
+     */
+    private static final int MIN_CHUNK = 1 << 12;
+
+    private final int width;
+    private final int height;
+    private final int threads;
+    private final int tilesX;
+    private final int tilesY;
+
+    /**
+     * All levels of the depth pyramid, beginning with the depth buffer itself.
+     */
+    private final float[] pyramid;
+    private final int[] levelOffsets;
+    private final int[] levelWidths;
+    private final int[] levelHeights;
+    private boolean pyramidDirty;
+
+    private final Matrix4f viewProj = new Matrix4f();
+
+    /**
+     * The projected x, y and z coordinates of the vertices of the current {@link #rasterize(float[], int, int, int[], int, int) rasterize()} call.
+     */
+    private float[] projected = new float[0];
+    /**
+     * Whether each projected vertex lies between the near plane and infinity.
+     */
+    private boolean[] valid = new boolean[0];
+
+    /**
+     * Start index of the triangles of each tile in {@link #tileTriangles}, followed by the total number of entries.
+     */
+    private final int[] tileStarts;
+    private int[] tileTriangles = new int[0];
+
+    /**
+     * The number of visible boxes found by each chunk of the current batch test.
+     */
+    private int[] chunkVisible = new int[0];
+
+    /**
+     * Create a new {@link OcclusionCuller} with a depth buffer of the given size, using as many threads as there are
+     * available processors.
+     * 
+     * @param width
+     *          the width of the depth buffer in pixels
+     * @param height
+     *          the height of the depth buffer in pixels
+     */
+    public OcclusionCuller(int width, int height) {
+        this(width, height, Parallel.defaultThreads());
+    }
+
+    /**
+     * Create a new {@link OcclusionCuller} with a depth buffer of the given size, using up to the given number of threads,
+     * including the calling thread.
+     * 
+     * @param width
+     *          the width of the depth buffer in pixels
+     * @param height
+     *          the height of the depth buffer in pixels
+     * @param threads
+     *          the maximum number of threads
+     */
+    public OcclusionCuller(int width, int height, int threads) {
+        if (width < 1)
+            throw new IllegalArgumentException("width must be >= 1"); //$NON-NLS-1$
+        if (height < 1)
+            throw new IllegalArgumentException("height must be >= 1"); //$NON-NLS-1$
+        if (threads < 1)
+            throw new IllegalArgumentException("threads must be >= 1"); //$NON-NLS-1$
+        this.width = width;
+        this.height = height;
+        this.threads = threads;
+        this.tilesX = (width + TILE_SIZE - 1) >> TILE_SHIFT;
+        this.tilesY = (height + TILE_SIZE - 1) >> TILE_SHIFT;
+        this.tileStarts = new int[tilesX * tilesY + 1];
+        int levels = 1;
+        for (int w = width, h = height; w > 1 || h > 1; w = (w + 1) >> 1, h = (h + 1) >> 1)
+            levels++;
+        levelOffsets = new int[levels];
+        levelWidths = new int[levels];
+        levelHeights = new int[levels];
+        int size = 0;
+        for (int l = 0, w = width, h = height; l < levels; l++, w = (w + 1) >> 1, h = (h + 1) >> 1) {
+            levelOffsets[l] = size;
+            levelWidths[l] = w;
+            levelHeights[l] = h;
+            size += w * h;
+        }
+        pyramid = new float[size];
+        clear();
+    }
+
+    /**
+     * Return the width of the depth buffer in pixels.
+     * 
+     * @return the width
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Return the height of the depth buffer in pixels.
+     * 
+     * @return the height
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Return the maximum number of threads used by this culler.
+     * 
+     * @return the number of threads
+     */
+    public int threads() {
+        return threads;
+    }
+
+    /**
+     * Return the number of levels of the depth pyramid, including the depth buffer itself as level <code>0</code>.
+     * 
+     * @return the number of levels
+     */
+    public int levels() {
+        return levelOffsets.length;
+    }
+
+    /**
+     * Start a new frame by setting the view-projection matrix used for rasterizing occluders and testing boxes, and by
+     * clearing the depth buffer.
+     * 
+     * @param viewProj
+     *          the matrix transforming world-space positions into clip space
+     * @return this
+     */
+    public OcclusionCuller begin(Matrix4fc viewProj) {
+        this.viewProj.set(viewProj);
+        clear();
+        return this;
+    }
+
+    private void clear() {
+        int n = width * height;
+        for (int i = 0; i < n; i++)
+            pyramid[i] = 1.0f;
+        pyramidDirty = true;
+    }
+
+    /**
+     * Rasterize the given indexed triangles into the depth buffer.
+     * <p>
+     * The vertices are stored as consecutive <code>(x, y, z)</code> world-space positions, and the indices are relative to
+     * the first vertex at <code>vertexOffset</code>. Both front and back faces are rasterized.
+     * 
+     * @param vertices
+     *          the vertex positions
+     * @param vertexOffset
+     *          the index in <code>vertices</code> of the x coordinate of the first vertex
+     * @param vertexCount
+     *          the number of vertices
+     * @param indices
+     *          holds three vertex indices per triangle
+     * @param indexOffset
+     *          the index in <code>indices</code> of the first index of the first triangle
+     * @param triangleCount
+     *          the number of triangles
+     * @return this
+     * @throws IndexOutOfBoundsException
+     *          if any of the indices is not within <code>[0, vertexCount)</code>
+     */
+    public OcclusionCuller rasterize(final float[] vertices, final int vertexOffset, int vertexCount,
+            final int[] indices, final int indexOffset, int triangleCount) {
+        if (vertexCount < 0)
+            throw new IllegalArgumentException("vertexCount must be >= 0"); //$NON-NLS-1$
+        if (triangleCount < 0)
+            throw new IllegalArgumentException("triangleCount must be >= 0"); //$NON-NLS-1$
+        for (int k = indexOffset, end = indexOffset + triangleCount * 3; k < end; k++)
+            if (indices[k] < 0 || indices[k] >= vertexCount)
+                throw new IndexOutOfBoundsException();
+        if (projected.length < vertexCount * 3) {
+            projected = new float[vertexCount * 3];
+            valid = new boolean[vertexCount];
+        }
+        final float[] p = projected;
+        final boolean[] v = valid;
+        final Matrix4f m = viewProj;
+        Parallel.run(vertexCount, threads, MIN_VERTICES, new Parallel.Task() {
+            public void run(int s, int e) {
+                m.transformProjects(vertices, vertexOffset + s * 3, 3, p, s * 3, 3, e - s);
+                for (int i = s, j = vertexOffset + s * 3; i < e; i++, j += 3) {
+                    float w = Math.fma(m.m03(), vertices[j], Math.fma(m.m13(), vertices[j + 1], Math.fma(m.m23(), vertices[j + 2], m.m33())));
+                    v[i] = w > 0.0f && p[i * 3 + 2] >= -1.0f;
+                }
+            }
+        });
+        bin(indices, indexOffset, triangleCount);
+        final int[] starts = tileStarts;
+        final int[] triangles = tileTriangles;
+        Parallel.run(tilesX * tilesY, threads, 1, new Parallel.Task() {
+            public void run(int s, int e) {
+                for (int t = s; t < e; t++) {
+                    int x0 = (t % tilesX) << TILE_SHIFT, y0 = (t / tilesX) << TILE_SHIFT;
+                    int x1 = java.lang.Math.min(x0 + TILE_SIZE, width) - 1, y1 = java.lang.Math.min(y0 + TILE_SIZE, height) - 1;
+                    for (int i = starts[t], end = starts[t + 1]; i < end; i++) {
+                        int k = indexOffset + triangles[i] * 3;
+                        rasterizeTriangle(indices[k] * 3, indices[k + 1] * 3, indices[k + 2] * 3, x0, y0, x1, y1);
+                    }
+                }
+            }
+        });
+        pyramidDirty = true;
+        return this;
+    }
+
+    /**
+     * Sort the valid triangles into the tiles they overlap, by counting the triangles per tile first and then storing them
+     * in {@link #tileTriangles} in the order of their tiles.
+     */
+    private void bin(int[] indices, int indexOffset, int triangleCount) {
+        int[] starts = tileStarts;
+        for (int i = 0; i < starts.length; i++)
+            starts[i] = 0;
+        int[] bounds = new int[4];
+        for (int pass = 0; pass < 2; pass++) {
+            for (int t = 0, k = indexOffset; t < triangleCount; t++, k += 3) {
+                if (!bounds(indices[k], indices[k + 1], indices[k + 2], bounds))
+                    continue;
+                for (int ty = bounds[1] >> TILE_SHIFT, ty1 = bounds[3] >> TILE_SHIFT; ty <= ty1; ty++)
+                    for (int tx = bounds[0] >> TILE_SHIFT, tx1 = bounds[2] >> TILE_SHIFT; tx <= tx1; tx++) {
+                        int tile = ty * tilesX + tx;
+                        if (pass == 0)
+                            starts[tile + 1]++;
+                        else
+                            tileTriangles[starts[tile]++] = t;
+                    }
+            }
+            if (pass == 0) {
+                for (int i = 1; i < starts.length; i++)
+                    starts[i] += starts[i - 1];
+                if (tileTriangles.length < starts[starts.length - 1])
+                    tileTriangles = new int[starts[starts.length - 1]];
+            } else {
+                // every start now holds the start of the next tile, so shift them back by one tile
+                for (int i = starts.length - 1; i > 0; i--)
+                    starts[i] = starts[i - 1];
+                starts[0] = 0;
+            }
+        }
+    }
+
+    /**
+     * Compute the range of pixels whose centers may be covered by the given triangle, clamped to the viewport.
+     * 
+     * @return <code>false</code> if the triangle is not rasterized at all
+     */
+    private boolean bounds(int i0, int i1, int i2, int[] dest) {
+        if (!valid[i0] || !valid[i1] || !valid[i2])
+            return false;
+        float[] p = projected;
+        float ax = screenX(p[i0 * 3]), ay = screenY(p[i0 * 3 + 1]);
+        float bx = screenX(p[i1 * 3]), by = screenY(p[i1 * 3 + 1]);
+        float cx = screenX(p[i2 * 3]), cy = screenY(p[i2 * 3 + 1]);
+        int x0 = java.lang.Math.max(0, ceil(java.lang.Math.min(ax, java.lang.Math.min(bx, cx)) - 0.5f));
+        int y0 = java.lang.Math.max(0, ceil(java.lang.Math.min(ay, java.lang.Math.min(by, cy)) - 0.5f));
+        int x1 = java.lang.Math.min(width - 1, floor(java.lang.Math.max(ax, java.lang.Math.max(bx, cx)) - 0.5f));
+        int y1 = java.lang.Math.min(height - 1, floor(java.lang.Math.max(ay, java.lang.Math.max(by, cy)) - 0.5f));
+        if (x0 > x1 || y0 > y1)
+            return false;
+        dest[0] = x0; dest[1] = y0; dest[2] = x1; dest[3] = y1;
+        return true;
+    }
+
+    /**
+     * Rasterize the triangle with the given offsets into {@link #projected} into the pixel rectangle <code>[x0..x1] x [y0..y1]</code>
+     * of a single tile, keeping the nearest depth of each pixel whose center is covered.
+     */
+    private void rasterizeTriangle(int i0, int i1, int i2, int x0, int y0, int x1, int y1) {
+        float[] p = projected;
+        float ax = screenX(p[i0]), ay = screenY(p[i0 + 1]), az = p[i0 + 2];
+        float bx = screenX(p[i1]), by = screenY(p[i1 + 1]), bz = p[i1 + 2];
+        float cx = screenX(p[i2]), cy = screenY(p[i2 + 1]), cz = p[i2 + 2];
+        float area = (bx - ax) * (cy - ay) - (cx - ax) * (by - ay);
+        if (area == 0.0f || area != area)
+            return;
+        if (area < 0.0f) {
+            float t = bx; bx = cx; cx = t;
+            t = by; by = cy; cy = t;
+            t = bz; bz = cz; cz = t;
+            area = -area;
+        }
+        x0 = java.lang.Math.max(x0, ceil(java.lang.Math.min(ax, java.lang.Math.min(bx, cx)) - 0.5f));
+        y0 = java.lang.Math.max(y0, ceil(java.lang.Math.min(ay, java.lang.Math.min(by, cy)) - 0.5f));
+        x1 = java.lang.Math.min(x1, floor(java.lang.Math.max(ax, java.lang.Math.max(bx, cx)) - 0.5f));
+        y1 = java.lang.Math.min(y1, floor(java.lang.Math.max(ay, java.lang.Math.max(by, cy)) - 0.5f));
+        float invArea = 1.0f / area;
+        // the edge functions of the edges opposite to a, b and c, and their increments along x
+        float da = cy - by, db = ay - cy, dc = by - ay;
+        float[] depth = pyramid;
+        for (int y = y0; y <= y1; y++) {
+            float px = x0 + 0.5f, py = y + 0.5f;
+            float ea = (cx - bx) * (py - by) - (px - bx) * (cy - by);
+            float eb = (ax - cx) * (py - cy) - (px - cx) * (ay - cy);
+            float ec = (bx - ax) * (py - ay) - (px - ax) * (by - ay);
+            for (int x = x0, i = y * width + x0; x <= x1; x++, i++, ea -= da, eb -= db, ec -= dc) {
+                if (ea < 0.0f || eb < 0.0f || ec < 0.0f)
+                    continue;
+                float z = (ea * az + eb * bz + ec * cz) * invArea;
+                if (z < depth[i])
+                    depth[i] = z;
+            }
+        }
+    }
+
+    private float screenX(float ndcX) {
+        return (ndcX * 0.5f + 0.5f) * width;
+    }
+
+    private float screenY(float ndcY) {
+        return (ndcY * 0.5f + 0.5f) * height;
+    }
+
+    private static int floor(float v) {
+        return (int) java.lang.Math.floor(v);
+    }
+
+    private static int ceil(float v) {
+        return (int) java.lang.Math.ceil(v);
+    }
+
+    /**
+     * Build all levels of the depth pyramid above the depth buffer, if anything was rasterized since they were last built.
+     */
+    private void updatePyramid() {
+        if (!pyramidDirty)
+            return;
+        for (int l = 1; l < levelOffsets.length; l++) {
+            final int src = levelOffsets[l - 1], srcWidth = levelWidths[l - 1], srcHeight = levelHeights[l - 1];
+            final int dst = levelOffsets[l], dstWidth = levelWidths[l];
+            final float[] p = pyramid;
+            Parallel.run(levelHeights[l], threads, java.lang.Math.max(1, MIN_VERTICES / dstWidth), new Parallel.Task() {
+                public void run(int s, int e) {
+                    for (int y = s; y < e; y++) {
+                        int r0 = src + 2 * y * srcWidth, r1 = 2 * y + 1 < srcHeight ? r0 + srcWidth : r0;
+                        for (int x = 0, i = dst + y * dstWidth; x < dstWidth; x++, i++) {
+                            int c0 = 2 * x, c1 = 2 * x + 1 < srcWidth ? c0 + 1 : c0;
+                            p[i] = java.lang.Math.max(java.lang.Math.max(p[r0 + c0], p[r0 + c1]), java.lang.Math.max(p[r1 + c0], p[r1 + c1]));
+                        }
+                    }
+                }
+            });
+        }
+        pyramidDirty = false;
+    }
+
+    /**
+     * Return the depth stored in the given level of the depth pyramid at the given texel.
+     * <p>
+     * Level <code>0</code> is the depth buffer itself, where the pixel <code>(0, 0)</code> is at the bottom left of the viewport.
+     * Each texel of a higher level holds the farthest depth of the at most four texels of the level below it.
+     * 
+     * @param level
+     *          the level in <code>[0..levels()-1]</code>
+     * @param x
+     *          the x coordinate of the texel
+     * @param y
+     *          the y coordinate of the texel
+     * @return the depth as normalized device z coordinate
+     */
+    public float depth(int level, int x, int y) {
+        if (level < 0 || level >= levelOffsets.length)
+            throw new IndexOutOfBoundsException("level"); //$NON-NLS-1$
+        if (x < 0 || x >= levelWidths[level] || y < 0 || y >= levelHeights[level])
+            throw new IndexOutOfBoundsException("texel"); //$NON-NLS-1$
+        updatePyramid();
+        return pyramid[levelOffsets[level] + y * levelWidths[level] + x];
+    }
+
+    /**
+     * Test whether the given axis-aligned box may be visible, i.e. is not completely hidden behind the occluders
+     * rasterized since the last {@link #begin(Matrix4fc)}.
+     * 
+     * @param minX
+     *          the x-coordinate of the minimum corner
+     * @param minY
+     *          the y-coordinate of the minimum corner
+     * @param minZ
+     *          the z-coordinate of the minimum corner
+     * @param maxX
+     *          the x-coordinate of the maximum corner
+     * @param maxY
+     *          the y-coordinate of the maximum corner
+     * @param maxZ
+     *          the z-coordinate of the maximum corner
+     * @return <code>true</code> if the box may be visible; <code>false</code> if it is hidden or outside of the viewport
+     */
+    public boolean testAab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        updatePyramid();
+        return visible(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Test whether each of the given <code>count</code> axis-aligned boxes, starting at <code>offset</code>, may be visible, and
+     * store the indices of all such boxes consecutively and in ascending order in <code>dest</code>.
+     * <p>
+     * The boxes are given in the same structure-of-arrays layout as for {@link FrustumCuller}, and are tested in chunks by
+     * several threads. The <code>dest</code> array must have room for <code>count</code> indices, even if fewer are stored.
+     * 
+     * @see #testAab(float, float, float, float, float, float)
+     * 
+     * @param minX
+     *          the x-coordinates of the minimum corners
+     * @param minY
+     *          the y-coordinates of the minimum corners
+     * @param minZ
+     *          the z-coordinates of the minimum corners
+     * @param maxX
+     *          the x-coordinates of the maximum corners
+     * @param maxY
+     *          the y-coordinates of the maximum corners
+     * @param maxZ
+     *          the z-coordinates of the maximum corners
+     * @param offset
+     *          the index of the first box in the arrays
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold the indices of all boxes that may be visible
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testAab(final float[] minX, final float[] minY, final float[] minZ, final float[] maxX, final float[] maxY,
+            final float[] maxZ, final int offset, final int count, final int[] dest, final int destOffset) {
+        if (count < 0)
+            throw new IllegalArgumentException("count must be >= 0"); //$NON-NLS-1$
+        updatePyramid();
+        int chunks = java.lang.Math.max(1, java.lang.Math.min(threads * 4, (count + MIN_CHUNK - 1) / MIN_CHUNK));
+        if (chunkVisible.length < chunks)
+            chunkVisible = new int[chunks];
+        final int chunkSize = (count + chunks - 1) / chunks;
+        final int[] visible = chunkVisible;
+        Parallel.run(chunks, threads, 1, new Parallel.Task() {
+            public void run(int s, int e) {
+                for (int c = s; c < e; c++) {
+                    int first = c * chunkSize, end = java.lang.Math.min(first + chunkSize, count), d = destOffset + first;
+                    for (int i = offset + first, last = offset + end; i < last; i++)
+                        if (visible(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i]))
+                            dest[d++] = i;
+                    visible[c] = d - destOffset - first;
+                }
+            }
+        });
+        int d = visible[0];
+        for (int c = 1; c < chunks; c++) {
+            int n = visible[c];
+            if (n > 0)
+                System.arraycopy(dest, destOffset + c * chunkSize, dest, destOffset + d, n);
+            d += n;
+        }
+        return d;
+    }
+
+    /**
+     * Test a single box against the depth pyramid, which must be up to date.
+     */
+    private boolean visible(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        Matrix4f m = viewProj;
+        float sx0 = Float.POSITIVE_INFINITY, sy0 = Float.POSITIVE_INFINITY, sx1 = Float.NEGATIVE_INFINITY, sy1 = Float.NEGATIVE_INFINITY;
+        float nearest = Float.POSITIVE_INFINITY;
+        for (int c = 0; c < 8; c++) {
+            float x = (c & 1) == 0 ? minX : maxX, y = (c & 2) == 0 ? minY : maxY, z = (c & 4) == 0 ? minZ : maxZ;
+            float w = Math.fma(m.m03(), x, Math.fma(m.m13(), y, Math.fma(m.m23(), z, m.m33())));
+            if (w <= 0.0f)
+                return true;
+            float invW = 1.0f / w;
+            float nx = Math.fma(m.m00(), x, Math.fma(m.m10(), y, Math.fma(m.m20(), z, m.m30()))) * invW;
+            float ny = Math.fma(m.m01(), x, Math.fma(m.m11(), y, Math.fma(m.m21(), z, m.m31()))) * invW;
+            float nz = Math.fma(m.m02(), x, Math.fma(m.m12(), y, Math.fma(m.m22(), z, m.m32()))) * invW;
+            sx0 = java.lang.Math.min(sx0, nx); sx1 = java.lang.Math.max(sx1, nx);
+            sy0 = java.lang.Math.min(sy0, ny); sy1 = java.lang.Math.max(sy1, ny);
+            nearest = java.lang.Math.min(nearest, nz);
+        }
+        if (nearest < -1.0f)
+            return true;
+        int x0 = floor(screenX(sx0)), y0 = floor(screenY(sy0)), x1 = floor(screenX(sx1)), y1 = floor(screenY(sy1));
+        if (x1 < 0 || y1 < 0 || x0 >= width || y0 >= height)
+            return false;
+        x0 = java.lang.Math.max(x0, 0); y0 = java.lang.Math.max(y0, 0);
+        x1 = java.lang.Math.min(x1, width - 1); y1 = java.lang.Math.min(y1, height - 1);
+        int level = 0;
+        while (level < levelOffsets.length - 1 && ((x1 >> level) - (x0 >> level) > 1 || (y1 >> level) - (y0 >> level) > 1))
+            level++;
+        float[] p = pyramid;
+        int off = levelOffsets[level], w = levelWidths[level];
+        float farthest = Float.NEGATIVE_INFINITY;
+        for (int y = y0 >> level, ye = y1 >> level; y <= ye; y++)
+            for (int x = x0 >> level, xe = x1 >> level; x <= xe; x++)
+                farthest = java.lang.Math.max(farthest, p[off + y * w + x]);
+        return nearest <= farthest;
+    }
+
+}
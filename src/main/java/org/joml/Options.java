@@ -41,6 +41,11 @@ public final class Options {
      */
     public static final boolean DEBUG = hasOption(System.getProperty("joml.debug", "false"));
 
+    /**
+     * Whether {@link PropertyCounters} should count which property-specialized path {@link Matrix4f} operations take.
+     */
+    public static final boolean COUNT_PROPERTY_PATHS = hasOption(System.getProperty("joml.countPropertyPaths", "false"));
+
 //#ifdef __HAS_UNSAFE__
     /**
      * Whether <i>not</i> to use sun.misc.Unsafe when copying memory with MemUtil.
@@ -58,6 +63,22 @@ public final class Options {
     public static final boolean FORCE_UNSAFE = hasOption(System.getProperty("joml.forceUnsafe", "false"));
 //#endif
 
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Whether to use the Foreign Function &amp; Memory API (java.lang.foreign) instead of sun.misc.Unsafe when copying memory with MemUtil.
+     * <p>
+     * Regardless of this option, it is used instead of plain NIO whenever Unsafe is disabled or unavailable.
+     */
+    public static final boolean USE_FOREIGN_MEMORY = hasOption(System.getProperty("joml.useForeignMemory", "false"));
+//#endif
+
+//#ifdef __HAS_VECTOR_API__
+    /**
+     * Whether <i>not</i> to use the Vector API (jdk.incubator.vector) in matrix operations, even when it is available.
+     */
+    public static final boolean NO_VECTOR_API = hasOption(System.getProperty("joml.noVectorApi", "false"));
+//#endif
+
     /**
      * Whether fast approximations of some java.lang.Math operations should be used.
      */
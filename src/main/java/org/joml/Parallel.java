@@ -0,0 +1,220 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs index ranges of a task on a shared set of daemon worker threads.
+ * <p>
+ * The worker threads are created lazily, the first time a caller asks for more threads than exist. There are never more
+ * than {@link #defaultThreads()} - 1 workers, and once created they are never stopped: they stay idle in
+ * {@link Object#wait()} for the lifetime of the JVM, which is why they are daemon threads. The calling thread always works
+ * on its own task as well, so a call makes progress even when all workers are busy with the tasks of other callers. Calls
+ * made from within a worker thread run on the calling thread only, which avoids workers waiting on each other.
+ * <p>
+ * JOML is compatible with Java 1.4, and <code>java.util.concurrent</code> only exists since Java 5, so this class
+ * is built on {@link Thread} and monitors instead of an <code>ExecutorService</code>. All multi-threaded operations of
+ * JOML go through this class.
+ */
+final class Parallel {
+
+    /**
+     * A task working on a range of indices.
+     */
+    interface Task {
+        /**
+         * Process the indices <code>[start, end)</code>.
+         * 
+         * @param start
+         *          the first index
+         * @param end
+         *          the index after the last index
+         */
+        void run(int start, int end);
+    }
+
+    private static final class Job {
+        final Task task;
+        final int count, chunk;
+        int next, pending;
+        @Nullable Throwable error;
+        @Nullable Job nextJob;
+
+        Job(Task task, int count, int chunk) {
+            this.task = task;
+            this.count = count;
+            this.chunk = chunk;
+            this.pending = (count + chunk - 1) / chunk;
+        }
+    }
+
+    private static final class Worker extends Thread {
+        Worker(int index) {
+            super("JOML worker " + index); //$NON-NLS-1$
+            setDaemon(true);
+        }
+
+        public void run() {
+            while (true) {
+                Job job;
+                int start;
+                synchronized (LOCK) {
+                    while (jobs == null) {
+                        try {
+                            LOCK.wait();
+                        } catch (InterruptedException e) {
+                            /* Workers are never interrupted on purpose. */
+                        }
+                    }
+                    job = jobs;
+                    start = claim(job);
+                }
+                execute(job, start);
+            }
+        }
+    }
+
+    private static final Object LOCK = new Object();
+
+    /**
+     * Linked list of all jobs that still have unclaimed chunks, guarded by {@link #LOCK}.
+     */
+    private static @Nullable Job jobs;
+
+    private static int workerCount;
+
+    private Parallel() {
+    }
+
+    /**
+     * Return the default number of threads to use for parallel operations, which is the number of available processors.
+     * 
+     * @return the default number of threads
+     */
+    static int defaultThreads() {
+        return java.lang.Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Run the given task for all indices in <code>[0, count)</code> using up to <code>threads</code> threads, including
+     * the calling thread, and return when all indices have been processed.
+     * <p>
+     * The indices are split into chunks of at least <code>minChunk</code> indices. If there is only one chunk, or if
+     * <code>threads</code> is one, the task runs on the calling thread only. No more than {@link #defaultThreads()} threads
+     * are used, even if <code>threads</code> is larger.
+     * <p>
+     * If the task throws, the first {@link RuntimeException} or {@link Error} is rethrown in the calling thread after
+     * all chunks have finished.
+     * 
+     * @param count
+     *          the number of indices
+     * @param threads
+     *          the maximum number of threads to use
+     * @param minChunk
+     *          the minimum number of indices per chunk
+     * @param task
+     *          the task to run
+     */
+    static void run(int count, int threads, int minChunk, Task task) {
+        if (count <= 0)
+            return;
+        if (threads <= 1 || count <= minChunk || Thread.currentThread() instanceof Worker) {
+            task.run(0, count);
+            return;
+        }
+        int chunks = java.lang.Math.min(threads * 4, (count + minChunk - 1) / minChunk);
+        Job job = new Job(task, count, (count + chunks - 1) / chunks);
+        synchronized (LOCK) {
+            int workers = java.lang.Math.min(threads, defaultThreads()) - 1;
+            while (workerCount < workers) {
+                new Worker(workerCount++).start();
+            }
+            job.nextJob = jobs;
+            jobs = job;
+            LOCK.notifyAll();
+        }
+        while (true) {
+            int start;
+            synchronized (LOCK) {
+                if (job.next >= job.count)
+                    break;
+                start = claim(job);
+            }
+            execute(job, start);
+        }
+        boolean interrupted = false;
+        synchronized (LOCK) {
+            while (job.pending > 0) {
+                try {
+                    LOCK.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        if (job.error instanceof RuntimeException)
+            throw (RuntimeException) job.error;
+        else if (job.error instanceof Error)
+            throw (Error) job.error;
+    }
+
+    /**
+     * Claim the next chunk of the given job, which must have unclaimed chunks, and unlink the job once all of its
+     * chunks are claimed. Must be called while holding {@link #LOCK}.
+     */
+    private static int claim(Job job) {
+        int start = job.next;
+        job.next += job.chunk;
+        if (job.next >= job.count) {
+            if (jobs == job) {
+                jobs = job.nextJob;
+            } else {
+                Job j = jobs;
+                while (j.nextJob != job)
+                    j = j.nextJob;
+                j.nextJob = job.nextJob;
+            }
+        }
+        return start;
+    }
+
+    private static void execute(Job job, int start) {
+        Throwable error = null;
+        try {
+            job.task.run(start, java.lang.Math.min(start + job.chunk, job.count));
+        } catch (Throwable t) {
+            error = t;
+        }
+        synchronized (LOCK) {
+            if (error != null && job.error == null)
+                job.error = error;
+            if (--job.pending == 0)
+                LOCK.notifyAll();
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * Counts which property-specialized code path {@link Matrix4f} operations take.
+ * <p>
+ * Operations like {@link Matrix4f#mul(Matrix4fc, Matrix4f)} look at the {@link Matrix4fc#properties() properties} of
+ * their operands to choose a cheaper implementation for identity, translation, orthonormal, affine or perspective
+ * matrices. When a matrix loses its properties, for example because a single-element setter such as
+ * {@link Matrix4f#m33(float)} conservatively cleared them or {@link Matrix4f#assume(int)} was called with too few
+ * bits, the generic path is taken without any visible change other than speed. These counters make that visible.
+ * <p>
+ * Counting is disabled unless the JVM is started with <code>-Djoml.countPropertyPaths</code>. Because
+ * {@link Options#COUNT_PROPERTY_PATHS} is a <code>static final</code> field, the JIT removes the instrumentation
+ * completely when it is disabled. When it is enabled, every counted operation synchronizes on this class, so
+ * the mode should only be used while investigating.
+ * <p>
+ * Example:
+ * <pre>
+ * PropertyCounters.reset();
+ * renderFrame();
+ * System.out.println(PropertyCounters.report());
+ * </pre>
+ */
+public final class PropertyCounters {
+
+    /**
+     * Operation {@link Matrix4f#mul(Matrix4fc, Matrix4f)}.
+     */
+    public static final int OP_MUL = 0;
+    /**
+     * Operation {@link Matrix4f#invert(Matrix4f)}.
+     */
+    public static final int OP_INVERT = 1;
+    /**
+     * Operation {@link Matrix4f#transform(Vector4fc, Vector4f)} and {@link Matrix4f#transform(Vector4f)},
+     * including {@link Vector4f#mul(Matrix4fc, Vector4f)} to which they delegate.
+     */
+    public static final int OP_TRANSFORM = 2;
+
+    /**
+     * Path taken when one of the matrices is the identity.
+     */
+    public static final int PATH_IDENTITY = 0;
+    /**
+     * Path taken for a translation matrix (multiplied by an affine right operand in case of <code>mul</code>).
+     */
+    public static final int PATH_TRANSLATION = 1;
+    /**
+     * Path taken for an orthonormal affine matrix.
+     */
+    public static final int PATH_ORTHONORMAL = 2;
+    /**
+     * Path taken for an affine matrix (and an affine right operand in case of <code>mul</code>).
+     */
+    public static final int PATH_AFFINE = 3;
+    /**
+     * Path taken for a perspective matrix (multiplied by an affine right operand in case of <code>mul</code>).
+     */
+    public static final int PATH_PERSPECTIVE = 4;
+    /**
+     * Path taken by <code>mul</code> when only the right operand is affine.
+     */
+    public static final int PATH_AFFINE_RIGHT = 5;
+    /**
+     * The generic path, taken when no usable property is set.
+     */
+    public static final int PATH_GENERIC = 6;
+    /**
+     * Path taken when the operation is delegated to the JVMCI kernels.
+     */
+    public static final int PATH_JVMCI = 7;
+    /**
+     * Path taken when the operation is delegated to the Vector API kernels.
+     */
+    public static final int PATH_VECTOR_API = 8;
+
+    private static final String[] OP_NAMES = { "mul", "invert", "transform" };
+    private static final String[] PATH_NAMES = { "identity", "translation", "orthonormal", "affine", "perspective", "affineRight", "generic",
+                                                 "jvmci", "vectorApi" };
+    private static final long[] counts = new long[OP_NAMES.length * PATH_NAMES.length];
+
+    private PropertyCounters() {
+    }
+
+    /**
+     * Count that the given operation took the given path.
+     * <p>
+     * This is called from inside the branches of the counted operations, so that the counted path is always the one actually taken.
+     *
+     * @param op
+     *          the operation
+     * @param path
+     *          the path
+     */
+    static void count(int op, int path) {
+        if (Options.COUNT_PROPERTY_PATHS)
+            increment(op * PATH_NAMES.length + path);
+    }
+
+    private static synchronized void increment(int i) {
+        counts[i]++;
+    }
+
+    /**
+     * Return how often the given operation took the given path since the last {@link #reset()}.
+     * <p>
+     * This is always <code>0</code> unless {@link Options#COUNT_PROPERTY_PATHS} is <code>true</code>.
+     *
+     * @param op
+     *          the operation, one of {@link #OP_MUL}, {@link #OP_INVERT} or {@link #OP_TRANSFORM}
+     * @param path
+     *          the path, one of the <code>PATH_*</code> constants
+     * @return the count
+     */
+    public static synchronized long get(int op, int path) {
+        if (op < 0 || op >= OP_NAMES.length)
+            throw new IllegalArgumentException("op");
+        if (path < 0 || path >= PATH_NAMES.length)
+            throw new IllegalArgumentException("path");
+        return counts[op * PATH_NAMES.length + path];
+    }
+
+    /**
+     * Set all counts to zero.
+     */
+    public static synchronized void reset() {
+        for (int i = 0; i < counts.length; i++)
+            counts[i] = 0L;
+    }
+
+    /**
+     * Return a multi-line representation of all non-zero counts, with one line per operation.
+     *
+     * @return the string representation
+     */
+    public static synchronized String report() {
+        String nl = System.getProperty("line.separator");
+        StringBuffer sb = new StringBuffer("Matrix4f property paths:");
+        if (!Options.COUNT_PROPERTY_PATHS)
+            return sb.append(" not counted (enable with -Djoml.countPropertyPaths)").toString();
+        for (int op = 0; op < OP_NAMES.length; op++) {
+            sb.append(nl).append("  ").append(OP_NAMES[op]).append(':');
+            for (int path = 0; path < PATH_NAMES.length; path++) {
+                long c = counts[op * PATH_NAMES.length + path];
+                if (c != 0L)
+                    sb.append(' ').append(PATH_NAMES[path]).append('=').append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+}
@@ -944,6 +944,34 @@ public class Quaternionf implements Externalizable, Cloneable, Quaternionfc {
                    Math.cosFromSin(sinAngle, hangle));
     }
 
+    /**
+     * Set this quaternion to a rotation about the supplied axis, using the given sine and cosine of <i>half</i> the rotation angle.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotationAxis(float, float, float, float)},
+     * for example via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}.
+     * 
+     * @see #rotationAxis(float, float, float, float)
+     * 
+     * @param sinHalfAngle
+     *          the sine of half the rotation angle
+     * @param cosHalfAngle
+     *          the cosine of half the rotation angle
+     * @param axisX
+     *          the x-coordinate of the rotation axis
+     * @param axisY
+     *          the y-coordinate of the rotation axis
+     * @param axisZ
+     *          the z-coordinate of the rotation axis
+     * @return this
+     */
+    public Quaternionf rotationAxis(float sinHalfAngle, float cosHalfAngle, float axisX, float axisY, float axisZ) {
+        float invVLength = Math.invsqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+        return set(axisX * invVLength * sinHalfAngle,
+                   axisY * invVLength * sinHalfAngle,
+                   axisZ * invVLength * sinHalfAngle,
+                   cosHalfAngle);
+    }
+
     /**
      * Set this quaternion to a rotation of the given angle in radians about the supplied axis.
      * 
@@ -972,6 +1000,24 @@ public class Quaternionf implements Externalizable, Cloneable, Quaternionfc {
         return set(sin, 0, 0, cos);
     }
 
+    /**
+     * Set this quaternion to represent a rotation about the x axis, using the given sine and cosine of <i>half</i> the rotation angle.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotationX(float)}, for example
+     * via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}.
+     * 
+     * @see #rotationX(float)
+     * 
+     * @param sinHalfAngle
+     *              the sine of half the angle to rotate about the x axis
+     * @param cosHalfAngle
+     *              the cosine of half the angle to rotate about the x axis
+     * @return this
+     */
+    public Quaternionf rotationX(float sinHalfAngle, float cosHalfAngle) {
+        return set(sinHalfAngle, 0, 0, cosHalfAngle);
+    }
+
     /**
      * Set this quaternion to represent a rotation of the given radians about the y axis.
      * 
@@ -985,6 +1031,24 @@ public class Quaternionf implements Externalizable, Cloneable, Quaternionfc {
         return set(0, sin, 0, cos);
     }
 
+    /**
+     * Set this quaternion to represent a rotation about the y axis, using the given sine and cosine of <i>half</i> the rotation angle.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotationY(float)}, for example
+     * via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}.
+     * 
+     * @see #rotationY(float)
+     * 
+     * @param sinHalfAngle
+     *              the sine of half the angle to rotate about the y axis
+     * @param cosHalfAngle
+     *              the cosine of half the angle to rotate about the y axis
+     * @return this
+     */
+    public Quaternionf rotationY(float sinHalfAngle, float cosHalfAngle) {
+        return set(0, sinHalfAngle, 0, cosHalfAngle);
+    }
+
     /**
      * Set this quaternion to represent a rotation of the given radians about the z axis.
      * 
@@ -998,6 +1062,24 @@ public class Quaternionf implements Externalizable, Cloneable, Quaternionfc {
         return set(0, 0, sin, cos);
     }
 
+    /**
+     * Set this quaternion to represent a rotation about the z axis, using the given sine and cosine of <i>half</i> the rotation angle.
+     * <p>
+     * This allows to compute the sine and cosine with a different precision than {@link #rotationZ(float)}, for example
+     * via {@link Math.Fast#sin(float)} and {@link Math.Fast#cos(float)}.
+     * 
+     * @see #rotationZ(float)
+     * 
+     * @param sinHalfAngle
+     *              the sine of half the angle to rotate about the z axis
+     * @param cosHalfAngle
+     *              the cosine of half the angle to rotate about the z axis
+     * @return this
+     */
+    public Quaternionf rotationZ(float sinHalfAngle, float cosHalfAngle) {
+        return set(0, 0, sinHalfAngle, cosHalfAngle);
+    }
+
     private void setFromUnnormalized(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22) {
         float nm00 = m00, nm01 = m01, nm02 = m02;
         float nm10 = m10, nm11 = m11, nm12 = m12;
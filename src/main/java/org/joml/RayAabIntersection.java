@@ -43,6 +43,11 @@ public class RayAabIntersection {
     private float s_xy, s_yx, s_zy, s_yz, s_xz, s_zx;
     private byte classification;
 
+    /**
+     * The number of boxes filtered at once by the batch intersection methods before computing the intersection distances.
+     */
+    private static final int BATCH_SIZE = 64;
+
     /**
      * Create a new {@link RayAabIntersection} without initializing a ray.
      * <p>
@@ -244,6 +249,339 @@ public class RayAabIntersection {
         }
     }
 
+    /**
+     * Test whether the ray stored in this {@link RayAabIntersection} intersects each of the given <code>count</code> axis-aligned boxes,
+     * starting at <code>offset</code>, and store the indices of all intersected boxes consecutively in <code>dest</code>.
+     * <p>
+     * The boxes are given in structure-of-arrays layout, with the corners of the <code>i</code>-th box stored at index <code>offset + i</code>
+     * of each of the six arrays, and <code>offset + i</code> is also the index stored in <code>dest</code>. The <code>dest</code> array
+     * must have room for up to <code>count</code> indices.
+     * <p>
+     * Unlike calling {@link #test(float, float, float, float, float, float)} for each box, this method dispatches on the ray classification
+     * only once for all boxes.
+     * <p>
+     * This method is thread-safe and can be used to test many axis-aligned boxes concurrently.
+     * 
+     * @param minX
+     *          the x coordinates of the minimum corners
+     * @param minY
+     *          the y coordinates of the minimum corners
+     * @param minZ
+     *          the z coordinates of the minimum corners
+     * @param maxX
+     *          the x coordinates of the maximum corners
+     * @param maxY
+     *          the y coordinates of the maximum corners
+     * @param maxZ
+     *          the z coordinates of the maximum corners
+     * @param offset
+     *          the index of the first box in the arrays
+     * @param count
+     *          the number of boxes to test
+     * @param dest
+     *          will hold the indices of all intersected boxes
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int test(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, int count,
+            int[] dest, int destOffset) {
+        int d = destOffset, end = offset + count;
+        switch (classification) {
+        case 0:
+            for (int j = offset; j < end; j++)
+                if (MMM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 1:
+            for (int j = offset; j < end; j++)
+                if (OMM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 2:
+            for (int j = offset; j < end; j++)
+                if (PMM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 4:
+            for (int j = offset; j < end; j++)
+                if (MOM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 5:
+            for (int j = offset; j < end; j++)
+                if (OOM(minX[j], minY[j], minZ[j], maxX[j], maxY[j]))
+                    dest[d++] = j;
+            break;
+        case 6:
+            for (int j = offset; j < end; j++)
+                if (POM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 8:
+            for (int j = offset; j < end; j++)
+                if (MPM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 9:
+            for (int j = offset; j < end; j++)
+                if (OPM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 10:
+            for (int j = offset; j < end; j++)
+                if (PPM(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 16:
+            for (int j = offset; j < end; j++)
+                if (MMO(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 17:
+            for (int j = offset; j < end; j++)
+                if (OMO(minX[j], minY[j], minZ[j], maxX[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 18:
+            for (int j = offset; j < end; j++)
+                if (PMO(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 20:
+            for (int j = offset; j < end; j++)
+                if (MOO(minX[j], minY[j], minZ[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 22:
+            for (int j = offset; j < end; j++)
+                if (POO(minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 24:
+            for (int j = offset; j < end; j++)
+                if (MPO(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 25:
+            for (int j = offset; j < end; j++)
+                if (OPO(minX[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 26:
+            for (int j = offset; j < end; j++)
+                if (PPO(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 32:
+            for (int j = offset; j < end; j++)
+                if (MMP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 33:
+            for (int j = offset; j < end; j++)
+                if (OMP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 34:
+            for (int j = offset; j < end; j++)
+                if (PMP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 36:
+            for (int j = offset; j < end; j++)
+                if (MOP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 37:
+            for (int j = offset; j < end; j++)
+                if (OOP(minX[j], minY[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 38:
+            for (int j = offset; j < end; j++)
+                if (POP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 40:
+            for (int j = offset; j < end; j++)
+                if (MPP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 41:
+            for (int j = offset; j < end; j++)
+                if (OPP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        case 42:
+            for (int j = offset; j < end; j++)
+                if (PPP(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]))
+                    dest[d++] = j;
+            break;
+        default:
+            break;
+        }
+        return d - destOffset;
+    }
+
+    /**
+     * Determine the axis-aligned box nearest to the ray origin among the given <code>count</code> axis-aligned boxes, starting at <code>offset</code>,
+     * which are intersected by the ray stored in this {@link RayAabIntersection}.
+     * <p>
+     * The boxes are given in structure-of-arrays layout, with the corners of the <code>i</code>-th box stored at index <code>offset + i</code>
+     * of each of the six arrays. The boxes are first filtered via {@link #test(float[], float[], float[], float[], float[], float[], int, int, int[], int)},
+     * and only for the intersected boxes the entry and exit points are computed via
+     * {@link Intersectionf#intersectRayAab(float, float, float, float, float, float, float, float, float, float, float, float, Vector2f)}.
+     * The entry distance of a box containing the ray origin is <code>0</code>, so such a box is always nearest.
+     * <p>
+     * This method is thread-safe and can be used to test many axis-aligned boxes concurrently.
+     * 
+     * @param minX
+     *          the x coordinates of the minimum corners
+     * @param minY
+     *          the y coordinates of the minimum corners
+     * @param minZ
+     *          the z coordinates of the minimum corners
+     * @param maxX
+     *          the x coordinates of the maximum corners
+     * @param maxY
+     *          the y coordinates of the maximum corners
+     * @param maxZ
+     *          the z coordinates of the maximum corners
+     * @param offset
+     *          the index of the first box in the arrays
+     * @param count
+     *          the number of boxes to test
+     * @param result
+     *          will hold the values of the parameter <i>t</i> in the ray equation <i>p(t) = origin + t * dir</i> of the near and far point of intersection
+     *          with the nearest box, if any box was intersected
+     * @return the index <code>offset + i</code> of the nearest intersected box, or <code>-1</code> if no box was intersected
+     */
+    public int intersect(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, int count,
+            Vector2f result) {
+        int[] hits = new int[BATCH_SIZE];
+        float nearX = Float.POSITIVE_INFINITY, nearY = Float.POSITIVE_INFINITY;
+        int nearest = -1;
+        for (int i = 0; i < count; i += BATCH_SIZE) {
+            int n = test(minX, minY, minZ, maxX, maxY, maxZ, offset + i, Math.min(BATCH_SIZE, count - i), hits, 0);
+            for (int k = 0; k < n; k++) {
+                int j = hits[k];
+                if (Intersectionf.intersectRayAab(originX, originY, originZ, dirX, dirY, dirZ,
+                        minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j], result) && Math.max(result.x, 0.0f) < nearX) {
+                    nearX = Math.max(result.x, 0.0f);
+                    nearY = result.y;
+                    nearest = j;
+                }
+            }
+        }
+        if (nearest != -1) {
+            result.x = nearX;
+            result.y = nearY;
+        }
+        return nearest;
+    }
+
+    /**
+     * Test whether the ray stored in this {@link RayAabIntersection} intersects each of the given <code>count</code> spheres,
+     * starting at <code>offset</code>, and store the indices of all intersected spheres consecutively in <code>dest</code>.
+     * <p>
+     * The spheres are given in structure-of-arrays layout, with the center and radius of the <code>i</code>-th sphere stored at index
+     * <code>offset + i</code> of each of the four arrays, and <code>offset + i</code> is also the index stored in <code>dest</code>.
+     * The <code>dest</code> array must have room for up to <code>count</code> indices.
+     * <p>
+     * Like the box tests, this method returns <code>true</code> for a sphere containing the ray origin and does not require
+     * the ray direction to be normalized.
+     * <p>
+     * This method is thread-safe and can be used to test many spheres concurrently.
+     * 
+     * @param centerX
+     *          the x coordinates of the sphere centers
+     * @param centerY
+     *          the y coordinates of the sphere centers
+     * @param centerZ
+     *          the z coordinates of the sphere centers
+     * @param radius
+     *          the sphere radii
+     * @param offset
+     *          the index of the first sphere in the arrays
+     * @param count
+     *          the number of spheres to test
+     * @param dest
+     *          will hold the indices of all intersected spheres
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of indices stored in <code>dest</code>
+     */
+    public int testSphere(float[] centerX, float[] centerY, float[] centerZ, float[] radius, int offset, int count,
+            int[] dest, int destOffset) {
+        float a = dirX * dirX + dirY * dirY + dirZ * dirZ;
+        int d = destOffset, end = offset + count;
+        for (int j = offset; j < end; j++) {
+            float lx = centerX[j] - originX, ly = centerY[j] - originY, lz = centerZ[j] - originZ, r = radius[j];
+            float b = lx * dirX + ly * dirY + lz * dirZ;
+            float c = lx * lx + ly * ly + lz * lz - r * r;
+            if (b * b - a * c >= 0.0f && (b >= 0.0f || c <= 0.0f))
+                dest[d++] = j;
+        }
+        return d - destOffset;
+    }
+
+    /**
+     * Determine the sphere nearest to the ray origin among the given <code>count</code> spheres, starting at <code>offset</code>,
+     * which are intersected by the ray stored in this {@link RayAabIntersection}.
+     * <p>
+     * The spheres are given in structure-of-arrays layout, with the center and radius of the <code>i</code>-th sphere stored at index
+     * <code>offset + i</code> of each of the four arrays. The ray direction does not need to be normalized.
+     * The entry distance of a sphere containing the ray origin is <code>0</code>, so such a sphere is always nearest.
+     * <p>
+     * This method is thread-safe and can be used to test many spheres concurrently.
+     * 
+     * @see #testSphere(float[], float[], float[], float[], int, int, int[], int)
+     * 
+     * @param centerX
+     *          the x coordinates of the sphere centers
+     * @param centerY
+     *          the y coordinates of the sphere centers
+     * @param centerZ
+     *          the z coordinates of the sphere centers
+     * @param radius
+     *          the sphere radii
+     * @param offset
+     *          the index of the first sphere in the arrays
+     * @param count
+     *          the number of spheres to test
+     * @param result
+     *          will hold the values of the parameter <i>t</i> in the ray equation <i>p(t) = origin + t * dir</i> of the near and far point of intersection
+     *          with the nearest sphere, if any sphere was intersected
+     * @return the index <code>offset + i</code> of the nearest intersected sphere, or <code>-1</code> if no sphere was intersected
+     */
+    public int intersectSphere(float[] centerX, float[] centerY, float[] centerZ, float[] radius, int offset, int count,
+            Vector2f result) {
+        float a = dirX * dirX + dirY * dirY + dirZ * dirZ, invA = 1.0f / a;
+        float nearX = Float.POSITIVE_INFINITY, nearY = Float.POSITIVE_INFINITY;
+        int nearest = -1, end = offset + count;
+        for (int j = offset; j < end; j++) {
+            float lx = centerX[j] - originX, ly = centerY[j] - originY, lz = centerZ[j] - originZ, r = radius[j];
+            float b = lx * dirX + ly * dirY + lz * dirZ;
+            float c = lx * lx + ly * ly + lz * lz - r * r;
+            float disc = b * b - a * c;
+            if (disc < 0.0f)
+                continue;
+            float sq = Math.sqrt(disc);
+            float t0 = Math.max((b - sq) * invA, 0.0f), t1 = (b + sq) * invA;
+            if (t1 >= 0.0f && t0 < nearX) {
+                nearX = t0;
+                nearY = t1;
+                nearest = j;
+            }
+        }
+        if (nearest != -1) {
+            result.x = nearX;
+            result.y = nearY;
+        }
+        return nearest;
+    }
+
     /* Intersection tests for all possible ray direction cases */
 
     private boolean MMM(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
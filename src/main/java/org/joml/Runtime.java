@@ -36,6 +36,7 @@ public final class Runtime {
     public static final boolean HAS_doubleToRawLongBits = hasDoubleToRawLongBits();
     public static final boolean HAS_Long_rotateLeft = hasLongRotateLeft();
     public static final boolean HAS_Math_fma = Options.USE_MATH_FMA && hasMathFma();
+    public static final boolean HAS_System_nanoTime = hasSystemNanoTime();
 
     private static boolean hasMathFma() {
         try {
@@ -49,6 +50,15 @@ public final class Runtime {
     private Runtime() {
     }
 
+    private static boolean hasSystemNanoTime() {
+        try {
+            System.class.getDeclaredMethod("nanoTime", new Class[0]);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     private static boolean hasFloatToRawIntBits() {
         try {
             Float.class.getDeclaredMethod("floatToRawIntBits", new Class[] { float.class });
@@ -100,6 +110,18 @@ public final class Runtime {
         return Double.doubleToLongBits(dbl);
     }
 
+    public static long nanoTime() {
+        if (HAS_System_nanoTime)
+            return nanoTime1_5();
+        return nanoTime1_2();
+    }
+    private static long nanoTime1_5() {
+        return System.nanoTime();
+    }
+    private static long nanoTime1_2() {
+        return System.currentTimeMillis() * 1000000L;
+    }
+
     public static String formatNumbers(String str) {
         StringBuffer res = new StringBuffer();
         int eIndex = Integer.MIN_VALUE;
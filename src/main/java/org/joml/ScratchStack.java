@@ -0,0 +1,312 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+/**
+ * A per-thread stack of pre-allocated temporary vectors, matrices and quaternions, similar to LWJGL's
+ * <code>MemoryStack</code> but for JOML objects.
+ * <p>
+ * Temporaries are handed out within a <i>frame</i>. {@link #push()} opens a new frame and {@link #pop()} closes it,
+ * after which all objects handed out in that frame are returned to the pool and will be handed out again by later
+ * frames. Frames nest, so a method can open its own frame regardless of whether its caller has one:
+ * <pre>
+ * ScratchStack s = ScratchStack.stackPush();
+ * try {
+ *     Matrix4f tmp = s.mat4f();
+ *     Vector3f dir = s.vec3f();
+ *     ...
+ * } finally {
+ *     s.pop();
+ * }
+ * </pre>
+ * Objects are created lazily the first time a frame needs more of a type than the pool holds, and are kept for the
+ * lifetime of the thread, so a warmed-up code path does not allocate. Every object is reset when handed out: vectors
+ * to zero and matrices and quaternions to identity.
+ * <p>
+ * An object must not be used after the frame it was obtained in has been popped, nor be passed to another thread.
+ * Instances of this class are not thread-safe; use {@link #get()} to obtain the one of the current thread.
+ */
+public final class ScratchStack {
+
+    private static final int VECTOR2F = 0;
+    private static final int VECTOR3F = 1;
+    private static final int VECTOR4F = 2;
+    private static final int VECTOR2D = 3;
+    private static final int VECTOR3D = 4;
+    private static final int VECTOR4D = 5;
+    private static final int MATRIX3F = 6;
+    private static final int MATRIX4F = 7;
+    private static final int MATRIX4X3F = 8;
+    private static final int MATRIX3D = 9;
+    private static final int MATRIX4D = 10;
+    private static final int QUATERNIONF = 11;
+    private static final int QUATERNIOND = 12;
+    private static final int TYPES = 13;
+
+    @SuppressWarnings("rawtypes")
+    private static final ThreadLocal STACKS = new ThreadLocal() {
+        protected Object initialValue() {
+            return new ScratchStack();
+        }
+    };
+
+    /**
+     * The pooled objects of each type.
+     */
+    private final Object[][] pools = new Object[TYPES][];
+
+    /**
+     * The number of objects of each type handed out in all currently open frames.
+     */
+    private final int[] used = new int[TYPES];
+
+    /**
+     * The saved {@link #used} counts of each open frame, {@link #TYPES} entries per frame.
+     */
+    private int[] frames = new int[TYPES * 8];
+
+    /**
+     * The number of open frames.
+     */
+    private int depth;
+
+    private ScratchStack() {
+        for (int i = 0; i < TYPES; i++)
+            pools[i] = new Object[8];
+    }
+
+    /**
+     * Return the {@link ScratchStack} of the current thread.
+     *
+     * @return the stack of the current thread
+     */
+    public static ScratchStack get() {
+        return (ScratchStack) STACKS.get();
+    }
+
+    /**
+     * Open a new frame on the {@link ScratchStack} of the current thread.
+     * <p>
+     * This is equivalent to <code>get().push()</code>.
+     *
+     * @return the stack of the current thread
+     */
+    public static ScratchStack stackPush() {
+        return get().push();
+    }
+
+    /**
+     * Open a new frame.
+     *
+     * @return this
+     */
+    public ScratchStack push() {
+        int off = depth * TYPES;
+        if (off == frames.length) {
+            int[] newFrames = new int[frames.length * 2];
+            System.arraycopy(frames, 0, newFrames, 0, frames.length);
+            frames = newFrames;
+        }
+        System.arraycopy(used, 0, frames, off, TYPES);
+        depth++;
+        return this;
+    }
+
+    /**
+     * Close the current frame and return all objects handed out since the matching {@link #push()} to the pool.
+     *
+     * @return this
+     */
+    public ScratchStack pop() {
+        if (depth == 0) {
+            throw new IllegalStateException("no frame to pop"); //$NON-NLS-1$
+        }
+        depth--;
+        System.arraycopy(frames, depth * TYPES, used, 0, TYPES);
+        return this;
+    }
+
+    /**
+     * Return the number of currently open frames.
+     *
+     * @return the number of open frames
+     */
+    public int depth() {
+        return depth;
+    }
+
+    private Object take(int type) {
+        if (depth == 0) {
+            throw new IllegalStateException("no frame pushed"); //$NON-NLS-1$
+        }
+        Object[] pool = pools[type];
+        int i = used[type];
+        if (i == pool.length) {
+            Object[] newPool = new Object[pool.length * 2];
+            System.arraycopy(pool, 0, newPool, 0, pool.length);
+            pools[type] = pool = newPool;
+        }
+        Object o = pool[i];
+        if (o == null)
+            pool[i] = o = create(type);
+        used[type] = i + 1;
+        return o;
+    }
+
+    private static Object create(int type) {
+        switch (type) {
+        case VECTOR2F: return new Vector2f();
+        case VECTOR3F: return new Vector3f();
+        case VECTOR4F: return new Vector4f();
+        case VECTOR2D: return new Vector2d();
+        case VECTOR3D: return new Vector3d();
+        case VECTOR4D: return new Vector4d();
+        case MATRIX3F: return new Matrix3f();
+        case MATRIX4F: return new Matrix4f();
+        case MATRIX4X3F: return new Matrix4x3f();
+        case MATRIX3D: return new Matrix3d();
+        case MATRIX4D: return new Matrix4d();
+        case QUATERNIONF: return new Quaternionf();
+        default: return new Quaterniond();
+        }
+    }
+
+    /**
+     * Return a {@link Vector2f} set to zero, which is valid until the current frame is popped.
+     *
+     * @return the vector
+     */
+    public Vector2f vec2f() {
+        return ((Vector2f) take(VECTOR2F)).zero();
+    }
+
+    /**
+     * Return a {@link Vector3f} set to zero, which is valid until the current frame is popped.
+     *
+     * @return the vector
+     */
+    public Vector3f vec3f() {
+        return ((Vector3f) take(VECTOR3F)).zero();
+    }
+
+    /**
+     * Return a {@link Vector4f} set to zero, which is valid until the current frame is popped.
+     *
+     * @return the vector
+     */
+    public Vector4f vec4f() {
+        return ((Vector4f) take(VECTOR4F)).zero();
+    }
+
+    /**
+     * Return a {@link Vector2d} set to zero, which is valid until the current frame is popped.
+     *
+     * @return the vector
+     */
+    public Vector2d vec2d() {
+        return ((Vector2d) take(VECTOR2D)).zero();
+    }
+
+    /**
+     * Return a {@link Vector3d} set to zero, which is valid until the current frame is popped.
+     *
+     * @return the vector
+     */
+    public Vector3d vec3d() {
+        return ((Vector3d) take(VECTOR3D)).zero();
+    }
+
+    /**
+     * Return a {@link Vector4d} set to zero, which is valid until the current frame is popped.
+     *
+     * @return the vector
+     */
+    public Vector4d vec4d() {
+        return ((Vector4d) take(VECTOR4D)).zero();
+    }
+
+    /**
+     * Return a {@link Matrix3f} set to identity, which is valid until the current frame is popped.
+     *
+     * @return the matrix
+     */
+    public Matrix3f mat3f() {
+        return ((Matrix3f) take(MATRIX3F)).identity();
+    }
+
+    /**
+     * Return a {@link Matrix4f} set to identity, which is valid until the current frame is popped.
+     *
+     * @return the matrix
+     */
+    public Matrix4f mat4f() {
+        return ((Matrix4f) take(MATRIX4F)).identity();
+    }
+
+    /**
+     * Return a {@link Matrix4x3f} set to identity, which is valid until the current frame is popped.
+     *
+     * @return the matrix
+     */
+    public Matrix4x3f mat4x3f() {
+        return ((Matrix4x3f) take(MATRIX4X3F)).identity();
+    }
+
+    /**
+     * Return a {@link Matrix3d} set to identity, which is valid until the current frame is popped.
+     *
+     * @return the matrix
+     */
+    public Matrix3d mat3d() {
+        return ((Matrix3d) take(MATRIX3D)).identity();
+    }
+
+    /**
+     * Return a {@link Matrix4d} set to identity, which is valid until the current frame is popped.
+     *
+     * @return the matrix
+     */
+    public Matrix4d mat4d() {
+        return ((Matrix4d) take(MATRIX4D)).identity();
+    }
+
+    /**
+     * Return a {@link Quaternionf} set to identity, which is valid until the current frame is popped.
+     *
+     * @return the quaternion
+     */
+    public Quaternionf quatf() {
+        return ((Quaternionf) take(QUATERNIONF)).identity();
+    }
+
+    /**
+     * Return a {@link Quaterniond} set to identity, which is valid until the current frame is popped.
+     *
+     * @return the quaternion
+     */
+    public Quaterniond quatd() {
+        return ((Quaterniond) take(QUATERNIOND)).identity();
+    }
+
+}
@@ -23,6 +23,10 @@
  */
 package org.joml;
 
+//#ifdef __HAS_NIO__
+import java.nio.FloatBuffer;
+//#endif
+
 /**
  * A simplex noise algorithm for 2D, 3D and 4D input.
  * <p>
@@ -30,6 +34,12 @@ package org.joml;
  * <p>
  * The original implementation can be found here: <a
  * href="http://staffwww.itn.liu.se/~stegu/simplexnoise/SimplexNoise.java">http://http://staffwww.itn.liu.se/</a>.
+ * <p>
+ * Besides single samples, the <code>noise()</code> and <code>fbm()</code> methods taking a lattice origin, step and size fill
+ * whole regular lattices at once, optionally summing several octaves and using several threads.
+ * <p>
+ * All static methods share a single permutation table. Instances created with {@link #SimplexNoise(long)} use their own
+ * permutation table derived from a seed, and provide the same functionality through their <code>sample()</code> methods.
  */
 public class SimplexNoise {
     private static class Vector3b {
@@ -92,6 +102,49 @@ public class SimplexNoise {
         }
     }
 
+    /**
+     * The permutation table of this instance, doubled to remove the need for index wrapping.
+     */
+    private final byte[] permutation;
+    private final byte[] permutationMod12;
+
+    /**
+     * Create a new {@link SimplexNoise} instance using the same permutation table as the static <code>noise()</code> methods.
+     */
+    public SimplexNoise() {
+        this.permutation = perm;
+        this.permutationMod12 = permMod12;
+    }
+
+    /**
+     * Create a new {@link SimplexNoise} instance with its own permutation table, which is a shuffle of <code>[0..255]</code>
+     * determined by the given seed.
+     * <p>
+     * Instances created with the same seed produce the same noise, and instances created with different seeds produce
+     * unrelated noise.
+     * 
+     * @param seed
+     *          the seed used to shuffle the permutation table
+     */
+    public SimplexNoise(long seed) {
+        byte[] shuffled = new byte[256];
+        for (int i = 0; i < 256; i++)
+            shuffled[i] = (byte) i;
+        Random random = new Random(seed);
+        for (int i = 255; i > 0; i--) {
+            int k = random.nextInt(i + 1);
+            byte b = shuffled[i];
+            shuffled[i] = shuffled[k];
+            shuffled[k] = b;
+        }
+        this.permutation = new byte[512];
+        this.permutationMod12 = new byte[512];
+        for (int i = 0; i < 512; i++) {
+            permutation[i] = shuffled[i & 255];
+            permutationMod12[i] = (byte) ((permutation[i]&0xFF) % 12);
+        }
+    }
+
     // Skewing and unskewing factors for 2, 3, and 4 dimensions
     private static final float F2 = 0.3660254037844386f; // <- (float) (0.5f * (Math.sqrt(3.0f) - 1.0f));
     private static final float G2 = 0.21132486540518713f; // <- (float) ((3.0f - Math.sqrt(3.0f)) / 6.0f);
@@ -130,6 +183,10 @@ public class SimplexNoise {
      * @return the noise value (within <code>[-1..+1]</code>)
      */
     public static float noise(float x, float y) {
+        return noise(perm, permMod12, x, y);
+    }
+
+    private static float noise(byte[] perm, byte[] permMod12, float x, float y) {
         float n0, n1, n2; // Noise contributions from the three corners
         // Skew the input space to determine which simplex cell we're in
         float s = (x + y) * F2; // Hairy factor for 2D
@@ -205,6 +262,10 @@ public class SimplexNoise {
      * @return the noise value (within <code>[-1..+1]</code>)
      */
     public static float noise(float x, float y, float z) {
+        return noise(perm, permMod12, x, y, z);
+    }
+
+    private static float noise(byte[] perm, byte[] permMod12, float x, float y, float z) {
         float n0, n1, n2, n3; // Noise contributions from the four corners
         // Skew the input space to determine which simplex cell we're in
         float s = (x + y + z) * F3; // Very nice and simple skew factor for 3D
@@ -344,6 +405,10 @@ public class SimplexNoise {
      * @return the noise value (within <code>[-1..+1]</code>)
      */
     public static float noise(float x, float y, float z, float w) {
+        return noise(perm, x, y, z, w);
+    }
+
+    private static float noise(byte[] perm, float x, float y, float z, float w) {
         float n0, n1, n2, n3, n4; // Noise contributions from the five corners
         // Skew the (x,y,z,w) space to determine which cell of 24 simplices we're in
         float s = (x + y + z + w) * F4; // Factor for 4D skewing
@@ -482,4 +547,1373 @@ public class SimplexNoise {
         return 27.0f * (n0 + n1 + n2 + n3 + n4);
     }
 
+    /**
+     * Compute 2D simplex noise for the given input vector <code>(x, y)</code> together with its analytic derivative, and
+     * store the partial derivatives with respect to <code>x</code> and <code>y</code> in <code>derivative</code>.
+     * <p>
+     * The returned value is exactly the value returned by {@link #noise(float, float)}.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param derivative
+     *          will hold the partial derivatives
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public static float noise(float x, float y, Vector2f derivative) {
+        return noise(perm, permMod12, x, y, derivative);
+    }
+
+    /**
+     * Compute 3D simplex noise for the given input vector <code>(x, y, z)</code> together with its analytic derivative, and
+     * store the partial derivatives with respect to <code>x</code>, <code>y</code> and <code>z</code> in <code>derivative</code>.
+     * <p>
+     * The returned value is exactly the value returned by {@link #noise(float, float, float)}.
+     * That noise is slightly discontinuous at some simplex boundaries, where the corner contributions reach beyond
+     * the simplex, so differences of noise values taken across such a boundary need not match the derivative.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param derivative
+     *          will hold the partial derivatives
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public static float noise(float x, float y, float z, Vector3f derivative) {
+        return noise(perm, permMod12, x, y, z, derivative);
+    }
+
+    /**
+     * Compute 4D simplex noise for the given input vector <code>(x, y, z, w)</code> together with its analytic derivative,
+     * and store the partial derivatives with respect to <code>x</code>, <code>y</code>, <code>z</code> and <code>w</code> in
+     * <code>derivative</code>.
+     * <p>
+     * The returned value is exactly the value returned by {@link #noise(float, float, float, float)}.
+     * That noise is slightly discontinuous at some simplex boundaries, where the corner contributions reach beyond
+     * the simplex, so differences of noise values taken across such a boundary need not match the derivative.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param w
+     *          the w coordinate
+     * @param derivative
+     *          will hold the partial derivatives
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public static float noise(float x, float y, float z, float w, Vector4f derivative) {
+        return noise(perm, x, y, z, w, derivative);
+    }
+
+    /*
+     * The contribution of a single simplex corner is t^4 * (g . d), with t = r^2 - |d|^2 and d being the offset
+     * from the corner. Its derivative with respect to the input position is t^4 * g - 8 * t^3 * (g . d) * d.
+     * The following methods return the contribution and add the derivative to dest.
+     */
+
+    private static float corner(Vector3b g, float t, float x, float y, Vector2f dest) {
+        if (t < 0.0f)
+            return 0.0f;
+        float t2 = t * t, t4 = t2 * t2, gd = dot(g, x, y), c = -8.0f * t2 * t * gd;
+        dest.x += t4 * g.x + c * x;
+        dest.y += t4 * g.y + c * y;
+        return t4 * gd;
+    }
+
+    private static float corner(Vector3b g, float t, float x, float y, float z, Vector3f dest) {
+        if (t < 0.0f)
+            return 0.0f;
+        float t2 = t * t, t4 = t2 * t2, gd = dot(g, x, y, z), c = -8.0f * t2 * t * gd;
+        dest.x += t4 * g.x + c * x;
+        dest.y += t4 * g.y + c * y;
+        dest.z += t4 * g.z + c * z;
+        return t4 * gd;
+    }
+
+    private static float corner(Vector4b g, float t, float x, float y, float z, float w, Vector4f dest) {
+        if (t < 0.0f)
+            return 0.0f;
+        float t2 = t * t, t4 = t2 * t2, gd = dot(g, x, y, z, w), c = -8.0f * t2 * t * gd;
+        dest.x += t4 * g.x + c * x;
+        dest.y += t4 * g.y + c * y;
+        dest.z += t4 * g.z + c * z;
+        dest.w += t4 * g.w + c * w;
+        return t4 * gd;
+    }
+
+    private static float noise(byte[] perm, byte[] permMod12, float x, float y, Vector2f dest) {
+        float s = (x + y) * F2;
+        int i = fastfloor(x + s);
+        int j = fastfloor(y + s);
+        float t = (i + j) * G2;
+        float x0 = x - (i - t);
+        float y0 = y - (j - t);
+        int i1 = x0 > y0 ? 1 : 0;
+        int j1 = 1 - i1;
+        float x1 = x0 - i1 + G2;
+        float y1 = y0 - j1 + G2;
+        float x2 = x0 - 1.0f + 2.0f * G2;
+        float y2 = y0 - 1.0f + 2.0f * G2;
+        int ii = i & 255;
+        int jj = j & 255;
+        int gi0 = permMod12[ii + perm[jj]&0xFF]&0xFF;
+        int gi1 = permMod12[ii + i1 + perm[jj + j1]&0xFF]&0xFF;
+        int gi2 = permMod12[ii + 1 + perm[jj + 1]&0xFF]&0xFF;
+        dest.zero();
+        float n0 = corner(grad3[gi0], 0.5f - x0 * x0 - y0 * y0, x0, y0, dest);
+        float n1 = corner(grad3[gi1], 0.5f - x1 * x1 - y1 * y1, x1, y1, dest);
+        float n2 = corner(grad3[gi2], 0.5f - x2 * x2 - y2 * y2, x2, y2, dest);
+        dest.mul(70.0f);
+        return 70.0f * (n0 + n1 + n2);
+    }
+
+    private static float noise(byte[] perm, byte[] permMod12, float x, float y, float z, Vector3f dest) {
+        float s = (x + y + z) * F3;
+        int i = fastfloor(x + s);
+        int j = fastfloor(y + s);
+        int k = fastfloor(z + s);
+        float t = (i + j + k) * G3;
+        float x0 = x - (i - t);
+        float y0 = y - (j - t);
+        float z0 = z - (k - t);
+        // Same simplex selection as in noise(float, float, float), written without branches:
+        // x is the largest coordinate if x0 >= y0 && x0 >= z0, and one of the two largest if x0 >= y0 || x0 >= z0
+        int xy = x0 >= y0 ? 1 : 0, yz = y0 >= z0 ? 1 : 0, xz = x0 >= z0 ? 1 : 0;
+        int i1 = xy & xz, j1 = (1 - xy) & yz, k1 = 1 - i1 - j1;
+        int i2 = xy | xz, j2 = (1 - xy) | yz, k2 = 2 - i2 - j2;
+        float x1 = x0 - i1 + G3;
+        float y1 = y0 - j1 + G3;
+        float z1 = z0 - k1 + G3;
+        float x2 = x0 - i2 + 2.0f * G3;
+        float y2 = y0 - j2 + 2.0f * G3;
+        float z2 = z0 - k2 + 2.0f * G3;
+        float x3 = x0 - 1.0f + 3.0f * G3;
+        float y3 = y0 - 1.0f + 3.0f * G3;
+        float z3 = z0 - 1.0f + 3.0f * G3;
+        int ii = i & 255;
+        int jj = j & 255;
+        int kk = k & 255;
+        int gi0 = permMod12[ii + perm[jj + perm[kk]&0xFF]&0xFF]&0xFF;
+        int gi1 = permMod12[ii + i1 + perm[jj + j1 + perm[kk + k1]&0xFF]&0xFF]&0xFF;
+        int gi2 = permMod12[ii + i2 + perm[jj + j2 + perm[kk + k2]&0xFF]&0xFF]&0xFF;
+        int gi3 = permMod12[ii + 1 + perm[jj + 1 + perm[kk + 1]&0xFF]&0xFF]&0xFF;
+        dest.zero();
+        float n0 = corner(grad3[gi0], 0.6f - x0 * x0 - y0 * y0 - z0 * z0, x0, y0, z0, dest);
+        float n1 = corner(grad3[gi1], 0.6f - x1 * x1 - y1 * y1 - z1 * z1, x1, y1, z1, dest);
+        float n2 = corner(grad3[gi2], 0.6f - x2 * x2 - y2 * y2 - z2 * z2, x2, y2, z2, dest);
+        float n3 = corner(grad3[gi3], 0.6f - x3 * x3 - y3 * y3 - z3 * z3, x3, y3, z3, dest);
+        dest.mul(32.0f);
+        return 32.0f * (n0 + n1 + n2 + n3);
+    }
+
+    private static float noise(byte[] perm, float x, float y, float z, float w, Vector4f dest) {
+        float s = (x + y + z + w) * F4;
+        int i = fastfloor(x + s);
+        int j = fastfloor(y + s);
+        int k = fastfloor(z + s);
+        int l = fastfloor(w + s);
+        float t = (i + j + k + l) * G4;
+        float x0 = x - (i - t);
+        float y0 = y - (j - t);
+        float z0 = z - (k - t);
+        float w0 = w - (l - t);
+        int xy = x0 > y0 ? 1 : 0, xz = x0 > z0 ? 1 : 0, xw = x0 > w0 ? 1 : 0;
+        int yz = y0 > z0 ? 1 : 0, yw = y0 > w0 ? 1 : 0, zw = z0 > w0 ? 1 : 0;
+        int rankx = xy + xz + xw;
+        int ranky = 1 - xy + yz + yw;
+        int rankz = 2 - xz - yz + zw;
+        int rankw = 3 - xw - yw - zw;
+        int i1 = rankx >= 3 ? 1 : 0, j1 = ranky >= 3 ? 1 : 0, k1 = rankz >= 3 ? 1 : 0, l1 = rankw >= 3 ? 1 : 0;
+        int i2 = rankx >= 2 ? 1 : 0, j2 = ranky >= 2 ? 1 : 0, k2 = rankz >= 2 ? 1 : 0, l2 = rankw >= 2 ? 1 : 0;
+        int i3 = rankx >= 1 ? 1 : 0, j3 = ranky >= 1 ? 1 : 0, k3 = rankz >= 1 ? 1 : 0, l3 = rankw >= 1 ? 1 : 0;
+        float x1 = x0 - i1 + G4;
+        float y1 = y0 - j1 + G4;
+        float z1 = z0 - k1 + G4;
+        float w1 = w0 - l1 + G4;
+        float x2 = x0 - i2 + 2.0f * G4;
+        float y2 = y0 - j2 + 2.0f * G4;
+        float z2 = z0 - k2 + 2.0f * G4;
+        float w2 = w0 - l2 + 2.0f * G4;
+        float x3 = x0 - i3 + 3.0f * G4;
+        float y3 = y0 - j3 + 3.0f * G4;
+        float z3 = z0 - k3 + 3.0f * G4;
+        float w3 = w0 - l3 + 3.0f * G4;
+        float x4 = x0 - 1.0f + 4.0f * G4;
+        float y4 = y0 - 1.0f + 4.0f * G4;
+        float z4 = z0 - 1.0f + 4.0f * G4;
+        float w4 = w0 - 1.0f + 4.0f * G4;
+        int ii = i & 255;
+        int jj = j & 255;
+        int kk = k & 255;
+        int ll = l & 255;
+        int gi0 = (perm[ii + perm[jj + perm[kk + perm[ll]&0xFF]&0xFF]&0xFF]&0xFF) % 32;
+        int gi1 = (perm[ii + i1 + perm[jj + j1 + perm[kk + k1 + perm[ll + l1]&0xFF]&0xFF]&0xFF]&0xFF) % 32;
+        int gi2 = (perm[ii + i2 + perm[jj + j2 + perm[kk + k2 + perm[ll + l2]&0xFF]&0xFF]&0xFF]&0xFF) % 32;
+        int gi3 = (perm[ii + i3 + perm[jj + j3 + perm[kk + k3 + perm[ll + l3]&0xFF]&0xFF]&0xFF]&0xFF) % 32;
+        int gi4 = (perm[ii + 1 + perm[jj + 1 + perm[kk + 1 + perm[ll + 1]&0xFF]&0xFF]&0xFF]&0xFF) % 32;
+        dest.zero();
+        float n0 = corner(grad4[gi0], 0.6f - x0 * x0 - y0 * y0 - z0 * z0 - w0 * w0, x0, y0, z0, w0, dest);
+        float n1 = corner(grad4[gi1], 0.6f - x1 * x1 - y1 * y1 - z1 * z1 - w1 * w1, x1, y1, z1, w1, dest);
+        float n2 = corner(grad4[gi2], 0.6f - x2 * x2 - y2 * y2 - z2 * z2 - w2 * w2, x2, y2, z2, w2, dest);
+        float n3 = corner(grad4[gi3], 0.6f - x3 * x3 - y3 * y3 - z3 * z3 - w3 * w3, x3, y3, z3, w3, dest);
+        float n4 = corner(grad4[gi4], 0.6f - x4 * x4 - y4 * y4 - z4 * z4 - w4 * w4, x4, y4, z4, w4, dest);
+        dest.mul(27.0f);
+        return 27.0f * (n0 + n1 + n2 + n3 + n4);
+    }
+
+    /**
+     * Compute 2D simplex noise for the given input vector <code>(x, y)</code> using the permutation table of this instance.
+     * <p>
+     * The result is in the range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float sample(float x, float y) {
+        return noise(permutation, permutationMod12, x, y);
+    }
+
+    /**
+     * Compute 3D simplex noise for the given input vector <code>(x, y, z)</code> using the permutation table of this instance.
+     * <p>
+     * The result is in the range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float sample(float x, float y, float z) {
+        return noise(permutation, permutationMod12, x, y, z);
+    }
+
+    /**
+     * Compute 4D simplex noise for the given input vector <code>(x, y, z, w)</code> using the permutation table of this instance.
+     * <p>
+     * The result is in the range <code>[-1..+1]</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param w
+     *          the w coordinate
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float sample(float x, float y, float z, float w) {
+        return noise(permutation, x, y, z, w);
+    }
+
+    /**
+     * Compute 2D simplex noise for the given input vector <code>(x, y)</code> using the permutation table of this instance,
+     * together with its analytic derivative, and store the partial derivatives with respect to <code>x</code> and
+     * <code>y</code> in <code>derivative</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param derivative
+     *          will hold the partial derivatives
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float sample(float x, float y, Vector2f derivative) {
+        return noise(permutation, permutationMod12, x, y, derivative);
+    }
+
+    /**
+     * Compute 3D simplex noise for the given input vector <code>(x, y, z)</code> using the permutation table of this instance,
+     * together with its analytic derivative, and store the partial derivatives with respect to <code>x</code>, <code>y</code>
+     * and <code>z</code> in <code>derivative</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param derivative
+     *          will hold the partial derivatives
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float sample(float x, float y, float z, Vector3f derivative) {
+        return noise(permutation, permutationMod12, x, y, z, derivative);
+    }
+
+    /**
+     * Compute 4D simplex noise for the given input vector <code>(x, y, z, w)</code> using the permutation table of this
+     * instance, together with its analytic derivative, and store the partial derivatives with respect to <code>x</code>,
+     * <code>y</code>, <code>z</code> and <code>w</code> in <code>derivative</code>.
+     * 
+     * @param x
+     *          the x coordinate
+     * @param y
+     *          the y coordinate
+     * @param z
+     *          the z coordinate
+     * @param w
+     *          the w coordinate
+     * @param derivative
+     *          will hold the partial derivatives
+     * @return the noise value (within <code>[-1..+1]</code>)
+     */
+    public float sample(float x, float y, float z, float w, Vector4f derivative) {
+        return noise(permutation, x, y, z, w, derivative);
+    }
+
+    /**
+     * The minimum number of samples, summed over all octaves, that a single thread computes when filling a grid.
+     */
+    private static final int MIN_GRID_SAMPLES = 1 << 12;
+
+    /**
+     * Fills a lattice of <code>sizeX * sizeY * sizeZ * sizeW</code> points, one row of <code>sizeX</code> points at a time.
+     * Rows are distributed over the threads, and each thread computes the coordinates along x of all octaves only once
+     * and reuses them for all of its rows.
+     */
+    private static abstract class Grid implements Parallel.Task {
+        final byte[] perm, permMod12;
+        final int dimensions;
+        final float x, y, z, w, stepX, stepY, stepZ, stepW;
+        final int sizeX, sizeY, sizeZ;
+        final int octaves;
+        final float lacunarity, gain;
+
+        Grid(byte[] perm, byte[] permMod12, int dimensions, float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW,
+                int sizeX, int sizeY, int sizeZ, int octaves, float lacunarity, float gain) {
+            this.perm = perm;
+            this.permMod12 = permMod12;
+            this.dimensions = dimensions;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.w = w;
+            this.stepX = stepX;
+            this.stepY = stepY;
+            this.stepZ = stepZ;
+            this.stepW = stepW;
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+            this.sizeZ = sizeZ;
+            this.octaves = octaves;
+            this.lacunarity = lacunarity;
+            this.gain = gain;
+        }
+
+        /**
+         * Store the <code>sizeX</code> values of the given row at the given lattice index.
+         */
+        abstract void store(int index, float[] row);
+
+        void fill(int rows, int threads) {
+            if (octaves < 1)
+                throw new IllegalArgumentException("octaves must be >= 1"); //$NON-NLS-1$
+            if (threads < 1)
+                throw new IllegalArgumentException("threads must be >= 1"); //$NON-NLS-1$
+            if (sizeX <= 0)
+                return;
+            Parallel.run(rows, threads, java.lang.Math.max(1, MIN_GRID_SAMPLES / (sizeX * octaves)), this);
+        }
+
+        public void run(int start, int end) {
+            float[] row = new float[sizeX];
+            float[] xs = new float[octaves * sizeX];
+            float[] frequency = new float[octaves];
+            float[] amplitude = new float[octaves];
+            float f = 1.0f, a = 1.0f;
+            for (int o = 0; o < octaves; o++) {
+                frequency[o] = f;
+                amplitude[o] = a;
+                for (int i = 0; i < sizeX; i++)
+                    xs[o * sizeX + i] = (x + i * stepX) * f;
+                f *= lacunarity;
+                a *= gain;
+            }
+            for (int r = start; r < end; r++) {
+                int q = r / sizeY;
+                float py = y + (r - q * sizeY) * stepY;
+                float pz = z + (q % sizeZ) * stepZ;
+                float pw = w + (q / sizeZ) * stepW;
+                for (int o = 0; o < octaves; o++) {
+                    int xo = o * sizeX;
+                    f = frequency[o];
+                    a = amplitude[o];
+                    float fy = py * f, fz = pz * f, fw = pw * f;
+                    if (o == 0) {
+                        if (dimensions == 2)
+                            for (int i = 0; i < sizeX; i++)
+                                row[i] = a * noise(perm, permMod12, xs[xo + i], fy);
+                        else if (dimensions == 3)
+                            for (int i = 0; i < sizeX; i++)
+                                row[i] = a * noise(perm, permMod12, xs[xo + i], fy, fz);
+                        else
+                            for (int i = 0; i < sizeX; i++)
+                                row[i] = a * noise(perm, xs[xo + i], fy, fz, fw);
+                    } else {
+                        if (dimensions == 2)
+                            for (int i = 0; i < sizeX; i++)
+                                row[i] += a * noise(perm, permMod12, xs[xo + i], fy);
+                        else if (dimensions == 3)
+                            for (int i = 0; i < sizeX; i++)
+                                row[i] += a * noise(perm, permMod12, xs[xo + i], fy, fz);
+                        else
+                            for (int i = 0; i < sizeX; i++)
+                                row[i] += a * noise(perm, xs[xo + i], fy, fz, fw);
+                    }
+                }
+                store(r * sizeX, row);
+            }
+        }
+    }
+
+    private static final class ArrayGrid extends Grid {
+        private final float[] dest;
+        private final int destOffset;
+
+        ArrayGrid(byte[] perm, byte[] permMod12, int dimensions, float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW,
+                int sizeX, int sizeY, int sizeZ, int octaves, float lacunarity, float gain, float[] dest, int destOffset) {
+            super(perm, permMod12, dimensions, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, octaves, lacunarity, gain);
+            this.dest = dest;
+            this.destOffset = destOffset;
+        }
+
+        void store(int index, float[] row) {
+            System.arraycopy(row, 0, dest, destOffset + index, sizeX);
+        }
+    }
+
+//#ifdef __HAS_NIO__
+    private static final class BufferGrid extends Grid {
+        private final FloatBuffer dest;
+        private final int destIndex;
+
+        BufferGrid(byte[] perm, byte[] permMod12, int dimensions, float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW,
+                int sizeX, int sizeY, int sizeZ, int octaves, float lacunarity, float gain, FloatBuffer dest, int destIndex) {
+            super(perm, permMod12, dimensions, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, octaves, lacunarity, gain);
+            this.dest = dest;
+            this.destIndex = destIndex;
+        }
+
+        void store(int index, float[] row) {
+            for (int i = 0; i < sizeX; i++)
+                dest.put(destIndex + index + i, row[i]);
+        }
+    }
+//#endif
+
+    /**
+     * Compute 2D simplex noise for a regular lattice of <code>sizeX * sizeY</code> points and store the values in
+     * <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY)</code> is exactly the value that
+     * {@link #noise(float, float)} returns for that point.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, so the value for the lattice point <code>(i, j)</code> is
+     * stored at <code>destOffset</code> + <code>j * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static float[] noise(float x, float y, float stepX, float stepY, int sizeX, int sizeY, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(perm, permMod12, 2, x, y, 0.0f, 0.0f, stepX, stepY, 0.0f, 0.0f, sizeX, sizeY, 1, 1, 1.0f, 1.0f, dest, destOffset).fill(sizeY, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 2D simplex noise for a regular lattice of <code>sizeX * sizeY</code> points and store the values in
+     * <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY)</code> is exactly the value that
+     * {@link #noise(float, float)} returns for that point.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, so the value for the lattice point <code>(i, j)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>j * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static FloatBuffer noise(float x, float y, float stepX, float stepY, int sizeX, int sizeY, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(perm, permMod12, 2, x, y, 0.0f, 0.0f, stepX, stepY, 0.0f, 0.0f, sizeX, sizeY, 1, 1, 1.0f, 1.0f, dest, destIndex).fill(sizeY, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 2D fractal Brownian motion for a regular lattice of <code>sizeX * sizeY</code> points and store the values
+     * in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is the same as
+     * {@link #noise(float, float, float, float, int, int, float[], int, int)}.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, so the value for the lattice point <code>(i, j)</code> is
+     * stored at <code>destOffset</code> + <code>j * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static float[] fbm(float x, float y, float stepX, float stepY, int sizeX, int sizeY, int octaves, float lacunarity, float gain, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(perm, permMod12, 2, x, y, 0.0f, 0.0f, stepX, stepY, 0.0f, 0.0f, sizeX, sizeY, 1, octaves, lacunarity, gain, dest, destOffset).fill(sizeY, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 2D fractal Brownian motion for a regular lattice of <code>sizeX * sizeY</code> points and store the values
+     * in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is the same as
+     * {@link #noise(float, float, float, float, int, int, FloatBuffer, int, int)}.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, so the value for the lattice point <code>(i, j)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>j * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static FloatBuffer fbm(float x, float y, float stepX, float stepY, int sizeX, int sizeY, int octaves, float lacunarity, float gain, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(perm, permMod12, 2, x, y, 0.0f, 0.0f, stepX, stepY, 0.0f, 0.0f, sizeX, sizeY, 1, octaves, lacunarity, gain, dest, destIndex).fill(sizeY, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 3D simplex noise for a regular lattice of <code>sizeX * sizeY * sizeZ</code> points and store the values in
+     * <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ)</code> is exactly the value that
+     * {@link #noise(float, float, float)} returns for that point.
+     * <p>
+     * The values are stored with x varying fastest, followed by y and z, so the value for the lattice point <code>(i, j, k)</code> is
+     * stored at <code>destOffset</code> + <code>(k * sizeY + j) * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static float[] noise(float x, float y, float z, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(perm, permMod12, 3, x, y, z, 0.0f, stepX, stepY, stepZ, 0.0f, sizeX, sizeY, sizeZ, 1, 1.0f, 1.0f, dest, destOffset).fill(sizeY * sizeZ, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 3D simplex noise for a regular lattice of <code>sizeX * sizeY * sizeZ</code> points and store the values in
+     * <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ)</code> is exactly the value that
+     * {@link #noise(float, float, float)} returns for that point.
+     * <p>
+     * The values are stored with x varying fastest, followed by y and z, so the value for the lattice point <code>(i, j, k)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>(k * sizeY + j) * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static FloatBuffer noise(float x, float y, float z, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(perm, permMod12, 3, x, y, z, 0.0f, stepX, stepY, stepZ, 0.0f, sizeX, sizeY, sizeZ, 1, 1.0f, 1.0f, dest, destIndex).fill(sizeY * sizeZ, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 3D fractal Brownian motion for a regular lattice of <code>sizeX * sizeY * sizeZ</code> points and store the values
+     * in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is the same as
+     * {@link #noise(float, float, float, float, float, float, int, int, int, float[], int, int)}.
+     * <p>
+     * The values are stored with x varying fastest, followed by y and z, so the value for the lattice point <code>(i, j, k)</code> is
+     * stored at <code>destOffset</code> + <code>(k * sizeY + j) * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static float[] fbm(float x, float y, float z, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ, int octaves, float lacunarity, float gain, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(perm, permMod12, 3, x, y, z, 0.0f, stepX, stepY, stepZ, 0.0f, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destOffset).fill(sizeY * sizeZ, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 3D fractal Brownian motion for a regular lattice of <code>sizeX * sizeY * sizeZ</code> points and store the values
+     * in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is the same as
+     * {@link #noise(float, float, float, float, float, float, int, int, int, FloatBuffer, int, int)}.
+     * <p>
+     * The values are stored with x varying fastest, followed by y and z, so the value for the lattice point <code>(i, j, k)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>(k * sizeY + j) * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static FloatBuffer fbm(float x, float y, float z, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ, int octaves, float lacunarity, float gain, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(perm, permMod12, 3, x, y, z, 0.0f, stepX, stepY, stepZ, 0.0f, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destIndex).fill(sizeY * sizeZ, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 4D simplex noise for a regular lattice of <code>sizeX * sizeY * sizeZ * sizeW</code> points and store the values in
+     * <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ, w + l * stepW)</code> is exactly the value that
+     * {@link #noise(float, float, float, float)} returns for that point.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, z and w, so the value for the lattice point <code>(i, j, k, l)</code> is
+     * stored at <code>destOffset</code> + <code>((l * sizeZ + k) * sizeY + j) * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param w
+     *          the w coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param stepW
+     *          the distance between two lattice points along w
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param sizeW
+     *          the number of lattice points along w
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static float[] noise(float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW, int sizeX, int sizeY, int sizeZ, int sizeW, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(perm, permMod12, 4, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, 1, 1.0f, 1.0f, dest, destOffset).fill(sizeY * sizeZ * sizeW, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 4D simplex noise for a regular lattice of <code>sizeX * sizeY * sizeZ * sizeW</code> points and store the values in
+     * <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ, w + l * stepW)</code> is exactly the value that
+     * {@link #noise(float, float, float, float)} returns for that point.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, z and w, so the value for the lattice point <code>(i, j, k, l)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>((l * sizeZ + k) * sizeY + j) * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param w
+     *          the w coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param stepW
+     *          the distance between two lattice points along w
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param sizeW
+     *          the number of lattice points along w
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static FloatBuffer noise(float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW, int sizeX, int sizeY, int sizeZ, int sizeW, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(perm, permMod12, 4, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, 1, 1.0f, 1.0f, dest, destIndex).fill(sizeY * sizeZ * sizeW, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 4D fractal Brownian motion for a regular lattice of <code>sizeX * sizeY * sizeZ * sizeW</code> points and store the values
+     * in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ, w + l * stepW)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is the same as
+     * {@link #noise(float, float, float, float, float, float, float, float, int, int, int, int, float[], int, int)}.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, z and w, so the value for the lattice point <code>(i, j, k, l)</code> is
+     * stored at <code>destOffset</code> + <code>((l * sizeZ + k) * sizeY + j) * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param w
+     *          the w coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param stepW
+     *          the distance between two lattice points along w
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param sizeW
+     *          the number of lattice points along w
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static float[] fbm(float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW, int sizeX, int sizeY, int sizeZ, int sizeW, int octaves, float lacunarity, float gain, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(perm, permMod12, 4, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destOffset).fill(sizeY * sizeZ * sizeW, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 4D fractal Brownian motion for a regular lattice of <code>sizeX * sizeY * sizeZ * sizeW</code> points and store the values
+     * in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ, w + l * stepW)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is the same as
+     * {@link #noise(float, float, float, float, float, float, float, float, int, int, int, int, FloatBuffer, int, int)}.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, z and w, so the value for the lattice point <code>(i, j, k, l)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>((l * sizeZ + k) * sizeY + j) * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param w
+     *          the w coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param stepW
+     *          the distance between two lattice points along w
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param sizeW
+     *          the number of lattice points along w
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public static FloatBuffer fbm(float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW, int sizeX, int sizeY, int sizeZ, int sizeW, int octaves, float lacunarity, float gain, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(perm, permMod12, 4, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destIndex).fill(sizeY * sizeZ * sizeW, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 2D fractal Brownian motion using the permutation table of this instance for a regular lattice of
+     * <code>sizeX * sizeY</code> points and store the values in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is plain simplex noise.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, so the value for the lattice point <code>(i, j)</code> is
+     * stored at <code>destOffset</code> + <code>j * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public float[] sample(float x, float y, float stepX, float stepY, int sizeX, int sizeY, int octaves, float lacunarity, float gain, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(permutation, permutationMod12, 2, x, y, 0.0f, 0.0f, stepX, stepY, 0.0f, 0.0f, sizeX, sizeY, 1, octaves, lacunarity, gain, dest, destOffset).fill(sizeY, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 2D fractal Brownian motion using the permutation table of this instance for a regular lattice of
+     * <code>sizeX * sizeY</code> points and store the values in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is plain simplex noise.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, so the value for the lattice point <code>(i, j)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>j * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public FloatBuffer sample(float x, float y, float stepX, float stepY, int sizeX, int sizeY, int octaves, float lacunarity, float gain, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(permutation, permutationMod12, 2, x, y, 0.0f, 0.0f, stepX, stepY, 0.0f, 0.0f, sizeX, sizeY, 1, octaves, lacunarity, gain, dest, destIndex).fill(sizeY, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 3D fractal Brownian motion using the permutation table of this instance for a regular lattice of
+     * <code>sizeX * sizeY * sizeZ</code> points and store the values in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is plain simplex noise.
+     * <p>
+     * The values are stored with x varying fastest, followed by y and z, so the value for the lattice point <code>(i, j, k)</code> is
+     * stored at <code>destOffset</code> + <code>(k * sizeY + j) * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public float[] sample(float x, float y, float z, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ, int octaves, float lacunarity, float gain, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(permutation, permutationMod12, 3, x, y, z, 0.0f, stepX, stepY, stepZ, 0.0f, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destOffset).fill(sizeY * sizeZ, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 3D fractal Brownian motion using the permutation table of this instance for a regular lattice of
+     * <code>sizeX * sizeY * sizeZ</code> points and store the values in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is plain simplex noise.
+     * <p>
+     * The values are stored with x varying fastest, followed by y and z, so the value for the lattice point <code>(i, j, k)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>(k * sizeY + j) * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public FloatBuffer sample(float x, float y, float z, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ, int octaves, float lacunarity, float gain, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(permutation, permutationMod12, 3, x, y, z, 0.0f, stepX, stepY, stepZ, 0.0f, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destIndex).fill(sizeY * sizeZ, threads);
+        return dest;
+    }
+//#endif
+
+    /**
+     * Compute 4D fractal Brownian motion using the permutation table of this instance for a regular lattice of
+     * <code>sizeX * sizeY * sizeZ * sizeW</code> points and store the values in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ, w + l * stepW)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is plain simplex noise.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, z and w, so the value for the lattice point <code>(i, j, k, l)</code> is
+     * stored at <code>destOffset</code> + <code>((l * sizeZ + k) * sizeY + j) * sizeX + i</code>.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param w
+     *          the w coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param stepW
+     *          the distance between two lattice points along w
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param sizeW
+     *          the number of lattice points along w
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public float[] sample(float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW, int sizeX, int sizeY, int sizeZ, int sizeW, int octaves, float lacunarity, float gain, float[] dest, int destOffset, int threads) {
+        new ArrayGrid(permutation, permutationMod12, 4, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destOffset).fill(sizeY * sizeZ * sizeW, threads);
+        return dest;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Compute 4D fractal Brownian motion using the permutation table of this instance for a regular lattice of
+     * <code>sizeX * sizeY * sizeZ * sizeW</code> points and store the values in <code>dest</code>.
+     * <p>
+     * The value at the lattice point <code>(x + i * stepX, y + j * stepY, z + k * stepZ, w + l * stepW)</code> is the sum over all octaves <code>o</code> of
+     * <code>gain<sup>o</sup> * noise(p * lacunarity<sup>o</sup>)</code>, where <code>p</code> is the lattice point. All octaves
+     * are computed in the same pass over the lattice. With a single octave this is plain simplex noise.
+     * <p>
+     * The values are stored with x varying fastest, followed by y, z and w, so the value for the lattice point <code>(i, j, k, l)</code> is
+     * stored at the absolute index <code>destIndex</code> + <code>((l * sizeZ + k) * sizeY + j) * sizeX + i</code>. The position of <code>dest</code> is not changed.
+     * <p>
+     * The rows of the lattice are distributed over up to <code>threads</code> threads, and the values do not depend on the
+     * number of threads.
+     * 
+     * @param x
+     *          the x coordinate of the first lattice point
+     * @param y
+     *          the y coordinate of the first lattice point
+     * @param z
+     *          the z coordinate of the first lattice point
+     * @param w
+     *          the w coordinate of the first lattice point
+     * @param stepX
+     *          the distance between two lattice points along x
+     * @param stepY
+     *          the distance between two lattice points along y
+     * @param stepZ
+     *          the distance between two lattice points along z
+     * @param stepW
+     *          the distance between two lattice points along w
+     * @param sizeX
+     *          the number of lattice points along x
+     * @param sizeY
+     *          the number of lattice points along y
+     * @param sizeZ
+     *          the number of lattice points along z
+     * @param sizeW
+     *          the number of lattice points along w
+     * @param octaves
+     *          the number of octaves, at least <code>1</code>
+     * @param lacunarity
+     *          the factor by which the frequency is multiplied from one octave to the next
+     * @param gain
+     *          the factor by which the amplitude is multiplied from one octave to the next
+     * @param dest
+     *          will hold the values
+     * @param destIndex
+     *          the absolute index in <code>dest</code> at which to store the first value
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return dest
+     */
+    public FloatBuffer sample(float x, float y, float z, float w, float stepX, float stepY, float stepZ, float stepW, int sizeX, int sizeY, int sizeZ, int sizeW, int octaves, float lacunarity, float gain, FloatBuffer dest, int destIndex, int threads) {
+        new BufferGrid(permutation, permutationMod12, 4, x, y, z, w, stepX, stepY, stepZ, stepW, sizeX, sizeY, sizeZ, octaves, lacunarity, gain, dest, destIndex).fill(sizeY * sizeZ * sizeW, threads);
+        return dest;
+    }
+//#endif
+
 }
@@ -0,0 +1,643 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+import org.jspecify.annotations.Nullable;
+
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+//#endif
+
+/**
+ * A tree of nodes with local translation/rotation/scale transformations, which computes the world transformation
+ * {@link Matrix4x3f} of every node as the world transformation of its parent multiplied by its own local transformation.
+ * <p>
+ * All nodes are stored in flat arrays indexed by node: the parent index, the local translation, rotation quaternion and
+ * scale, and the world matrices with 12 consecutive floats per node in column-major order, like in {@link Matrix4x3fArray}.
+ * A node is always added after its parent, so every parent index is smaller than the index of its children, and a
+ * single pass in index order visits every parent before its children.
+ * <p>
+ * Setting the local transformation of a node marks it as dirty. {@link #update()} then recomputes the world matrices of
+ * exactly the dirty nodes and all of their descendants, and leaves every other world matrix untouched. Products with
+ * identity or translation-only transformations, which are common in scene graphs, take the cheaper paths of the
+ * respective matrix properties.
+ * <p>
+ * {@link #update(int)} additionally processes the nodes level by level, where each level holds all nodes of the same
+ * depth in the tree. Nodes of the same level never depend on each other, so the nodes of large levels are split among
+ * several threads.
+ * <p>
+ * Instances of this class are not thread-safe.
+ */
+public class TransformHierarchy {
+
+    /**
+     * Levels with fewer nodes than this are always processed by the calling thread in {@link #update(int)}.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 11;
+
+    private static final byte PROPERTIES_IDENTITY = Matrix4x3fc.PROPERTY_IDENTITY | Matrix4x3fc.PROPERTY_TRANSLATION | Matrix4x3fc.PROPERTY_ORTHONORMAL;
+
+    private int size;
+
+    /**
+     * The index of the parent of each node, or <code>-1</code> for root nodes.
+     */
+    private int[] parents;
+
+    /**
+     * The depth of each node, which is <code>0</code> for root nodes.
+     */
+    private int[] depths;
+
+    /**
+     * The local translation <code>(x, y, z)</code> of each node.
+     */
+    private float[] translations;
+
+    /**
+     * The local rotation quaternion <code>(x, y, z, w)</code> of each node.
+     */
+    private float[] rotations;
+
+    /**
+     * The local scale <code>(x, y, z)</code> of each node.
+     */
+    private float[] scales;
+
+    /**
+     * The world matrices, 12 consecutive floats per node in column-major order.
+     */
+    private float[] world;
+
+    /**
+     * The properties of each world matrix.
+     */
+    private byte[] worldProperties;
+
+    /**
+     * Whether the world matrix of each node must be recomputed: <code>1</code> if its local transformation changed,
+     * and during {@link #update()} also if the world matrix of its parent changed.
+     */
+    private byte[] dirty;
+
+    /**
+     * The smallest index of a dirty node, or {@link #size} if no node is dirty.
+     */
+    private int firstDirty;
+
+    /**
+     * All node indices sorted by depth, or <code>null</code> if the tree structure changed since they were computed.
+     */
+    private int @Nullable [] levelOrder;
+
+    /**
+     * The start of each level in {@link #levelOrder}, followed by {@link #size}.
+     */
+    private int[] levelStarts = new int[0];
+
+    /**
+     * Create a new, empty {@link TransformHierarchy} with room for the given number of nodes.
+     * <p>
+     * The storage grows when more nodes are added.
+     * 
+     * @param initialCapacity
+     *          the number of nodes to allocate memory for up front
+     */
+    public TransformHierarchy(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("initialCapacity must be >= 0"); //$NON-NLS-1$
+        parents = new int[initialCapacity];
+        depths = new int[initialCapacity];
+        translations = new float[3 * initialCapacity];
+        rotations = new float[4 * initialCapacity];
+        scales = new float[3 * initialCapacity];
+        world = new float[12 * initialCapacity];
+        worldProperties = new byte[initialCapacity];
+        dirty = new byte[initialCapacity];
+    }
+
+    /**
+     * Return the number of nodes.
+     * 
+     * @return the number of nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove all nodes.
+     * 
+     * @return this
+     */
+    public TransformHierarchy clear() {
+        size = 0;
+        firstDirty = 0;
+        levelOrder = null;
+        return this;
+    }
+
+    /**
+     * Add a new node with an identity local transformation as a child of the given <code>parent</code> node.
+     * <p>
+     * The new node is dirty until the next {@link #update()}.
+     * 
+     * @param parent
+     *          the index of the parent node, or <code>-1</code> to add a root node
+     * @return the index of the new node
+     */
+    public int addNode(int parent) {
+        if (parent < -1 || parent >= size)
+            throw new IllegalArgumentException("parent"); //$NON-NLS-1$
+        if (size == parents.length)
+            grow();
+        int node = size++;
+        parents[node] = parent;
+        depths[node] = parent < 0 ? 0 : depths[parent] + 1;
+        translations[3 * node] = translations[3 * node + 1] = translations[3 * node + 2] = 0.0f;
+        rotations[4 * node] = rotations[4 * node + 1] = rotations[4 * node + 2] = 0.0f;
+        rotations[4 * node + 3] = 1.0f;
+        scales[3 * node] = scales[3 * node + 1] = scales[3 * node + 2] = 1.0f;
+        dirty[node] = 1;
+        if (node < firstDirty)
+            firstDirty = node;
+        levelOrder = null;
+        return node;
+    }
+
+    private void grow() {
+        int capacity = java.lang.Math.max(16, parents.length * 2);
+        parents = copyOf(parents, capacity);
+        depths = copyOf(depths, capacity);
+        translations = copyOf(translations, 3 * capacity);
+        rotations = copyOf(rotations, 4 * capacity);
+        scales = copyOf(scales, 3 * capacity);
+        world = copyOf(world, 12 * capacity);
+        worldProperties = copyOf(worldProperties, capacity);
+        dirty = copyOf(dirty, capacity);
+    }
+
+    private static int[] copyOf(int[] arr, int length) {
+        int[] res = new int[length];
+        System.arraycopy(arr, 0, res, 0, arr.length);
+        return res;
+    }
+    private static float[] copyOf(float[] arr, int length) {
+        float[] res = new float[length];
+        System.arraycopy(arr, 0, res, 0, arr.length);
+        return res;
+    }
+    private static byte[] copyOf(byte[] arr, int length) {
+        byte[] res = new byte[length];
+        System.arraycopy(arr, 0, res, 0, arr.length);
+        return res;
+    }
+
+    /**
+     * Return the index of the parent of the given node.
+     * 
+     * @param node
+     *          the index of the node
+     * @return the index of the parent, or <code>-1</code> if the node is a root node
+     */
+    public int parent(int node) {
+        checkNode(node);
+        return parents[node];
+    }
+
+    /**
+     * Return the depth of the given node, which is <code>0</code> for root nodes.
+     * 
+     * @param node
+     *          the index of the node
+     * @return the depth
+     */
+    public int depth(int node) {
+        checkNode(node);
+        return depths[node];
+    }
+
+    /**
+     * Move the given node, together with all of its descendants, to the new <code>parent</code>.
+     * <p>
+     * Since parents always precede their children, <code>parent</code> must be smaller than <code>node</code>.
+     * 
+     * @param node
+     *          the index of the node
+     * @param parent
+     *          the index of the new parent node, or <code>-1</code> to make the node a root node
+     * @return this
+     */
+    public TransformHierarchy setParent(int node, int parent) {
+        checkNode(node);
+        if (parent < -1 || parent >= node)
+            throw new IllegalArgumentException("parent must be smaller than node"); //$NON-NLS-1$
+        parents[node] = parent;
+        depths[node] = parent < 0 ? 0 : depths[parent] + 1;
+        for (int i = node + 1; i < size; i++) {
+            int p = parents[i];
+            if (p >= 0)
+                depths[i] = depths[p] + 1;
+        }
+        levelOrder = null;
+        return markDirty(node);
+    }
+
+    private void checkNode(int node) {
+        if (node < 0 || node >= size)
+            throw new IndexOutOfBoundsException();
+    }
+
+    private TransformHierarchy markDirty(int node) {
+        dirty[node] = 1;
+        if (node < firstDirty)
+            firstDirty = node;
+        return this;
+    }
+
+    /**
+     * Set the local translation of the given node.
+     * 
+     * @param node
+     *          the index of the node
+     * @param x
+     *          the x component of the translation
+     * @param y
+     *          the y component of the translation
+     * @param z
+     *          the z component of the translation
+     * @return this
+     */
+    public TransformHierarchy setTranslation(int node, float x, float y, float z) {
+        checkNode(node);
+        translations[3 * node] = x;
+        translations[3 * node + 1] = y;
+        translations[3 * node + 2] = z;
+        return markDirty(node);
+    }
+
+    /**
+     * Set the local rotation of the given node to the given unit quaternion.
+     * 
+     * @param node
+     *          the index of the node
+     * @param x
+     *          the x component of the quaternion
+     * @param y
+     *          the y component of the quaternion
+     * @param z
+     *          the z component of the quaternion
+     * @param w
+     *          the w component of the quaternion
+     * @return this
+     */
+    public TransformHierarchy setRotation(int node, float x, float y, float z, float w) {
+        checkNode(node);
+        rotations[4 * node] = x;
+        rotations[4 * node + 1] = y;
+        rotations[4 * node + 2] = z;
+        rotations[4 * node + 3] = w;
+        return markDirty(node);
+    }
+
+    /**
+     * Set the local rotation of the given node to the given unit quaternion.
+     * 
+     * @param node
+     *          the index of the node
+     * @param rotation
+     *          the rotation
+     * @return this
+     */
+    public TransformHierarchy setRotation(int node, Quaternionfc rotation) {
+        return setRotation(node, rotation.x(), rotation.y(), rotation.z(), rotation.w());
+    }
+
+    /**
+     * Set the local scale of the given node.
+     * 
+     * @param node
+     *          the index of the node
+     * @param x
+     *          the scale factor for the x-axis
+     * @param y
+     *          the scale factor for the y-axis
+     * @param z
+     *          the scale factor for the z-axis
+     * @return this
+     */
+    public TransformHierarchy setScale(int node, float x, float y, float z) {
+        checkNode(node);
+        scales[3 * node] = x;
+        scales[3 * node + 1] = y;
+        scales[3 * node + 2] = z;
+        return markDirty(node);
+    }
+
+    /**
+     * Set the local translation, rotation and scale of the given node.
+     * 
+     * @param node
+     *          the index of the node
+     * @param translation
+     *          the translation
+     * @param rotation
+     *          the rotation
+     * @param scale
+     *          the scale
+     * @return this
+     */
+    public TransformHierarchy setLocal(int node, Vector3fc translation, Quaternionfc rotation, Vector3fc scale) {
+        setTranslation(node, translation.x(), translation.y(), translation.z());
+        setRotation(node, rotation.x(), rotation.y(), rotation.z(), rotation.w());
+        return setScale(node, scale.x(), scale.y(), scale.z());
+    }
+
+    /**
+     * Store the local translation of the given node into <code>dest</code>.
+     * 
+     * @param node
+     *          the index of the node
+     * @param dest
+     *          will hold the translation
+     * @return dest
+     */
+    public Vector3f getTranslation(int node, Vector3f dest) {
+        checkNode(node);
+        return dest.set(translations[3 * node], translations[3 * node + 1], translations[3 * node + 2]);
+    }
+
+    /**
+     * Store the local rotation of the given node into <code>dest</code>.
+     * 
+     * @param node
+     *          the index of the node
+     * @param dest
+     *          will hold the rotation
+     * @return dest
+     */
+    public Quaternionf getRotation(int node, Quaternionf dest) {
+        checkNode(node);
+        return dest.set(rotations[4 * node], rotations[4 * node + 1], rotations[4 * node + 2], rotations[4 * node + 3]);
+    }
+
+    /**
+     * Store the local scale of the given node into <code>dest</code>.
+     * 
+     * @param node
+     *          the index of the node
+     * @param dest
+     *          will hold the scale
+     * @return dest
+     */
+    public Vector3f getScale(int node, Vector3f dest) {
+        checkNode(node);
+        return dest.set(scales[3 * node], scales[3 * node + 1], scales[3 * node + 2]);
+    }
+
+    /**
+     * Store the local transformation of the given node into <code>dest</code>.
+     * 
+     * @param node
+     *          the index of the node
+     * @param dest
+     *          will hold the local transformation
+     * @return dest
+     */
+    public Matrix4x3f getLocal(int node, Matrix4x3f dest) {
+        checkNode(node);
+        float[] m = new float[12];
+        byte properties = local(node, m, 0);
+        MemUtil.INSTANCE.copy(m, 0, dest);
+        return dest._properties(properties);
+    }
+
+    /**
+     * Store the world transformation of the given node, as of the last {@link #update()}, into <code>dest</code>.
+     * 
+     * @param node
+     *          the index of the node
+     * @param dest
+     *          will hold the world transformation
+     * @return dest
+     */
+    public Matrix4x3f getWorld(int node, Matrix4x3f dest) {
+        checkNode(node);
+        MemUtil.INSTANCE.copy(world, 12 * node, dest);
+        return dest._properties(worldProperties[node]);
+    }
+
+    /**
+     * Return the array holding the world matrices of all nodes, 12 consecutive floats per node in column-major order.
+     * <p>
+     * The array may be longer than 12 * {@link #size()} floats, and is replaced by a larger one when nodes are added.
+     * It must not be modified.
+     * 
+     * @return the world matrices
+     */
+    public float[] worldArray() {
+        return world;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Store the world matrices of all nodes in column-major order, one after the other in node order, into the supplied
+     * {@link FloatBuffer} at the current buffer {@link FloatBuffer#position() position}.
+     * <p>
+     * This method will not increment the position of the given FloatBuffer.
+     * 
+     * @param buffer
+     *          will receive the world matrices
+     * @return the passed in buffer
+     */
+    public FloatBuffer getWorld(FloatBuffer buffer) {
+        MemUtil.INSTANCE.put(world, 0, 12 * size, buffer, buffer.position());
+        return buffer;
+    }
+
+    /**
+     * Store the world matrices of all nodes in column-major order, one after the other in node order, into the supplied
+     * {@link ByteBuffer} at the current buffer {@link ByteBuffer#position() position}.
+     * <p>
+     * This method will not increment the position of the given ByteBuffer.
+     * 
+     * @param buffer
+     *          will receive the world matrices
+     * @return the passed in buffer
+     */
+    public ByteBuffer getWorld(ByteBuffer buffer) {
+        MemUtil.INSTANCE.put(world, 0, 12 * size, buffer, buffer.position());
+        return buffer;
+    }
+//#endif
+
+    /**
+     * Return whether any node is dirty, in which case the next {@link #update()} will recompute some world matrices.
+     * 
+     * @return whether any node is dirty
+     */
+    public boolean isDirty() {
+        return firstDirty < size;
+    }
+
+    /**
+     * Recompute the world matrices of all dirty nodes and their descendants on the calling thread.
+     * 
+     * @return the number of recomputed world matrices
+     */
+    public int update() {
+        int n = size, updated = 0;
+        for (int i = firstDirty; i < n; i++) {
+            int p = parents[i];
+            if (dirty[i] != 0 || p >= 0 && dirty[p] != 0) {
+                dirty[i] = 1;
+                compute(i, p);
+                updated++;
+            }
+        }
+        for (int i = firstDirty; i < n; i++)
+            dirty[i] = 0;
+        firstDirty = n;
+        return updated;
+    }
+
+    /**
+     * Recompute the world matrices of all dirty nodes and their descendants using up to <code>threads</code> threads.
+     * <p>
+     * The nodes are processed level by level. The nodes of a level with many nodes are split among the threads, while
+     * smaller levels are processed by the calling thread alone. The result is identical to {@link #update()}.
+     * 
+     * @param threads
+     *          the maximum number of threads to use, including the calling thread
+     * @return the number of recomputed world matrices
+     */
+    public int update(int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException("threads must be >= 1"); //$NON-NLS-1$
+        if (threads == 1 || size < PARALLEL_THRESHOLD)
+            return update();
+        if (firstDirty >= size)
+            return 0;
+        if (levelOrder == null)
+            sortLevels();
+        LevelTask task = new LevelTask();
+        for (int l = 0; levelStarts[l] < size; l++) {
+            task.base = levelStarts[l];
+            Parallel.run(levelStarts[l + 1] - levelStarts[l], threads, PARALLEL_THRESHOLD / 4, task);
+        }
+        for (int i = firstDirty; i < size; i++)
+            dirty[i] = 0;
+        firstDirty = size;
+        return task.updated;
+    }
+
+    /**
+     * Counting sort of all nodes by depth.
+     */
+    private void sortLevels() {
+        int n = size, maxDepth = 0;
+        for (int i = 0; i < n; i++)
+            maxDepth = java.lang.Math.max(maxDepth, depths[i]);
+        int[] starts = new int[maxDepth + 2];
+        for (int i = 0; i < n; i++)
+            starts[depths[i] + 1]++;
+        for (int l = 1; l < starts.length; l++)
+            starts[l] += starts[l - 1];
+        int[] order = new int[n];
+        int[] pos = new int[maxDepth + 1];
+        System.arraycopy(starts, 0, pos, 0, maxDepth + 1);
+        for (int i = 0; i < n; i++)
+            order[pos[depths[i]]++] = i;
+        levelOrder = order;
+        levelStarts = starts;
+    }
+
+    /**
+     * Processes a range of the nodes of one level.
+     */
+    private final class LevelTask implements Parallel.Task {
+        int base;
+        int updated;
+
+        public void run(int start, int end) {
+            int[] order = levelOrder;
+            int count = 0;
+            for (int k = base + start, e = base + end; k < e; k++) {
+                int i = order[k], p = parents[i];
+                if (dirty[i] != 0 || p >= 0 && dirty[p] != 0) {
+                    dirty[i] = 1;
+                    compute(i, p);
+                    count++;
+                }
+            }
+            synchronized (this) {
+                updated += count;
+            }
+        }
+    }
+
+    /**
+     * Compute the world matrix of node <code>i</code> with parent <code>p</code>.
+     */
+    private void compute(int i, int p) {
+        byte props = local(i, world, 12 * i);
+        if (p >= 0)
+            props = Matrix4x3fArray.mul(world, 12 * p, worldProperties[p], world, 12 * i, props, world, 12 * i);
+        worldProperties[i] = props;
+    }
+
+    /**
+     * Write the local transformation of the given node into <code>dest</code> at <code>off</code> and return its properties.
+     */
+    private byte local(int node, float[] dest, int off) {
+        float tx = translations[3 * node], ty = translations[3 * node + 1], tz = translations[3 * node + 2];
+        float qx = rotations[4 * node], qy = rotations[4 * node + 1], qz = rotations[4 * node + 2], qw = rotations[4 * node + 3];
+        float sx = scales[3 * node], sy = scales[3 * node + 1], sz = scales[3 * node + 2];
+        float dqx = qx + qx, dqy = qy + qy, dqz = qz + qz;
+        float q00 = dqx * qx, q11 = dqy * qy, q22 = dqz * qz;
+        float q01 = dqx * qy, q02 = dqx * qz, q03 = dqx * qw;
+        float q12 = dqy * qz, q13 = dqy * qw, q23 = dqz * qw;
+        dest[off]      = sx - (q11 + q22) * sx;
+        dest[off + 1]  = (q01 + q23) * sx;
+        dest[off + 2]  = (q02 - q13) * sx;
+        dest[off + 3]  = (q01 - q23) * sy;
+        dest[off + 4]  = sy - (q22 + q00) * sy;
+        dest[off + 5]  = (q12 + q03) * sy;
+        dest[off + 6]  = (q02 + q13) * sz;
+        dest[off + 7]  = (q12 - q03) * sz;
+        dest[off + 8]  = sz - (q11 + q00) * sz;
+        dest[off + 9]  = tx;
+        dest[off + 10] = ty;
+        dest[off + 11] = tz;
+        boolean unitScale = sx == 1.0f && sy == 1.0f && sz == 1.0f;
+        if (unitScale && qx == 0.0f && qy == 0.0f && qz == 0.0f) {
+            if (tx == 0.0f && ty == 0.0f && tz == 0.0f)
+                return PROPERTIES_IDENTITY;
+            return Matrix4x3fc.PROPERTY_TRANSLATION | Matrix4x3fc.PROPERTY_ORTHONORMAL;
+        }
+        return unitScale ? Matrix4x3fc.PROPERTY_ORTHONORMAL : 0;
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_NIO__
+package org.joml;
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.MemorySegment;
+//#endif
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Mutable {@link Vector3fc} view onto the 3 float values of a vector stored in a {@link ByteBuffer} at a given byte index.
+ * <p>
+ * The view copies through a temporary {@link Vector3f} owned by it: every read-only operation of {@link Vector3fc} first copies
+ * the 3 values from the buffer into that temporary vector, and every mutating method of this class computes its result in it
+ * and copies the result back into the buffer. So vectors kept in off-heap memory, such as memory mapped for the GPU,
+ * can be used without keeping a separate {@link Vector3f} for each of them, but every operation still costs a copy.
+ * <p>
+ * A single view can be moved over many vectors stored in the same buffer via {@link #at(int)}, which avoids allocating one view per vector.
+ * <p>
+ * The buffer must be in {@link ByteOrder#nativeOrder() native byte order}, which is the order sun.misc.Unsafe reads and writes
+ * vectors in, and the constructors throw an {@link IllegalArgumentException} otherwise. When sun.misc.Unsafe is used, the buffer
+ * must also be a direct buffer, just like for {@link Vector3f#set(int, ByteBuffer)}.
+ * <p>
+ * Because of the temporary vector, instances of this class are not thread-safe, not even when only reading. Use one view per thread.
+ */
+public class Vector3fBufferView extends Vector3fView {
+
+    private final ByteBuffer buffer;
+    private int index;
+
+    /**
+     * Create a new {@link Vector3fBufferView} onto the vector stored at the current {@link ByteBuffer#position() position} of the given buffer.
+     * 
+     * @param buffer
+     *          the buffer holding the vector, in native byte order
+     */
+    public Vector3fBufferView(ByteBuffer buffer) {
+        this(buffer, buffer.position());
+    }
+
+    /**
+     * Create a new {@link Vector3fBufferView} onto the vector stored at the given absolute byte index of the given buffer.
+     * 
+     * @param buffer
+     *          the buffer holding the vector, in native byte order
+     * @param index
+     *          the absolute byte index of the vector in the buffer
+     */
+    public Vector3fBufferView(ByteBuffer buffer, int index) {
+        if (buffer.order() != ByteOrder.nativeOrder())
+            throw new IllegalArgumentException("buffer must be in native byte order"); //$NON-NLS-1$
+        this.buffer = buffer;
+        this.index = index;
+    }
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Create a new {@link Vector3fBufferView} onto the vector stored at the given byte offset of the given native {@link MemorySegment}.
+     * <p>
+     * The view accesses the segment through a {@link MemorySegment#asByteBuffer() ByteBuffer} in native byte order spanning the segment,
+     * so the segment must not be larger than {@link Integer#MAX_VALUE} bytes.
+     * 
+     * @param segment
+     *          the native segment holding the vector
+     * @param offset
+     *          the byte offset of the vector in the segment
+     */
+    public Vector3fBufferView(MemorySegment segment, long offset) {
+        this(buffer(segment), (int) offset);
+    }
+
+    private static ByteBuffer buffer(MemorySegment segment) {
+        if (!segment.isNative())
+            throw new IllegalArgumentException("segment is not native"); //$NON-NLS-1$
+        return segment.asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+//#endif
+
+    Vector3f load() {
+        return v.set(index, buffer);
+    }
+
+    /**
+     * Return the buffer holding the vector of this view.
+     * 
+     * @return the buffer
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Return the absolute byte index of the vector of this view in its {@link #buffer() buffer}.
+     * 
+     * @return the byte index
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Move this view onto the vector stored at the given absolute byte index of its {@link #buffer() buffer}.
+     * 
+     * @param index
+     *          the absolute byte index of the vector in the buffer
+     * @return this
+     */
+    public Vector3fBufferView at(int index) {
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Store the values of the given vector into the buffer at the index of this view.
+     * 
+     * @param v
+     *          the vector to copy the values from
+     * @return this
+     */
+    public Vector3fBufferView set(Vector3fc v) {
+        v.get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Set the x, y and z components of the vector of this view to the supplied values.
+     * 
+     * @param x
+     *          the x component
+     * @param y
+     *          the y component
+     * @param z
+     *          the z component
+     * @return this
+     */
+    public Vector3fBufferView set(float x, float y, float z) {
+        v.set(x, y, z).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Add the supplied vector to the vector of this view and store the result back into the buffer.
+     * 
+     * @param v
+     *          the vector to add
+     * @return this
+     */
+    public Vector3fBufferView add(Vector3fc v) {
+        load().add(v).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Multiply the vector of this view by the given scalar value and store the result back into the buffer.
+     * 
+     * @param scalar
+     *          the scalar to multiply by
+     * @return this
+     */
+    public Vector3fBufferView mul(float scalar) {
+        load().mul(scalar).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Multiply the given 4x4 matrix <code>mat</code> with the vector of this view, treated as a position with <code>w = 1</code>, and store the result back into the buffer.
+     * 
+     * @see Vector3f#mulPosition(Matrix4fc)
+     * 
+     * @param mat
+     *          the matrix to multiply by
+     * @return this
+     */
+    public Vector3fBufferView mulPosition(Matrix4fc mat) {
+        load().mulPosition(mat).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Multiply the given 4x3 matrix <code>mat</code> with the vector of this view, treated as a position with <code>w = 1</code>, and store the result back into the buffer.
+     * 
+     * @see Vector3f#mulPosition(Matrix4x3fc)
+     * 
+     * @param mat
+     *          the matrix to multiply by
+     * @return this
+     */
+    public Vector3fBufferView mulPosition(Matrix4x3fc mat) {
+        load().mulPosition(mat).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Multiply the given 4x4 matrix <code>mat</code> with the vector of this view, treated as a direction with <code>w = 0</code>, and store the result back into the buffer.
+     * 
+     * @see Vector3f#mulDirection(Matrix4fc)
+     * 
+     * @param mat
+     *          the matrix to multiply by
+     * @return this
+     */
+    public Vector3fBufferView mulDirection(Matrix4fc mat) {
+        load().mulDirection(mat).get(index, buffer);
+        return this;
+    }
+
+    /**
+     * Normalize the vector of this view and store the result back into the buffer.
+     * 
+     * @return this
+     */
+    public Vector3fBufferView normalize() {
+        load().normalize().get(index, buffer);
+        return this;
+    }
+}
+//#endif
@@ -0,0 +1,480 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml;
+
+//#ifdef __HAS_NIO__
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+//#endif
+import java.text.NumberFormat;
+
+/**
+ * Base class of read-only {@link Vector3fc} views onto vector values kept in some other storage.
+ * <p>
+ * Every method first {@link #load() loads} the current values from the backing storage into a temporary {@link Vector3f}
+ * and then delegates to it. Instances are therefore always up-to-date with their storage, but are not thread-safe.
+ */
+abstract class Vector3fView implements Vector3fc {
+
+    /**
+     * Temporary vector receiving the values of the backing storage in {@link #load()}.
+     */
+    final Vector3f v = new Vector3f();
+
+    /**
+     * Load the current values of the backing storage into {@link #v} and return it.
+     * 
+     * @return {@link #v}
+     */
+    abstract Vector3f load();
+
+    public float x() {
+        return load().x();
+    }
+
+    public float y() {
+        return load().y();
+    }
+
+    public float z() {
+        return load().z();
+    }
+
+//#ifdef __HAS_NIO__
+    public FloatBuffer get(FloatBuffer buffer) {
+        return load().get(buffer);
+    }
+
+    public FloatBuffer get(int index, FloatBuffer buffer) {
+        return load().get(index, buffer);
+    }
+
+    public ByteBuffer get(ByteBuffer buffer) {
+        return load().get(buffer);
+    }
+
+    public ByteBuffer get(int index, ByteBuffer buffer) {
+        return load().get(index, buffer);
+    }
+
+//#endif
+//#ifdef __HAS_UNSAFE__
+    public Vector3fc getToAddress(long address) {
+        load().getToAddress(address);
+        return this;
+    }
+
+//#endif
+    public Vector3f sub(Vector3fc v, Vector3f dest) {
+        return load().sub(v, dest);
+    }
+
+    public Vector3f sub(float x, float y, float z, Vector3f dest) {
+        return load().sub(x, y, z, dest);
+    }
+
+    public Vector3f add(Vector3fc v, Vector3f dest) {
+        return load().add(v, dest);
+    }
+
+    public Vector3f add(float x, float y, float z, Vector3f dest) {
+        return load().add(x, y, z, dest);
+    }
+
+    public Vector3f fma(Vector3fc a, Vector3fc b, Vector3f dest) {
+        return load().fma(a, b, dest);
+    }
+
+    public Vector3f fma(float a, Vector3fc b, Vector3f dest) {
+        return load().fma(a, b, dest);
+    }
+
+    public Vector3f mulAdd(Vector3fc a, Vector3fc b, Vector3f dest) {
+        return load().mulAdd(a, b, dest);
+    }
+
+    public Vector3f mulAdd(float a, Vector3fc b, Vector3f dest) {
+        return load().mulAdd(a, b, dest);
+    }
+
+    public Vector3f mul(Vector3fc v, Vector3f dest) {
+        return load().mul(v, dest);
+    }
+
+    public Vector3f div(Vector3fc v, Vector3f dest) {
+        return load().div(v, dest);
+    }
+
+    public Vector3f mulProject(Matrix4fc mat, Vector3f dest) {
+        return load().mulProject(mat, dest);
+    }
+
+    public Vector3f mulProject(Matrix4fc mat, float w, Vector3f dest) {
+        return load().mulProject(mat, w, dest);
+    }
+
+    public Vector3f mulProjectTranslation(Matrix4fc mat, Vector3f dest) {
+        return load().mulProjectTranslation(mat, dest);
+    }
+
+    public Vector3f mulProjectTranslation(Matrix4dc mat, Vector3f dest) {
+        return load().mulProjectTranslation(mat, dest);
+    }
+
+    public Vector3f mulProjectAffine(Matrix4fc mat, Vector3f dest) {
+        return load().mulProjectAffine(mat, dest);
+    }
+
+    public Vector3f mulProjectAffine(Matrix4dc mat, Vector3f dest) {
+        return load().mulProjectAffine(mat, dest);
+    }
+
+    public Vector3f mulProjectGeneric(Matrix4fc mat, Vector3f dest) {
+        return load().mulProjectGeneric(mat, dest);
+    }
+
+    public Vector3f mulProjectGeneric(Matrix4dc mat, Vector3f dest) {
+        return load().mulProjectGeneric(mat, dest);
+    }
+
+    public Vector3f mul(Matrix3fc mat, Vector3f dest) {
+        return load().mul(mat, dest);
+    }
+
+    public Vector3f mul(Matrix3dc mat, Vector3f dest) {
+        return load().mul(mat, dest);
+    }
+
+    public Vector3f mul(Matrix3x2fc mat, Vector3f dest) {
+        return load().mul(mat, dest);
+    }
+
+    public Vector3f mul(Matrix3x2dc mat, Vector3f dest) {
+        return load().mul(mat, dest);
+    }
+
+    public Vector3f mulTranspose(Matrix3fc mat, Vector3f dest) {
+        return load().mulTranspose(mat, dest);
+    }
+
+    public Vector3f mulPosition(Matrix4fc mat, Vector3f dest) {
+        return load().mulPosition(mat, dest);
+    }
+
+    public Vector3f mulPosition(Matrix4dc mat, Vector3f dest) {
+        return load().mulPosition(mat, dest);
+    }
+
+    public Vector3f mulPosition(Matrix4x3fc mat, Vector3f dest) {
+        return load().mulPosition(mat, dest);
+    }
+
+    public Vector3f mulPosition(Matrix4x3dc mat, Vector3f dest) {
+        return load().mulPosition(mat, dest);
+    }
+
+    public Vector3f mulPositionGeneric(Matrix4fc mat, Vector3f dest) {
+        return load().mulPositionGeneric(mat, dest);
+    }
+
+    public Vector3f mulPositionGeneric(Matrix4dc mat, Vector3f dest) {
+        return load().mulPositionGeneric(mat, dest);
+    }
+
+    public Vector3f mulPositionTranslation(Matrix4fc mat, Vector3f dest) {
+        return load().mulPositionTranslation(mat, dest);
+    }
+
+    public Vector3f mulPositionTranslation(Matrix4dc mat, Vector3f dest) {
+        return load().mulPositionTranslation(mat, dest);
+    }
+
+    public Vector3f mulPositionTranslation(Matrix4x3fc mat, Vector3f dest) {
+        return load().mulPositionTranslation(mat, dest);
+    }
+
+    public Vector3f mulPositionTranslation(Matrix4x3dc mat, Vector3f dest) {
+        return load().mulPositionTranslation(mat, dest);
+    }
+
+    public Vector3f mulTransposePosition(Matrix4fc mat, Vector3f dest) {
+        return load().mulTransposePosition(mat, dest);
+    }
+
+    public Vector3f mulTransposePosition(Matrix4dc mat, Vector3f dest) {
+        return load().mulTransposePosition(mat, dest);
+    }
+
+    public float mulPositionW(Matrix4fc mat, Vector3f dest) {
+        return load().mulPositionW(mat, dest);
+    }
+
+    public float mulPositionW(Matrix4dc mat, Vector3f dest) {
+        return load().mulPositionW(mat, dest);
+    }
+
+    public Vector3f mulDirection(Matrix4dc mat, Vector3f dest) {
+        return load().mulDirection(mat, dest);
+    }
+
+    public Vector3f mulDirection(Matrix4fc mat, Vector3f dest) {
+        return load().mulDirection(mat, dest);
+    }
+
+    public Vector3f mulDirection(Matrix4x3fc mat, Vector3f dest) {
+        return load().mulDirection(mat, dest);
+    }
+
+    public Vector3f mulDirection(Matrix4x3dc mat, Vector3f dest) {
+        return load().mulDirection(mat, dest);
+    }
+
+    public Vector3f mulTransposeDirection(Matrix4fc mat, Vector3f dest) {
+        return load().mulTransposeDirection(mat, dest);
+    }
+
+    public Vector3f mul(float scalar, Vector3f dest) {
+        return load().mul(scalar, dest);
+    }
+
+    public Vector3f mul(float x, float y, float z, Vector3f dest) {
+        return load().mul(x, y, z, dest);
+    }
+
+    public Vector3f div(float scalar, Vector3f dest) {
+        return load().div(scalar, dest);
+    }
+
+    public Vector3f div(float x, float y, float z, Vector3f dest) {
+        return load().div(x, y, z, dest);
+    }
+
+    public Vector3f rotate(Quaternionfc quat, Vector3f dest) {
+        return load().rotate(quat, dest);
+    }
+
+    public Quaternionf rotationTo(Vector3fc toDir, Quaternionf dest) {
+        return load().rotationTo(toDir, dest);
+    }
+
+    public Quaternionf rotationTo(float toDirX, float toDirY, float toDirZ, Quaternionf dest) {
+        return load().rotationTo(toDirX, toDirY, toDirZ, dest);
+    }
+
+    public Vector3f rotateAxis(float angle, float aX, float aY, float aZ, Vector3f dest) {
+        return load().rotateAxis(angle, aX, aY, aZ, dest);
+    }
+
+    public Vector3f rotateX(float angle, Vector3f dest) {
+        return load().rotateX(angle, dest);
+    }
+
+    public Vector3f rotateY(float angle, Vector3f dest) {
+        return load().rotateY(angle, dest);
+    }
+
+    public Vector3f rotateZ(float angle, Vector3f dest) {
+        return load().rotateZ(angle, dest);
+    }
+
+    public float lengthSquared() {
+        return load().lengthSquared();
+    }
+
+    public float length() {
+        return load().length();
+    }
+
+    public Vector3f normalize(Vector3f dest) {
+        return load().normalize(dest);
+    }
+
+    public Vector3f normalize(float length, Vector3f dest) {
+        return load().normalize(length, dest);
+    }
+
+    public Vector3f cross(Vector3fc v, Vector3f dest) {
+        return load().cross(v, dest);
+    }
+
+    public Vector3f cross(float x, float y, float z, Vector3f dest) {
+        return load().cross(x, y, z, dest);
+    }
+
+    public float distance(Vector3fc v) {
+        return load().distance(v);
+    }
+
+    public float distance(float x, float y, float z) {
+        return load().distance(x, y, z);
+    }
+
+    public float distanceSquared(Vector3fc v) {
+        return load().distanceSquared(v);
+    }
+
+    public float distanceSquared(float x, float y, float z) {
+        return load().distanceSquared(x, y, z);
+    }
+
+    public float dot(Vector3fc v) {
+        return load().dot(v);
+    }
+
+    public float dot(float x, float y, float z) {
+        return load().dot(x, y, z);
+    }
+
+    public float angleCos(Vector3fc v) {
+        return load().angleCos(v);
+    }
+
+    public float angle(Vector3fc v) {
+        return load().angle(v);
+    }
+
+    public float angleSigned(Vector3fc v, Vector3fc n) {
+        return load().angleSigned(v, n);
+    }
+
+    public float angleSigned(float x, float y, float z, float nx, float ny, float nz) {
+        return load().angleSigned(x, y, z, nx, ny, nz);
+    }
+
+    public Vector3f min(Vector3fc v, Vector3f dest) {
+        return load().min(v, dest);
+    }
+
+    public Vector3f max(Vector3fc v, Vector3f dest) {
+        return load().max(v, dest);
+    }
+
+    public String toString(NumberFormat formatter) {
+        return load().toString(formatter);
+    }
+
+    public Vector3f negate(Vector3f dest) {
+        return load().negate(dest);
+    }
+
+    public Vector3f absolute(Vector3f dest) {
+        return load().absolute(dest);
+    }
+
+    public Vector3f reflect(Vector3fc normal, Vector3f dest) {
+        return load().reflect(normal, dest);
+    }
+
+    public Vector3f reflect(float x, float y, float z, Vector3f dest) {
+        return load().reflect(x, y, z, dest);
+    }
+
+    public Vector3f half(Vector3fc other, Vector3f dest) {
+        return load().half(other, dest);
+    }
+
+    public Vector3f half(float x, float y, float z, Vector3f dest) {
+        return load().half(x, y, z, dest);
+    }
+
+    public Vector3f smoothStep(Vector3fc v, float t, Vector3f dest) {
+        return load().smoothStep(v, t, dest);
+    }
+
+    public Vector3f hermite(Vector3fc t0, Vector3fc v1, Vector3fc t1, float t, Vector3f dest) {
+        return load().hermite(t0, v1, t1, t, dest);
+    }
+
+    public Vector3f lerp(Vector3fc other, float t, Vector3f dest) {
+        return load().lerp(other, t, dest);
+    }
+
+    public float get(int component) {
+        return load().get(component);
+    }
+
+    public Vector3i get(int mode, Vector3i dest) {
+        return load().get(mode, dest);
+    }
+
+    public Vector3f get(Vector3f dest) {
+        return load().get(dest);
+    }
+
+    public Vector3d get(Vector3d dest) {
+        return load().get(dest);
+    }
+
+    public float[] get(float[] arr) {
+        return load().get(arr);
+    }
+
+    public float[] get(float[] arr, int offset) {
+        return load().get(arr, offset);
+    }
+
+    public int maxComponent() {
+        return load().maxComponent();
+    }
+
+    public int minComponent() {
+        return load().minComponent();
+    }
+
+    public Vector3f orthogonalize(Vector3fc v, Vector3f dest) {
+        return load().orthogonalize(v, dest);
+    }
+
+    public Vector3f orthogonalizeUnit(Vector3fc v, Vector3f dest) {
+        return load().orthogonalizeUnit(v, dest);
+    }
+
+    public Vector3f floor(Vector3f dest) {
+        return load().floor(dest);
+    }
+
+    public Vector3f ceil(Vector3f dest) {
+        return load().ceil(dest);
+    }
+
+    public Vector3f round(Vector3f dest) {
+        return load().round(dest);
+    }
+
+    public boolean isFinite() {
+        return load().isFinite();
+    }
+
+    public boolean equals(Vector3fc v, float delta) {
+        return load().equals(v, delta);
+    }
+
+    public boolean equals(float x, float y, float z) {
+        return load().equals(x, y, z);
+    }
+
+    public String toString() {
+        return load().toString();
+    }
+}
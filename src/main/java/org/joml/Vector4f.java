@@ -1028,12 +1028,19 @@ public class Vector4f implements Externalizable, Cloneable, Vector4fc {
     }
     public Vector4f mul(Matrix4fc mat, Vector4f dest) {
         int prop = mat.properties();
-        if ((prop & Matrix4fc.PROPERTY_IDENTITY) != 0)
+        if ((prop & Matrix4fc.PROPERTY_IDENTITY) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_IDENTITY);
             return dest.set(this);
-        if ((prop & Matrix4fc.PROPERTY_TRANSLATION) != 0)
+        }
+        if ((prop & Matrix4fc.PROPERTY_TRANSLATION) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_TRANSLATION);
             return mulTranslation(mat, dest);
-        if ((prop & Matrix4fc.PROPERTY_AFFINE) != 0)
+        }
+        if ((prop & Matrix4fc.PROPERTY_AFFINE) != 0) {
+            PropertyCounters.count(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_AFFINE);
             return mulAffine(mat, dest);
+        }
+        PropertyCounters.count(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_GENERIC);
         return mulGeneric(mat, dest);
     }
     /**
@@ -0,0 +1,310 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels for {@link Matrix4f} and {@link Matrix4d} written against the incubating Vector API
+ * (<code>jdk.incubator.vector</code>).
+ * <p>
+ * A 4x4 matrix is processed column by column, with each column held in one 4-lane vector. The kernels are only
+ * used when the platform's preferred vector shape can hold a whole column (128 bits for float, 256 bits for double),
+ * so that they never fall back to a slow emulated vector shape. The columns are staged in thread-local scratch arrays,
+ * so that the kernels do not allocate.
+ */
+class VectorApiCode {
+    static final boolean canUseFloatVectors;
+    static final boolean canUseDoubleVectors;
+    /** Why {@link #canUseFloatVectors} or {@link #canUseDoubleVectors} is <code>false</code>, or <code>null</code> */
+    static final String unavailableReason;
+
+    /*
+     * Gather index maps for the cofactor expansion in invert().
+     * The 12 2x2 sub-determinants are S[i] = M[X1[i]] * M[Y1[i]] - M[X2[i]] * M[Y2[i]],
+     * and each column c of the adjugate is M[P1] * S[Q1] - M[P2] * S[Q2] + M[P3] * S[Q3]
+     * with the maps offset by 4*c, with alternating signs.
+     */
+    private static final int[] INV_X1 = { 0, 0, 0, 1, 1, 2, 8, 8, 8, 9, 9, 10 };
+    private static final int[] INV_Y1 = { 5, 6, 7, 6, 7, 7, 13, 14, 15, 14, 15, 15 };
+    private static final int[] INV_X2 = { 1, 2, 3, 2, 3, 3, 9, 10, 11, 10, 11, 11 };
+    private static final int[] INV_Y2 = { 4, 4, 4, 5, 5, 6, 12, 12, 12, 13, 13, 14 };
+    private static final int[] INV_P1 = { 5, 1, 13, 9, 4, 0, 12, 8, 4, 0, 12, 8, 4, 0, 12, 8 };
+    private static final int[] INV_Q1 = { 11, 11, 5, 5, 11, 11, 5, 5, 10, 10, 4, 4, 9, 9, 3, 3 };
+    private static final int[] INV_P2 = { 6, 2, 14, 10, 6, 2, 14, 10, 5, 1, 13, 9, 5, 1, 13, 9 };
+    private static final int[] INV_Q2 = { 10, 10, 4, 4, 8, 8, 2, 2, 8, 8, 2, 2, 7, 7, 1, 1 };
+    private static final int[] INV_P3 = { 7, 3, 15, 11, 7, 3, 15, 11, 7, 3, 15, 11, 6, 2, 14, 10 };
+    private static final int[] INV_Q3 = { 9, 9, 3, 3, 7, 7, 1, 1, 6, 6, 0, 0, 6, 6, 0, 0 };
+
+    /*
+     * Shuffles for the 4x4 transpose, which select from the concatenation of two columns (an index >= 4 refers to the
+     * second column): first interleave the low and high halves of two columns, then combine the halves of two such pairs.
+     * They live in holder classes, which are only initialized once the Vector API is known to be available.
+     */
+    private static final class FloatConstants {
+        static final VectorSpecies<Float> S = FloatVector.SPECIES_128;
+        static final FloatVector SIGNS = FloatVector.fromArray(S, new float[] { 1.0f, -1.0f, 1.0f, -1.0f }, 0);
+        static final VectorShuffle<Float> INTERLEAVE_LO = VectorShuffle.fromValues(S, 0, 4, 1, 5);
+        static final VectorShuffle<Float> INTERLEAVE_HI = VectorShuffle.fromValues(S, 2, 6, 3, 7);
+        static final VectorShuffle<Float> CONCAT_LO = VectorShuffle.fromValues(S, 0, 1, 4, 5);
+        static final VectorShuffle<Float> CONCAT_HI = VectorShuffle.fromValues(S, 2, 3, 6, 7);
+    }
+    private static final class DoubleConstants {
+        static final VectorSpecies<Double> S = DoubleVector.SPECIES_256;
+        static final DoubleVector SIGNS = DoubleVector.fromArray(S, new double[] { 1.0, -1.0, 1.0, -1.0 }, 0);
+        static final VectorShuffle<Double> INTERLEAVE_LO = VectorShuffle.fromValues(S, 0, 4, 1, 5);
+        static final VectorShuffle<Double> INTERLEAVE_HI = VectorShuffle.fromValues(S, 2, 6, 3, 7);
+        static final VectorShuffle<Double> CONCAT_LO = VectorShuffle.fromValues(S, 0, 1, 4, 5);
+        static final VectorShuffle<Double> CONCAT_HI = VectorShuffle.fromValues(S, 2, 3, 6, 7);
+    }
+
+    private static final class Scratch {
+        final float[] fa = new float[16], fb = new float[16], fd = new float[12];
+        final double[] da = new double[16], db = new double[16], dd = new double[12];
+    }
+    private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<Scratch>() {
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    static {
+        boolean _canUseFloatVectors = false, _canUseDoubleVectors = false;
+        String _unavailableReason = "disabled by -Djoml.noVectorApi";
+        if (!Options.NO_VECTOR_API) {
+            try {
+                _canUseFloatVectors = FloatVector.SPECIES_PREFERRED.vectorBitSize() >= 128;
+                _canUseDoubleVectors = DoubleVector.SPECIES_PREFERRED.vectorBitSize() >= 256;
+                _unavailableReason = _canUseDoubleVectors ? null
+                        : "preferred vector size of " + FloatVector.SPECIES_PREFERRED.vectorBitSize() + " bits is too small";
+            } catch (Throwable e) {
+                _unavailableReason = e.getClass().getName() + ": " + e.getMessage();
+                if (Options.DEBUG) {
+                    System.out.println("[JOML] Vector API not available, because: " + e.getClass().getName() + ": " + e.getMessage());
+                }
+            }
+        }
+        canUseFloatVectors = _canUseFloatVectors;
+        canUseDoubleVectors = _canUseDoubleVectors;
+        unavailableReason = _unavailableReason;
+    }
+
+    private static float[] get(Matrix4f m, float[] r) {
+        r[0] = m.m00;  r[1] = m.m01;  r[2] = m.m02;  r[3] = m.m03;
+        r[4] = m.m10;  r[5] = m.m11;  r[6] = m.m12;  r[7] = m.m13;
+        r[8] = m.m20;  r[9] = m.m21;  r[10] = m.m22; r[11] = m.m23;
+        r[12] = m.m30; r[13] = m.m31; r[14] = m.m32; r[15] = m.m33;
+        return r;
+    }
+    private static void set(float[] r, Matrix4f dest) {
+        dest.m00 = r[0];  dest.m01 = r[1];  dest.m02 = r[2];  dest.m03 = r[3];
+        dest.m10 = r[4];  dest.m11 = r[5];  dest.m12 = r[6];  dest.m13 = r[7];
+        dest.m20 = r[8];  dest.m21 = r[9];  dest.m22 = r[10]; dest.m23 = r[11];
+        dest.m30 = r[12]; dest.m31 = r[13]; dest.m32 = r[14]; dest.m33 = r[15];
+    }
+    private static double[] get(Matrix4d m, double[] r) {
+        r[0] = m.m00;  r[1] = m.m01;  r[2] = m.m02;  r[3] = m.m03;
+        r[4] = m.m10;  r[5] = m.m11;  r[6] = m.m12;  r[7] = m.m13;
+        r[8] = m.m20;  r[9] = m.m21;  r[10] = m.m22; r[11] = m.m23;
+        r[12] = m.m30; r[13] = m.m31; r[14] = m.m32; r[15] = m.m33;
+        return r;
+    }
+    private static void set(double[] r, Matrix4d dest) {
+        dest.m00 = r[0];  dest.m01 = r[1];  dest.m02 = r[2];  dest.m03 = r[3];
+        dest.m10 = r[4];  dest.m11 = r[5];  dest.m12 = r[6];  dest.m13 = r[7];
+        dest.m20 = r[8];  dest.m21 = r[9];  dest.m22 = r[10]; dest.m23 = r[11];
+        dest.m30 = r[12]; dest.m31 = r[13]; dest.m32 = r[14]; dest.m33 = r[15];
+    }
+
+    static void mul(Matrix4f a, Matrix4f b, Matrix4f dest) {
+        VectorSpecies<Float> s = FloatVector.SPECIES_128;
+        Scratch sc = SCRATCH.get();
+        float[] am = get(a, sc.fa), bm = get(b, sc.fb);
+        FloatVector c0 = FloatVector.fromArray(s, am, 0), c1 = FloatVector.fromArray(s, am, 4);
+        FloatVector c2 = FloatVector.fromArray(s, am, 8), c3 = FloatVector.fromArray(s, am, 12);
+        for (int i = 0; i < 16; i += 4)
+            c0.fma(FloatVector.broadcast(s, bm[i]),
+            c1.fma(FloatVector.broadcast(s, bm[i + 1]),
+            c2.fma(FloatVector.broadcast(s, bm[i + 2]),
+            c3.mul(bm[i + 3])))).intoArray(am, i);
+        set(am, dest);
+    }
+
+    static void mulAffine(Matrix4f a, Matrix4f b, Matrix4f dest) {
+        VectorSpecies<Float> s = FloatVector.SPECIES_128;
+        Scratch sc = SCRATCH.get();
+        float[] am = get(a, sc.fa), bm = get(b, sc.fb);
+        float m03 = a.m03, m13 = a.m13, m23 = a.m23, m33 = a.m33;
+        FloatVector c0 = FloatVector.fromArray(s, am, 0), c1 = FloatVector.fromArray(s, am, 4);
+        FloatVector c2 = FloatVector.fromArray(s, am, 8), c3 = FloatVector.fromArray(s, am, 12);
+        for (int i = 0; i < 12; i += 4)
+            c0.fma(FloatVector.broadcast(s, bm[i]),
+            c1.fma(FloatVector.broadcast(s, bm[i + 1]),
+            c2.mul(bm[i + 2]))).intoArray(am, i);
+        c0.fma(FloatVector.broadcast(s, bm[12]),
+        c1.fma(FloatVector.broadcast(s, bm[13]),
+        c2.fma(FloatVector.broadcast(s, bm[14]), c3))).intoArray(am, 12);
+        am[3] = m03;
+        am[7] = m13;
+        am[11] = m23;
+        am[15] = m33;
+        set(am, dest);
+    }
+
+    static void invert(Matrix4f a, Matrix4f dest) {
+        VectorSpecies<Float> s = FloatVector.SPECIES_128;
+        Scratch sc = SCRATCH.get();
+        float[] m = get(a, sc.fa), d = sc.fd, r = sc.fb;
+        for (int i = 0; i < 12; i += 4)
+            FloatVector.fromArray(s, m, 0, INV_X1, i).mul(FloatVector.fromArray(s, m, 0, INV_Y1, i))
+            .sub(FloatVector.fromArray(s, m, 0, INV_X2, i).mul(FloatVector.fromArray(s, m, 0, INV_Y2, i)))
+            .intoArray(d, i);
+        float det = d[0] * d[11] - d[1] * d[10] + d[2] * d[9] + d[3] * d[8] - d[4] * d[7] + d[5] * d[6];
+        det = 1.0f / det;
+        FloatVector even = FloatConstants.SIGNS.mul(det), odd = even.neg();
+        for (int i = 0; i < 16; i += 4)
+            FloatVector.fromArray(s, m, 0, INV_P1, i).mul(FloatVector.fromArray(s, d, 0, INV_Q1, i))
+            .sub(FloatVector.fromArray(s, m, 0, INV_P2, i).mul(FloatVector.fromArray(s, d, 0, INV_Q2, i)))
+            .add(FloatVector.fromArray(s, m, 0, INV_P3, i).mul(FloatVector.fromArray(s, d, 0, INV_Q3, i)))
+            .mul((i & 4) == 0 ? even : odd)
+            .intoArray(r, i);
+        set(r, dest);
+    }
+
+    static void transpose(Matrix4f a, Matrix4f dest) {
+        VectorSpecies<Float> s = FloatVector.SPECIES_128;
+        float[] m = get(a, SCRATCH.get().fa);
+        FloatVector c0 = FloatVector.fromArray(s, m, 0), c1 = FloatVector.fromArray(s, m, 4);
+        FloatVector c2 = FloatVector.fromArray(s, m, 8), c3 = FloatVector.fromArray(s, m, 12);
+        FloatVector t0 = c0.rearrange(FloatConstants.INTERLEAVE_LO, c1), t1 = c0.rearrange(FloatConstants.INTERLEAVE_HI, c1);
+        FloatVector t2 = c2.rearrange(FloatConstants.INTERLEAVE_LO, c3), t3 = c2.rearrange(FloatConstants.INTERLEAVE_HI, c3);
+        t0.rearrange(FloatConstants.CONCAT_LO, t2).intoArray(m, 0);
+        t0.rearrange(FloatConstants.CONCAT_HI, t2).intoArray(m, 4);
+        t1.rearrange(FloatConstants.CONCAT_LO, t3).intoArray(m, 8);
+        t1.rearrange(FloatConstants.CONCAT_HI, t3).intoArray(m, 12);
+        set(m, dest);
+    }
+
+    static Vector4f transform(Matrix4f a, float x, float y, float z, float w, Vector4f dest) {
+        VectorSpecies<Float> s = FloatVector.SPECIES_128;
+        float[] m = get(a, SCRATCH.get().fa);
+        FloatVector.fromArray(s, m, 0).fma(FloatVector.broadcast(s, x),
+        FloatVector.fromArray(s, m, 4).fma(FloatVector.broadcast(s, y),
+        FloatVector.fromArray(s, m, 8).fma(FloatVector.broadcast(s, z),
+        FloatVector.fromArray(s, m, 12).mul(w)))).intoArray(m, 0);
+        dest.x = m[0];
+        dest.y = m[1];
+        dest.z = m[2];
+        dest.w = m[3];
+        return dest;
+    }
+
+    static void mul(Matrix4d a, Matrix4d b, Matrix4d dest) {
+        VectorSpecies<Double> s = DoubleVector.SPECIES_256;
+        Scratch sc = SCRATCH.get();
+        double[] am = get(a, sc.da), bm = get(b, sc.db);
+        DoubleVector c0 = DoubleVector.fromArray(s, am, 0), c1 = DoubleVector.fromArray(s, am, 4);
+        DoubleVector c2 = DoubleVector.fromArray(s, am, 8), c3 = DoubleVector.fromArray(s, am, 12);
+        for (int i = 0; i < 16; i += 4)
+            c0.fma(DoubleVector.broadcast(s, bm[i]),
+            c1.fma(DoubleVector.broadcast(s, bm[i + 1]),
+            c2.fma(DoubleVector.broadcast(s, bm[i + 2]),
+            c3.mul(bm[i + 3])))).intoArray(am, i);
+        set(am, dest);
+    }
+
+    static void mulAffine(Matrix4d a, Matrix4d b, Matrix4d dest) {
+        VectorSpecies<Double> s = DoubleVector.SPECIES_256;
+        Scratch sc = SCRATCH.get();
+        double[] am = get(a, sc.da), bm = get(b, sc.db);
+        double m03 = a.m03, m13 = a.m13, m23 = a.m23, m33 = a.m33;
+        DoubleVector c0 = DoubleVector.fromArray(s, am, 0), c1 = DoubleVector.fromArray(s, am, 4);
+        DoubleVector c2 = DoubleVector.fromArray(s, am, 8), c3 = DoubleVector.fromArray(s, am, 12);
+        for (int i = 0; i < 12; i += 4)
+            c0.fma(DoubleVector.broadcast(s, bm[i]),
+            c1.fma(DoubleVector.broadcast(s, bm[i + 1]),
+            c2.mul(bm[i + 2]))).intoArray(am, i);
+        c0.fma(DoubleVector.broadcast(s, bm[12]),
+        c1.fma(DoubleVector.broadcast(s, bm[13]),
+        c2.fma(DoubleVector.broadcast(s, bm[14]), c3))).intoArray(am, 12);
+        am[3] = m03;
+        am[7] = m13;
+        am[11] = m23;
+        am[15] = m33;
+        set(am, dest);
+    }
+
+    static void invert(Matrix4d a, Matrix4d dest) {
+        VectorSpecies<Double> s = DoubleVector.SPECIES_256;
+        Scratch sc = SCRATCH.get();
+        double[] m = get(a, sc.da), d = sc.dd, r = sc.db;
+        for (int i = 0; i < 12; i += 4)
+            DoubleVector.fromArray(s, m, 0, INV_X1, i).mul(DoubleVector.fromArray(s, m, 0, INV_Y1, i))
+            .sub(DoubleVector.fromArray(s, m, 0, INV_X2, i).mul(DoubleVector.fromArray(s, m, 0, INV_Y2, i)))
+            .intoArray(d, i);
+        double det = d[0] * d[11] - d[1] * d[10] + d[2] * d[9] + d[3] * d[8] - d[4] * d[7] + d[5] * d[6];
+        det = 1.0 / det;
+        DoubleVector even = DoubleConstants.SIGNS.mul(det), odd = even.neg();
+        for (int i = 0; i < 16; i += 4)
+            DoubleVector.fromArray(s, m, 0, INV_P1, i).mul(DoubleVector.fromArray(s, d, 0, INV_Q1, i))
+            .sub(DoubleVector.fromArray(s, m, 0, INV_P2, i).mul(DoubleVector.fromArray(s, d, 0, INV_Q2, i)))
+            .add(DoubleVector.fromArray(s, m, 0, INV_P3, i).mul(DoubleVector.fromArray(s, d, 0, INV_Q3, i)))
+            .mul((i & 4) == 0 ? even : odd)
+            .intoArray(r, i);
+        set(r, dest);
+    }
+
+    static void transpose(Matrix4d a, Matrix4d dest) {
+        VectorSpecies<Double> s = DoubleVector.SPECIES_256;
+        double[] m = get(a, SCRATCH.get().da);
+        DoubleVector c0 = DoubleVector.fromArray(s, m, 0), c1 = DoubleVector.fromArray(s, m, 4);
+        DoubleVector c2 = DoubleVector.fromArray(s, m, 8), c3 = DoubleVector.fromArray(s, m, 12);
+        DoubleVector t0 = c0.rearrange(DoubleConstants.INTERLEAVE_LO, c1), t1 = c0.rearrange(DoubleConstants.INTERLEAVE_HI, c1);
+        DoubleVector t2 = c2.rearrange(DoubleConstants.INTERLEAVE_LO, c3), t3 = c2.rearrange(DoubleConstants.INTERLEAVE_HI, c3);
+        t0.rearrange(DoubleConstants.CONCAT_LO, t2).intoArray(m, 0);
+        t0.rearrange(DoubleConstants.CONCAT_HI, t2).intoArray(m, 4);
+        t1.rearrange(DoubleConstants.CONCAT_LO, t3).intoArray(m, 8);
+        t1.rearrange(DoubleConstants.CONCAT_HI, t3).intoArray(m, 12);
+        set(m, dest);
+    }
+
+    static Vector4d transform(Matrix4d a, double x, double y, double z, double w, Vector4d dest) {
+        VectorSpecies<Double> s = DoubleVector.SPECIES_256;
+        double[] m = get(a, SCRATCH.get().da);
+        DoubleVector.fromArray(s, m, 0).fma(DoubleVector.broadcast(s, x),
+        DoubleVector.fromArray(s, m, 4).fma(DoubleVector.broadcast(s, y),
+        DoubleVector.fromArray(s, m, 8).fma(DoubleVector.broadcast(s, z),
+        DoubleVector.fromArray(s, m, 12).mul(w)))).intoArray(m, 0);
+        dest.x = m[0];
+        dest.y = m[1];
+        dest.z = m[2];
+        dest.w = m[3];
+        return dest;
+    }
+}
+//#endif
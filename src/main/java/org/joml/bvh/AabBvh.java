@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.bvh;
+
+import org.joml.Intersectionf;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+
+/**
+ * {@link Bvh} over a set of axis-aligned boxes, such as the bounds of objects in a scene.
+ * <p>
+ * The boxes are given in structure-of-arrays layout: primitive <code>i</code> of this {@link Bvh} is the box with the minimum corner
+ * <code>(minX[i], minY[i], minZ[i])</code> and the maximum corner <code>(maxX[i], maxY[i], maxZ[i])</code>. All arrays are referenced,
+ * not copied, so the {@link Bvh} must be {@link #build() rebuilt} after modifying them.
+ */
+public class AabBvh extends Bvh {
+
+    private final float[] minX, minY, minZ, maxX, maxY, maxZ;
+
+    /**
+     * Create a new {@link AabBvh} over the first <code>count</code> boxes of the given arrays.
+     * 
+     * @param minX
+     *          the x coordinates of the minimum corners
+     * @param minY
+     *          the y coordinates of the minimum corners
+     * @param minZ
+     *          the z coordinates of the minimum corners
+     * @param maxX
+     *          the x coordinates of the maximum corners
+     * @param maxY
+     *          the y coordinates of the maximum corners
+     * @param maxZ
+     *          the z coordinates of the maximum corners
+     * @param count
+     *          the number of boxes
+     */
+    public AabBvh(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int count) {
+        super(count);
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    void bounds(int primitive, float[] dest, int offset) {
+        dest[offset] = minX[primitive];
+        dest[offset + 1] = minY[primitive];
+        dest[offset + 2] = minZ[primitive];
+        dest[offset + 3] = maxX[primitive];
+        dest[offset + 4] = maxY[primitive];
+        dest[offset + 5] = maxZ[primitive];
+    }
+
+    boolean intersectRay(int primitive, float originX, float originY, float originZ, float dirX, float dirY, float dirZ, Vector2f result) {
+        return intersectRayAab(originX, originY, originZ, dirX, dirY, dirZ,
+                minX[primitive], minY[primitive], minZ[primitive], maxX[primitive], maxY[primitive], maxZ[primitive], result);
+    }
+
+    boolean testAab(int primitive, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        return Intersectionf.testAabAab(this.minX[primitive], this.minY[primitive], this.minZ[primitive],
+                this.maxX[primitive], this.maxY[primitive], this.maxZ[primitive], minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    float closestPoint(int primitive, float x, float y, float z, Vector3f dest) {
+        dest.x = Math.min(Math.max(x, minX[primitive]), maxX[primitive]);
+        dest.y = Math.min(Math.max(y, minY[primitive]), maxY[primitive]);
+        dest.z = Math.min(Math.max(z, minZ[primitive]), maxZ[primitive]);
+        float dx = dest.x - x, dy = dest.y - y, dz = dest.z - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -0,0 +1,747 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.bvh;
+
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+
+/**
+ * Bounding volume hierarchy over a fixed set of primitives, built top-down using the binned surface area heuristic (SAH).
+ * <p>
+ * All nodes are stored in flat primitive arrays in depth-first order: the left child of an inner node directly follows its parent,
+ * and only the index of the right child is stored explicitly. Leaves reference a contiguous range of a permutation of the primitive
+ * indices.
+ * <p>
+ * A {@link Bvh} must be {@link #build() built} before it can be queried, and must be rebuilt whenever the primitives change.
+ * After it has been built, all query methods are thread-safe and can be called concurrently.
+ * 
+ * @see TriangleBvh
+ * @see AabBvh
+ */
+public abstract class Bvh {
+
+    /**
+     * The default maximum number of primitives stored in a single leaf.
+     */
+    public static final int DEFAULT_MAX_LEAF_SIZE = 4;
+
+    /**
+     * The number of bins per axis used to evaluate the surface area heuristic.
+     */
+    private static final int NUM_BINS = 16;
+
+    /**
+     * Primitive ranges smaller than this are always built by the current thread in {@link #build(int, int)}.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final int primitiveCount;
+
+    /**
+     * The bounds of each node as <code>(minX, minY, minZ, maxX, maxY, maxZ)</code>.
+     */
+    private float[] nodeBounds = new float[0];
+
+    /**
+     * Two ints per node. For an inner node: the index of its right child, followed by <code>0</code>.
+     * For a leaf: the index of its first primitive in {@link #primitives}, followed by the number of primitives.
+     */
+    private int[] nodeData = new int[0];
+
+    /**
+     * Permutation of all primitive indices, such that the primitives of each leaf are stored contiguously.
+     */
+    private int[] primitives = new int[0];
+
+    private int nodeCount;
+
+    Bvh(int primitiveCount) {
+        if (primitiveCount < 0)
+            throw new IllegalArgumentException("primitiveCount must be >= 0"); //$NON-NLS-1$
+        this.primitiveCount = primitiveCount;
+    }
+
+    /**
+     * Store the bounds of the given primitive as <code>(minX, minY, minZ, maxX, maxY, maxZ)</code> into <code>dest</code>.
+     */
+    abstract void bounds(int primitive, float[] dest, int offset);
+
+    /**
+     * Intersect the given ray with the given primitive and store the near and far values of the parameter <i>t</i> of the points of
+     * intersection into <code>result</code>.
+     */
+    abstract boolean intersectRay(int primitive, float originX, float originY, float originZ, float dirX, float dirY, float dirZ, Vector2f result);
+
+    /**
+     * Test whether the given primitive intersects the given axis-aligned box.
+     */
+    abstract boolean testAab(int primitive, float minX, float minY, float minZ, float maxX, float maxY, float maxZ);
+
+    /**
+     * Store the point on the given primitive closest to <code>(x, y, z)</code> into <code>dest</code> and return its squared distance.
+     */
+    abstract float closestPoint(int primitive, float x, float y, float z, Vector3f dest);
+
+    /**
+     * Return the number of primitives in this {@link Bvh}.
+     * 
+     * @return the number of primitives
+     */
+    public int primitiveCount() {
+        return primitiveCount;
+    }
+
+    /**
+     * Return the number of nodes of this {@link Bvh}, which is <code>0</code> until it has been {@link #build() built}.
+     * 
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Build this {@link Bvh} on the current thread with at most {@link #DEFAULT_MAX_LEAF_SIZE} primitives per leaf.
+     * 
+     * @see #build(int, int)
+     * 
+     * @return this
+     */
+    public Bvh build() {
+        return build(DEFAULT_MAX_LEAF_SIZE, 1);
+    }
+
+    /**
+     * Build this {@link Bvh} with at most <code>maxLeafSize</code> primitives per leaf, using up to <code>threads</code> threads.
+     * <p>
+     * Nodes are split at the plane minimizing the surface area heuristic among 16 bins per axis, until they contain
+     * at most <code>maxLeafSize</code> primitives.
+     * <p>
+     * When <code>threads</code> is greater than one, the build works fork-join style: each node with enough primitives hands the
+     * build of one of its subtrees to a new thread and builds the other subtree itself, splitting the remaining thread budget
+     * between the two. Since every subtree owns a disjoint range of nodes and primitives, no synchronization is needed until the
+     * forked thread is joined. The resulting hierarchy is identical to the one built with a single thread.
+     * 
+     * @param maxLeafSize
+     *          the maximum number of primitives per leaf
+     * @param threads
+     *          the maximum number of threads to use
+     * @return this
+     */
+    public Bvh build(int maxLeafSize, int threads) {
+        if (maxLeafSize < 1)
+            throw new IllegalArgumentException("maxLeafSize must be >= 1"); //$NON-NLS-1$
+        if (threads < 1)
+            throw new IllegalArgumentException("threads must be >= 1"); //$NON-NLS-1$
+        int n = primitiveCount;
+        int[] prims = new int[n];
+        for (int i = 0; i < n; i++)
+            prims[i] = i;
+        if (n == 0) {
+            nodeBounds = new float[0];
+            nodeData = new int[0];
+            primitives = prims;
+            nodeCount = 0;
+            return this;
+        }
+        float[] primBounds = new float[6 * n];
+        float[] centroids = new float[3 * n];
+        for (int i = 0; i < n; i++) {
+            bounds(i, primBounds, 6 * i);
+            centroids[3 * i]     = (primBounds[6 * i]     + primBounds[6 * i + 3]) * 0.5f;
+            centroids[3 * i + 1] = (primBounds[6 * i + 1] + primBounds[6 * i + 4]) * 0.5f;
+            centroids[3 * i + 2] = (primBounds[6 * i + 2] + primBounds[6 * i + 5]) * 0.5f;
+        }
+        /*
+         * A binary tree with at most n leaves has at most 2n - 1 nodes. Reserving that many nodes for the subtree of every
+         * primitive range allows each subtree to be built independently without any shared allocation state.
+         */
+        NodeBuilder builder = new NodeBuilder(primBounds, centroids, prims, maxLeafSize, 2 * n - 1);
+        builder.build(0, 0, n, threads, new Bins());
+        compact(builder);
+        primitives = prims;
+        return this;
+    }
+
+    /**
+     * Copy the sparsely allocated nodes of the given builder into densely packed depth-first order.
+     */
+    private void compact(NodeBuilder builder) {
+        float[] srcBounds = builder.nodeBounds;
+        int[] srcData = builder.nodeData;
+        int count = builder.countNodes(0);
+        float[] bounds = new float[6 * count];
+        int[] data = new int[2 * count];
+        int[] stack = new int[64];
+        int sp = 0, pos = 0;
+        stack[sp++] = 0;
+        stack[sp++] = -1;
+        while (sp > 0) {
+            int patch = stack[--sp], node = stack[--sp];
+            int idx = pos++;
+            if (patch >= 0)
+                data[2 * patch] = idx;
+            System.arraycopy(srcBounds, 6 * node, bounds, 6 * idx, 6);
+            if (srcData[2 * node + 1] > 0) {
+                data[2 * idx] = srcData[2 * node];
+                data[2 * idx + 1] = srcData[2 * node + 1];
+            } else {
+                if (sp + 4 > stack.length)
+                    stack = grow(stack);
+                stack[sp++] = srcData[2 * node];
+                stack[sp++] = idx;
+                stack[sp++] = node + 1;
+                stack[sp++] = -1;
+            }
+        }
+        nodeBounds = bounds;
+        nodeData = data;
+        nodeCount = count;
+    }
+
+    private static int[] grow(int[] stack) {
+        int[] newStack = new int[stack.length * 2];
+        System.arraycopy(stack, 0, newStack, 0, stack.length);
+        return newStack;
+    }
+
+    /**
+     * Scratch arrays for evaluating the binned SAH of a single node, owned by a single build thread.
+     */
+    private static final class Bins {
+        final int[] counts = new int[NUM_BINS];
+        final float[] bounds = new float[6 * NUM_BINS];
+        final float[] rightCost = new float[NUM_BINS];
+    }
+
+    /**
+     * Thread building one subtree of a {@link NodeBuilder}.
+     */
+    private static final class BuildThread extends Thread {
+        private final NodeBuilder builder;
+        private final int node, start, end, threads;
+        Throwable error;
+
+        BuildThread(NodeBuilder builder, int node, int start, int end, int threads) {
+            super("JOML BVH builder"); //$NON-NLS-1$
+            this.builder = builder;
+            this.node = node;
+            this.start = start;
+            this.end = end;
+            this.threads = threads;
+            setDaemon(true);
+        }
+
+        public void run() {
+            try {
+                builder.build(node, start, end, threads, new Bins());
+            } catch (Throwable t) {
+                error = t;
+            }
+        }
+    }
+
+    /**
+     * Recursive binned SAH builder writing into sparsely allocated node arrays.
+     */
+    private static final class NodeBuilder {
+        final float[] primBounds, centroids;
+        final int[] prims;
+        final int maxLeafSize;
+        final float[] nodeBounds;
+        final int[] nodeData;
+
+        NodeBuilder(float[] primBounds, float[] centroids, int[] prims, int maxLeafSize, int reservedNodes) {
+            this.primBounds = primBounds;
+            this.centroids = centroids;
+            this.prims = prims;
+            this.maxLeafSize = maxLeafSize;
+            this.nodeBounds = new float[6 * reservedNodes];
+            this.nodeData = new int[2 * reservedNodes];
+        }
+
+        int countNodes(int node) {
+            int count = 0;
+            int[] stack = new int[64];
+            int sp = 0;
+            stack[sp++] = node;
+            while (sp > 0) {
+                int n = stack[--sp];
+                count++;
+                if (nodeData[2 * n + 1] == 0) {
+                    if (sp + 2 > stack.length)
+                        stack = grow(stack);
+                    stack[sp++] = nodeData[2 * n];
+                    stack[sp++] = n + 1;
+                }
+            }
+            return count;
+        }
+
+        void build(int node, int start, int end, int threads, Bins bins) {
+            float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+            float cminX = Float.POSITIVE_INFINITY, cminY = Float.POSITIVE_INFINITY, cminZ = Float.POSITIVE_INFINITY;
+            float cmaxX = Float.NEGATIVE_INFINITY, cmaxY = Float.NEGATIVE_INFINITY, cmaxZ = Float.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                int p = prims[i], b = 6 * p, c = 3 * p;
+                minX = Math.min(minX, primBounds[b]);     minY = Math.min(minY, primBounds[b + 1]); minZ = Math.min(minZ, primBounds[b + 2]);
+                maxX = Math.max(maxX, primBounds[b + 3]); maxY = Math.max(maxY, primBounds[b + 4]); maxZ = Math.max(maxZ, primBounds[b + 5]);
+                cminX = Math.min(cminX, centroids[c]);     cminY = Math.min(cminY, centroids[c + 1]); cminZ = Math.min(cminZ, centroids[c + 2]);
+                cmaxX = Math.max(cmaxX, centroids[c]);     cmaxY = Math.max(cmaxY, centroids[c + 1]); cmaxZ = Math.max(cmaxZ, centroids[c + 2]);
+            }
+            int nb = 6 * node;
+            nodeBounds[nb] = minX;     nodeBounds[nb + 1] = minY; nodeBounds[nb + 2] = minZ;
+            nodeBounds[nb + 3] = maxX; nodeBounds[nb + 4] = maxY; nodeBounds[nb + 5] = maxZ;
+            int count = end - start;
+            if (count <= maxLeafSize) {
+                nodeData[2 * node] = start;
+                nodeData[2 * node + 1] = count;
+                return;
+            }
+            int mid = split(start, end, cminX, cminY, cminZ, cmaxX, cmaxY, cmaxZ, bins);
+            int left = node + 1, right = node + 2 * (mid - start);
+            nodeData[2 * node] = right;
+            nodeData[2 * node + 1] = 0;
+            if (threads > 1 && count >= PARALLEL_THRESHOLD) {
+                BuildThread thread = new BuildThread(this, right, mid, end, threads - threads / 2);
+                thread.start();
+                build(left, start, mid, threads / 2, bins);
+                join(thread);
+                if (thread.error instanceof RuntimeException)
+                    throw (RuntimeException) thread.error;
+                else if (thread.error instanceof Error)
+                    throw (Error) thread.error;
+            } else {
+                build(left, start, mid, threads, bins);
+                build(right, mid, end, threads, bins);
+            }
+        }
+
+        private static void join(Thread thread) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        /**
+         * Partition the given primitive range at the split plane with the lowest SAH cost and return the index of the first
+         * primitive of the right partition.
+         */
+        private int split(int start, int end, float cminX, float cminY, float cminZ, float cmaxX, float cmaxY, float cmaxZ, Bins bins) {
+            int bestAxis = -1, bestBin = 0;
+            float bestCost = Float.POSITIVE_INFINITY;
+            for (int axis = 0; axis < 3; axis++) {
+                float cmin = axis == 0 ? cminX : axis == 1 ? cminY : cminZ;
+                float extent = (axis == 0 ? cmaxX : axis == 1 ? cmaxY : cmaxZ) - cmin;
+                if (!(extent > 0.0f))
+                    continue;
+                float scale = NUM_BINS / extent;
+                int[] counts = bins.counts;
+                float[] bb = bins.bounds;
+                for (int i = 0; i < NUM_BINS; i++) {
+                    counts[i] = 0;
+                    bb[6 * i] = bb[6 * i + 1] = bb[6 * i + 2] = Float.POSITIVE_INFINITY;
+                    bb[6 * i + 3] = bb[6 * i + 4] = bb[6 * i + 5] = Float.NEGATIVE_INFINITY;
+                }
+                for (int i = start; i < end; i++) {
+                    int p = prims[i], b = 6 * p;
+                    int bin = bin(centroids[3 * p + axis], cmin, scale);
+                    counts[bin]++;
+                    int o = 6 * bin;
+                    bb[o]     = Math.min(bb[o],     primBounds[b]);
+                    bb[o + 1] = Math.min(bb[o + 1], primBounds[b + 1]);
+                    bb[o + 2] = Math.min(bb[o + 2], primBounds[b + 2]);
+                    bb[o + 3] = Math.max(bb[o + 3], primBounds[b + 3]);
+                    bb[o + 4] = Math.max(bb[o + 4], primBounds[b + 4]);
+                    bb[o + 5] = Math.max(bb[o + 5], primBounds[b + 5]);
+                }
+                /* Sweep from the right to compute the cost of all right partitions, then from the left to evaluate each split */
+                float[] rightCost = bins.rightCost;
+                float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+                float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+                int n = 0;
+                for (int i = NUM_BINS - 1; i > 0; i--) {
+                    int o = 6 * i;
+                    minX = Math.min(minX, bb[o]);     minY = Math.min(minY, bb[o + 1]); minZ = Math.min(minZ, bb[o + 2]);
+                    maxX = Math.max(maxX, bb[o + 3]); maxY = Math.max(maxY, bb[o + 4]); maxZ = Math.max(maxZ, bb[o + 5]);
+                    n += counts[i];
+                    rightCost[i] = n == 0 ? 0.0f : n * halfArea(minX, minY, minZ, maxX, maxY, maxZ);
+                }
+                minX = minY = minZ = Float.POSITIVE_INFINITY;
+                maxX = maxY = maxZ = Float.NEGATIVE_INFINITY;
+                n = 0;
+                for (int i = 0; i < NUM_BINS - 1; i++) {
+                    int o = 6 * i;
+                    minX = Math.min(minX, bb[o]);     minY = Math.min(minY, bb[o + 1]); minZ = Math.min(minZ, bb[o + 2]);
+                    maxX = Math.max(maxX, bb[o + 3]); maxY = Math.max(maxY, bb[o + 4]); maxZ = Math.max(maxZ, bb[o + 5]);
+                    n += counts[i];
+                    if (n == 0 || n == end - start)
+                        continue;
+                    float cost = n * halfArea(minX, minY, minZ, maxX, maxY, maxZ) + rightCost[i + 1];
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestAxis = axis;
+                        bestBin = i;
+                    }
+                }
+            }
+            if (bestAxis == -1) {
+                /* All centroids coincide, so no plane separates them; split the range in half */
+                return (start + end) >>> 1;
+            }
+            float cmin = bestAxis == 0 ? cminX : bestAxis == 1 ? cminY : cminZ;
+            float scale = NUM_BINS / ((bestAxis == 0 ? cmaxX : bestAxis == 1 ? cmaxY : cmaxZ) - cmin);
+            int i = start, j = end - 1;
+            while (i <= j) {
+                if (bin(centroids[3 * prims[i] + bestAxis], cmin, scale) <= bestBin) {
+                    i++;
+                } else {
+                    int t = prims[i];
+                    prims[i] = prims[j];
+                    prims[j--] = t;
+                }
+            }
+            return i;
+        }
+
+        private static int bin(float c, float cmin, float scale) {
+            int bin = (int) ((c - cmin) * scale);
+            return bin < NUM_BINS ? bin : NUM_BINS - 1;
+        }
+
+        private static float halfArea(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+            float dx = maxX - minX, dy = maxY - minY, dz = maxZ - minZ;
+            return dx * dy + dy * dz + dz * dx;
+        }
+    }
+
+    /**
+     * Determine the primitive closest to the origin of the given ray which is intersected by the ray within <code>[0, maxT]</code>.
+     * <p>
+     * The ray direction does not need to be normalized. If the ray origin lies inside a primitive, the near value stored in
+     * <code>result</code> is <code>0</code>.
+     * 
+     * @param originX
+     *          the x coordinate of the ray's origin
+     * @param originY
+     *          the y coordinate of the ray's origin
+     * @param originZ
+     *          the z coordinate of the ray's origin
+     * @param dirX
+     *          the x coordinate of the ray's direction
+     * @param dirY
+     *          the y coordinate of the ray's direction
+     * @param dirZ
+     *          the z coordinate of the ray's direction
+     * @param maxT
+     *          the maximum value of the parameter <i>t</i> in the ray equation <i>p(t) = origin + t * dir</i> to consider
+     * @param result
+     *          will hold the values of the parameter <i>t</i> in the ray equation <i>p(t) = origin + t * dir</i> of the near and far point of intersection
+     *          with the closest primitive, if any
+     * @return the index of the closest intersected primitive, or <code>-1</code> if no primitive was intersected
+     */
+    public int intersectRay(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxT, Vector2f result) {
+        if (nodeCount == 0)
+            return -1;
+        float invDirX = 1.0f / dirX, invDirY = 1.0f / dirY, invDirZ = 1.0f / dirZ;
+        float best = maxT, bestFar = maxT;
+        int hit = -1;
+        Vector2f t = new Vector2f();
+        int[] stack = new int[64];
+        int sp = 0;
+        int node = rayNode(0, originX, originY, originZ, invDirX, invDirY, invDirZ, best) <= best ? 0 : -1;
+        while (node != -1) {
+            int count = nodeData[2 * node + 1];
+            if (count > 0) {
+                for (int i = nodeData[2 * node], end = i + count; i < end; i++) {
+                    int p = primitives[i];
+                    if (intersectRay(p, originX, originY, originZ, dirX, dirY, dirZ, t) && t.y >= 0.0f && Math.max(t.x, 0.0f) <= best) {
+                        best = Math.max(t.x, 0.0f);
+                        bestFar = t.y;
+                        hit = p;
+                    }
+                }
+                node = -1;
+            } else {
+                int left = node + 1, right = nodeData[2 * node];
+                float tl = rayNode(left, originX, originY, originZ, invDirX, invDirY, invDirZ, best);
+                float tr = rayNode(right, originX, originY, originZ, invDirX, invDirY, invDirZ, best);
+                boolean hl = tl <= best, hr = tr <= best;
+                if (hl && hr) {
+                    if (sp + 2 > stack.length)
+                        stack = grow(stack);
+                    stack[sp++] = tl <= tr ? right : left;
+                    stack[sp++] = Float.floatToIntBits(tl <= tr ? tr : tl);
+                    node = tl <= tr ? left : right;
+                } else {
+                    node = hl ? left : hr ? right : -1;
+                }
+            }
+            /* Pop the next node whose entry point is still closer than the closest hit */
+            while (node == -1 && sp > 0) {
+                float entry = Float.intBitsToFloat(stack[--sp]);
+                int n = stack[--sp];
+                if (entry <= best)
+                    node = n;
+            }
+        }
+        if (hit != -1) {
+            result.x = best;
+            result.y = bestFar;
+        }
+        return hit;
+    }
+
+    /**
+     * Test whether the given ray intersects any primitive within <code>[0, maxT]</code>.
+     * <p>
+     * This is cheaper than {@link #intersectRay(float, float, float, float, float, float, float, Vector2f)} as it stops at the first
+     * primitive found, which is useful for occlusion and shadow rays. The ray direction does not need to be normalized.
+     * 
+     * @param originX
+     *          the x coordinate of the ray's origin
+     * @param originY
+     *          the y coordinate of the ray's origin
+     * @param originZ
+     *          the z coordinate of the ray's origin
+     * @param dirX
+     *          the x coordinate of the ray's direction
+     * @param dirY
+     *          the y coordinate of the ray's direction
+     * @param dirZ
+     *          the z coordinate of the ray's direction
+     * @param maxT
+     *          the maximum value of the parameter <i>t</i> in the ray equation <i>p(t) = origin + t * dir</i> to consider
+     * @return <code>true</code> if the ray intersects any primitive; <code>false</code> otherwise
+     */
+    public boolean testRay(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxT) {
+        if (nodeCount == 0)
+            return false;
+        float invDirX = 1.0f / dirX, invDirY = 1.0f / dirY, invDirZ = 1.0f / dirZ;
+        Vector2f t = new Vector2f();
+        int[] stack = new int[64];
+        int sp = 0;
+        stack[sp++] = 0;
+        while (sp > 0) {
+            int node = stack[--sp];
+            if (rayNode(node, originX, originY, originZ, invDirX, invDirY, invDirZ, maxT) > maxT)
+                continue;
+            int count = nodeData[2 * node + 1];
+            if (count > 0) {
+                for (int i = nodeData[2 * node], end = i + count; i < end; i++)
+                    if (intersectRay(primitives[i], originX, originY, originZ, dirX, dirY, dirZ, t) && t.y >= 0.0f && t.x <= maxT)
+                        return true;
+            } else {
+                if (sp + 2 > stack.length)
+                    stack = grow(stack);
+                stack[sp++] = nodeData[2 * node];
+                stack[sp++] = node + 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the value of the parameter <i>t</i> at which the given ray enters the bounds of the given node,
+     * or {@link Float#POSITIVE_INFINITY} if the ray misses them or enters them beyond <code>maxT</code>.
+     */
+    private float rayNode(int node, float originX, float originY, float originZ, float invDirX, float invDirY, float invDirZ, float maxT) {
+        int b = 6 * node;
+        float tx0 = (nodeBounds[b] - originX) * invDirX, tx1 = (nodeBounds[b + 3] - originX) * invDirX;
+        float ty0 = (nodeBounds[b + 1] - originY) * invDirY, ty1 = (nodeBounds[b + 4] - originY) * invDirY;
+        float tz0 = (nodeBounds[b + 2] - originZ) * invDirZ, tz1 = (nodeBounds[b + 5] - originZ) * invDirZ;
+        float tNear = Math.max(Math.max(slabNear(tx0, tx1), slabNear(ty0, ty1)), slabNear(tz0, tz1));
+        float tFar = Math.min(Math.min(slabFar(tx0, tx1), slabFar(ty0, ty1)), slabFar(tz0, tz1));
+        return tNear <= tFar && tFar >= 0.0f && tNear <= maxT ? tNear : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Intersect the given ray with the given axis-aligned box using the same slab test as the node bounds, which, unlike {@link org.joml.Intersectionf#intersectRayAab(float, float, float, float, float, float, float, float, float, float, float, float, Vector2f)},
+     * also reports a ray running along a face or an edge of the box.
+     */
+    static boolean intersectRayAab(float originX, float originY, float originZ, float dirX, float dirY, float dirZ,
+            float minX, float minY, float minZ, float maxX, float maxY, float maxZ, Vector2f result) {
+        float invDirX = 1.0f / dirX, invDirY = 1.0f / dirY, invDirZ = 1.0f / dirZ;
+        float tx0 = (minX - originX) * invDirX, tx1 = (maxX - originX) * invDirX;
+        float ty0 = (minY - originY) * invDirY, ty1 = (maxY - originY) * invDirY;
+        float tz0 = (minZ - originZ) * invDirZ, tz1 = (maxZ - originZ) * invDirZ;
+        float tNear = Math.max(Math.max(slabNear(tx0, tx1), slabNear(ty0, ty1)), slabNear(tz0, tz1));
+        float tFar = Math.min(Math.min(slabFar(tx0, tx1), slabFar(ty0, ty1)), slabFar(tz0, tz1));
+        if (tNear <= tFar && tFar >= 0.0f) {
+            result.x = tNear;
+            result.y = tFar;
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * The entry and exit values of t of a slab. A value is NaN (0 * infinity) only when the ray runs parallel to the slab and starts
+     * on one of its planes, so it lies within the slab for all t and the NaN is replaced by the unbounded value.
+     */
+    private static float slabNear(float t0, float t1) {
+        return Math.min(t0 != t0 ? Float.NEGATIVE_INFINITY : t0, t1 != t1 ? Float.NEGATIVE_INFINITY : t1);
+    }
+    private static float slabFar(float t0, float t1) {
+        return Math.max(t0 != t0 ? Float.POSITIVE_INFINITY : t0, t1 != t1 ? Float.POSITIVE_INFINITY : t1);
+    }
+
+    /**
+     * Determine all primitives intersecting the given axis-aligned box and store their indices consecutively in <code>dest</code>.
+     * <p>
+     * If <code>dest</code> has no room for all intersecting primitives, only the first <code>dest.length - destOffset</code> of them are stored,
+     * but all of them are counted in the returned value.
+     * 
+     * @param minX
+     *          the x coordinate of the minimum corner of the box
+     * @param minY
+     *          the y coordinate of the minimum corner of the box
+     * @param minZ
+     *          the z coordinate of the minimum corner of the box
+     * @param maxX
+     *          the x coordinate of the maximum corner of the box
+     * @param maxY
+     *          the y coordinate of the maximum corner of the box
+     * @param maxZ
+     *          the z coordinate of the maximum corner of the box
+     * @param dest
+     *          will hold the indices of the intersecting primitives
+     * @param destOffset
+     *          the index in <code>dest</code> at which to store the first index
+     * @return the number of primitives intersecting the box
+     */
+    public int testAab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int[] dest, int destOffset) {
+        if (nodeCount == 0)
+            return 0;
+        int found = 0, capacity = dest.length - destOffset;
+        int[] stack = new int[64];
+        int sp = 0;
+        stack[sp++] = 0;
+        while (sp > 0) {
+            int node = stack[--sp], b = 6 * node;
+            if (nodeBounds[b] > maxX || nodeBounds[b + 1] > maxY || nodeBounds[b + 2] > maxZ ||
+                nodeBounds[b + 3] < minX || nodeBounds[b + 4] < minY || nodeBounds[b + 5] < minZ)
+                continue;
+            int count = nodeData[2 * node + 1];
+            if (count > 0) {
+                for (int i = nodeData[2 * node], end = i + count; i < end; i++) {
+                    int p = primitives[i];
+                    if (testAab(p, minX, minY, minZ, maxX, maxY, maxZ)) {
+                        if (found < capacity)
+                            dest[destOffset + found] = p;
+                        found++;
+                    }
+                }
+            } else {
+                if (sp + 2 > stack.length)
+                    stack = grow(stack);
+                stack[sp++] = nodeData[2 * node];
+                stack[sp++] = node + 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Determine the point on any primitive which is closest to the point <code>(x, y, z)</code> and not farther away than <code>maxDistance</code>.
+     * 
+     * @param x
+     *          the x coordinate of the query point
+     * @param y
+     *          the y coordinate of the query point
+     * @param z
+     *          the z coordinate of the query point
+     * @param maxDistance
+     *          the maximum distance to search, which may be {@link Float#POSITIVE_INFINITY}
+     * @param dest
+     *          will hold the closest point, if any
+     * @return the index of the primitive containing the closest point, or <code>-1</code> if no primitive is within <code>maxDistance</code>
+     */
+    public int closestPoint(float x, float y, float z, float maxDistance, Vector3f dest) {
+        if (nodeCount == 0)
+            return -1;
+        float best = maxDistance * maxDistance;
+        float bestX = 0.0f, bestY = 0.0f, bestZ = 0.0f;
+        int hit = -1;
+        Vector3f p = new Vector3f();
+        int[] stack = new int[64];
+        int sp = 0;
+        stack[sp++] = 0;
+        stack[sp++] = Float.floatToIntBits(distanceSquared(0, x, y, z));
+        while (sp > 0) {
+            float d = Float.intBitsToFloat(stack[--sp]);
+            int node = stack[--sp];
+            if (d > best)
+                continue;
+            int count = nodeData[2 * node + 1];
+            if (count > 0) {
+                for (int i = nodeData[2 * node], end = i + count; i < end; i++) {
+                    int prim = primitives[i];
+                    float dp = closestPoint(prim, x, y, z, p);
+                    if (dp <= best) {
+                        best = dp;
+                        bestX = p.x;
+                        bestY = p.y;
+                        bestZ = p.z;
+                        hit = prim;
+                    }
+                }
+            } else {
+                int left = node + 1, right = nodeData[2 * node];
+                float dl = distanceSquared(left, x, y, z), dr = distanceSquared(right, x, y, z);
+                if (sp + 4 > stack.length)
+                    stack = grow(stack);
+                /* Push the farther child first, so that the nearer one is visited first */
+                boolean leftFirst = dl <= dr;
+                stack[sp++] = leftFirst ? right : left;
+                stack[sp++] = Float.floatToIntBits(leftFirst ? dr : dl);
+                stack[sp++] = leftFirst ? left : right;
+                stack[sp++] = Float.floatToIntBits(leftFirst ? dl : dr);
+            }
+        }
+        if (hit != -1)
+            dest.set(bestX, bestY, bestZ);
+        return hit;
+    }
+
+    /**
+     * Return the squared distance from the point <code>(x, y, z)</code> to the bounds of the given node.
+     */
+    private float distanceSquared(int node, float x, float y, float z) {
+        int b = 6 * node;
+        float dx = Math.max(Math.max(nodeBounds[b] - x, x - nodeBounds[b + 3]), 0.0f);
+        float dy = Math.max(Math.max(nodeBounds[b + 1] - y, y - nodeBounds[b + 4]), 0.0f);
+        float dz = Math.max(Math.max(nodeBounds[b + 2] - z, z - nodeBounds[b + 5]), 0.0f);
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.bvh;
+
+//#ifdef __HAS_NIO__
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+//#endif
+
+import org.joml.Intersectionf;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+
+/**
+ * {@link Bvh} over an indexed triangle mesh.
+ * <p>
+ * The mesh is given as an array of vertex positions <code>(x, y, z)</code> and an array of vertex indices, three per triangle.
+ * Primitive <code>i</code> of this {@link Bvh} is the triangle made of the vertices <code>indices[3*i]</code>, <code>indices[3*i+1]</code>
+ * and <code>indices[3*i+2]</code>. Both arrays are referenced, not copied, so the {@link Bvh} must be {@link #build() rebuilt} after
+ * modifying them.
+ */
+public class TriangleBvh extends Bvh {
+
+    /**
+     * Epsilon used for ray-triangle intersection tests.
+     */
+    private static final float EPSILON = 1E-7f;
+
+    private final float[] positions;
+    private final int[] indices;
+
+    /**
+     * Create a new {@link TriangleBvh} over the triangles given by the vertex <code>positions</code> and <code>indices</code>.
+     * 
+     * @param positions
+     *          the vertex positions as consecutive <code>(x, y, z)</code> triples
+     * @param indices
+     *          the vertex indices, three per triangle
+     */
+    public TriangleBvh(float[] positions, int[] indices) {
+        super(indices.length / 3);
+        this.positions = positions;
+        this.indices = indices;
+    }
+
+//#ifdef __HAS_NIO__
+    /**
+     * Create a new {@link TriangleBvh} over the triangles given by the remaining vertex <code>positions</code> and <code>indices</code>.
+     * <p>
+     * The contents of both buffers are copied, starting at their current positions, without modifying the positions.
+     * 
+     * @param positions
+     *          the vertex positions as consecutive <code>(x, y, z)</code> triples
+     * @param indices
+     *          the vertex indices, three per triangle
+     */
+    public TriangleBvh(FloatBuffer positions, IntBuffer indices) {
+        this(toArray(positions), toArray(indices));
+    }
+
+    private static float[] toArray(FloatBuffer buffer) {
+        float[] array = new float[buffer.remaining()];
+        buffer.duplicate().get(array);
+        return array;
+    }
+
+    private static int[] toArray(IntBuffer buffer) {
+        int[] array = new int[buffer.remaining()];
+        buffer.duplicate().get(array);
+        return array;
+    }
+//#endif
+
+    /**
+     * Return the vertex positions of this {@link TriangleBvh}.
+     * 
+     * @return the vertex positions
+     */
+    public float[] positions() {
+        return positions;
+    }
+
+    /**
+     * Return the vertex indices of this {@link TriangleBvh}.
+     * 
+     * @return the vertex indices
+     */
+    public int[] indices() {
+        return indices;
+    }
+
+    void bounds(int primitive, float[] dest, int offset) {
+        int i0 = 3 * indices[3 * primitive], i1 = 3 * indices[3 * primitive + 1], i2 = 3 * indices[3 * primitive + 2];
+        for (int c = 0; c < 3; c++) {
+            float a = positions[i0 + c], b = positions[i1 + c], d = positions[i2 + c];
+            dest[offset + c] = Math.min(Math.min(a, b), d);
+            dest[offset + 3 + c] = Math.max(Math.max(a, b), d);
+        }
+    }
+
+    boolean intersectRay(int primitive, float originX, float originY, float originZ, float dirX, float dirY, float dirZ, Vector2f result) {
+        int i0 = 3 * indices[3 * primitive], i1 = 3 * indices[3 * primitive + 1], i2 = 3 * indices[3 * primitive + 2];
+        float t = Intersectionf.intersectRayTriangle(originX, originY, originZ, dirX, dirY, dirZ,
+                positions[i0], positions[i0 + 1], positions[i0 + 2],
+                positions[i1], positions[i1 + 1], positions[i1 + 2],
+                positions[i2], positions[i2 + 1], positions[i2 + 2], EPSILON);
+        if (t < 0.0f)
+            return false;
+        result.x = t;
+        result.y = t;
+        return true;
+    }
+
+    boolean testAab(int primitive, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        int i0 = 3 * indices[3 * primitive], i1 = 3 * indices[3 * primitive + 1], i2 = 3 * indices[3 * primitive + 2];
+        float cX = (minX + maxX) * 0.5f, cY = (minY + maxY) * 0.5f, cZ = (minZ + maxZ) * 0.5f;
+        float hX = (maxX - minX) * 0.5f, hY = (maxY - minY) * 0.5f, hZ = (maxZ - minZ) * 0.5f;
+        return testAabTriangle(hX, hY, hZ,
+                positions[i0] - cX, positions[i0 + 1] - cY, positions[i0 + 2] - cZ,
+                positions[i1] - cX, positions[i1 + 1] - cY, positions[i1 + 2] - cZ,
+                positions[i2] - cX, positions[i2 + 1] - cY, positions[i2 + 2] - cZ);
+    }
+
+    /**
+     * Separating axis test of a box centered at the origin with the given half extents against a triangle.
+     */
+    private static boolean testAabTriangle(float hX, float hY, float hZ,
+            float v0X, float v0Y, float v0Z, float v1X, float v1Y, float v1Z, float v2X, float v2Y, float v2Z) {
+        /* Box face normals */
+        if (Math.max(Math.max(v0X, v1X), v2X) < -hX || Math.min(Math.min(v0X, v1X), v2X) > hX ||
+            Math.max(Math.max(v0Y, v1Y), v2Y) < -hY || Math.min(Math.min(v0Y, v1Y), v2Y) > hY ||
+            Math.max(Math.max(v0Z, v1Z), v2Z) < -hZ || Math.min(Math.min(v0Z, v1Z), v2Z) > hZ)
+            return false;
+        float e0X = v1X - v0X, e0Y = v1Y - v0Y, e0Z = v1Z - v0Z;
+        float e1X = v2X - v1X, e1Y = v2Y - v1Y, e1Z = v2Z - v1Z;
+        float e2X = v0X - v2X, e2Y = v0Y - v2Y, e2Z = v0Z - v2Z;
+        /* Triangle normal */
+        float nX = e0Y * e1Z - e0Z * e1Y, nY = e0Z * e1X - e0X * e1Z, nZ = e0X * e1Y - e0Y * e1X;
+        float r = hX * Math.abs(nX) + hY * Math.abs(nY) + hZ * Math.abs(nZ);
+        float d = nX * v0X + nY * v0Y + nZ * v0Z;
+        if (d > r || d < -r)
+            return false;
+        /* Cross products of the box axes with the triangle edges */
+        return axis(0.0f, -e0Z, e0Y, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(0.0f, -e1Z, e1Y, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(0.0f, -e2Z, e2Y, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(e0Z, 0.0f, -e0X, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(e1Z, 0.0f, -e1X, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(e2Z, 0.0f, -e2X, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(-e0Y, e0X, 0.0f, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(-e1Y, e1X, 0.0f, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z)
+            && axis(-e2Y, e2X, 0.0f, hX, hY, hZ, v0X, v0Y, v0Z, v1X, v1Y, v1Z, v2X, v2Y, v2Z);
+    }
+
+    /**
+     * Return <code>true</code> if the given axis does <i>not</i> separate the box and the triangle.
+     */
+    private static boolean axis(float aX, float aY, float aZ, float hX, float hY, float hZ,
+            float v0X, float v0Y, float v0Z, float v1X, float v1Y, float v1Z, float v2X, float v2Y, float v2Z) {
+        float p0 = aX * v0X + aY * v0Y + aZ * v0Z;
+        float p1 = aX * v1X + aY * v1Y + aZ * v1Z;
+        float p2 = aX * v2X + aY * v2Y + aZ * v2Z;
+        float r = hX * Math.abs(aX) + hY * Math.abs(aY) + hZ * Math.abs(aZ);
+        return Math.min(Math.min(p0, p1), p2) <= r && Math.max(Math.max(p0, p1), p2) >= -r;
+    }
+
+    float closestPoint(int primitive, float x, float y, float z, Vector3f dest) {
+        int i0 = 3 * indices[3 * primitive], i1 = 3 * indices[3 * primitive + 1], i2 = 3 * indices[3 * primitive + 2];
+        Intersectionf.findClosestPointOnTriangle(
+                positions[i0], positions[i0 + 1], positions[i0 + 2],
+                positions[i1], positions[i1 + 1], positions[i1 + 2],
+                positions[i2], positions[i2 + 1], positions[i2 + 2],
+                x, y, z, dest);
+        float dx = dest.x - x, dy = dest.y - y, dz = dest.z - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
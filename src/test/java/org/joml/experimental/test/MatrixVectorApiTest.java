@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//#ifdef __HAS_VECTOR_API__
+package org.joml.experimental.test;
+
+import org.joml.Matrix4d;
+import org.joml.Matrix4f;
+import org.joml.Vector4d;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Vector API kernels used by {@link Matrix4f} and {@link Matrix4d}, checked against
+ * column-wise scalar {@link Vector4f#mul(org.joml.Matrix4fc)}.
+ */
+class MatrixVectorApiTest {
+    private static Matrix4f generic() {
+        return new Matrix4f(1.5f, 0.2f, -0.3f, 0.1f, 0.4f, 2.1f, 0.5f, -0.2f, -0.6f, 0.3f, 1.7f, 0.3f, 0.9f, -1.1f, 2.3f, 1.2f);
+    }
+
+    private static void assertColumnsEqual(Matrix4f a, Matrix4f b, Matrix4f product, float delta) {
+        for (int c = 0; c < 4; c++) {
+            Vector4f expected = b.getColumn(c, new Vector4f()).mul(a);
+            Vector4f actual = product.getColumn(c, new Vector4f());
+            assertTrue(expected.equals(actual, delta), expected + " != " + actual);
+        }
+    }
+
+    @Test
+    void testMul() {
+        Matrix4f a = generic(), b = generic().transpose().rotateX(0.3f);
+        assertColumnsEqual(a, b, new Matrix4f(a).mul(b), 1E-5f);
+    }
+
+    @Test
+    void testMulAffine() {
+        Matrix4f a = new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(1, 2, 3).scale(2);
+        Matrix4f b = new Matrix4f().rotateY(0.7f).translate(-3, 1, 4);
+        Matrix4f r = a.mulAffine(b, new Matrix4f());
+        assertColumnsEqual(a, b, r, 1E-5f);
+        assertEquals(Matrix4f.PROPERTY_AFFINE, r.properties() & Matrix4f.PROPERTY_AFFINE);
+    }
+
+    @Test
+    void testInvert() {
+        Matrix4f m = generic();
+        Matrix4f inv = m.invert(new Matrix4f());
+        assertTrue(new Matrix4f().equals(m.mul(inv, new Matrix4f()), 1E-5f));
+        Matrix4d md = new Matrix4d(generic());
+        assertTrue(new Matrix4d().equals(md.mul(md.invert(new Matrix4d()), new Matrix4d()), 1E-12));
+    }
+
+    @Test
+    void testTranspose() {
+        Matrix4f m = generic();
+        Matrix4f t = m.transpose(new Matrix4f());
+        for (int c = 0; c < 4; c++)
+            assertEquals(m.getRow(c, new Vector4f()), t.getColumn(c, new Vector4f()));
+        Matrix4d md = new Matrix4d(m);
+        assertEquals(new Matrix4d(t), md.transpose());
+        assertEquals(t, new Matrix4f(m).transpose());
+    }
+
+    @Test
+    void testTransposeProperties() {
+        Matrix4f r = new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f);
+        Matrix4f t = r.transpose(new Matrix4f());
+        assertEquals(0, t.properties());
+        assertTrue(r.invert(new Matrix4f()).equals(t, 1E-6f));
+        assertEquals(new Matrix4f().properties(), new Matrix4f().transpose().properties());
+        Matrix4d rd = new Matrix4d().rotateXYZ(0.1, 0.2, 0.3);
+        assertEquals(0, rd.transpose().properties());
+        assertEquals(new Matrix4d().properties(), new Matrix4d().transpose().properties());
+    }
+
+    @Test
+    void testTransform() {
+        Matrix4f m = generic();
+        assertTrue(new Vector4f(1, 2, 3, 4).mul(m).equals(m.transform(new Vector4f(1, 2, 3, 4)), 1E-5f));
+        Matrix4d md = new Matrix4d(m);
+        assertTrue(new Vector4d(1, 2, 3, 4).mul(md).equals(md.transform(new Vector4d(1, 2, 3, 4)), 1E-12));
+    }
+}
+//#endif
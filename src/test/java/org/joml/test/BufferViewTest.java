@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4f;
+import org.joml.Matrix4fBufferView;
+import org.joml.Matrix4x3f;
+import org.joml.Matrix4x3fBufferView;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.joml.Vector3fBufferView;
+import org.junit.jupiter.api.Test;
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+//#endif
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Matrix4fBufferView}, {@link Matrix4x3fBufferView} and {@link Vector3fBufferView}.
+ */
+class BufferViewTest {
+
+    private static ByteBuffer buffer(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    @Test
+    void testMatrix4fViewReadsBuffer() {
+        ByteBuffer bb = buffer(3 * 64 + 4);
+        Matrix4f m0 = new Matrix4f().perspective(1.0f, 1.5f, 0.1f, 100.0f).lookAt(1, 2, 3, 0, 0, 0, 0, 1, 0);
+        Matrix4f m1 = new Matrix4f().translationRotateScale(new Vector3f(1, 2, 3), new Quaternionf().rotateXYZ(0.1f, 0.2f, 0.3f), new Vector3f(2));
+        m0.get(4, bb);
+        m1.get(4 + 64, bb);
+        Matrix4fBufferView view = new Matrix4fBufferView(bb, 4);
+        assertMatrix4fEquals(m0, view.get(new Matrix4f()), 0.0f);
+        assertEquals(m0.m00(), view.m00(), 0.0f);
+        assertEquals(m0.m01(), view.m01(), 0.0f);
+        assertEquals(m0.m12(), view.m12(), 0.0f);
+        assertEquals(m0.m23(), view.m23(), 0.0f);
+        assertEquals(m0.m30(), view.m30(), 0.0f);
+        assertEquals(m0.m33(), view.m33(), 0.0f);
+        Vector3f min = new Vector3f(), max = new Vector3f();
+        view.frustumAabb(min, max);
+        Vector3f emin = new Vector3f(), emax = new Vector3f();
+        m0.frustumAabb(emin, emax);
+        assertVector3fEquals(emin, min, 0.0f);
+        assertVector3fEquals(emax, max, 0.0f);
+        view.at(4 + 64);
+        assertEquals(4 + 64, view.index());
+        assertVector3fEquals(m1.transformPosition(new Vector3f(1, 2, 3)), view.transformPosition(new Vector3f(1, 2, 3)), 0.0f);
+        /* Changes to the buffer are visible through the view */
+        m0.get(4 + 64, bb);
+        assertMatrix4fEquals(m0, view.get(new Matrix4f()), 0.0f);
+    }
+
+    @Test
+    void testMatrix4fViewWritesBuffer() {
+        ByteBuffer bb = buffer(64);
+        Matrix4fBufferView view = new Matrix4fBufferView(bb).identity();
+        assertMatrix4fEquals(new Matrix4f(), new Matrix4f().set(bb), 0.0f);
+        Quaternionf q = new Quaternionf().rotateXYZ(0.5f, 0.2f, -0.3f);
+        view.translate(1, 2, 3).rotate(q).scale(2, 3, 4);
+        Matrix4f expected = new Matrix4f().translate(1, 2, 3).rotate(q).scale(2, 3, 4);
+        assertMatrix4fEquals(expected, new Matrix4f().set(bb), 1E-6f);
+        Matrix4f left = new Matrix4f().rotationY(0.4f);
+        view.mulLocal(left).mul(left).invert();
+        expected.mulLocal(left).mul(left).invert();
+        assertMatrix4fEquals(expected, new Matrix4f().set(bb), 1E-5f);
+        view.set(left);
+        assertMatrix4fEquals(left, new Matrix4f().set(bb), 0.0f);
+    }
+
+    @Test
+    void testMatrix4x3fView() {
+        ByteBuffer bb = buffer(2 * 48);
+        Matrix4x3f m = new Matrix4x3f().translationRotateScale(new Vector3f(1, 2, 3), new Quaternionf().rotateXYZ(0.1f, 0.2f, 0.3f), new Vector3f(2));
+        Matrix4x3fBufferView view = new Matrix4x3fBufferView(bb, 48).set(m);
+        assertMatrix4x3fEquals(m, new Matrix4x3f().set(48, bb), 0.0f);
+        assertEquals(0.0f, bb.getFloat(0), 0.0f);
+        assertEquals(m.m01(), view.m01(), 0.0f);
+        assertEquals(m.m20(), view.m20(), 0.0f);
+        assertEquals(m.m32(), view.m32(), 0.0f);
+        assertVector3fEquals(m.transformPosition(new Vector3f(1, 2, 3)), view.transformPosition(new Vector3f(1, 2, 3)), 0.0f);
+        Matrix4x3f left = new Matrix4x3f().rotationX(0.3f);
+        view.mulLocal(left).translate(1, 0, 0).invert();
+        left.mul(m, m).translate(1, 0, 0).invert();
+        assertMatrix4x3fEquals(m, new Matrix4x3f().set(48, bb), 1E-5f);
+    }
+
+    @Test
+    void testVector3fView() {
+        ByteBuffer bb = buffer(4 * 12);
+        for (int i = 0; i < 4; i++)
+            new Vector3f(i, i + 1, i + 2).get(12 * i, bb);
+        Matrix4f m = new Matrix4f().translation(10, 20, 30).rotateY(0.5f);
+        ByteBuffer mb = buffer(64);
+        m.get(mb);
+        Matrix4fBufferView mv = new Matrix4fBufferView(mb);
+        Vector3fBufferView view = new Vector3fBufferView(bb);
+        for (int i = 0; i < 4; i++) {
+            view.at(12 * i);
+            assertEquals(i + 1, view.y(), 0.0f);
+            assertEquals(new Vector3f(i, i + 1, i + 2).length(), view.length(), 0.0f);
+            view.mulPosition(mv);
+        }
+        for (int i = 0; i < 4; i++)
+            assertVector3fEquals(m.transformPosition(new Vector3f(i, i + 1, i + 2)), new Vector3f().set(12 * i, bb), 1E-5f);
+        view.at(0).set(3, 0, 4).normalize().mul(2).add(new Vector3f(1, 1, 1));
+        assertVector3fEquals(new Vector3f(2.2f, 1, 2.6f), new Vector3f().set(0, bb), 1E-6f);
+    }
+
+    @Test
+    void testNonNativeByteOrder() {
+        ByteOrder other = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        ByteBuffer bb = ByteBuffer.allocateDirect(64).order(other);
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4fBufferView(bb));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4x3fBufferView(bb, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Vector3fBufferView(bb));
+    }
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+
+    @Test
+    void testSegmentOffsetOutOfRange() {
+        MemorySegment segment = Arena.ofAuto().allocate(64);
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4fBufferView(segment, 1L << 32));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4fBufferView(segment, -1L));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4x3fBufferView(segment, Integer.MAX_VALUE + 1L));
+        assertEquals(16, new Matrix4fBufferView(segment, 16L).index());
+    }
+//#endif
+}
@@ -0,0 +1,266 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Intersectionf;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+import org.joml.bvh.AabBvh;
+import org.joml.bvh.Bvh;
+import org.joml.bvh.TriangleBvh;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Bvh} implementations.
+ */
+class BvhTest {
+
+    private static final float E = 1E-4f;
+
+    private static float[] randomPositions(Random rnd, int triangles) {
+        float[] positions = new float[9 * triangles];
+        for (int i = 0; i < triangles; i++) {
+            float cx = rnd.nextFloat() * 20 - 10, cy = rnd.nextFloat() * 20 - 10, cz = rnd.nextFloat() * 20 - 10;
+            for (int v = 0; v < 3; v++) {
+                positions[9 * i + 3 * v] = cx + rnd.nextFloat() - 0.5f;
+                positions[9 * i + 3 * v + 1] = cy + rnd.nextFloat() - 0.5f;
+                positions[9 * i + 3 * v + 2] = cz + rnd.nextFloat() - 0.5f;
+            }
+        }
+        return positions;
+    }
+
+    private static int[] sequentialIndices(int count) {
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++)
+            indices[i] = i;
+        return indices;
+    }
+
+    private static float bruteForceRay(float[] p, int triangles, float ox, float oy, float oz, float dx, float dy, float dz) {
+        float best = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < triangles; i++) {
+            int o = 9 * i;
+            float t = Intersectionf.intersectRayTriangle(ox, oy, oz, dx, dy, dz,
+                    p[o], p[o + 1], p[o + 2], p[o + 3], p[o + 4], p[o + 5], p[o + 6], p[o + 7], p[o + 8], 1E-7f);
+            if (t >= 0.0f && t < best)
+                best = t;
+        }
+        return best;
+    }
+
+    @Test
+    void testEmpty() {
+        Bvh bvh = new TriangleBvh(new float[0], new int[0]).build();
+        assertEquals(0, bvh.nodeCount());
+        assertEquals(-1, bvh.intersectRay(0, 0, 0, 1, 0, 0, Float.POSITIVE_INFINITY, new Vector2f()));
+        assertFalse(bvh.testRay(0, 0, 0, 1, 0, 0, Float.POSITIVE_INFINITY));
+        assertEquals(0, bvh.testAab(-1, -1, -1, 1, 1, 1, new int[1], 0));
+        assertEquals(-1, bvh.closestPoint(0, 0, 0, Float.POSITIVE_INFINITY, new Vector3f()));
+    }
+
+    @Test
+    void testSingleTriangle() {
+        Bvh bvh = new TriangleBvh(new float[] { -1, -1, 0, 1, -1, 0, 0, 1, 0 }, new int[] { 0, 1, 2 }).build();
+        assertEquals(1, bvh.nodeCount());
+        Vector2f t = new Vector2f();
+        assertEquals(0, bvh.intersectRay(0, 0, -2, 0, 0, 1, Float.POSITIVE_INFINITY, t));
+        assertEquals(2.0f, t.x, E);
+        assertEquals(-1, bvh.intersectRay(0, 0, -2, 0, 0, 1, 1.0f, t));
+        assertFalse(bvh.testRay(0, 0, 2, 0, 0, 1, Float.POSITIVE_INFINITY));
+        Vector3f p = new Vector3f();
+        assertEquals(0, bvh.closestPoint(0, 0, 3, Float.POSITIVE_INFINITY, p));
+        assertEquals(0.0f, p.z, E);
+        assertEquals(-1, bvh.closestPoint(0, 0, 3, 2.0f, p));
+    }
+
+    @Test
+    void testIntersectRayMatchesBruteForce() {
+        Random rnd = new Random(1234);
+        int n = 2000;
+        float[] positions = randomPositions(rnd, n);
+        TriangleBvh bvh = new TriangleBvh(positions, sequentialIndices(3 * n));
+        bvh.build();
+        assertTrue(bvh.nodeCount() <= 2 * n - 1);
+        Vector2f t = new Vector2f();
+        for (int i = 0; i < 500; i++) {
+            float ox = rnd.nextFloat() * 30 - 15, oy = rnd.nextFloat() * 30 - 15, oz = rnd.nextFloat() * 30 - 15;
+            float dx = rnd.nextFloat() * 2 - 1, dy = rnd.nextFloat() * 2 - 1, dz = rnd.nextFloat() * 2 - 1;
+            float expected = bruteForceRay(positions, n, ox, oy, oz, dx, dy, dz);
+            int hit = bvh.intersectRay(ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY, t);
+            if (expected == Float.POSITIVE_INFINITY) {
+                assertEquals(-1, hit);
+                assertFalse(bvh.testRay(ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY));
+            } else {
+                assertTrue(hit >= 0);
+                assertEquals(expected, t.x, E);
+                assertTrue(bvh.testRay(ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY));
+                assertFalse(bvh.testRay(ox, oy, oz, dx, dy, dz, expected * 0.99f));
+            }
+        }
+    }
+
+    @Test
+    void testClosestPointMatchesBruteForce() {
+        Random rnd = new Random(4321);
+        int n = 1000;
+        float[] positions = randomPositions(rnd, n);
+        TriangleBvh bvh = new TriangleBvh(positions, sequentialIndices(3 * n));
+        bvh.build(2, 1);
+        Vector3f p = new Vector3f(), q = new Vector3f();
+        for (int i = 0; i < 200; i++) {
+            float x = rnd.nextFloat() * 30 - 15, y = rnd.nextFloat() * 30 - 15, z = rnd.nextFloat() * 30 - 15;
+            float best = Float.POSITIVE_INFINITY;
+            for (int j = 0; j < n; j++) {
+                int o = 9 * j;
+                Intersectionf.findClosestPointOnTriangle(positions[o], positions[o + 1], positions[o + 2],
+                        positions[o + 3], positions[o + 4], positions[o + 5],
+                        positions[o + 6], positions[o + 7], positions[o + 8], x, y, z, q);
+                best = Math.min(best, q.distanceSquared(x, y, z));
+            }
+            assertTrue(bvh.closestPoint(x, y, z, Float.POSITIVE_INFINITY, p) >= 0);
+            assertEquals(best, p.distanceSquared(x, y, z), E);
+        }
+    }
+
+    @Test
+    void testTriangleTestAab() {
+        Random rnd = new Random(99);
+        int n = 1000;
+        float[] positions = randomPositions(rnd, n);
+        TriangleBvh bvh = new TriangleBvh(positions, sequentialIndices(3 * n));
+        bvh.build();
+        int[] found = new int[n];
+        for (int i = 0; i < 100; i++) {
+            float minX = rnd.nextFloat() * 20 - 10, minY = rnd.nextFloat() * 20 - 10, minZ = rnd.nextFloat() * 20 - 10;
+            float maxX = minX + rnd.nextFloat() * 4, maxY = minY + rnd.nextFloat() * 4, maxZ = minZ + rnd.nextFloat() * 4;
+            int count = bvh.testAab(minX, minY, minZ, maxX, maxY, maxZ, found, 0);
+            boolean[] reported = new boolean[n];
+            for (int j = 0; j < count; j++)
+                reported[found[j]] = true;
+            for (int j = 0; j < n; j++) {
+                boolean vertexInside = false;
+                for (int v = 0; v < 3; v++) {
+                    int o = 9 * j + 3 * v;
+                    vertexInside |= positions[o] >= minX && positions[o] <= maxX && positions[o + 1] >= minY && positions[o + 1] <= maxY
+                            && positions[o + 2] >= minZ && positions[o + 2] <= maxZ;
+                }
+                if (vertexInside)
+                    assertTrue(reported[j]);
+            }
+        }
+    }
+
+    @Test
+    void testAabBvhMatchesBruteForce() {
+        Random rnd = new Random(7);
+        int n = 3000;
+        float[] minX = new float[n], minY = new float[n], minZ = new float[n], maxX = new float[n], maxY = new float[n], maxZ = new float[n];
+        for (int i = 0; i < n; i++) {
+            minX[i] = rnd.nextFloat() * 100 - 50;
+            minY[i] = rnd.nextFloat() * 100 - 50;
+            minZ[i] = rnd.nextFloat() * 100 - 50;
+            maxX[i] = minX[i] + rnd.nextFloat() * 2;
+            maxY[i] = minY[i] + rnd.nextFloat() * 2;
+            maxZ[i] = minZ[i] + rnd.nextFloat() * 2;
+        }
+        AabBvh bvh = new AabBvh(minX, minY, minZ, maxX, maxY, maxZ, n);
+        bvh.build();
+        int[] found = new int[n];
+        for (int i = 0; i < 100; i++) {
+            float bminX = rnd.nextFloat() * 100 - 50, bminY = rnd.nextFloat() * 100 - 50, bminZ = rnd.nextFloat() * 100 - 50;
+            float bmaxX = bminX + 10, bmaxY = bminY + 10, bmaxZ = bminZ + 10;
+            int count = bvh.testAab(bminX, bminY, bminZ, bmaxX, bmaxY, bmaxZ, found, 0);
+            int expected = 0;
+            for (int j = 0; j < n; j++)
+                if (Intersectionf.testAabAab(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j], bminX, bminY, bminZ, bmaxX, bmaxY, bmaxZ))
+                    expected++;
+            assertEquals(expected, count);
+            int[] small = new int[3];
+            assertEquals(expected, bvh.testAab(bminX, bminY, bminZ, bmaxX, bmaxY, bmaxZ, small, 1));
+        }
+    }
+
+    @Test
+    void testIntersectRayOriginInside() {
+        float[] minX = {-10, -1}, minY = {-10, -1}, minZ = {-10, -3}, maxX = {10, 1}, maxY = {10, 1}, maxZ = {10, -2};
+        AabBvh bvh = new AabBvh(minX, minY, minZ, maxX, maxY, maxZ, 2);
+        bvh.build();
+        Vector2f t = new Vector2f();
+        assertEquals(0, bvh.intersectRay(0, 0, 0, 0, 0, -1, Float.POSITIVE_INFINITY, t));
+        assertEquals(0.0f, t.x, 0.0f);
+        assertEquals(10.0f, t.y, 0.0f);
+    }
+
+    @Test
+    void testIntersectRayParallelOnSlabPlane() {
+        float[] minX = {0}, minY = {0}, minZ = {-3}, maxX = {1}, maxY = {1}, maxZ = {-2};
+        AabBvh bvh = new AabBvh(minX, minY, minZ, maxX, maxY, maxZ, 1);
+        bvh.build();
+        Vector2f t = new Vector2f();
+        float[][] origins = {{0.5f, 0, 0}, {0.5f, 1, 0}, {0, 0, 0}, {1, 1, 0}};
+        for (int i = 0; i < origins.length; i++) {
+            float[] o = origins[i];
+            assertEquals(0, bvh.intersectRay(o[0], o[1], o[2], 0, 0, -1, Float.POSITIVE_INFINITY, t));
+            assertEquals(2.0f, t.x, 0.0f);
+            assertEquals(3.0f, t.y, 0.0f);
+            assertTrue(bvh.testRay(o[0], o[1], o[2], 0, 0, -1, Float.POSITIVE_INFINITY));
+        }
+        assertEquals(-1, bvh.intersectRay(0.5f, 1.5f, 0, 0, 0, -1, Float.POSITIVE_INFINITY, t));
+    }
+
+    @Test
+    void testParallelBuild() {
+        Random rnd = new Random(5);
+        int n = 40000;
+        float[] positions = randomPositions(rnd, n);
+        int[] indices = sequentialIndices(3 * n);
+        TriangleBvh sequential = new TriangleBvh(positions, indices);
+        sequential.build(Bvh.DEFAULT_MAX_LEAF_SIZE, 1);
+        TriangleBvh parallel = new TriangleBvh(positions, indices);
+        parallel.build(Bvh.DEFAULT_MAX_LEAF_SIZE, 4);
+        assertEquals(sequential.nodeCount(), parallel.nodeCount());
+        Vector2f t1 = new Vector2f(), t2 = new Vector2f();
+        int[] found1 = new int[n], found2 = new int[n];
+        for (int i = 0; i < 200; i++) {
+            float ox = rnd.nextFloat() * 30 - 15, oy = rnd.nextFloat() * 30 - 15, oz = rnd.nextFloat() * 30 - 15;
+            float dx = rnd.nextFloat() * 2 - 1, dy = rnd.nextFloat() * 2 - 1, dz = rnd.nextFloat() * 2 - 1;
+            assertEquals(sequential.intersectRay(ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY, t1),
+                         parallel.intersectRay(ox, oy, oz, dx, dy, dz, Float.POSITIVE_INFINITY, t2));
+            assertEquals(t1.x, t2.x, 0.0f);
+            int c1 = sequential.testAab(ox, oy, oz, ox + 1, oy + 1, oz + 1, found1, 0);
+            int c2 = parallel.testAab(ox, oy, oz, ox + 1, oy + 1, oz + 1, found2, 0);
+            assertEquals(c1, c2);
+            Arrays.sort(found1, 0, c1);
+            Arrays.sort(found2, 0, c2);
+            for (int j = 0; j < c1; j++)
+                assertEquals(found1[j], found2[j]);
+        }
+    }
+}
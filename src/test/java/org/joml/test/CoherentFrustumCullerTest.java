@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.CoherentFrustumCuller;
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CoherentFrustumCuller} class.
+ */
+class CoherentFrustumCullerTest {
+
+    private static int classify(int result) {
+        return result >= 0 ? FrustumIntersection.OUTSIDE : result;
+    }
+
+    @Test
+    void testMatchesFrustumIntersection() {
+        Random rnd = new Random(3);
+        int n = 2000;
+        float[] b = new float[6 * n];
+        int[] parents = new int[n];
+        for (int i = 0; i < n; i++) {
+            parents[i] = i % 4 == 0 ? -1 : i - i % 4;
+            if (parents[i] < 0) {
+                b[6 * i] = rnd.nextFloat() * 60 - 30;
+                b[6 * i + 1] = rnd.nextFloat() * 60 - 30;
+                b[6 * i + 2] = rnd.nextFloat() * 60 - 30;
+                b[6 * i + 3] = b[6 * i] + rnd.nextFloat() * 8;
+                b[6 * i + 4] = b[6 * i + 1] + rnd.nextFloat() * 8;
+                b[6 * i + 5] = b[6 * i + 2] + rnd.nextFloat() * 8;
+            } else {
+                int p = parents[i];
+                for (int c = 0; c < 3; c++) {
+                    float min = b[6 * p + c], ext = b[6 * p + 3 + c] - min;
+                    float lo = min + rnd.nextFloat() * ext;
+                    b[6 * i + c] = lo;
+                    b[6 * i + 3 + c] = lo + rnd.nextFloat() * (b[6 * p + 3 + c] - lo);
+                }
+            }
+        }
+        CoherentFrustumCuller culler = new CoherentFrustumCuller(1);
+        Matrix4f m = new Matrix4f();
+        float[] averages = new float[5];
+        for (int frame = 0; frame < averages.length; frame++) {
+            FrustumIntersection frustum = new FrustumIntersection(m.setPerspective(1.0f, 1.0f, 0.1f, 50.0f).lookAt(0, 0, 5 + 0.01f * frame, 0, 0, 0, 0, 1, 0));
+            culler.beginFrame(frustum);
+            for (int i = 0; i < n; i++) {
+                int p = parents[i];
+                int expected = frustum.intersectAab(b[6 * i], b[6 * i + 1], b[6 * i + 2], b[6 * i + 3], b[6 * i + 4], b[6 * i + 5]);
+                if (p >= 0 && classify(frustum.intersectAab(b[6 * p], b[6 * p + 1], b[6 * p + 2], b[6 * p + 3], b[6 * p + 4], b[6 * p + 5])) == FrustumIntersection.OUTSIDE)
+                    continue;
+                int actual = culler.intersectAab(i, p, b[6 * i], b[6 * i + 1], b[6 * i + 2], b[6 * i + 3], b[6 * i + 4], b[6 * i + 5]);
+                assertEquals(classify(expected), classify(actual));
+            }
+            averages[frame] = culler.averagePlaneTests();
+        }
+        assertTrue(averages[1] < averages[0]);
+        assertTrue(culler.averagePlaneTests() < 6.0f);
+        culler.beginFrame(new FrustumIntersection(m));
+        assertEquals(0L, culler.frameObjects());
+        assertEquals(0.0f, culler.averagePlaneTests());
+    }
+
+    @Test
+    void testRequiresFrame() {
+        assertThrows(IllegalStateException.class, () -> new CoherentFrustumCuller(0).testAab(0, -1, 0, 0, 0, 1, 1, 1));
+    }
+
+}
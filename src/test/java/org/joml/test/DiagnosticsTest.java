@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Diagnostics;
+import org.joml.Options;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Diagnostics} class.
+ */
+class DiagnosticsTest {
+
+    @Test
+    void testReportListsAllFeatures() {
+        Diagnostics report = Diagnostics.get();
+        assertSame(report, Diagnostics.get());
+        String[] names = { Diagnostics.MEMUTIL, Diagnostics.JVMCI, Diagnostics.JVMCI_AVX512, Diagnostics.VECTOR_API_FLOAT,
+                Diagnostics.VECTOR_API_DOUBLE, Diagnostics.MATH_FMA, Diagnostics.FASTMATH, Diagnostics.SIN_LOOKUP };
+        assertEquals(names.length, report.features().length);
+        String str = report.toString();
+        for (int i = 0; i < names.length; i++) {
+            Diagnostics.Feature f = report.feature(names[i]);
+            assertNotNull(f);
+            assertEquals(names[i], f.name());
+            assertTrue(str.contains(f.toString()));
+            // an inactive feature always tells why
+            assertTrue(f.isActive() || f.reason() != null);
+        }
+        assertNull(report.feature("unknown"));
+    }
+
+    @Test
+    void testReportReflectsOptions() {
+        Diagnostics report = Diagnostics.get();
+        assertEquals(Options.FASTMATH, report.feature(Diagnostics.FASTMATH).isActive());
+        Diagnostics.Feature memUtil = report.feature(Diagnostics.MEMUTIL);
+        if (Options.NO_UNSAFE) {
+            assertFalse(memUtil.implementation().contains("Unsafe"));
+            assertNotNull(memUtil.reason());
+        }
+        report.features()[0] = null;
+        assertNotNull(report.features()[0]);
+    }
+
+}
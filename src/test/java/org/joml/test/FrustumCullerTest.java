@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.FrustumCuller;
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link FrustumCuller} class.
+ */
+class FrustumCullerTest {
+
+    @Test
+    void testMatchesSingleThreaded() {
+        FrustumIntersection frustum = new FrustumIntersection(new Matrix4f().perspective(1.0f, 1.0f, 0.1f, 100.0f).lookAt(0, 0, 10, 0, 0, 0, 0, 1, 0));
+        Random rnd = new Random(12);
+        int n = 100003;
+        float[] minX = new float[n], minY = new float[n], minZ = new float[n], maxX = new float[n], maxY = new float[n], maxZ = new float[n];
+        float[] r = new float[n];
+        for (int i = 0; i < n; i++) {
+            minX[i] = rnd.nextFloat() * 200 - 100;
+            minY[i] = rnd.nextFloat() * 200 - 100;
+            minZ[i] = rnd.nextFloat() * 200 - 100;
+            maxX[i] = minX[i] + rnd.nextFloat();
+            maxY[i] = minY[i] + rnd.nextFloat();
+            maxZ[i] = minZ[i] + rnd.nextFloat();
+            r[i] = rnd.nextFloat();
+        }
+        int[] expected = new int[n], actual = new int[n + 3];
+        FrustumCuller culler = new FrustumCuller(4);
+        for (int offset = 0; offset < 3; offset++) {
+            int count = n - offset;
+            int e = frustum.testAab(minX, minY, minZ, maxX, maxY, maxZ, offset, count, expected, 0);
+            int a = culler.testAab(frustum, minX, minY, minZ, maxX, maxY, maxZ, offset, count, actual, 3);
+            assertEquals(e, a);
+            for (int i = 0; i < e; i++)
+                assertEquals(expected[i], actual[3 + i]);
+            e = frustum.testSphere(minX, minY, minZ, r, offset, count, expected, 0);
+            a = culler.testSphere(frustum, minX, minY, minZ, r, offset, count, actual, 3);
+            assertEquals(e, a);
+            for (int i = 0; i < e; i++)
+                assertEquals(expected[i], actual[3 + i]);
+        }
+        assertTrue(culler.frameTested() > 0);
+        assertTrue(culler.frameVisible() > 0 && culler.frameVisible() < culler.frameTested());
+        assertTrue(culler.frameCullRatio() > 0.0f && culler.frameCullRatio() < 1.0f);
+        culler.beginFrame();
+        assertEquals(0L, culler.frameTested());
+        assertEquals(0, culler.testAab(frustum, minX, minY, minZ, maxX, maxY, maxZ, 0, 0, actual, 0));
+        assertEquals(0.0f, culler.frameCullRatio());
+    }
+
+    @Test
+    void testScheduler() {
+        FrustumIntersection frustum = new FrustumIntersection(new Matrix4f().ortho(-10, 10, -10, 10, -10, 10));
+        Random rnd = new Random(34);
+        int n = 50000;
+        float[] x = new float[n], y = new float[n], z = new float[n], r = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = rnd.nextFloat() * 40 - 20;
+            y[i] = rnd.nextFloat() * 40 - 20;
+            z[i] = rnd.nextFloat() * 40 - 20;
+            r[i] = rnd.nextFloat();
+        }
+        final int[] ranges = new int[1];
+        /* Runs every chunk on its own, last chunk first */
+        FrustumCuller culler = new FrustumCuller(2, new FrustumCuller.Scheduler() {
+            public void run(int count, FrustumCuller.Chunks chunks) {
+                for (int c = count - 1; c >= 0; c--) {
+                    chunks.run(c, c + 1);
+                    ranges[0]++;
+                }
+            }
+        });
+        int[] expected = new int[n], actual = new int[n];
+        int e = frustum.testSphere(x, y, z, r, 0, n, expected, 0);
+        int a = culler.testSphere(frustum, x, y, z, r, 0, n, actual, 0);
+        assertTrue(ranges[0] > 1);
+        assertEquals(e, a);
+        for (int i = 0; i < e; i++)
+            assertEquals(expected[i], actual[i]);
+    }
+
+}
@@ -29,6 +29,10 @@ import org.joml.Matrix4fc;
 import org.joml.Math;
 import org.junit.jupiter.api.Test;
 
+import java.nio.FloatBuffer;
+import java.util.BitSet;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -97,4 +101,77 @@ class FrustumIntersectionTest {
         assertEquals(Matrix4fc.PLANE_NX, c.intersectAab(-6.1f, 0, -3, -5, 2, -2, FrustumIntersection.PLANE_MASK_NX));
         assertEquals(Matrix4fc.PLANE_NX, c.intersectAab(-6.1f, 0, -3, -5, 2, -2, ~0, Matrix4fc.PLANE_NX));
     }
+
+    @Test
+    void testBatchAab() {
+        Matrix4f m = new Matrix4f().perspective((float) Math.PI / 2.0f, 1.0f, 0.1f, 100.0f).rotateY(0.3f);
+        FrustumIntersection c = new FrustumIntersection(m);
+        Random rnd = new Random(12345L);
+        int count = 203;
+        float[] minX = new float[count + 1], minY = new float[count + 1], minZ = new float[count + 1];
+        float[] maxX = new float[count + 1], maxY = new float[count + 1], maxZ = new float[count + 1];
+        for (int i = 1; i <= count; i++) {
+            minX[i] = rnd.nextFloat() * 40 - 20; maxX[i] = minX[i] + rnd.nextFloat() * 5;
+            minY[i] = rnd.nextFloat() * 40 - 20; maxY[i] = minY[i] + rnd.nextFloat() * 5;
+            minZ[i] = -rnd.nextFloat() * 40 + 5; maxZ[i] = minZ[i] + rnd.nextFloat() * 5;
+        }
+        // boxes start at index 1, results are written starting at index 3 of dest
+        int[] codes = c.intersectAab(minX, minY, minZ, maxX, maxY, maxZ, 1, count, new int[count + 3], 3);
+        int[] bufferCodes = c.intersectAab(FloatBuffer.wrap(minX), FloatBuffer.wrap(minY), FloatBuffer.wrap(minZ),
+                FloatBuffer.wrap(maxX), FloatBuffer.wrap(maxY), FloatBuffer.wrap(maxZ), 1, count, new int[count + 3], 3);
+        BitSet visible = c.testAab(minX, minY, minZ, maxX, maxY, maxZ, 1, count, new BitSet(), 3);
+        int[] indices = new int[count + 3];
+        int numVisible = c.testAab(minX, minY, minZ, maxX, maxY, maxZ, 1, count, indices, 3);
+        int[] bufferIndices = new int[count];
+        int numBufferVisible = c.testAab(FloatBuffer.wrap(minX), FloatBuffer.wrap(minY), FloatBuffer.wrap(minZ),
+                FloatBuffer.wrap(maxX), FloatBuffer.wrap(maxY), FloatBuffer.wrap(maxZ), 1, count, bufferIndices, 0);
+        int expectedVisible = 0, numOutside = 0;
+        for (int i = 1; i <= count; i++) {
+            int code = c.intersectAab(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i]);
+            int expected = code >= 0 ? FrustumIntersection.OUTSIDE : code;
+            assertEquals(expected, codes[i + 2]);
+            assertEquals(expected, bufferCodes[i + 2]);
+            boolean test = c.testAab(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i]);
+            assertEquals(test, visible.get(i + 2));
+            if (test) {
+                assertEquals(i, bufferIndices[expectedVisible]);
+                assertEquals(i, indices[3 + expectedVisible++]);
+            } else
+                numOutside++;
+        }
+        assertEquals(expectedVisible, numVisible);
+        assertEquals(expectedVisible, numBufferVisible);
+        assertFalse(visible.get(0) || visible.get(1) || visible.get(2));
+        assertTrue(numOutside > 0 && numVisible > 0);
+    }
+
+    @Test
+    void testBatchSphere() {
+        Matrix4f m = new Matrix4f().ortho(-10, 10, -10, 10, -10, 10);
+        FrustumIntersection c = new FrustumIntersection(m);
+        Random rnd = new Random(54321L);
+        int count = 77;
+        float[] x = new float[count], y = new float[count], z = new float[count], r = new float[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = rnd.nextFloat() * 30 - 15;
+            y[i] = rnd.nextFloat() * 30 - 15;
+            z[i] = rnd.nextFloat() * 30 - 15;
+            r[i] = rnd.nextFloat() * 3;
+        }
+        int[] codes = c.intersectSphere(x, y, z, r, 0, count, new int[count], 0);
+        int[] bufferCodes = c.intersectSphere(FloatBuffer.wrap(x), FloatBuffer.wrap(y), FloatBuffer.wrap(z), FloatBuffer.wrap(r), 0, count, new int[count], 0);
+        BitSet visible = c.testSphere(x, y, z, r, 0, count, new BitSet(), 0);
+        int[] indices = new int[count];
+        int numVisible = c.testSphere(FloatBuffer.wrap(x), FloatBuffer.wrap(y), FloatBuffer.wrap(z), FloatBuffer.wrap(r), 0, count, indices, 0);
+        int expectedVisible = 0;
+        for (int i = 0; i < count; i++) {
+            assertEquals(c.intersectSphere(x[i], y[i], z[i], r[i]), codes[i]);
+            assertEquals(codes[i], bufferCodes[i]);
+            boolean test = c.testSphere(x[i], y[i], z[i], r[i]);
+            assertEquals(test, visible.get(i));
+            if (test)
+                assertEquals(i, indices[expectedVisible++]);
+        }
+        assertEquals(expectedVisible, numVisible);
+    }
 }
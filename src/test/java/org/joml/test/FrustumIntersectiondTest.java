@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.FrustumIntersection;
+import org.joml.FrustumIntersectiond;
+import org.joml.Matrix4d;
+import org.joml.Matrix4f;
+import org.joml.Math;
+import org.joml.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link FrustumIntersectiond} class.
+ */
+class FrustumIntersectiondTest {
+    @Test
+    void testIsSphereInFrustumPerspective() {
+        Matrix4d m = new Matrix4d().perspective(Math.PI / 2.0, 1.0, 0.1, 100.0);
+        FrustumIntersectiond c = new FrustumIntersectiond(m);
+        assertTrue(c.testSphere(1, 0, -2, 0.1));
+        assertFalse(c.testSphere(4, 0, -2, 1.0));
+        assertEquals(FrustumIntersectiond.OUTSIDE, c.intersectSphere(4, 0, -2, 1.0));
+    }
+
+    @Test
+    void testIsAabInPerspective() {
+        Matrix4d m = new Matrix4d().perspective(Math.PI / 2.0, 1.0, 0.1, 100.0);
+        FrustumIntersectiond c = new FrustumIntersectiond(m);
+        assertEquals(FrustumIntersectiond.INSIDE, c.intersectAab(0, 0, -7, 1, 1, -5));
+        assertEquals(FrustumIntersectiond.PLANE_PX, c.intersectAab(1.1, 0, 0, 2, 2, 2));
+        assertEquals(FrustumIntersectiond.PLANE_PX, c.intersectAab(4, 4, -3, 5, 5, -5));
+        assertEquals(FrustumIntersectiond.PLANE_NY, c.intersectAab(-6, -6, -2, -1, -4, -4));
+        assertTrue(c.testPoint(0, 0, -5));
+        assertFalse(c.testPoint(0, 6, -5));
+    }
+
+    @Test
+    void testIsAabInPerspectiveMask() {
+        Matrix4d m = new Matrix4d().perspective(Math.PI / 2.0, 1.0, 0.1, 100.0);
+        FrustumIntersectiond c = new FrustumIntersectiond(m);
+        assertEquals(FrustumIntersectiond.INTERSECT, c.intersectAab(5.1, 0, -3, 8, 2, -2, ~0 ^ FrustumIntersectiond.PLANE_MASK_PX));
+        assertEquals(FrustumIntersectiond.PLANE_NX, c.intersectAab(-6.1, 0, -3, -5, 2, -2, FrustumIntersectiond.PLANE_MASK_NX));
+        assertEquals(FrustumIntersectiond.PLANE_NX, c.intersectAab(-6.1, 0, -3, -5, 2, -2, ~0, FrustumIntersectiond.PLANE_NX));
+    }
+
+    @Test
+    void testMatchesFrustumIntersection() {
+        Matrix4f mf = new Matrix4f().perspective((float) Math.PI / 3.0f, 1.5f, 0.1f, 100.0f).lookAt(1, 2, 3, 0, 0, -10, 0, 1, 0);
+        FrustumIntersection f = new FrustumIntersection(mf);
+        FrustumIntersectiond d = new FrustumIntersectiond(new Matrix4d(mf));
+        Random rnd = new Random(12345L);
+        for (int i = 0; i < 1000; i++) {
+            float x = rnd.nextFloat() * 100 - 50, y = rnd.nextFloat() * 100 - 50, z = rnd.nextFloat() * 100 - 50;
+            float s = rnd.nextFloat() * 4;
+            assertEquals(f.intersectAab(x, y, z, x + s, y + s, z + s), d.intersectAab(x, y, z, x + s, y + s, z + s));
+            assertEquals(f.testSphere(x, y, z, s), d.testSphere(x, y, z, s));
+        }
+    }
+
+    @Test
+    void testCameraRelative() {
+        Vector3d origin = new Vector3d(1E7, 2E3, -3E7);
+        Matrix4d m = new Matrix4d().perspective(Math.PI / 2.0, 1.0, 0.1, 100.0).rotateY(0.3);
+        FrustumIntersectiond relative = new FrustumIntersectiond(m);
+        FrustumIntersectiond world = new FrustumIntersectiond().set(m, origin, true);
+        Random rnd = new Random(12345L);
+        for (int i = 0; i < 1000; i++) {
+            double x = rnd.nextDouble() * 100 - 50, y = rnd.nextDouble() * 100 - 50, z = rnd.nextDouble() * 100 - 50;
+            double s = rnd.nextDouble() * 4;
+            assertEquals(relative.intersectAab(x, y, z, x + s, y + s, z + s),
+                    world.intersectAab(origin.x + x, origin.y + y, origin.z + z, origin.x + x + s, origin.y + y + s, origin.z + z + s));
+            assertEquals(relative.testSphere(x, y, z, s), world.testSphere(origin.x + x, origin.y + y, origin.z + z, s));
+        }
+    }
+
+    @Test
+    void testCameraRelativePrecision() {
+        double ox = 1E7;
+        FrustumIntersectiond c = new FrustumIntersectiond().set(new Matrix4d().ortho(-1, 1, -1, 1, -1, 1), ox, 0, 0, false);
+        assertEquals(FrustumIntersectiond.PLANE_PX, c.intersectAab(ox + 1.01, 0, 0, ox + 1.02, 0.5, 0.5));
+        assertEquals(FrustumIntersectiond.INTERSECT, c.intersectAab(ox + 0.99, 0, 0, ox + 1.02, 0.5, 0.5));
+        assertEquals(FrustumIntersectiond.INSIDE, c.intersectAab(ox + 0.98, 0, 0, ox + 0.99, 0.5, 0.5));
+        // the same bounds rounded to float would collapse onto the frustum boundary
+        assertEquals(ox + 1.0, (double) (float) (ox + 1.01));
+    }
+}
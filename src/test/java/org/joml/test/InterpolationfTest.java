@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Interpolationf;
+import org.joml.Matrix4x3f;
+import org.joml.Matrix4x3fArray;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batch transformation interpolation in {@link Interpolationf}.
+ */
+class InterpolationfTest {
+
+    private static final int COUNT = 100;
+
+    private final float[] fromT = new float[3 * COUNT], fromR = new float[4 * COUNT], fromS = new float[3 * COUNT];
+    private final float[] toT = new float[3 * COUNT], toR = new float[4 * COUNT], toS = new float[3 * COUNT];
+
+    InterpolationfTest() {
+        Random rnd = new Random(42);
+        Quaternionf q = new Quaternionf();
+        for (int i = 0; i < COUNT; i++) {
+            for (int c = 0; c < 3; c++) {
+                fromT[3 * i + c] = rnd.nextFloat() * 10 - 5;
+                toT[3 * i + c] = rnd.nextFloat() * 10 - 5;
+                fromS[3 * i + c] = rnd.nextFloat() + 0.5f;
+                toS[3 * i + c] = rnd.nextFloat() + 0.5f;
+            }
+            q.rotationXYZ(rnd.nextFloat() * 6, rnd.nextFloat() * 6, rnd.nextFloat() * 6).get(fromR, 4 * i);
+            q.rotateXYZ(rnd.nextFloat() - 0.5f, rnd.nextFloat() - 0.5f, rnd.nextFloat() - 0.5f).get(toR, 4 * i);
+        }
+    }
+
+    private Matrix4x3f expected(int i, float alpha, Matrix4x3f dest) {
+        Vector3f t = new Vector3f(fromT[3 * i], fromT[3 * i + 1], fromT[3 * i + 2]).lerp(new Vector3f(toT[3 * i], toT[3 * i + 1], toT[3 * i + 2]), alpha);
+        Vector3f s = new Vector3f(fromS[3 * i], fromS[3 * i + 1], fromS[3 * i + 2]).lerp(new Vector3f(toS[3 * i], toS[3 * i + 1], toS[3 * i + 2]), alpha);
+        Quaternionf q = new Quaternionf(fromR[4 * i], fromR[4 * i + 1], fromR[4 * i + 2], fromR[4 * i + 3])
+                .nlerp(new Quaternionf(toR[4 * i], toR[4 * i + 1], toR[4 * i + 2], toR[4 * i + 3]), alpha);
+        return dest.translationRotateScale(t, q, s);
+    }
+
+    @Test
+    void testLerpVectors() {
+        float[] dest = new float[3 * COUNT];
+        Interpolationf.lerpVectors(fromT, toT, 10, 20, 0.25f, dest);
+        for (int i = 0; i < 3 * COUNT; i++) {
+            if (i < 30 || i >= 90)
+                assertEquals(0.0f, dest[i], 0.0f);
+            else
+                assertEquals(fromT[i] + (toT[i] - fromT[i]) * 0.25f, dest[i], 1E-5f);
+        }
+    }
+
+    @Test
+    void testNlerpQuaternions() {
+        float[] dest = new float[4 * COUNT];
+        Interpolationf.nlerpQuaternions(fromR, toR, 0, COUNT, 0.3f, 0.0f, dest);
+        float[] iterative = new float[4 * COUNT];
+        Interpolationf.nlerpQuaternions(fromR, toR, 0, COUNT, 0.3f, 0.999f, iterative);
+        for (int i = 0; i < COUNT; i++) {
+            Quaternionf a = new Quaternionf(fromR[4 * i], fromR[4 * i + 1], fromR[4 * i + 2], fromR[4 * i + 3]);
+            Quaternionf b = new Quaternionf(toR[4 * i], toR[4 * i + 1], toR[4 * i + 2], toR[4 * i + 3]);
+            assertQuaternionfEquals(new Quaternionf(a).nlerp(b, 0.3f), new Quaternionf(dest[4 * i], dest[4 * i + 1], dest[4 * i + 2], dest[4 * i + 3]), 1E-5f);
+            assertQuaternionfEquals(new Quaternionf(a).nlerpIterative(b, 0.3f, 0.999f),
+                    new Quaternionf(iterative[4 * i], iterative[4 * i + 1], iterative[4 * i + 2], iterative[4 * i + 3]), 1E-5f);
+        }
+    }
+
+    @Test
+    void testInterpolateTranslationRotateScaleArray() {
+        Matrix4x3fArray arr = new Matrix4x3fArray(COUNT + 1);
+        Interpolationf.interpolateTranslationRotateScale(fromT, fromR, fromS, toT, toR, toS, 0, COUNT, 0.6f, 0.0f, arr, 1);
+        assertMatrix4x3fEquals(new Matrix4x3f(), arr.get(0, new Matrix4x3f()), 0.0f);
+        Matrix4x3f expected = new Matrix4x3f(), actual = new Matrix4x3f();
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(0, arr.properties(i + 1));
+            assertMatrix4x3fEquals(expected(i, 0.6f, expected), arr.get(i + 1, actual), 1E-5f);
+        }
+    }
+
+    @Test
+    void testInterpolateTranslationRotateScaleBuffer() {
+        FloatBuffer fb = ByteBuffer.allocateDirect(4 * (12 * COUNT + 1)).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        fb.position(1);
+        Interpolationf.interpolateTranslationRotateScale(fromT, fromR, fromS, toT, toR, toS, 0, COUNT, 0.4f, 0.0f, fb);
+        assertEquals(1, fb.position());
+        ByteBuffer bb = ByteBuffer.allocateDirect(4 * (12 * COUNT + 1)).order(ByteOrder.nativeOrder());
+        bb.position(4);
+        Interpolationf.interpolateTranslationRotateScale(fromT, fromR, fromS, toT, toR, toS, 0, COUNT, 0.4f, 0.0f, bb);
+        assertEquals(4, bb.position());
+        Matrix4x3f expected = new Matrix4x3f(), actual = new Matrix4x3f();
+        for (int i = 0; i < COUNT; i++) {
+            expected(i, 0.4f, expected);
+            assertMatrix4x3fEquals(expected, actual.set(1 + 12 * i, fb), 1E-5f);
+            assertMatrix4x3fEquals(expected, actual.set(4 + 48 * i, bb), 1E-5f);
+        }
+    }
+}
@@ -27,6 +27,9 @@ import org.joml.*;
 import org.joml.Math;
 import org.junit.jupiter.api.Test;
 
+import java.nio.FloatBuffer;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -153,4 +156,163 @@ class MathTest {
         assertEquals(-1, Math.roundUsing(-0.9f, RoundingMode.HALF_EVEN));
         assertEquals(-1, Math.roundUsing(-1.0f, RoundingMode.HALF_EVEN));
     }
+
+    @Test
+    void testBulkSinCosFloat() {
+        Random rnd = new Random(12345L);
+        int count = 3000;
+        float[] src = new float[count + 5];
+        for (int i = 0; i < src.length; i++)
+            src[i] = (float) ((rnd.nextDouble() * 2.0 - 1.0) * (i % 2 == 0 ? 10.0 : 39000.0));
+        float[] sin = new float[count + 2], cos = new float[count + 2], sin2 = new float[count + 2], cos2 = new float[count + 2];
+        Math.sin(src, 5, sin, 2, count);
+        Math.cos(src, 5, cos, 2, count);
+        Math.sinCos(src, 5, sin2, 2, cos2, 2, count);
+        for (int i = 0; i < count; i++) {
+            float x = src[i + 5];
+            assertEquals(java.lang.Math.sin(x), sin[i + 2], 2E-7);
+            assertEquals(java.lang.Math.cos(x), cos[i + 2], 2E-7);
+            assertEquals(sin[i + 2], sin2[i + 2], 0.0f);
+            assertEquals(cos[i + 2], cos2[i + 2], 0.0f);
+        }
+        // in place
+        float[] inPlace = src.clone();
+        Math.sinCos(inPlace, 5, inPlace, 5, cos2, 2, count);
+        for (int i = 0; i < count; i++)
+            assertEquals(sin[i + 2], inPlace[i + 5], 0.0f);
+        FloatBuffer in = FloatBuffer.wrap(src), out = FloatBuffer.allocate(count);
+        Math.sin(in, 5, out, 0, count);
+        assertEquals(0, in.position());
+        for (int i = 0; i < count; i++)
+            assertEquals(sin[i + 2], out.get(i), 0.0f);
+    }
+
+    @Test
+    void testBulkSinCosDouble() {
+        Random rnd = new Random(12345L);
+        int count = 3000;
+        double[] src = new double[count];
+        for (int i = 0; i < count; i++)
+            src[i] = (rnd.nextDouble() * 2.0 - 1.0) * (i % 2 == 0 ? 10.0 : 1E8);
+        double[] sin = new double[count], cos = new double[count];
+        Math.sinCos(src, 0, sin, 0, cos, 0, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(java.lang.Math.sin(src[i]), sin[i], 5E-16);
+            assertEquals(java.lang.Math.cos(src[i]), cos[i], 5E-16);
+        }
+        assertArrayEquals(sin, Math.sin(src, 0, new double[count], 0, count), 0.0);
+        assertArrayEquals(cos, Math.cos(src, 0, new double[count], 0, count), 0.0);
+    }
+
+    @Test
+    void testBulkAtan2() {
+        Random rnd = new Random(12345L);
+        int count = 3000;
+        float[] y = new float[count], x = new float[count];
+        double[] yd = new double[count], xd = new double[count];
+        for (int i = 0; i < count; i++) {
+            y[i] = (float) rnd.nextGaussian(); x[i] = (float) rnd.nextGaussian();
+            yd[i] = rnd.nextGaussian() * 1E3; xd[i] = rnd.nextGaussian();
+        }
+        y[0] = 0.0f; x[0] = -0.0f;
+        y[1] = -0.0f; x[1] = 0.0f;
+        y[2] = 1.0f; x[2] = 0.0f;
+        float[] r = Math.atan2(y, 0, x, 0, new float[count], 0, count);
+        double[] rd = Math.atan2(yd, 0, xd, 0, new double[count], 0, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(java.lang.Math.atan2(y[i], x[i]), r[i], 4E-7);
+            assertEquals(java.lang.Math.atan2(yd[i], xd[i]), rd[i], 1E-15);
+        }
+        assertEquals(-0.0f, r[1], 0.0f);
+        assertTrue(Float.floatToRawIntBits(r[1]) < 0);
+        FloatBuffer out = FloatBuffer.allocate(count);
+        Math.atan2(FloatBuffer.wrap(y), 0, FloatBuffer.wrap(x), 0, out, 0, count);
+        for (int i = 0; i < count; i++)
+            assertEquals(r[i], out.get(i), 0.0f);
+    }
+
+    @Test
+    void testBulkEdgeCases() {
+        float[] src = { -0.0f, 0.0f, 1E7f, -3E38f, 3E38f, Float.POSITIVE_INFINITY, Float.NaN };
+        float[] sin = Math.sin(src, 0, new float[src.length], 0, src.length);
+        float[] cos = Math.cos(src, 0, new float[src.length], 0, src.length);
+        float[] sin2 = new float[src.length], cos2 = new float[src.length];
+        Math.sinCos(src, 0, sin2, 0, cos2, 0, src.length);
+        FloatBuffer sinBuf = FloatBuffer.allocate(src.length);
+        Math.sin(FloatBuffer.wrap(src), 0, sinBuf, 0, src.length);
+        for (int i = 0; i < src.length; i++) {
+            float s = (float) java.lang.Math.sin(src[i]), c = (float) java.lang.Math.cos(src[i]);
+            assertEquals(Float.floatToIntBits(s), Float.floatToIntBits(sin[i]));
+            assertEquals(Float.floatToIntBits(c), Float.floatToIntBits(cos[i]));
+            assertEquals(Float.floatToIntBits(s), Float.floatToIntBits(sin2[i]));
+            assertEquals(Float.floatToIntBits(c), Float.floatToIntBits(cos2[i]));
+            assertEquals(Float.floatToIntBits(s), Float.floatToIntBits(sinBuf.get(i)));
+            assertEquals(Float.floatToIntBits(s), Float.floatToIntBits(Math.Fast.sin(src[i])));
+        }
+        double[] srcd = { -0.0, 1E9, -1E300, Double.NEGATIVE_INFINITY, Double.NaN };
+        double[] sind = new double[srcd.length], cosd = new double[srcd.length];
+        Math.sinCos(srcd, 0, sind, 0, cosd, 0, srcd.length);
+        for (int i = 0; i < srcd.length; i++) {
+            assertEquals(Double.doubleToLongBits(java.lang.Math.sin(srcd[i])), Double.doubleToLongBits(sind[i]));
+            assertEquals(Double.doubleToLongBits(java.lang.Math.cos(srcd[i])), Double.doubleToLongBits(cosd[i]));
+        }
+        float inf = Float.POSITIVE_INFINITY;
+        float[] y = { inf, inf, -inf, -inf, 1.0f, -1.0f, inf, Float.NaN };
+        float[] x = { inf, -inf, inf, -inf, -inf, inf, 1.0f, 1.0f };
+        float[] r = Math.atan2(y, 0, x, 0, new float[y.length], 0, y.length);
+        FloatBuffer rBuf = FloatBuffer.allocate(y.length);
+        Math.atan2(FloatBuffer.wrap(y), 0, FloatBuffer.wrap(x), 0, rBuf, 0, y.length);
+        for (int i = 0; i < y.length; i++) {
+            assertEquals((float) java.lang.Math.atan2(y[i], x[i]), r[i], 4E-7f);
+            assertEquals(r[i], rBuf.get(i), 0.0f);
+        }
+        assertEquals(Math.PI_f / 4.0f, r[0], 4E-7f);
+        assertEquals(java.lang.Math.PI * -0.75, Math.atan2(new double[] { Double.NEGATIVE_INFINITY }, 0,
+                new double[] { Double.NEGATIVE_INFINITY }, 0, new double[1], 0, 1)[0], 1E-15);
+    }
+
+    private static float ulps(float value, double exact) {
+        return (float) (java.lang.Math.abs(value - exact) / java.lang.Math.ulp((float) exact));
+    }
+
+    @Test
+    void testFastFloat() {
+        Random rnd = new Random(12345L);
+        for (int i = 0; i < 100000; i++) {
+            float a = (float) ((rnd.nextDouble() * 2.0 - 1.0) * (i % 2 == 0 ? 10.0 : 39000.0));
+            assertTrue(ulps(Math.Fast.sin(a), java.lang.Math.sin(a)) <= 3.0f);
+            assertTrue(ulps(Math.Fast.cos(a), java.lang.Math.cos(a)) <= 3.0f);
+            float v = (float) java.lang.Math.exp((rnd.nextDouble() * 2.0 - 1.0) * 80.0);
+            assertTrue(ulps(Math.Fast.invsqrt(v), 1.0 / java.lang.Math.sqrt(v)) <= 75.0f);
+            float c = (float) (rnd.nextDouble() * 2.0 - 1.0);
+            assertTrue(ulps(Math.Fast.acos(c), java.lang.Math.acos(c)) <= 2.0f);
+            float y = (float) rnd.nextGaussian(), x = (float) rnd.nextGaussian();
+            assertTrue(ulps(Math.Fast.atan2(y, x), java.lang.Math.atan2(y, x)) <= 3.0f);
+            float e = (float) ((rnd.nextDouble() * 2.0 - 1.0) * 87.0);
+            assertTrue(ulps(Math.Fast.exp(e), java.lang.Math.exp(e)) <= 1.0f);
+        }
+        assertEquals(0.0f, Math.Fast.acos(1.0f), 0.0f);
+        assertEquals(Math.PI_f, Math.Fast.acos(-1.0f), 0.0f);
+        assertEquals(1.0f, Math.Fast.exp(0.0f), 0.0f);
+        assertEquals(Float.POSITIVE_INFINITY, Math.Fast.exp(100.0f), 0.0f);
+        assertEquals(0.0f, Math.Fast.exp(-200.0f), 0.0f);
+    }
+
+    @Test
+    void testFastDouble() {
+        Random rnd = new Random(12345L);
+        for (int i = 0; i < 100000; i++) {
+            double a = (rnd.nextDouble() * 2.0 - 1.0) * (i % 2 == 0 ? 10.0 : 1E8);
+            assertEquals(StrictMath.sin(a), Math.Fast.sin(a), 3.0 * java.lang.Math.ulp(StrictMath.sin(a)));
+            assertEquals(StrictMath.cos(a), Math.Fast.cos(a), 3.0 * java.lang.Math.ulp(StrictMath.cos(a)));
+            double v = java.lang.Math.exp((rnd.nextDouble() * 2.0 - 1.0) * 700.0);
+            assertEquals(1.0 / StrictMath.sqrt(v), Math.Fast.invsqrt(v), 4.0 * java.lang.Math.ulp(1.0 / StrictMath.sqrt(v)));
+            double c = rnd.nextDouble() * 2.0 - 1.0;
+            assertEquals(StrictMath.acos(c), Math.Fast.acos(c), 2.0 * java.lang.Math.ulp(StrictMath.acos(c)));
+            double y = rnd.nextGaussian(), x = rnd.nextGaussian();
+            assertEquals(StrictMath.atan2(y, x), Math.Fast.atan2(y, x), 3.0 * java.lang.Math.ulp(StrictMath.atan2(y, x)));
+            double e = (rnd.nextDouble() * 2.0 - 1.0) * 700.0;
+            assertEquals(StrictMath.exp(e), Math.Fast.exp(e), 2.0 * java.lang.Math.ulp(StrictMath.exp(e)));
+        }
+    }
 }
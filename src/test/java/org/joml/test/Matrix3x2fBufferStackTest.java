@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix3x2f;
+import org.joml.Matrix3x2fBufferStack;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Matrix3x2fBufferStack} class.
+ */
+class Matrix3x2fBufferStackTest {
+
+    @Test
+    void testPushPopGetAll() {
+        for (int direct = 0; direct < 2; direct++) {
+            Matrix3x2fBufferStack s = new Matrix3x2fBufferStack(1, direct != 0);
+            Matrix3x2f[] expected = new Matrix3x2f[6];
+            expected[0] = new Matrix3x2f(s.translate(1, 2));
+            for (int i = 1; i < expected.length; i++) {
+                Matrix3x2f right = new Matrix3x2f().rotate(0.1f * i).scale(1.5f);
+                expected[i] = new Matrix3x2f(expected[i - 1]).mul(right);
+                s.pushMatrix(right);
+            }
+            float[] arr = s.getAll(new float[6 * 6], 0);
+            ByteBuffer bb = s.getAll(ByteBuffer.allocateDirect(6 * 6 * 4).order(ByteOrder.nativeOrder()));
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], s.level(i, new Matrix3x2f()));
+                assertEquals(expected[i], new Matrix3x2f().set(arr, i * 6));
+                assertEquals(expected[i], new Matrix3x2f().set(i * 6 * 4, bb));
+            }
+            for (int i = expected.length - 1; i > 0; i--) {
+                s.popMatrix();
+                assertEquals(expected[i - 1], s);
+            }
+            assertThrows(IllegalStateException.class, s::popMatrix);
+        }
+    }
+
+}
@@ -428,6 +428,19 @@ class Matrix4dTest {
         assertMatrix4dEquals(m, invm, 1E-3f);
     }
 
+    @Test
+    void testInvertGenericAndTranspose() {
+        Matrix4d m = new Matrix4d(0.8, 0.1, -0.3, 0.2, -0.2, 0.9, 0.4, -0.1, 0.3, -0.4, 1.1, 0.3, 1.5, -2.0, 0.7, 1.2);
+        Matrix4d inv = m.invert(new Matrix4d());
+        assertMatrix4dEquals(new Matrix4d(), new Matrix4d(m).mul(inv), 1E-12);
+        assertMatrix4dEquals(inv, new Matrix4d(m).invert(), 0);
+        Matrix4d t = m.transpose(new Matrix4d());
+        assertEquals(m.m12(), t.m21());
+        assertEquals(m.m30(), t.m03());
+        assertMatrix4dEquals(t, new Matrix4d(m).transpose(), 0);
+        assertMatrix4dEquals(m, t.transpose(), 0);
+    }
+
     @Test
     void testRotateXYZ() {
         Matrix4d m = new Matrix4d().rotateX(0.12f).rotateY(0.0623f).rotateZ(0.95f);
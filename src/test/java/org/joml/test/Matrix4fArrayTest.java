@@ -0,0 +1,158 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.joml.Matrix4f;
+import org.joml.Matrix4fArray;
+import org.joml.Matrix4fc;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Matrix4fArray} class.
+ */
+class Matrix4fArrayTest {
+    private static Matrix4fArray create(Matrix4f[] ms) {
+        Matrix4fArray arr = new Matrix4fArray(ms.length);
+        for (int i = 0; i < ms.length; i++)
+            arr.set(i, ms[i]);
+        return arr;
+    }
+
+    private static Matrix4f[] matrices() {
+        return new Matrix4f[] {
+            new Matrix4f(),
+            new Matrix4f().translation(1, 2, 3),
+            new Matrix4f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(4, -5, 6),
+            new Matrix4f().scale(2, 3, 4).rotateY(0.7f),
+            new Matrix4f().perspective(1.0f, 1.5f, 0.1f, 100.0f).lookAt(1, 2, 3, 0, 0, 0, 0, 1, 0)
+        };
+    }
+
+    @Test
+    void testIdentity() {
+        Matrix4fArray arr = new Matrix4fArray(3);
+        for (int i = 0; i < arr.size(); i++) {
+            Matrix4f m = arr.get(i, new Matrix4f());
+            assertEquals(new Matrix4f(), m);
+            assertTrue((m.properties() & Matrix4fc.PROPERTY_IDENTITY) != 0);
+        }
+    }
+
+    @Test
+    void testMul() {
+        Matrix4f[] a = matrices(), b = matrices();
+        for (int i = 0; i < b.length; i++)
+            b[i].rotateZ(0.5f * i);
+        Matrix4fArray arr = create(a).mul(create(b), new Matrix4fArray(a.length));
+        for (int i = 0; i < a.length; i++) {
+            Matrix4f expected = new Matrix4f(a[i]).mul(b[i]);
+            Matrix4f actual = arr.get(i, new Matrix4f());
+            assertMatrix4fEquals(expected, actual, 1E-5f);
+            assertEquals(expected.properties() & Matrix4fc.PROPERTY_AFFINE, actual.properties() & Matrix4fc.PROPERTY_AFFINE);
+        }
+    }
+
+    @Test
+    void testMulInPlace() {
+        Matrix4f[] a = matrices();
+        Matrix4f r = new Matrix4f().rotateX(0.3f).translate(1, 1, 1);
+        Matrix4fArray arr = create(a);
+        arr.mul(r, arr);
+        for (int i = 0; i < a.length; i++)
+            assertMatrix4fEquals(new Matrix4f(a[i]).mul(r), arr.get(i, new Matrix4f()), 1E-5f);
+        arr = create(a);
+        arr.mulLocal(r, arr);
+        for (int i = 0; i < a.length; i++)
+            assertMatrix4fEquals(new Matrix4f(r).mul(a[i]), arr.get(i, new Matrix4f()), 1E-5f);
+    }
+
+    @Test
+    void testInvertAffine() {
+        Matrix4f[] a = matrices();
+        Matrix4fArray arr = create(a);
+        arr.invertAffine(arr);
+        for (int i = 0; i < 4; i++)
+            assertMatrix4fEquals(new Matrix4f(a[i]).invertAffine(), arr.get(i, new Matrix4f()), 1E-5f);
+        for (int i = 0; i < 4; i++)
+            assertEquals(new Matrix4f(a[i]).invert().properties(), arr.properties(i));
+    }
+
+    @Test
+    void testTranspose() {
+        Matrix4f[] a = matrices();
+        Matrix4fArray arr = create(a);
+        arr.transpose(arr);
+        for (int i = 0; i < a.length; i++) {
+            Matrix4f t = new Matrix4f(a[i]).transpose();
+            assertMatrix4fEquals(t, arr.get(i, new Matrix4f()), 0.0f);
+            assertEquals(t.properties(), arr.properties(i));
+        }
+        assertTrue(arr.get(0, new Matrix4f()).isAffine());
+    }
+
+    @Test
+    void testSizeMismatch() {
+        Matrix4fArray a = new Matrix4fArray(3), b = new Matrix4fArray(2);
+        assertThrows(IllegalArgumentException.class, () -> a.mul(b, a));
+        assertThrows(IllegalArgumentException.class, () -> a.mul(a, b));
+        assertThrows(IllegalArgumentException.class, () -> a.mulAffine(b, a));
+        assertThrows(IllegalArgumentException.class, () -> a.mul(new Matrix4f(), b));
+        assertThrows(IllegalArgumentException.class, () -> a.invertAffine(b));
+        assertThrows(IllegalArgumentException.class, () -> a.transpose(b));
+    }
+
+    @Test
+    void testView() {
+        Matrix4f[] a = matrices();
+        Matrix4fArray arr = create(a);
+        Matrix4fc view = arr.view(2);
+        assertEquals(a[2], new Matrix4f(view));
+        Vector3f v = view.transformPosition(new Vector3f(1, 2, 3));
+        assertVector3fEquals(a[2].transformPosition(new Vector3f(1, 2, 3)), v, 1E-6f);
+        arr.set(2, a[1]);
+        assertEquals(a[1].m30(), view.m30(), 0.0f);
+    }
+
+    @Test
+    void testGetBuffer() {
+        Matrix4f[] a = matrices();
+        Matrix4fArray arr = create(a);
+        FloatBuffer fb = ByteBuffer.allocateDirect(4 * (1 + 16 * a.length)).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        arr.get(1, fb);
+        ByteBuffer bb = ByteBuffer.allocateDirect(4 * 16 * a.length).order(ByteOrder.nativeOrder());
+        arr.get(bb);
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(a[i], new Matrix4f().set(1 + 16 * i, fb));
+            assertEquals(a[i], new Matrix4f().set(16 * 4 * i, bb));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4f;
+import org.joml.Matrix4fBufferStack;
+import org.joml.Options;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Matrix4fBufferStack} class.
+ */
+class Matrix4fBufferStackTest {
+
+    private static Matrix4fBufferStack fill(Matrix4fBufferStack s, Matrix4f[] expected) {
+        expected[0] = new Matrix4f(s.translate(1, 2, 3));
+        for (int i = 1; i < expected.length; i++) {
+            Matrix4f right = new Matrix4f().rotateY(0.1f * i).scale(1.5f);
+            expected[i] = new Matrix4f(expected[i - 1]).mul(right);
+            s.pushMatrix(right);
+            assertEquals(expected[i], s);
+        }
+        return s;
+    }
+
+    @Test
+    void testPushPopGrows() {
+        for (int direct = 0; direct < 2; direct++) {
+            Matrix4fBufferStack s = new Matrix4fBufferStack(2, direct != 0);
+            Matrix4f[] expected = new Matrix4f[10];
+            fill(s, expected);
+            assertEquals(10, s.size());
+            assertTrue(s.capacity() >= 10);
+            assertEquals(direct != 0, s.isDirect());
+            for (int i = 0; i < expected.length; i++)
+                assertEquals(expected[i], s.level(i, new Matrix4f()));
+            for (int i = expected.length - 1; i > 0; i--) {
+                s.popMatrix();
+                assertEquals(expected[i - 1], s);
+                assertTrue(s.isAffine());
+            }
+            assertThrows(IllegalStateException.class, s::popMatrix);
+        }
+    }
+
+    @Test
+    void testGetAll() {
+        for (int direct = 0; direct < 2; direct++) {
+            Matrix4f[] expected = new Matrix4f[5];
+            Matrix4fBufferStack s = fill(new Matrix4fBufferStack(1, direct != 0), expected);
+            float[] arr = s.getAll(new float[5 * 16 + 1], 1);
+            FloatBuffer fb = s.getAll(1, ByteBuffer.allocateDirect((5 * 16 + 1) * 4).order(ByteOrder.nativeOrder()).asFloatBuffer());
+            ByteBuffer bb = s.getAll(4, ByteBuffer.allocateDirect((5 * 16 + 1) * 4).order(ByteOrder.nativeOrder()));
+            ByteBuffer be = s.getAll(4, ByteBuffer.allocateDirect((5 * 16 + 1) * 4).order(ByteOrder.BIG_ENDIAN));
+            // Heap buffers are only accepted when JOML does not use Unsafe, like with Matrix4f.get(ByteBuffer)
+            ByteBuffer heap = Options.NO_UNSAFE ? s.getAll(4, ByteBuffer.allocate((5 * 16 + 1) * 4).order(ByteOrder.nativeOrder())) : null;
+            assertEquals(0, fb.position());
+            assertEquals(0, bb.position());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], new Matrix4f().set(arr, 1 + i * 16));
+                assertEquals(expected[i], new Matrix4f().set(1 + i * 16, fb));
+                assertEquals(expected[i], new Matrix4f().set(4 + i * 64, bb));
+                assertEquals(expected[i].m32(), be.getFloat(4 + i * 64 + 14 * 4));
+                if (heap != null)
+                    assertEquals(expected[i], new Matrix4f().set(4 + i * 64, heap));
+            }
+            if (direct != 0) {
+                ByteBuffer buf = s.buffer();
+                assertEquals(5 * 64, buf.remaining());
+                assertEquals(expected[4], new Matrix4f().set(4 * 64, buf));
+            } else {
+                assertThrows(IllegalStateException.class, s::buffer);
+            }
+        }
+    }
+
+    @Test
+    void testEqualsAndClone() throws CloneNotSupportedException {
+        Matrix4fBufferStack s1 = fill(new Matrix4fBufferStack(1, true), new Matrix4f[3]);
+        Matrix4fBufferStack s2 = fill(new Matrix4fBufferStack(4), new Matrix4f[3]);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+        Matrix4fBufferStack c = (Matrix4fBufferStack) s1.clone();
+        assertEquals(s1, c);
+        c.popMatrix();
+        assertNotEquals(s1, c);
+        s2.popMatrix();
+        assertEquals(s2, c);
+    }
+
+}
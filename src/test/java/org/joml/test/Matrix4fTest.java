@@ -31,6 +31,10 @@ import org.joml.Vector4f;
 import org.joml.Math;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
 import static org.joml.test.TestUtil.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -670,4 +674,129 @@ class Matrix4fTest {
                 10.0f);
         assertMatrix4fEquals(m1, m2, 1E-6f);
     }
+
+    @Test
+    void testTransformPositionsArray() {
+        Matrix4f m = new Matrix4f().translation(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        float[] src = {1, 2, 3, -1, 4, 5, -2, -3, 6, 7, 0, 9};
+        float[] dest = new float[12];
+        m.transformPositions(src, 0, 4, dest, 0, 4, 3);
+        for (int i = 0; i < 3; i++) {
+            Vector3f expected = m.transformPosition(src[i * 4], src[i * 4 + 1], src[i * 4 + 2], new Vector3f());
+            assertVector3fEquals(expected, new Vector3f(dest[i * 4], dest[i * 4 + 1], dest[i * 4 + 2]), 1E-6f);
+            assertEquals(0.0f, dest[i * 4 + 3], 0.0f);
+        }
+    }
+
+    @Test
+    void testTransformDirectionsArrayInPlace() {
+        Matrix4f m = new Matrix4f().translation(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f);
+        float[] arr = {1, 2, 3, -1, 4, 5};
+        m.transformDirections(arr, 0, 3, arr, 0, 3, 2);
+        assertVector3fEquals(m.transformDirection(1, 2, 3, new Vector3f()), new Vector3f(arr[0], arr[1], arr[2]), 1E-6f);
+        assertVector3fEquals(m.transformDirection(-1, 4, 5, new Vector3f()), new Vector3f(arr[3], arr[4], arr[5]), 1E-6f);
+    }
+
+    @Test
+    void testTransformProjectsBuffer() {
+        Matrix4f m = new Matrix4f().perspective(Math.toRadians(60), 1.5f, 0.1f, 100.0f).lookAt(1, 2, 3, 0, 0, 0, 0, 1, 0);
+        float[] src = {1, 2, 3, -1, 4, 5, -2, -3, 6};
+        FloatBuffer direct = ByteBuffer.allocateDirect(9 << 2).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        direct.put(src).flip();
+        FloatBuffer heap = FloatBuffer.allocate(9);
+        m.transformProjects(direct, 0, 3, direct, 0, 3, 3);
+        m.transformProjects(FloatBuffer.wrap(src), 0, 3, heap, 0, 3, 3);
+        assertEquals(0, direct.position());
+        for (int i = 0; i < 3; i++) {
+            Vector3f expected = m.transformProject(src[i * 3], src[i * 3 + 1], src[i * 3 + 2], new Vector3f());
+            assertVector3fEquals(expected, new Vector3f(direct.get(i * 3), direct.get(i * 3 + 1), direct.get(i * 3 + 2)), 1E-5f);
+            assertVector3fEquals(expected, new Vector3f(heap.get(i * 3), heap.get(i * 3 + 1), heap.get(i * 3 + 2)), 1E-5f);
+        }
+    }
+
+    @Test
+    void testTransformPositionsBufferOutOfRange() {
+        Matrix4f m = new Matrix4f().translation(1, 2, 3);
+        Matrix4f p = new Matrix4f().perspective(1.0f, 1.0f, 0.1f, 100.0f);
+        FloatBuffer direct = ByteBuffer.allocateDirect(9 << 2).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        FloatBuffer small = ByteBuffer.allocateDirect(6 << 2).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(direct, 0, 3, direct, 0, 3, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(direct, 0, 3, small, 0, 3, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(direct, 1, 3, direct, 0, 3, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> p.transformProjects(direct, 0, 4, direct, 0, 3, 3));
+        direct.limit(8);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(direct, 0, 3, direct, 0, 3, 3));
+    }
+
+    @Test
+    void testTransformPositionsBufferNegativeStride() {
+        Matrix4f m = new Matrix4f().translation(1, 2, 3);
+        FloatBuffer whole = ByteBuffer.allocateDirect(12 << 2).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        for (int i = 0; i < 12; i++)
+            whole.put(i, i);
+        whole.position(3);
+        FloatBuffer slice = whole.slice();
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(slice, 0, -3, slice, 0, -3, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPositions(slice, 6, -3, slice, 6, -3, 4));
+        for (int i = 0; i < 12; i++)
+            assertEquals(i, whole.get(i), 0.0f);
+        // walking backwards is fine as long as every vector lies within the buffer
+        m.transformPositions(slice, 6, -3, slice, 6, -3, 3);
+        for (int i = 0; i < 3; i++)
+            assertEquals(i, whole.get(i), 0.0f);
+        for (int i = 3; i < 12; i++)
+            assertEquals(i + 1 + (i % 3), whole.get(i), 0.0f);
+    }
+
+    @Test
+    void testRotationFromSinCos() {
+        float angle = 0.7f;
+        float sin = Math.Fast.sin(angle), cos = Math.Fast.cos(angle);
+        assertMatrix4fEquals(new Matrix4f().rotationX(angle), new Matrix4f().rotationX(sin, cos), 1E-6f);
+        assertMatrix4fEquals(new Matrix4f().rotationY(angle), new Matrix4f().rotationY(sin, cos), 1E-6f);
+        assertMatrix4fEquals(new Matrix4f().rotationZ(angle), new Matrix4f().rotationZ(sin, cos), 1E-6f);
+        Vector3f axis = new Vector3f(1, 2, 3).normalize();
+        assertMatrix4fEquals(new Matrix4f().rotation(angle, axis), new Matrix4f().rotation(sin, cos, axis.x, axis.y, axis.z), 1E-6f);
+        assertTrue((new Matrix4f().rotationX(sin, cos).properties() & Matrix4fc.PROPERTY_ORTHONORMAL) != 0);
+    }
+
+//#ifdef __HAS_FOREIGN_MEMORY_ACCESS_API__
+    /**
+     * Exercises the segment-based bulk transforms, which are used when running with <code>-Djoml.useForeignMemory</code>.
+     */
+    @Test
+    void testTransformBufferSegments() {
+        Matrix4f a = new Matrix4f().translation(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        Matrix4f p = new Matrix4f().perspective(1.0f, 1.5f, 0.1f, 100.0f).lookAt(1, 2, 3, 0, 0, 0, 0, 1, 0);
+        float[] src = {9, 9, 1, 2, 3, 0, -1, 4, 5, 0, -2, -3, 6, 0};
+        FloatBuffer in = ByteBuffer.allocateDirect(src.length << 2).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        in.put(src).position(1);
+        FloatBuffer out = ByteBuffer.allocateDirect(12 << 2).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        out.position(2);
+        for (int k = 0; k < 2; k++) {
+            Matrix4f m = k == 0 ? a : p;
+            float[] expected = new float[12];
+            if (k == 0) {
+                a.transformPositions(src, 2, 4, expected, 3, 3, 3);
+                a.transformPositions(in, 2, 4, out, 3, 3, 3);
+            } else {
+                p.transformProjects(src, 2, 4, expected, 3, 3, 3);
+                p.transformProjects(in, 2, 4, out, 3, 3, 3);
+            }
+            assertEquals(1, in.position());
+            assertEquals(2, out.position());
+            for (int i = 3; i < 12; i++)
+                assertEquals(expected[i], out.get(i), 1E-6f, m.toString());
+            FloatBuffer heap = FloatBuffer.allocate(12);
+            if (k == 0)
+                a.transformPositions(FloatBuffer.wrap(src), 2, 4, heap, 3, 3, 3);
+            else
+                p.transformProjects(FloatBuffer.wrap(src), 2, 4, heap, 3, 3, 3);
+            for (int i = 3; i < 12; i++)
+                assertEquals(expected[i], heap.get(i), 1E-6f);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> a.transformPositions(in, 2, 4, out, 3, 3, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> p.transformProjects(in, 2, 5, out, 3, 3, 3));
+    }
+//#endif
 }
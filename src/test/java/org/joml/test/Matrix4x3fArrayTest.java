@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.joml.Matrix4x3f;
+import org.joml.Matrix4x3fArray;
+import org.joml.Matrix4x3fc;
+import org.junit.jupiter.api.Test;
+
+import static org.joml.test.TestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Matrix4x3fArray} class.
+ */
+class Matrix4x3fArrayTest {
+    private static Matrix4x3fArray create(Matrix4x3f[] ms) {
+        Matrix4x3fArray arr = new Matrix4x3fArray(ms.length);
+        for (int i = 0; i < ms.length; i++)
+            arr.set(i, ms[i]);
+        return arr;
+    }
+
+    private static Matrix4x3f[] matrices() {
+        return new Matrix4x3f[] {
+            new Matrix4x3f(),
+            new Matrix4x3f().translation(1, 2, 3),
+            new Matrix4x3f().rotateXYZ(0.1f, 0.2f, 0.3f).translate(4, -5, 6),
+            new Matrix4x3f().scale(2, 3, 4).rotateY(0.7f)
+        };
+    }
+
+    @Test
+    void testMul() {
+        Matrix4x3f[] a = matrices(), b = matrices();
+        for (int i = 0; i < b.length; i++)
+            b[i].rotateZ(0.5f * i);
+        Matrix4x3fArray arr = create(a);
+        arr.mul(create(b), arr);
+        for (int i = 0; i < a.length; i++)
+            assertMatrix4x3fEquals(new Matrix4x3f(a[i]).mul(b[i]), arr.get(i, new Matrix4x3f()), 1E-5f);
+        Matrix4x3f r = new Matrix4x3f().rotateX(0.3f).translate(1, 1, 1);
+        arr = create(a).mulLocal(r, new Matrix4x3fArray(a.length));
+        for (int i = 0; i < a.length; i++)
+            assertMatrix4x3fEquals(new Matrix4x3f(r).mul(a[i]), arr.get(i, new Matrix4x3f()), 1E-5f);
+    }
+
+    @Test
+    void testInvert() {
+        Matrix4x3f[] a = matrices();
+        Matrix4x3fArray arr = create(a);
+        arr.invert(arr);
+        for (int i = 0; i < a.length; i++) {
+            Matrix4x3f expected = new Matrix4x3f(a[i]).invert();
+            Matrix4x3f actual = arr.get(i, new Matrix4x3f());
+            assertMatrix4x3fEquals(expected, actual, 1E-5f);
+            assertEquals(expected.properties(), actual.properties());
+        }
+    }
+
+    @Test
+    void testSizeMismatch() {
+        Matrix4x3fArray a = new Matrix4x3fArray(3), b = new Matrix4x3fArray(2);
+        assertThrows(IllegalArgumentException.class, () -> a.mul(b, a));
+        assertThrows(IllegalArgumentException.class, () -> a.mul(a, b));
+        assertThrows(IllegalArgumentException.class, () -> a.mulLocal(new Matrix4x3f(), b));
+        assertThrows(IllegalArgumentException.class, () -> a.invert(b));
+    }
+
+    @Test
+    void testViewAndBuffer() {
+        Matrix4x3f[] a = matrices();
+        Matrix4x3fArray arr = create(a);
+        Matrix4x3fc view = arr.view(2);
+        assertEquals(a[2], new Matrix4x3f(view));
+        FloatBuffer fb = ByteBuffer.allocateDirect(4 * 12 * a.length).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        arr.get(fb);
+        for (int i = 0; i < a.length; i++)
+            assertEquals(a[i], new Matrix4x3f().set(12 * i, fb));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4x3f;
+import org.joml.Matrix4x3fBufferStack;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Matrix4x3fBufferStack} class.
+ */
+class Matrix4x3fBufferStackTest {
+
+    @Test
+    void testPushPopGetAll() {
+        for (int direct = 0; direct < 2; direct++) {
+            Matrix4x3fBufferStack s = new Matrix4x3fBufferStack(1, direct != 0);
+            Matrix4x3f[] expected = new Matrix4x3f[6];
+            expected[0] = new Matrix4x3f(s.translate(1, 2, 3));
+            for (int i = 1; i < expected.length; i++) {
+                Matrix4x3f right = new Matrix4x3f().rotateY(0.1f * i).scale(1.5f);
+                expected[i] = new Matrix4x3f(expected[i - 1]).mul(right);
+                s.pushMatrix(right);
+            }
+            float[] arr = s.getAll(new float[6 * 12], 0);
+            ByteBuffer bb = s.getAll(ByteBuffer.allocateDirect(6 * 12 * 4).order(ByteOrder.nativeOrder()));
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], s.level(i, new Matrix4x3f()));
+                assertEquals(expected[i], new Matrix4x3f().set(arr, i * 12));
+                assertEquals(expected[i], new Matrix4x3f().set(i * 12 * 4, bb));
+            }
+            for (int i = expected.length - 1; i > 0; i--) {
+                s.popMatrix();
+                assertEquals(expected[i - 1], s);
+            }
+            assertThrows(IllegalStateException.class, s::popMatrix);
+        }
+    }
+
+}
@@ -23,6 +23,7 @@
  */
 package org.joml.test;
 
+import org.joml.Matrix4f;
 import org.joml.Matrix4x3f;
 import org.joml.Vector3f;
 import org.joml.Math;
@@ -126,6 +127,18 @@ class Matrix4x3fTest {
         assertMatrix4x3fEquals(r, n, 1E-8f);
     }
 
+    @Test
+    void testMul() {
+        Matrix4x3f a = new Matrix4x3f().translation(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(1.5f);
+        Matrix4x3f b = new Matrix4x3f().translation(-3, 0.5f, 2).rotateXYZ(-0.4f, 0.3f, 1.1f).scale(0.5f, 2, 1);
+        Matrix4f expected = new Matrix4f().set(a).mul(new Matrix4f().set(b));
+        Matrix4x3f r = a.mul(b, new Matrix4x3f());
+        assertMatrix4x3fEquals(new Matrix4x3f().set(expected), r, 1E-5f);
+        assertMatrix4x3fEquals(r, new Matrix4x3f(a).mul(b), 0);
+        Matrix4x3f right = new Matrix4x3f(b);
+        assertMatrix4x3fEquals(r, a.mul(right, right), 0);
+    }
+
     @Test
     void testInvert() {
         Matrix4x3f invm = new Matrix4x3f();
@@ -204,4 +217,16 @@ class Matrix4x3fTest {
         assertMatrix4x3fEquals(m, n, 1E-6f);
     }
 
+    @Test
+    void testTransformPositionsAndDirections() {
+        Matrix4x3f m = new Matrix4x3f().translation(1, 2, 3).rotateXYZ(0.1f, 0.2f, 0.3f).scale(2);
+        float[] src = {1, 2, 3, -1, 4, 5};
+        float[] positions = m.transformPositions(src, 0, 3, new float[6], 0, 3, 2);
+        float[] directions = m.transformDirections(src, 0, 3, new float[6], 0, 3, 2);
+        for (int i = 0; i < 2; i++) {
+            Vector3f v = new Vector3f(src[i * 3], src[i * 3 + 1], src[i * 3 + 2]);
+            assertVector3fEquals(m.transformPosition(v, new Vector3f()), new Vector3f(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]), 1E-6f);
+            assertVector3fEquals(m.transformDirection(v, new Vector3f()), new Vector3f(directions[i * 3], directions[i * 3 + 1], directions[i * 3 + 2]), 1E-6f);
+        }
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.NoiseTileCache;
+import org.joml.SimplexNoise;
+import org.joml.Vector2i;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link NoiseTileCache}.
+ */
+class NoiseTileCacheTest {
+
+    private static final NoiseTileCache.Octaves OCTAVES = new NoiseTileCache.Octaves(3, 0.05f, 2.0f, 0.5f);
+
+    @Test
+    void testTileMatchesLattice() {
+        SimplexNoise noise = new SimplexNoise(99L);
+        NoiseTileCache cache = new NoiseTileCache(noise, 16.0f, 8, 64);
+        float[] tile = cache.tile(OCTAVES, new Vector2i(-2, 3), new float[9 * 9], 0);
+        float[] expected = noise.sample(-32.0f * 0.05f, 48.0f * 0.05f, 2.0f * 0.05f, 2.0f * 0.05f, 9, 9, 3, 2.0f, 0.5f, new float[9 * 9], 0, 1);
+        assertArrayEquals(expected, tile, 0.0f);
+        float[] tile3 = cache.tile(OCTAVES, new Vector3i(1, 0, -1), new float[9 * 9 * 9], 0);
+        float[] expected3 = noise.sample(16.0f * 0.05f, 0.0f, -16.0f * 0.05f, 0.1f, 0.1f, 0.1f, 9, 9, 9, 3, 2.0f, 0.5f, new float[9 * 9 * 9], 0, 1);
+        assertArrayEquals(expected3, tile3, 0.0f);
+    }
+
+    @Test
+    void testSampleInterpolates() {
+        NoiseTileCache cache = new NoiseTileCache(new SimplexNoise(5L), 16.0f, 8, 64);
+        float[] tile = cache.tile(OCTAVES, new Vector2i(0, -1), new float[9 * 9], 0);
+        // lattice points reproduce the tile values, also on the far border of the chunk
+        assertEquals(tile[3 * 9 + 5], cache.sample(OCTAVES, 10.0f, -10.0f), 1E-6f);
+        assertEquals(tile[7 * 9 + 7], cache.sample(OCTAVES, 14.0f, -2.0f), 1E-6f);
+        // halfway between two lattice points along x
+        assertEquals((tile[2 * 9 + 1] + tile[2 * 9 + 2]) * 0.5f, cache.sample(OCTAVES, 3.0f, -12.0f), 1E-6f);
+        // center of a cell in 3D is the average of its eight corners
+        float[] t = cache.tile(OCTAVES, new Vector3i(0, 0, 0), new float[9 * 9 * 9], 0);
+        float avg = 0.0f;
+        for (int k = 0; k < 2; k++)
+            for (int j = 0; j < 2; j++)
+                for (int i = 0; i < 2; i++)
+                    avg += t[((4 + k) * 9 + 2 + j) * 9 + 1 + i];
+        assertEquals(avg / 8.0f, cache.sample(OCTAVES, 3.0f, 5.0f, 9.0f), 1E-6f);
+    }
+
+    @Test
+    void testCountersAndEviction() {
+        NoiseTileCache cache = new NoiseTileCache(new SimplexNoise(), 8.0f, 4, 2, 1);
+        cache.sample(OCTAVES, 1.0f, 1.0f);
+        cache.sample(OCTAVES, 2.0f, 3.0f);
+        assertEquals(1, cache.misses());
+        assertEquals(1, cache.hits());
+        cache.sample(OCTAVES, 9.0f, 1.0f);
+        cache.sample(OCTAVES, 1.0f, 1.0f);
+        // (0, 0) was used most recently, so (1, 0) is evicted by (0, 1)
+        cache.sample(OCTAVES, 1.0f, 9.0f);
+        assertEquals(1, cache.evictions());
+        assertEquals(2, cache.size());
+        cache.sample(OCTAVES, 1.0f, 1.0f);
+        assertEquals(3, cache.hits());
+        cache.sample(OCTAVES, 9.0f, 1.0f);
+        assertEquals(4, cache.misses());
+        // a different configuration is a different tile
+        cache.sample(new NoiseTileCache.Octaves(2, 0.05f, 2.0f, 0.5f), 1.0f, 1.0f);
+        assertEquals(5, cache.misses());
+        cache.resetCounters();
+        assertEquals(0, cache.hits() + cache.misses() + cache.evictions());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testMaxTiles() {
+        for (int maxTiles = 1; maxTiles <= 20; maxTiles++) {
+            NoiseTileCache cache = new NoiseTileCache(new SimplexNoise(), 8.0f, 2, maxTiles);
+            for (int i = 0; i < 100; i++)
+                cache.sample(OCTAVES, i * 8.0f + 1.0f, 1.0f);
+            assertEquals(100, cache.misses());
+            assertTrue(cache.size() <= maxTiles);
+            assertEquals(100 - cache.size(), cache.evictions());
+        }
+        NoiseTileCache single = new NoiseTileCache(new SimplexNoise(), 8.0f, 2, 1);
+        for (int i = 0; i < 10; i++)
+            single.sample(OCTAVES, 1.0f, i * 8.0f + 1.0f);
+        assertEquals(1, single.size());
+        assertEquals(9, single.evictions());
+    }
+
+    @Test
+    void testConcurrentUse() throws InterruptedException {
+        final NoiseTileCache cache = new NoiseTileCache(new SimplexNoise(3L), 8.0f, 4, 16, 4);
+        final NoiseTileCache reference = new NoiseTileCache(new SimplexNoise(3L), 8.0f, 4, 1024);
+        final int lookups = 2000;
+        final Throwable[] error = new Throwable[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int seed = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < lookups; i++) {
+                        float x = ((i * 7 + seed * 13) % 97) * 0.5f, y = ((i * 11 + seed) % 89) * 0.5f;
+                        assertEquals(reference.sample(OCTAVES, x, y), cache.sample(OCTAVES, x, y), 0.0f);
+                    }
+                } catch (Throwable e) {
+                    error[0] = e;
+                }
+            });
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++)
+            threads[t].join();
+        assertNull(error[0]);
+        assertEquals(threads.length * lookups, cache.hits() + cache.misses());
+        assertTrue(cache.size() <= 16);
+        assertTrue(cache.evictions() > 0);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new NoiseTileCache.Octaves(0, 1.0f, 2.0f, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> new NoiseTileCache(new SimplexNoise(), 0.0f, 4, 16));
+        assertThrows(IllegalArgumentException.class, () -> new NoiseTileCache(new SimplexNoise(), 8.0f, 0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new NoiseTileCache(new SimplexNoise(), 8.0f, 4, 0));
+    }
+}
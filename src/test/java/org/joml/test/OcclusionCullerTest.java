@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4f;
+import org.joml.OcclusionCuller;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link OcclusionCuller} class.
+ */
+class OcclusionCullerTest {
+    private static final Matrix4f VIEW_PROJ = new Matrix4f().perspective((float) Math.PI / 2.0f, 1.0f, 0.1f, 100.0f);
+
+    /**
+     * A quad in the plane <code>z</code> spanning <code>[x0..x1] x [y0..y1]</code>.
+     */
+    private static float[] quad(float x0, float y0, float x1, float y1, float z) {
+        return new float[] { x0, y0, z, x1, y0, z, x1, y1, z, x0, y1, z };
+    }
+
+    private static final int[] QUAD_INDICES = { 0, 1, 2, 0, 2, 3 };
+
+    @Test
+    void testOccludedBehindWall() {
+        OcclusionCuller c = new OcclusionCuller(128, 96, 1);
+        c.begin(VIEW_PROJ);
+        c.rasterize(quad(-2, -2, 2, 2, -4), 0, 4, QUAD_INDICES, 0, 2);
+        assertFalse(c.testAab(-1, -1, -12, 1, 1, -10));
+        assertTrue(c.testAab(-1, -1, -3, 1, 1, -2));
+        assertTrue(c.testAab(-1, -1, -5, 1, 1, -3));
+        // partly beside the wall
+        assertTrue(c.testAab(6, -1, -12, 12, 1, -10));
+        // crossing the camera plane
+        assertTrue(c.testAab(-1, -1, -12, 1, 1, 1));
+        // nothing rasterized
+        c.begin(VIEW_PROJ);
+        assertTrue(c.testAab(-1, -1, -12, 1, 1, -10));
+    }
+
+    @Test
+    void testIgnoresTrianglesBehindCamera() {
+        OcclusionCuller c = new OcclusionCuller(64, 64, 1);
+        c.begin(VIEW_PROJ);
+        c.rasterize(quad(-5, -5, 5, 5, 4), 0, 4, QUAD_INDICES, 0, 2);
+        c.rasterize(new float[] { -5, -5, -4, 5, -5, -4, 0, 5, 1 }, 0, 3, new int[] { 0, 1, 2 }, 0, 1);
+        assertTrue(c.testAab(-1, -1, -12, 1, 1, -10));
+        for (int y = 0; y < c.height(); y++)
+            for (int x = 0; x < c.width(); x++)
+                assertEquals(1.0f, c.depth(0, x, y), 0.0f);
+    }
+
+    @Test
+    void testIndexOutOfRange() {
+        OcclusionCuller c = new OcclusionCuller(64, 64, 1);
+        c.begin(VIEW_PROJ);
+        /* The first call leaves room for 8 projected vertices, which must not be read by the second call */
+        c.rasterize(new float[24], 0, 8, new int[] { 0, 1, 7 }, 0, 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> c.rasterize(quad(-2, -2, 2, 2, -4), 0, 4, new int[] { 0, 1, 4 }, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> c.rasterize(quad(-2, -2, 2, 2, -4), 0, 4, new int[] { 0, -1, 2 }, 0, 1));
+        c.rasterize(quad(-2, -2, 2, 2, -4), 0, 4, new int[] { 9, 0, 1, 2 }, 1, 1);
+    }
+
+    @Test
+    void testPyramid() {
+        OcclusionCuller c = new OcclusionCuller(100, 37, 1);
+        c.begin(VIEW_PROJ);
+        c.rasterize(quad(-1, -1, 20, 20, -4), 0, 4, QUAD_INDICES, 0, 2);
+        assertEquals(8, c.levels());
+        float max = Float.NEGATIVE_INFINITY, min = Float.POSITIVE_INFINITY;
+        for (int y = 0; y < c.height(); y++)
+            for (int x = 0; x < c.width(); x++) {
+                max = Math.max(max, c.depth(0, x, y));
+                min = Math.min(min, c.depth(0, x, y));
+            }
+        assertEquals(1.0f, max, 0.0f);
+        assertTrue(min < 1.0f);
+        assertEquals(max, c.depth(c.levels() - 1, 0, 0), 0.0f);
+        for (int y = 0; y < 19; y++)
+            for (int x = 0; x < 50; x++) {
+                float m = Math.max(Math.max(c.depth(0, 2 * x, 2 * y), c.depth(0, 2 * x + 1, 2 * y)),
+                        Math.max(c.depth(0, 2 * x, Math.min(2 * y + 1, 36)), c.depth(0, 2 * x + 1, Math.min(2 * y + 1, 36))));
+                assertEquals(m, c.depth(1, x, y), 0.0f);
+            }
+    }
+
+    @Test
+    void testThreadsAndBatch() {
+        Random rnd = new Random(12345L);
+        int quads = 200;
+        float[] vertices = new float[quads * 12];
+        int[] indices = new int[quads * 6];
+        for (int q = 0; q < quads; q++) {
+            float x = rnd.nextFloat() * 40 - 20, y = rnd.nextFloat() * 40 - 20, z = -5 - rnd.nextFloat() * 40;
+            System.arraycopy(quad(x, y, x + 1 + rnd.nextFloat() * 4, y + 1 + rnd.nextFloat() * 4, z), 0, vertices, q * 12, 12);
+            for (int i = 0; i < 6; i++)
+                indices[q * 6 + i] = q * 4 + QUAD_INDICES[i];
+        }
+        OcclusionCuller serial = new OcclusionCuller(300, 200, 1).begin(VIEW_PROJ);
+        OcclusionCuller parallel = new OcclusionCuller(300, 200, 4).begin(VIEW_PROJ);
+        serial.rasterize(vertices, 0, quads * 4, indices, 0, quads * 2);
+        parallel.rasterize(vertices, 0, quads * 4, indices, 0, quads * 2);
+        for (int y = 0; y < 200; y++)
+            for (int x = 0; x < 300; x++)
+                assertEquals(serial.depth(0, x, y), parallel.depth(0, x, y), 0.0f);
+        int count = 20000;
+        float[] minX = new float[count], minY = new float[count], minZ = new float[count];
+        float[] maxX = new float[count], maxY = new float[count], maxZ = new float[count];
+        for (int i = 0; i < count; i++) {
+            minX[i] = rnd.nextFloat() * 60 - 30; minY[i] = rnd.nextFloat() * 60 - 30; minZ[i] = -5 - rnd.nextFloat() * 60;
+            maxX[i] = minX[i] + rnd.nextFloat(); maxY[i] = minY[i] + rnd.nextFloat(); maxZ[i] = minZ[i] + rnd.nextFloat();
+        }
+        int[] expected = new int[count];
+        int n = 0;
+        for (int i = 0; i < count; i++)
+            if (serial.testAab(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i]))
+                expected[n++] = i;
+        assertTrue(n > 0 && n < count);
+        int[] dest = new int[count];
+        assertEquals(n, parallel.testAab(minX, minY, minZ, maxX, maxY, maxZ, 0, count, dest, 0));
+        assertArrayEquals(Arrays.copyOf(expected, n), Arrays.copyOf(dest, n));
+    }
+}
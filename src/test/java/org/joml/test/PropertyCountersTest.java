@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4f;
+import org.joml.Options;
+import org.joml.PropertyCounters;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PropertyCounters} class.
+ */
+class PropertyCountersTest {
+
+    @Test
+    void testCountsPaths() {
+        Matrix4f affine = new Matrix4f().rotateX(0.3f).translate(1, 2, 3);
+        Matrix4f leaked = new Matrix4f(affine).assume(Matrix4f.PROPERTY_UNKNOWN);
+        Matrix4f dest = new Matrix4f();
+        PropertyCounters.reset();
+        affine.mul(affine, dest);
+        affine.mul(leaked, dest);
+        leaked.mul(affine, dest);
+        new Matrix4f().mul(leaked, dest);
+        affine.invert(dest);
+        leaked.invert(dest);
+        leaked.transform(new Vector4f(1, 2, 3, 1));
+        long expected = Options.COUNT_PROPERTY_PATHS ? 1L : 0L;
+        /* The identity, translation and orthonormal paths are chosen before any JVMCI or Vector API kernel */
+        assertEquals(expected, PropertyCounters.get(PropertyCounters.OP_MUL, PropertyCounters.PATH_IDENTITY));
+        assertEquals(expected, PropertyCounters.get(PropertyCounters.OP_INVERT, PropertyCounters.PATH_ORTHONORMAL));
+        assertEquals(4 * expected, total(PropertyCounters.OP_MUL));
+        assertEquals(2 * expected, total(PropertyCounters.OP_INVERT));
+        assertEquals(expected, total(PropertyCounters.OP_TRANSFORM));
+        /* The remaining operations took either their property path or one of the kernels */
+        assertEquals(3 * expected, PropertyCounters.get(PropertyCounters.OP_MUL, PropertyCounters.PATH_AFFINE)
+                + PropertyCounters.get(PropertyCounters.OP_MUL, PropertyCounters.PATH_AFFINE_RIGHT)
+                + PropertyCounters.get(PropertyCounters.OP_MUL, PropertyCounters.PATH_JVMCI)
+                + PropertyCounters.get(PropertyCounters.OP_MUL, PropertyCounters.PATH_VECTOR_API)
+                + PropertyCounters.get(PropertyCounters.OP_MUL, PropertyCounters.PATH_GENERIC));
+        assertEquals(expected, PropertyCounters.get(PropertyCounters.OP_INVERT, PropertyCounters.PATH_GENERIC)
+                + PropertyCounters.get(PropertyCounters.OP_INVERT, PropertyCounters.PATH_JVMCI)
+                + PropertyCounters.get(PropertyCounters.OP_INVERT, PropertyCounters.PATH_VECTOR_API));
+        assertEquals(expected, PropertyCounters.get(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_GENERIC)
+                + PropertyCounters.get(PropertyCounters.OP_TRANSFORM, PropertyCounters.PATH_VECTOR_API));
+        assertEquals(Options.COUNT_PROPERTY_PATHS, PropertyCounters.report().indexOf("identity=1") >= 0);
+        PropertyCounters.reset();
+        assertEquals(0L, PropertyCounters.get(PropertyCounters.OP_MUL, PropertyCounters.PATH_GENERIC));
+    }
+
+    private static long total(int op) {
+        long sum = 0L;
+        for (int path = PropertyCounters.PATH_IDENTITY; path <= PropertyCounters.PATH_VECTOR_API; path++)
+            sum += PropertyCounters.get(op, path);
+        return sum;
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> PropertyCounters.get(3, PropertyCounters.PATH_GENERIC));
+        assertThrows(IllegalArgumentException.class, () -> PropertyCounters.get(PropertyCounters.OP_MUL, 9));
+    }
+
+}
@@ -289,4 +289,14 @@ class QuaternionfTest {
         assertVector3fEquals(new Vector3f(0, 0, 1), new Vector3f(1, 1, -1).normalize().rotate(new Quaternionf().lookAlong(new Vector3f(1, 1, -1), new Vector3f(0, 1, 0))), 1E-6f);
         assertVector3fEquals(new Vector3f(0, 0, 1), new Vector3f(1, 1, 1).normalize().rotate(new Quaternionf().lookAlong(new Vector3f(1, 1, 1), new Vector3f(0, 1, 0))), 1E-6f);
     }
+
+    @Test
+    void testRotationFromSinCosOfHalfAngle() {
+        float angle = 0.7f;
+        float sin = Math.Fast.sin(angle * 0.5f), cos = Math.Fast.cos(angle * 0.5f);
+        assertQuaternionfEquals(new Quaternionf().rotationX(angle), new Quaternionf().rotationX(sin, cos), 1E-6f);
+        assertQuaternionfEquals(new Quaternionf().rotationY(angle), new Quaternionf().rotationY(sin, cos), 1E-6f);
+        assertQuaternionfEquals(new Quaternionf().rotationZ(angle), new Quaternionf().rotationZ(sin, cos), 1E-6f);
+        assertQuaternionfEquals(new Quaternionf().rotationAxis(angle, 1, 2, 3), new Quaternionf().rotationAxis(sin, cos, 1, 2, 3), 1E-6f);
+    }
 }
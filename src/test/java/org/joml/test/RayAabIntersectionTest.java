@@ -23,9 +23,13 @@
  */
 package org.joml.test;
 
+import org.joml.Intersectionf;
 import org.joml.RayAabIntersection;
+import org.joml.Vector2f;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -112,4 +116,74 @@ class RayAabIntersectionTest {
         assertFalse(r.test(-0.5f, -0.5f, -0.5f, 0.5f, 0.5f, 0.5f));
     }
 
+    @Test
+    void testBatchAab() {
+        Random rnd = new Random(42L);
+        int count = 500;
+        float[] minX = new float[count], minY = new float[count], minZ = new float[count];
+        float[] maxX = new float[count], maxY = new float[count], maxZ = new float[count];
+        for (int i = 0; i < count; i++) {
+            minX[i] = rnd.nextFloat() * 20 - 10; maxX[i] = minX[i] + rnd.nextFloat() * 4;
+            minY[i] = rnd.nextFloat() * 20 - 10; maxY[i] = minY[i] + rnd.nextFloat() * 4;
+            minZ[i] = rnd.nextFloat() * 20 - 10; maxZ[i] = minZ[i] + rnd.nextFloat() * 4;
+        }
+        float[][] dirs = {{1, 0.2f, -0.3f}, {-1, 0, 0}, {0, 1, 0}, {0.3f, -0.7f, 0.5f}, {0, 0, -1}};
+        for (int d = 0; d < dirs.length; d++) {
+            RayAabIntersection r = new RayAabIntersection(0.5f, -0.25f, 0.1f, dirs[d][0], dirs[d][1], dirs[d][2]);
+            int[] hits = new int[count];
+            int n = r.test(minX, minY, minZ, maxX, maxY, maxZ, 0, count, hits, 0);
+            int expected = 0, expectedNearest = -1;
+            float nearest = Float.POSITIVE_INFINITY;
+            Vector2f t = new Vector2f();
+            for (int i = 0; i < count; i++) {
+                if (r.test(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i])) {
+                    assertEquals(i, hits[expected++]);
+                    if (Intersectionf.intersectRayAab(0.5f, -0.25f, 0.1f, dirs[d][0], dirs[d][1], dirs[d][2],
+                            minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i], t) && java.lang.Math.max(t.x, 0.0f) < nearest) {
+                        nearest = java.lang.Math.max(t.x, 0.0f);
+                        expectedNearest = i;
+                    }
+                }
+            }
+            assertEquals(expected, n);
+            assertTrue(n > 0);
+            Vector2f result = new Vector2f();
+            assertEquals(expectedNearest, r.intersect(minX, minY, minZ, maxX, maxY, maxZ, 0, count, result));
+            assertEquals(nearest, result.x, 0.0f);
+        }
+    }
+
+    @Test
+    void testBatchAabOriginInside() {
+        RayAabIntersection r = new RayAabIntersection(0, 0, 0, 0, 0, -1);
+        // a box in front of the origin, a large box containing it, and a small box containing it
+        float[] minX = {-1, -10, -1}, minY = {-1, -10, -1}, minZ = {-3, -10, -1};
+        float[] maxX = {1, 10, 1}, maxY = {1, 10, 1}, maxZ = {-2, 10, 1};
+        Vector2f result = new Vector2f();
+        assertEquals(1, r.intersect(minX, minY, minZ, maxX, maxY, maxZ, 0, 3, result));
+        assertEquals(0.0f, result.x, 0.0f);
+        assertEquals(10.0f, result.y, 0.0f);
+        assertEquals(2, r.intersect(minX, minY, minZ, maxX, maxY, maxZ, 2, 1, result));
+        assertEquals(0.0f, result.x, 0.0f);
+        assertEquals(1.0f, result.y, 0.0f);
+        assertEquals(0, r.intersect(minX, minY, minZ, maxX, maxY, maxZ, 0, 1, result));
+        assertEquals(2.0f, result.x, 0.0f);
+    }
+
+    @Test
+    void testBatchSphere() {
+        RayAabIntersection r = new RayAabIntersection(0, 0, 0, 0, 0, -2);
+        float[] x = {0, 3, 0.5f, 0, 0}, y = {0, 0, 0, 0.2f, 0}, z = {-10, -5, -4, 3, 0}, radius = {1, 1, 1, 1, 0.5f};
+        int[] hits = new int[5];
+        assertEquals(3, r.testSphere(x, y, z, radius, 0, 5, hits, 0));
+        assertArrayEquals(new int[] {0, 2, 4}, new int[] {hits[0], hits[1], hits[2]});
+        Vector2f result = new Vector2f();
+        assertEquals(4, r.intersectSphere(x, y, z, radius, 0, 5, result));
+        assertEquals(0.0f, result.x, 0.0f);
+        assertEquals(0.25f, result.y, 1E-6f);
+        assertEquals(2, r.intersectSphere(x, y, z, radius, 1, 3, result));
+        float expected = (4 - (float) Math.sqrt(0.75)) / 2;
+        assertEquals(expected, result.x, 1E-6f);
+        assertEquals(-1, r.intersectSphere(x, y, z, radius, 1, 1, result));
+    }
 }
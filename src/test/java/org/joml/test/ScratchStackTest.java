@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4f;
+import org.joml.ScratchStack;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ScratchStack} class.
+ */
+class ScratchStackTest {
+
+    @Test
+    void testFramesReuseObjects() {
+        ScratchStack s = ScratchStack.stackPush();
+        try {
+            Vector3f a = s.vec3f();
+            Matrix4f m = s.mat4f();
+            s.push();
+            Vector3f b = s.vec3f().set(1, 2, 3);
+            Matrix4f n = s.mat4f().translate(1, 2, 3);
+            assertNotSame(a, b);
+            assertNotSame(m, n);
+            s.pop();
+            s.push();
+            assertSame(b, s.vec3f());
+            assertEquals(new Vector3f(), b);
+            assertSame(n, s.mat4f());
+            assertTrue((n.properties() & Matrix4f.PROPERTY_IDENTITY) != 0);
+            s.pop();
+        } finally {
+            s.pop();
+        }
+        assertEquals(0, s.depth());
+    }
+
+    @Test
+    void testGrowsPoolAndFrames() {
+        ScratchStack s = ScratchStack.get();
+        for (int i = 0; i < 20; i++)
+            s.push();
+        Vector3f[] vs = new Vector3f[100];
+        for (int i = 0; i < vs.length; i++) {
+            vs[i] = s.vec3f();
+            for (int j = 0; j < i; j++)
+                assertNotSame(vs[j], vs[i]);
+        }
+        for (int i = 0; i < 20; i++)
+            s.pop();
+        assertEquals(0, s.depth());
+    }
+
+    @Test
+    void testRequiresFrame() {
+        ScratchStack s = ScratchStack.get();
+        assertThrows(IllegalStateException.class, s::vec3f);
+        assertThrows(IllegalStateException.class, s::pop);
+    }
+
+    @Test
+    void testPerThread() throws InterruptedException {
+        final ScratchStack[] other = new ScratchStack[1];
+        Thread t = new Thread(() -> other[0] = ScratchStack.get());
+        t.start();
+        t.join();
+        assertNotNull(other[0]);
+        assertNotSame(ScratchStack.get(), other[0]);
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.SimplexNoise;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SimplexNoise}.
+ */
+class SimplexNoiseTest {
+
+    @Test
+    void testNoiseGrid2D() {
+        float[] dest = new float[3 + 37 * 29];
+        SimplexNoise.noise(-3.1f, 5.7f, 0.13f, 0.21f, 37, 29, dest, 3, 4);
+        for (int j = 0; j < 29; j++)
+            for (int i = 0; i < 37; i++)
+                assertEquals(SimplexNoise.noise(-3.1f + i * 0.13f, 5.7f + j * 0.21f), dest[3 + j * 37 + i], 0.0f);
+    }
+
+    @Test
+    void testNoiseGrid3D() {
+        float[] dest = new float[17 * 13 * 11];
+        SimplexNoise.noise(1.5f, -2.25f, 0.75f, 0.3f, 0.17f, 0.4f, 17, 13, 11, dest, 0, 3);
+        for (int k = 0; k < 11; k++)
+            for (int j = 0; j < 13; j++)
+                for (int i = 0; i < 17; i++)
+                    assertEquals(SimplexNoise.noise(1.5f + i * 0.3f, -2.25f + j * 0.17f, 0.75f + k * 0.4f),
+                            dest[(k * 13 + j) * 17 + i], 0.0f);
+    }
+
+    @Test
+    void testNoiseGrid4D() {
+        float[] dest = new float[9 * 7 * 5 * 3];
+        SimplexNoise.noise(0.1f, 0.2f, 0.3f, 10.0f, 0.35f, 0.45f, 0.55f, 0.65f, 9, 7, 5, 3, dest, 0, 2);
+        for (int l = 0; l < 3; l++)
+            for (int k = 0; k < 5; k++)
+                for (int j = 0; j < 7; j++)
+                    for (int i = 0; i < 9; i++)
+                        assertEquals(SimplexNoise.noise(0.1f + i * 0.35f, 0.2f + j * 0.45f, 0.3f + k * 0.55f, 10.0f + l * 0.65f),
+                                dest[((l * 5 + k) * 7 + j) * 9 + i], 0.0f);
+    }
+
+    @Test
+    void testFbmGrid3D() {
+        float[] dest = new float[23 * 19 * 7];
+        SimplexNoise.fbm(-4.0f, 2.0f, 8.0f, 0.05f, 0.07f, 0.11f, 23, 19, 7, 5, 2.0f, 0.5f, dest, 0, 4);
+        for (int k = 0; k < 7; k++)
+            for (int j = 0; j < 19; j++)
+                for (int i = 0; i < 23; i++) {
+                    float x = -4.0f + i * 0.05f, y = 2.0f + j * 0.07f, z = 8.0f + k * 0.11f;
+                    float expected = 0.0f, f = 1.0f, a = 1.0f;
+                    for (int o = 0; o < 5; o++) {
+                        expected += a * SimplexNoise.noise(x * f, y * f, z * f);
+                        f *= 2.0f;
+                        a *= 0.5f;
+                    }
+                    assertEquals(expected, dest[(k * 19 + j) * 23 + i], 1E-6f);
+                }
+    }
+
+    @Test
+    void testGridDoesNotDependOnThreads() {
+        float[] single = new float[64 * 64];
+        float[] multi = new float[64 * 64];
+        SimplexNoise.fbm(0.0f, 0.0f, 0.02f, 0.02f, 64, 64, 4, 2.0f, 0.5f, single, 0, 1);
+        SimplexNoise.fbm(0.0f, 0.0f, 0.02f, 0.02f, 64, 64, 4, 2.0f, 0.5f, multi, 0, 8);
+        assertArrayEquals(single, multi, 0.0f);
+    }
+
+    @Test
+    void testFbmGridBuffer() {
+        float[] array = new float[31 * 5];
+        FloatBuffer buffer = FloatBuffer.allocate(2 + 31 * 5);
+        buffer.position(1);
+        SimplexNoise.fbm(0.5f, 0.25f, 0.1f, 0.2f, 31, 5, 3, 1.9f, 0.6f, array, 0, 2);
+        SimplexNoise.fbm(0.5f, 0.25f, 0.1f, 0.2f, 31, 5, 3, 1.9f, 0.6f, buffer, 2, 2);
+        assertEquals(1, buffer.position());
+        for (int i = 0; i < array.length; i++)
+            assertEquals(array[i], buffer.get(2 + i), 0.0f);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        float[] dest = new float[16];
+        assertThrows(IllegalArgumentException.class, () -> SimplexNoise.fbm(0.0f, 0.0f, 1.0f, 1.0f, 4, 4, 0, 2.0f, 0.5f, dest, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> SimplexNoise.noise(0.0f, 0.0f, 1.0f, 1.0f, 4, 4, dest, 0, 0));
+    }
+
+    @Test
+    void testDefaultInstanceMatchesStaticMethods() {
+        SimplexNoise noise = new SimplexNoise();
+        for (int i = 0; i < 100; i++) {
+            float x = i * 0.37f - 11.0f, y = i * 0.23f + 3.0f, z = i * -0.41f, w = i * 0.19f;
+            assertEquals(SimplexNoise.noise(x, y), noise.sample(x, y), 0.0f);
+            assertEquals(SimplexNoise.noise(x, y, z), noise.sample(x, y, z), 0.0f);
+            assertEquals(SimplexNoise.noise(x, y, z, w), noise.sample(x, y, z, w), 0.0f);
+        }
+    }
+
+    @Test
+    void testSeededInstances() {
+        SimplexNoise a = new SimplexNoise(42L), b = new SimplexNoise(42L), c = new SimplexNoise(43L);
+        int different = 0;
+        for (int i = 0; i < 100; i++) {
+            float x = i * 0.37f - 11.0f, y = i * 0.23f + 3.0f, z = i * -0.41f;
+            float v = a.sample(x, y, z);
+            assertEquals(v, b.sample(x, y, z), 0.0f);
+            assertTrue(v >= -1.0f && v <= 1.0f);
+            if (v != c.sample(x, y, z))
+                different++;
+        }
+        assertTrue(different > 90);
+    }
+
+    @Test
+    void testSeededLattice() {
+        SimplexNoise noise = new SimplexNoise(7L);
+        float[] dest = new float[11 * 13];
+        noise.sample(1.0f, 2.0f, 0.3f, 0.2f, 11, 13, 1, 2.0f, 0.5f, dest, 0, 2);
+        for (int j = 0; j < 13; j++)
+            for (int i = 0; i < 11; i++)
+                assertEquals(noise.sample(1.0f + i * 0.3f, 2.0f + j * 0.2f), dest[j * 11 + i], 0.0f);
+    }
+
+    /*
+     * The 3D and 4D noise is slightly discontinuous at some simplex boundaries, because the corner contributions reach
+     * a little beyond the simplex. Central differences straddling such a boundary do not match the derivative, so a few
+     * of them are allowed to disagree.
+     */
+
+    @Test
+    void testDerivative2D() {
+        SimplexNoise noise = new SimplexNoise(1234L);
+        Vector2f d = new Vector2f();
+        float h = 1E-3f;
+        for (int i = 0; i < 200; i++) {
+            float x = i * 0.173f - 7.0f, y = i * 0.091f + 2.0f;
+            assertEquals(SimplexNoise.noise(x, y), SimplexNoise.noise(x, y, d), 0.0f);
+            float v = noise.sample(x, y, d);
+            assertEquals(noise.sample(x, y), v, 0.0f);
+            assertEquals((noise.sample(x + h, y) - noise.sample(x - h, y)) / (2 * h), d.x, 2E-2f);
+            assertEquals((noise.sample(x, y + h) - noise.sample(x, y - h)) / (2 * h), d.y, 2E-2f);
+        }
+    }
+
+    @Test
+    void testDerivative3D() {
+        SimplexNoise noise = new SimplexNoise(1234L);
+        Vector3f d = new Vector3f();
+        float h = 1E-3f;
+        int mismatches = 0;
+        for (int i = 0; i < 200; i++) {
+            float x = i * 0.173f - 7.0f, y = i * 0.091f + 2.0f, z = i * -0.067f;
+            assertEquals(SimplexNoise.noise(x, y, z), SimplexNoise.noise(x, y, z, d), 0.0f);
+            float v = noise.sample(x, y, z, d);
+            assertEquals(noise.sample(x, y, z), v, 0.0f);
+            Vector3f c = new Vector3f(
+                    (noise.sample(x + h, y, z) - noise.sample(x - h, y, z)) / (2 * h),
+                    (noise.sample(x, y + h, z) - noise.sample(x, y - h, z)) / (2 * h),
+                    (noise.sample(x, y, z + h) - noise.sample(x, y, z - h)) / (2 * h));
+            if (!c.equals(d, 2E-2f))
+                mismatches++;
+        }
+        assertTrue(mismatches <= 4);
+    }
+
+    @Test
+    void testDerivative4D() {
+        SimplexNoise noise = new SimplexNoise(1234L);
+        Vector4f d = new Vector4f();
+        float h = 1E-3f;
+        int mismatches = 0;
+        for (int i = 0; i < 200; i++) {
+            float x = i * 0.173f - 7.0f, y = i * 0.091f + 2.0f, z = i * -0.067f, w = i * 0.031f + 5.0f;
+            assertEquals(SimplexNoise.noise(x, y, z, w), SimplexNoise.noise(x, y, z, w, d), 0.0f);
+            float v = noise.sample(x, y, z, w, d);
+            assertEquals(noise.sample(x, y, z, w), v, 0.0f);
+            Vector4f c = new Vector4f(
+                    (noise.sample(x + h, y, z, w) - noise.sample(x - h, y, z, w)) / (2 * h),
+                    (noise.sample(x, y + h, z, w) - noise.sample(x, y - h, z, w)) / (2 * h),
+                    (noise.sample(x, y, z + h, w) - noise.sample(x, y, z - h, w)) / (2 * h),
+                    (noise.sample(x, y, z, w + h) - noise.sample(x, y, z, w - h)) / (2 * h));
+            if (!c.equals(d, 2E-2f))
+                mismatches++;
+        }
+        assertTrue(mismatches <= 4);
+    }
+}
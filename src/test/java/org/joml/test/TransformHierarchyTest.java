@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 JOML
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.joml.test;
+
+import org.joml.Matrix4x3f;
+import org.joml.Quaternionf;
+import org.joml.TransformHierarchy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TransformHierarchy} class.
+ */
+class TransformHierarchyTest {
+
+    private static TransformHierarchy create(int n, Random rnd) {
+        TransformHierarchy h = new TransformHierarchy(1);
+        for (int i = 0; i < n; i++) {
+            int node = h.addNode(i == 0 || rnd.nextInt(50) == 0 ? -1 : rnd.nextInt(i));
+            if (rnd.nextInt(4) != 0)
+                h.setTranslation(node, rnd.nextFloat(), rnd.nextFloat(), rnd.nextFloat());
+            if (rnd.nextInt(3) == 0)
+                h.setRotation(node, new Quaternionf().rotateXYZ(rnd.nextFloat(), rnd.nextFloat(), rnd.nextFloat()));
+            if (rnd.nextInt(5) == 0)
+                h.setScale(node, 0.5f + rnd.nextFloat(), 0.5f + rnd.nextFloat(), 0.5f + rnd.nextFloat());
+        }
+        return h;
+    }
+
+    private static void assertWorld(TransformHierarchy h) {
+        Matrix4x3f[] expected = new Matrix4x3f[h.size()];
+        Matrix4x3f actual = new Matrix4x3f();
+        for (int i = 0; i < h.size(); i++) {
+            Matrix4x3f local = h.getLocal(i, new Matrix4x3f());
+            int p = h.parent(i);
+            expected[i] = p < 0 ? local : new Matrix4x3f(expected[p]).mul(local);
+            TestUtil.assertMatrix4x3fEquals(expected[i], h.getWorld(i, actual), 1E-4f);
+        }
+    }
+
+    @Test
+    void testUpdateOnlyDirtySubtrees() {
+        TransformHierarchy h = new TransformHierarchy(0);
+        int root = h.addNode(-1);
+        int a = h.addNode(root);
+        int b = h.addNode(root);
+        int a1 = h.addNode(a);
+        h.setTranslation(root, 1, 2, 3);
+        h.setRotation(a, new Quaternionf().rotateY(0.5f));
+        h.setScale(a1, 2, 2, 2);
+        assertEquals(4, h.update());
+        assertFalse(h.isDirty());
+        assertEquals(0, h.update());
+        h.setTranslation(a, 4, 5, 6);
+        assertTrue(h.isDirty());
+        assertEquals(2, h.update());
+        assertWorld(h);
+        h.setTranslation(b, 1, 0, 0);
+        assertEquals(1, h.update());
+        assertWorld(h);
+        h.setParent(a1, b);
+        assertEquals(2, h.depth(a1));
+        assertEquals(1, h.update());
+        assertWorld(h);
+        assertTrue(new Matrix4x3f().translation(1, 2, 3).equals(h.getWorld(root, new Matrix4x3f())));
+        assertThrows(IllegalArgumentException.class, () -> h.setParent(a, a1));
+    }
+
+    @Test
+    void testParallelUpdateMatchesSerial() {
+        Random rnd = new Random(42);
+        TransformHierarchy serial = create(20000, new Random(1));
+        TransformHierarchy parallel = create(20000, new Random(1));
+        assertEquals(20000, serial.update());
+        assertEquals(20000, parallel.update(4));
+        for (int round = 0; round < 3; round++) {
+            for (int k = 0; k < 10; k++) {
+                int node = rnd.nextInt(serial.size());
+                float x = rnd.nextFloat();
+                serial.setTranslation(node, x, 0, 1);
+                parallel.setTranslation(node, x, 0, 1);
+            }
+            assertEquals(serial.update(), parallel.update(4));
+            float[] s = serial.worldArray(), p = parallel.worldArray();
+            for (int i = 0; i < 12 * serial.size(); i++)
+                assertEquals(s[i], p[i]);
+        }
+        assertWorld(parallel);
+    }
+
+}